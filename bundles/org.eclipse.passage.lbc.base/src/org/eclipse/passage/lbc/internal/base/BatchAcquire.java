@@ -0,0 +1,32 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lbc.internal.base;
+
+import org.eclipse.passage.lbc.internal.base.acquire.BatchAcquisition;
+import org.eclipse.passage.lbc.internal.base.api.RawRequest;
+import org.eclipse.passage.lic.api.LicensingException;
+import org.eclipse.passage.lic.internal.net.api.handle.NetResponse;
+import org.eclipse.passage.lic.internal.net.handle.ProductUserRequest;
+
+final class BatchAcquire extends AuthentifiedChoreDraft {
+
+	BatchAcquire(RawRequest data) {
+		super(data);
+	}
+
+	@Override
+	protected NetResponse withProductUser(ProductUserRequest<RawRequest> request) throws LicensingException {
+		return new BatchAcquisition(request).get();
+	}
+
+}
@@ -0,0 +1,58 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lbc.internal.base;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.eclipse.passage.lbc.internal.base.api.RawRequest;
+import org.eclipse.passage.lic.api.LicensedProduct;
+import org.eclipse.passage.lic.api.LicensingException;
+import org.eclipse.passage.lic.base.io.MD5Hashes;
+import org.eclipse.passage.lic.base.io.PathKeyKeeper;
+import org.eclipse.passage.lic.internal.net.handle.ProductUserRequest;
+import org.eclipse.passage.lic.internal.net.io.SafePayload;
+
+/**
+ * Decodes a request content encoded with the product key
+ */
+public final class DecodedPayload {
+
+	private final RawRequest request;
+
+	public DecodedPayload(RawRequest request) {
+		Objects.requireNonNull(request, "DecodedPayload::request"); //$NON-NLS-1$
+		this.request = request;
+	}
+
+	/**
+	 * Content is expected to be a text, each non-empty line of which is a separate
+	 * value
+	 */
+	public List<String> lines() throws IOException, LicensingException {
+		return Arrays.stream(new String(decode(request.content()), StandardCharsets.UTF_8).split("\\R")) //$NON-NLS-1$
+				.map(String::trim)//
+				.filter(line -> !line.isEmpty())//
+				.collect(Collectors.toList());
+	}
+
+	byte[] decode(byte[] raw) throws LicensingException {
+		LicensedProduct product = new ProductUserRequest<>(request).product().get();
+		return new SafePayload(new PathKeyKeeper(product, request.state()::source), new MD5Hashes()).decode(raw);
+	}
+
+}
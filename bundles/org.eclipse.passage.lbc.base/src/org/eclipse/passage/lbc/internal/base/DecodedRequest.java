@@ -15,18 +15,14 @@ package org.eclipse.passage.lbc.internal.base;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.passage.lbc.internal.base.api.RawRequest;
-import org.eclipse.passage.lic.api.LicensedProduct;
 import org.eclipse.passage.lic.api.LicensingException;
-import org.eclipse.passage.lic.base.io.MD5Hashes;
-import org.eclipse.passage.lic.base.io.PathKeyKeeper;
 import org.eclipse.passage.lic.internal.emf.EObjectFromBytes;
-import org.eclipse.passage.lic.internal.net.handle.ProductUserRequest;
-import org.eclipse.passage.lic.internal.net.io.SafePayload;
 import org.eclipse.passage.lic.licenses.model.api.GrantAcqisition;
 import org.eclipse.passage.lic.licenses.model.meta.LicensesPackage;
 
@@ -44,11 +40,17 @@ public abstract class DecodedRequest<T extends EObject> {
 		return new EObjectFromBytes<T>(decoded(request.content()), target()).get(options);
 	}
 
+	/**
+	 * For a request that brings several objects at once
+	 */
+	public final List<T> all() throws IOException, LicensingException {
+		return new EObjectFromBytes<T>(decoded(request.content()), target()).all(options);
+	}
+
 	protected abstract EClass target();
 
 	private byte[] decoded(byte[] raw) throws LicensingException {
-		LicensedProduct product = new ProductUserRequest<RawRequest>(request).product().get();
-		return new SafePayload(new PathKeyKeeper(product, request.state()::source), new MD5Hashes()).decode(raw);
+		return new DecodedPayload(request).decode(raw);
 	}
 
 	public static final class GrantAck extends DecodedRequest<GrantAcqisition> {
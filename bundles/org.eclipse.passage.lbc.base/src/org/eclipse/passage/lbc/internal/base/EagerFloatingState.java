@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2021 ArSysOp
+ * Copyright (c) 2020, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -18,6 +18,8 @@ import java.util.function.Supplier;
 import org.eclipse.passage.lbc.internal.base.acquire.AcquiredGrants;
 import org.eclipse.passage.lbc.internal.base.api.FloatingState;
 import org.eclipse.passage.lbc.internal.base.api.Grants;
+import org.eclipse.passage.lbc.internal.base.metrics.FlsMetrics;
+import org.eclipse.passage.lbc.internal.base.mine.MinedConditions;
 import org.eclipse.passage.lic.base.io.LicensingFolder;
 import org.eclipse.passage.lic.base.io.UserHomePath;
 
@@ -25,6 +27,8 @@ public final class EagerFloatingState implements FloatingState {
 
 	private final Grants grants;
 	private final Path source;
+	private final MinedConditions conditions;
+	private final FlsMetrics metrics;
 
 	public EagerFloatingState() {
 		this(new LicensingFolder(new UserHomePath()));
@@ -37,6 +41,8 @@ public final class EagerFloatingState implements FloatingState {
 	public EagerFloatingState(Grants grants, Path source) {
 		this.grants = grants;
 		this.source = source;
+		this.conditions = new MinedConditions(() -> source);
+		this.metrics = new FlsMetrics(grants.storage()::utilization);
 	}
 
 	@Override
@@ -49,4 +55,19 @@ public final class EagerFloatingState implements FloatingState {
 		return source;
 	}
 
+	@Override
+	public MinedConditions conditions() {
+		return conditions;
+	}
+
+	@Override
+	public FlsMetrics metrics() {
+		return metrics;
+	}
+
+	@Override
+	public void close() {
+		grants.storage().close();
+	}
+
 }
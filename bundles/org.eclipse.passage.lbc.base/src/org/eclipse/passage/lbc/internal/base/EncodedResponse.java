@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 ArSysOp
+ * Copyright (c) 2021, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -12,8 +12,11 @@
  *******************************************************************************/
 package org.eclipse.passage.lbc.internal.base;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Optional;
 
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.passage.lbc.internal.base.api.FlsGear;
 import org.eclipse.passage.lbc.internal.base.api.FlsGearAwre;
@@ -24,16 +27,29 @@ import org.eclipse.passage.lic.api.io.KeyKeeper;
 import org.eclipse.passage.lic.api.registry.StringServiceId;
 import org.eclipse.passage.lic.internal.net.api.handle.NetResponse;
 import org.eclipse.passage.lic.internal.net.handle.EObjectTransfer;
+import org.eclipse.passage.lic.internal.net.handle.EObjectsTransfer;
 import org.eclipse.passage.lic.internal.net.handle.Failure;
 import org.eclipse.passage.lic.internal.net.handle.ProductUserRequest;
 
 public final class EncodedResponse<T extends EObject> {
 
-	private final T payload;
+	private final Collection<T> payload;
+	private final Optional<EClass> type;
 	private final ProductUserRequest<RawRequest> data;
 
 	public EncodedResponse(T payload, ProductUserRequest<RawRequest> data) {
+		this.payload = Collections.singletonList(payload);
+		this.type = Optional.empty();
+		this.data = data;
+	}
+
+	/**
+	 * Encodes all the {@code payload} objects, which are of the given
+	 * {@code type}, in a single response
+	 */
+	public EncodedResponse(Collection<T> payload, EClass type, ProductUserRequest<RawRequest> data) {
 		this.payload = payload;
+		this.type = Optional.of(type);
 		this.data = data;
 	}
 
@@ -49,7 +65,10 @@ public final class EncodedResponse<T extends EObject> {
 	}
 
 	private Optional<NetResponse> transferable(FlsGear gear) {
-		return Optional.of(new EObjectTransfer(payload, keyKeeper(gear), hashes(gear)));
+		if (type.isPresent()) {
+			return Optional.of(new EObjectsTransfer(payload, type.get(), keyKeeper(gear), hashes(gear)));
+		}
+		return Optional.of(new EObjectTransfer(payload.iterator().next(), keyKeeper(gear), hashes(gear)));
 	}
 
 	private KeyKeeper keyKeeper(FlsGear gear) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2021 ArSysOp
+ * Copyright (c) 2020, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -24,9 +24,17 @@ final class FloatingCycle extends NetServices<RawRequest> {
 
 	@Override
 	protected void defineChores(Map<PassageAction, Function<RawRequest, Chore>> chores) {
-		chores.put(new PassageAction.Mine(), Mine::new);
-		chores.put(new PassageAction.Acquire(), Acquire::new);
-		chores.put(new PassageAction.Release(), Release::new);
+		timed(chores, new PassageAction.Mine(), Mine::new);
+		timed(chores, new PassageAction.Acquire(), Acquire::new);
+		timed(chores, new PassageAction.Release(), Release::new);
+		timed(chores, new PassageAction.Renew(), Renew::new);
+		timed(chores, new PassageAction.BatchAcquire(), BatchAcquire::new);
+		timed(chores, new PassageAction.BatchRelease(), BatchRelease::new);
+	}
+
+	private void timed(Map<PassageAction, Function<RawRequest, Chore>> chores, PassageAction action,
+			Function<RawRequest, Chore> chore) {
+		chores.put(action, request -> new TimedChore(action, request, chore.apply(request)));
 	}
 
 }
@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lbc.internal.base;
+
+import java.util.Objects;
+
+import org.eclipse.passage.lbc.internal.base.api.RawRequest;
+import org.eclipse.passage.lic.api.PassageAction;
+import org.eclipse.passage.lic.internal.net.api.handle.Chore;
+import org.eclipse.passage.lic.internal.net.api.handle.NetResponse;
+
+/**
+ * Records the time the {@code delegate} takes to get a response to the
+ * {@linkplain org.eclipse.passage.lbc.internal.base.metrics.FlsMetrics latency
+ * histogram} of the {@code action}. Only the work done by the chore itself is
+ * timed: a response payload that is encoded lazily is written out of this
+ * measure.
+ */
+final class TimedChore implements Chore {
+
+	private final PassageAction action;
+	private final RawRequest request;
+	private final Chore delegate;
+
+	TimedChore(PassageAction action, RawRequest request, Chore delegate) {
+		Objects.requireNonNull(action, "TimedChore::action"); //$NON-NLS-1$
+		Objects.requireNonNull(request, "TimedChore::request"); //$NON-NLS-1$
+		Objects.requireNonNull(delegate, "TimedChore::delegate"); //$NON-NLS-1$
+		this.action = action;
+		this.request = request;
+		this.delegate = delegate;
+	}
+
+	@Override
+	public NetResponse getDone() {
+		long start = System.nanoTime();
+		try {
+			return delegate.getDone();
+		} finally {
+			request.state().metrics().latency(action).record(System.nanoTime() - start);
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2022 ArSysOp
+ * Copyright (c) 2020, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -29,13 +29,22 @@ public final class AcquiredGrants implements Grants {
 
 	private final Supplier<Path> base;
 	private final GrantsStorage storage;
+	private final FloatingLicenses licenses;
 
 	public AcquiredGrants() {
 		this(new LicensingFolder(new UserHomePath()));
 	}
 
 	public AcquiredGrants(Supplier<Path> base) {
-		this(base, new FlsGrantsStorage());
+		this(base, new FlsGrantsStorage(Optional.empty()));
+	}
+
+	/**
+	 * Grants that survive restart: all lease changes are recorded to a journal
+	 * kept in the given {@code journal} folder
+	 */
+	public AcquiredGrants(Supplier<Path> base, Path journal) {
+		this(base, new FlsGrantsStorage(Optional.of(journal)));
 	}
 
 	public AcquiredGrants(Path base, GrantsStorage storage) {
@@ -43,8 +52,13 @@ public final class AcquiredGrants implements Grants {
 	}
 
 	public AcquiredGrants(Supplier<Path> base, GrantsStorage storage) {
+		this(base, storage, new FloatingLicenses(base));
+	}
+
+	public AcquiredGrants(Supplier<Path> base, GrantsStorage storage, FloatingLicenses licenses) {
 		this.base = base;
 		this.storage = storage;
+		this.licenses = licenses;
 	}
 
 	@Override
@@ -52,10 +66,15 @@ public final class AcquiredGrants implements Grants {
 		return storage;
 	}
 
+	@Override
+	public FloatingLicenses licenses() {
+		return licenses;
+	}
+
 	@Override
 	public Optional<GrantAcqisition> acquire(LicensedProduct product, String user, String feature)
 			throws LicensingException {
-		Collection<FeatureGrant> grants = new FeatureGrants(product, user, feature, base).get();
+		Collection<FeatureGrant> grants = new FeatureGrants(product, user, feature, base, licenses).get();
 		if (grants.isEmpty()) {
 			return Optional.empty();
 		}
@@ -73,4 +92,9 @@ public final class AcquiredGrants implements Grants {
 		return storage.release(product, acquisition);
 	}
 
+	@Override
+	public boolean renew(LicensedProduct product, GrantAcqisition acquisition) {
+		return storage.renew(product, acquisition);
+	}
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2022 ArSysOp
+ * Copyright (c) 2020, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -54,6 +54,7 @@ public final class Acquisition {
 			log.error("failed: ", e); //$NON-NLS-1$
 			return new Failure.OperationFailed(new PassageAction.Acquire().name(), e.getMessage());
 		}
+		data.raw().state().metrics().acquisition(data.product().get(), feature.get(), acquisition.isPresent());
 		if (!acquisition.isPresent()) {
 			return noGrants(feature.get());
 		}
@@ -79,6 +80,20 @@ public final class Acquisition {
 
 	}
 
+	public NetResponse renew() throws LicensingException {
+		GrantAcqisition acquisition;
+		try {
+			acquisition = acquisition();
+		} catch (IOException e) {
+			throw new LicensingException(e);
+		}
+		boolean renewed = grants().renew(data.product().get(), acquisition);
+		if (!renewed) {
+			return new NotRenewed(data.product().get(), acquisition);
+		}
+		return new PlainSuceess();
+	}
+
 	private Optional<GrantAcqisition> acquisition(String feature) throws LicensingException {
 		return grants().acquire(//
 				data.product().get(), //
@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lbc.internal.base.acquire;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.eclipse.passage.lbc.internal.base.DecodedPayload;
+import org.eclipse.passage.lbc.internal.base.DecodedRequest;
+import org.eclipse.passage.lbc.internal.base.EncodedResponse;
+import org.eclipse.passage.lbc.internal.base.api.Grants;
+import org.eclipse.passage.lbc.internal.base.api.RawRequest;
+import org.eclipse.passage.lic.api.LicensedProduct;
+import org.eclipse.passage.lic.api.LicensingException;
+import org.eclipse.passage.lic.api.PassageAction;
+import org.eclipse.passage.lic.internal.net.BatchMode;
+import org.eclipse.passage.lic.internal.net.api.handle.NetResponse;
+import org.eclipse.passage.lic.internal.net.handle.Failure;
+import org.eclipse.passage.lic.internal.net.handle.ProductUserRequest;
+import org.eclipse.passage.lic.licenses.model.api.GrantAcqisition;
+import org.eclipse.passage.lic.licenses.model.meta.LicensesPackage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>
+ * Acquires (or releases) grants for several features of a product in one
+ * request and answers with all the resulting acquisitions in one response.
+ * </p>
+ * <p>
+ * Acquisition is {@linkplain BatchMode#atomic atomic} on demand: all the
+ * features get a grant or none does. Otherwise features that have no free
+ * grant are just skipped. Release is always best-effort: only the released
+ * acquisitions are sent back.
+ * </p>
+ */
+public final class BatchAcquisition {
+
+	private final ProductUserRequest<RawRequest> data;
+	private final Logger log = LoggerFactory.getLogger(getClass());
+
+	public BatchAcquisition(ProductUserRequest<RawRequest> data) {
+		Objects.requireNonNull(data, "BatchAcquisition::data"); //$NON-NLS-1$
+		this.data = data;
+	}
+
+	public NetResponse get() throws LicensingException {
+		List<String> features = features();
+		if (features.isEmpty()) {
+			return new Failure.BadRequestNoFeature();
+		}
+		boolean atomic = new BatchMode(key -> data.raw().parameter(key)).get()//
+				.map(BatchMode.atomic::equals)//
+				.orElse(false);
+		List<GrantAcqisition> acquired = new ArrayList<>();
+		for (String feature : features) {
+			Optional<GrantAcqisition> acquisition;
+			try {
+				acquisition = grants().acquire(product(), data.user().get(), feature);
+			} catch (LicensingException e) {
+				log.error("failed: ", e); //$NON-NLS-1$
+				rollback(acquired);
+				return new Failure.OperationFailed(new PassageAction.BatchAcquire().name(), e.getMessage());
+			}
+			data.raw().state().metrics().acquisition(product(), feature, acquisition.isPresent());
+			if (acquisition.isPresent()) {
+				acquired.add(acquisition.get());
+			} else if (atomic) {
+				rollback(acquired);
+				return new NoGrantsAvailable(product(), feature);
+			}
+		}
+		if (acquired.isEmpty()) {
+			return new NoGrantsAvailable(product(), String.join(", ", features)); //$NON-NLS-1$
+		}
+		return encoded(acquired);
+	}
+
+	public NetResponse returnBack() throws LicensingException {
+		List<GrantAcqisition> acquisitions;
+		try {
+			acquisitions = new DecodedRequest.GrantAck(data.raw()).all();
+		} catch (IOException e) {
+			throw new LicensingException(e);
+		}
+		if (acquisitions.isEmpty()) {
+			return new Failure.BadRequestNoFeature();
+		}
+		List<GrantAcqisition> released = new ArrayList<>();
+		for (GrantAcqisition acquisition : acquisitions) {
+			if (grants().release(product(), acquisition)) {
+				released.add(acquisition);
+			}
+		}
+		if (released.isEmpty()) {
+			return new NotReleased(product(), acquisitions.get(0));
+		}
+		return encoded(released);
+	}
+
+	private List<String> features() throws LicensingException {
+		try {
+			return new DecodedPayload(data.raw()).lines();
+		} catch (IOException e) {
+			throw new LicensingException(e);
+		}
+	}
+
+	private void rollback(List<GrantAcqisition> acquired) {
+		acquired.forEach(acquisition -> grants().release(product(), acquisition));
+	}
+
+	private NetResponse encoded(List<GrantAcqisition> acquisitions) {
+		return new EncodedResponse<>(acquisitions, LicensesPackage.eINSTANCE.getGrantAcqisition(), data)
+				.get();
+	}
+
+	private LicensedProduct product() {
+		return data.product().get();
+	}
+
+	private Grants grants() {
+		return data.raw().state().grants();
+	}
+
+}
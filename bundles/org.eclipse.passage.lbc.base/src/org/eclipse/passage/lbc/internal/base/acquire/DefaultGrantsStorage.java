@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2022 ArSysOp
+ * Copyright (c) 2021, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -12,14 +12,18 @@
  *******************************************************************************/
 package org.eclipse.passage.lbc.internal.base.acquire;
 
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Date;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
 
 import org.eclipse.passage.lic.api.LicensedProduct;
 import org.eclipse.passage.lic.licenses.model.api.FeatureGrant;
@@ -32,19 +36,58 @@ public abstract class DefaultGrantsStorage implements GrantsStorage {
 
 	/**
 	 * <p>
-	 * For a {@code product} we keep all {@code acquisitions} in a {@code Map}
+	 * For each {@code feature grant} of a {@code product} we keep all it's
+	 * {@code acquisitions} in a separate {@linkplain GrantLedger}
 	 * </p>
 	 * <p>
-	 * LicensedProduct -> [FeatureGrant::identifier -> {GrantAcquistion}s]
+	 * (LicensedProduct, FeatureGrant::identifier) -> GrantLedger
 	 * </p>
 	 * <p>
-	 * Where each {@code feature grant} (globally uniquely identified) keeps it's
-	 * own collection of {@code acquisitions}
+	 * Ledgers are independent: acquisitions and releases of different grants never
+	 * contend.
 	 * </p>
 	 */
-	protected final Map<LicensedProduct, Map<String, Collection<GrantAcqisition>>> locks = new HashMap<>();
+	private final Map<GrantLedger.Key, GrantLedger> ledgers = new ConcurrentHashMap<>();
+	/**
+	 * Each acquisition is held only for the {@code lease} time unless renewed.
+	 * Overdue ones are recycled by the {@code wheel} on the way of further
+	 * acquisitions and renewals. Zero {@code lease} means no expiry: an
+	 * acquisition is held till it is released.
+	 */
+	private final long lease;
+	private final LongSupplier clock;
+	private final LeaseWheel wheel;
+	/**
+	 * Each lease change is recorded, so outstanding acquisitions are restored on
+	 * restart
+	 */
+	private final GrantJournal journal;
 	protected final Logger log = LoggerFactory.getLogger(getClass());
 
+	protected DefaultGrantsStorage() {
+		this(Duration.ofMinutes(10), System::currentTimeMillis);
+	}
+
+	protected DefaultGrantsStorage(Duration lease, LongSupplier clock) {
+		this(lease, clock, Optional.empty());
+	}
+
+	/**
+	 * @param journal folder to keep the grants journal in, if any
+	 */
+	protected DefaultGrantsStorage(Duration lease, LongSupplier clock, Optional<Path> journal) {
+		Objects.requireNonNull(lease, "DefaultGrantsStorage::lease"); //$NON-NLS-1$
+		Objects.requireNonNull(clock, "DefaultGrantsStorage::clock"); //$NON-NLS-1$
+		Objects.requireNonNull(journal, "DefaultGrantsStorage::journal"); //$NON-NLS-1$
+		this.lease = lease.toMillis();
+		this.clock = clock;
+		this.wheel = new LeaseWheel(Duration.ofSeconds(1), 1024, clock.getAsLong());
+		this.journal = journal.<GrantJournal> map(
+				folder -> new MappedGrantJournal(folder, this::leases, clock.getAsLong()))//
+				.orElseGet(GrantJournal.None::new);
+		restore();
+	}
+
 	@Override
 	public final Optional<GrantAcqisition> acquire(LicensedProduct product, String user, FeatureGrant grant) {
 		if (!beforeAcquire()) {
@@ -53,19 +96,24 @@ public abstract class DefaultGrantsStorage implements GrantsStorage {
 		}
 		Optional<GrantAcqisition> result = Optional.empty();
 		try {
-			final int capacity = capacity(grant);
-			synchronized (this) {
-				Collection<GrantAcqisition> acquisitions = grantLocks(product, grant.getIdentifier());
-				if (acquisitions.size() < capacity) {
-					GrantAcqisition acquistion = acquistion(grant, user);
-					acquisitions.add(acquistion);
-					logStateAlternation("acquire", acquistion, product); //$NON-NLS-1$
-					result = Optional.of(acquistion);
-				}
+			long now = expireOverdue();
+			GrantLedger.Key key = new GrantLedger.Key(product, grant.getIdentifier());
+			GrantLedger ledger = ledger(key);
+			if (ledger.reserve(capacity(grant))) {
+				GrantAcqisition acquistion = acquistion(grant, user);
+				Lease leased = new Lease(key, acquistion, deadline(now));
+				ledger.settle(leased);
+				schedule(leased);
+				journal.acquired(leased);
+				logStateAlternation("acquire", acquistion, product); //$NON-NLS-1$
+				result = Optional.of(acquistion);
 			}
 		} finally {
 			if (!afterAcquire()) {
 				logStateAlternationError("acquire: blocked by post checks", grant, product); //$NON-NLS-1$
+				result.ifPresent(acquisition -> ledger(product, grant.getIdentifier())//
+						.release(acquisition.getIdentifier())//
+						.ifPresent(journal::released));
 				result = Optional.empty();
 			}
 		}
@@ -75,24 +123,50 @@ public abstract class DefaultGrantsStorage implements GrantsStorage {
 	@Override
 	public final boolean release(LicensedProduct product, GrantAcqisition acquisition) {
 		beforeRelease();
+		Optional<Lease> released = Optional.empty();
 		try {
-			synchronized (this) {
-				Collection<GrantAcqisition> colleagues = grantLocks(product, acquisition.getGrant());
-				for (GrantAcqisition colleage : colleagues) {
-					if (matches(colleage, acquisition)) {
-						colleagues.remove(colleage);
-						logStateAlternation("release", colleage, product); //$NON-NLS-1$
-						return true;
-					}
-				}
+			if (identified(acquisition)) {
+				released = ledger(product, acquisition.getGrant()).release(acquisition.getIdentifier());
+				released.ifPresent(journal::released);
 			}
 		} finally {
 			afterRelease();
 		}
+		if (released.isPresent()) {
+			logStateAlternation("release", released.get().acquisition(), product); //$NON-NLS-1$
+			return true;
+		}
 		logStateAlternationError("release: failed as grant was not acquired", acquisition, product); //$NON-NLS-1$
 		return false;
 	}
 
+	@Override
+	public final boolean renew(LicensedProduct product, GrantAcqisition acquisition) {
+		long now = expireOverdue();
+		Optional<Lease> renewed = identified(acquisition) //
+				? ledger(product, acquisition.getGrant()).renew(acquisition.getIdentifier(), now, deadline(now))
+				: Optional.empty();
+		if (renewed.isPresent()) {
+			journal.renewed(renewed.get());
+			logStateAlternation("renew", acquisition, product); //$NON-NLS-1$
+			return true;
+		}
+		logStateAlternationError("renew: failed as grant is not held", acquisition, product); //$NON-NLS-1$
+		return false;
+	}
+
+	@Override
+	public final Collection<GrantUtilization> utilization() {
+		return ledgers.entrySet().stream()//
+				.map(entry -> entry.getValue().utilization(entry.getKey()))//
+				.collect(Collectors.toList());
+	}
+
+	@Override
+	public void close() {
+		journal.close();
+	}
+
 	protected abstract boolean beforeAcquire();
 
 	protected abstract boolean afterAcquire();
@@ -103,8 +177,8 @@ public abstract class DefaultGrantsStorage implements GrantsStorage {
 
 	protected abstract int capacity(FeatureGrant grant);
 
-	private boolean matches(GrantAcqisition actual, GrantAcqisition expected) {
-		return actual.getIdentifier().equals(expected.getIdentifier());
+	private boolean identified(GrantAcqisition acquisition) {
+		return acquisition.getGrant() != null && acquisition.getIdentifier() != null;
 	}
 
 	private GrantAcqisition acquistion(FeatureGrant grant, String user) {
@@ -117,12 +191,57 @@ public abstract class DefaultGrantsStorage implements GrantsStorage {
 		return acquisition;
 	}
 
-	private Collection<GrantAcqisition> grantLocks(LicensedProduct product, String grant) {
-		return productLocks(product).computeIfAbsent(grant, id -> new HashSet<>());
+	private GrantLedger ledger(LicensedProduct product, String grant) {
+		return ledger(new GrantLedger.Key(product, grant));
 	}
 
-	private Map<String, Collection<GrantAcqisition>> productLocks(LicensedProduct product) {
-		return locks.computeIfAbsent(product, p -> new HashMap<String, Collection<GrantAcqisition>>());
+	private void restore() {
+		for (Lease restored : journal.restored()) {
+			if (lease == 0) {
+				restored.prolong(Long.MAX_VALUE);
+			}
+			ledger(restored.key()).restore(restored);
+			schedule(restored);
+		}
+	}
+
+	private long deadline(long now) {
+		return lease == 0 ? Long.MAX_VALUE : now + lease;
+	}
+
+	private void schedule(Lease leased) {
+		if (leased.deadline() != Long.MAX_VALUE) {
+			wheel.schedule(leased);
+		}
+	}
+
+	private Collection<Lease> leases() {
+		return ledgers.values().stream()//
+				.map(GrantLedger::leases)//
+				.flatMap(Collection::stream)//
+				.collect(Collectors.toList());
+	}
+
+	private GrantLedger ledger(GrantLedger.Key key) {
+		return ledgers.computeIfAbsent(key, any -> new GrantLedger());
+	}
+
+	/**
+	 * @return current time
+	 */
+	private long expireOverdue() {
+		long now = clock.getAsLong();
+		wheel.advance(now, leased -> expire(leased, now));
+		return now;
+	}
+
+	private boolean expire(Lease leased, long now) {
+		boolean expired = ledger(leased.key()).expire(leased, now);
+		if (expired) {
+			journal.expired(leased);
+			logStateAlternation("expire", leased.acquisition(), leased.key().product(), log::info); //$NON-NLS-1$
+		}
+		return expired;
 	}
 
 	private void logStateAlternation(String operation, GrantAcqisition grant, LicensedProduct product) {
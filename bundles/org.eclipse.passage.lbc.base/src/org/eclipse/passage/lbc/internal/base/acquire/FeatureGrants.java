@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2022 ArSysOp
+ * Copyright (c) 2020, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -24,7 +24,6 @@ import org.eclipse.passage.lbc.internal.base.api.FlsGearAwre;
 import org.eclipse.passage.lic.api.LicensedProduct;
 import org.eclipse.passage.lic.api.LicensingException;
 import org.eclipse.passage.lic.licenses.model.api.FeatureGrant;
-import org.eclipse.passage.lic.licenses.model.api.FloatingLicensePack;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -34,18 +33,22 @@ final class FeatureGrants {
 	private final String user;
 	private final String feature;
 	private final Supplier<Path> base;
+	private final FloatingLicenses licenses;
 	private final Logger log = LoggerFactory.getLogger(getClass());
 
-	FeatureGrants(LicensedProduct product, String user, String feature, Supplier<Path> base) {
+	FeatureGrants(LicensedProduct product, String user, String feature, Supplier<Path> base,
+			FloatingLicenses licenses) {
 		this.product = product;
 		this.user = user;
 		this.feature = feature;
 		this.base = base;
+		this.licenses = licenses;
 	}
 
 	/**
 	 * Explore all licenses for the {@code product} and collect all grants for the
-	 * given {@code feature}, if any
+	 * given {@code feature}, if any. Decoded licenses are taken from the
+	 * {@code licenses} cache.
 	 */
 	Collection<FeatureGrant> get() {
 		try {
@@ -76,16 +79,8 @@ final class FeatureGrants {
 
 	private Collection<FeatureGrant> get(FlsGear gear) {
 		try {
-			return new LicensePacks(//
-					gear.keyKeper(product, base), //
-					gear.codec(product), //
-					product, //
-					base//
-			).get().stream()//
-					.filter(new AvailableForUser(user)) //
-					.map(this::grantForFeature) //
-					.filter(Optional::isPresent) //
-					.map(Optional::get) //
+			return licenses.grants(product, feature, () -> packs(gear).get()).stream()//
+					.filter(grant -> new AvailableForUser(user).test(grant.getPack())) //
 					.collect(Collectors.toList());
 		} catch (LicensingException e) {
 			log.error("Failed to get feature grants", e); //$NON-NLS-1$
@@ -93,13 +88,12 @@ final class FeatureGrants {
 		}
 	}
 
-	/**
-	 * Find out if the given {@code license} has grant for the {@code feature}
-	 */
-	private Optional<FeatureGrant> grantForFeature(FloatingLicensePack license) {
-		return license.getFeatures().stream()//
-				.filter(grant -> feature.equals(grant.getFeature().getIdentifier()))//
-				.findAny();//
+	private LicensePacks packs(FlsGear gear) {
+		return new LicensePacks(//
+				gear.keyKeper(product, base), //
+				gear.codec(product), //
+				product, //
+				base);
 	}
 
 }
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lbc.internal.base.acquire;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.eclipse.passage.lic.api.LicensedProduct;
+import org.eclipse.passage.lic.api.LicensingException;
+import org.eclipse.passage.lic.base.io.FolderFingerprint;
+import org.eclipse.passage.lic.base.io.PathFromLicensedProduct;
+import org.eclipse.passage.lic.licenses.model.api.FeatureGrant;
+import org.eclipse.passage.lic.licenses.model.api.FloatingLicensePack;
+
+/**
+ * <p>
+ * Keeps floating licenses of each product decoded and indexed by feature, thus
+ * grant look up on acquisition costs neither decryption nor parsing.
+ * </p>
+ * <p>
+ * Licenses of a product are read anew only when the product residence
+ * {@linkplain FolderFingerprint fingerprint} changes or on an explicit
+ * {@linkplain #invalidate(LicensedProduct)} call (say, on license upload). The
+ * residence is looked at not more often than once a second.
+ * </p>
+ */
+public final class FloatingLicenses {
+
+	private final Supplier<Path> base;
+	private final LongSupplier clock;
+	private final long recheck;
+	private final Map<LicensedProduct, Sight> packs = new ConcurrentHashMap<>();
+
+	public FloatingLicenses(Supplier<Path> base) {
+		this(base, System::currentTimeMillis, TimeUnit.SECONDS.toMillis(1));
+	}
+
+	/**
+	 * @param clock   current time in milliseconds
+	 * @param recheck period, in milliseconds, to look at a product residence
+	 */
+	public FloatingLicenses(Supplier<Path> base, LongSupplier clock, long recheck) {
+		Objects.requireNonNull(base, "FloatingLicenses::base"); //$NON-NLS-1$
+		Objects.requireNonNull(clock, "FloatingLicenses::clock"); //$NON-NLS-1$
+		this.base = base;
+		this.clock = clock;
+		this.recheck = recheck;
+	}
+
+	public void invalidate(LicensedProduct product) {
+		packs.remove(product);
+	}
+
+	public void invalidate() {
+		packs.clear();
+	}
+
+	/**
+	 * @param origin reads all floating licenses of the {@code product}, is called
+	 *               only if the remembered ones are outdated
+	 */
+	public Collection<FeatureGrant> grants(LicensedProduct product, String feature, Origin origin)
+			throws LicensingException {
+		long now = clock.getAsLong();
+		Sight seen = packs.get(product);
+		if (seen != null && now - seen.moment < recheck) {
+			return seen.packs.grants(feature);
+		}
+		Map<Path, String> fingerprint = new FolderFingerprint(new PathFromLicensedProduct(base, product)).get();
+		IndexedPacks actual = seen != null && seen.packs.actual(fingerprint) //
+				? seen.packs //
+				: new IndexedPacks(fingerprint, origin.get());
+		packs.put(product, new Sight(actual, now));
+		return actual.grants(feature);
+	}
+
+	/**
+	 * Source of decoded floating licenses of a product
+	 */
+	public interface Origin {
+
+		Collection<FloatingLicensePack> get() throws LicensingException;
+
+	}
+
+	private static final class Sight {
+
+		private final IndexedPacks packs;
+		private final long moment;
+
+		Sight(IndexedPacks packs, long moment) {
+			this.packs = packs;
+			this.moment = moment;
+		}
+
+	}
+
+}
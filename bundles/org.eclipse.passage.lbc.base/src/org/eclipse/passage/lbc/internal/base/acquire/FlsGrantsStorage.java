@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2022 ArSysOp
+ * Copyright (c) 2020, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -12,22 +12,49 @@
  *******************************************************************************/
 package org.eclipse.passage.lbc.internal.base.acquire;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.eclipse.passage.lic.base.io.LicensingFolder;
+import org.eclipse.passage.lic.base.io.PathFromLicensedProduct;
+import org.eclipse.passage.lic.base.io.UserHomePath;
 import org.eclipse.passage.lic.equinox.EquinoxPassage;
 import org.eclipse.passage.lic.licenses.model.api.FeatureGrant;
 
 final class FlsGrantsStorage extends DefaultGrantsStorage {
 
 	private final String feature = "org.eclipse.passage.lbc.acquire.concurrent"; //$NON-NLS-1$
+	private final SelfLicensing verdicts;
+
+	FlsGrantsStorage(Optional<Path> journal) {
+		super(new LeaseTime().get().orElse(Duration.ofMinutes(10)), System::currentTimeMillis, journal);
+		this.verdicts = new SelfLicensing(//
+				id -> new EquinoxPassage().canUse(id), //
+				Arrays.asList(feature, ProtectedGrantCapacity.feature), //
+				this::residence, //
+				new SelfCheckPeriod().get().orElse(Duration.ofMinutes(5)), //
+				Duration.ofSeconds(10));
+	}
+
+	@Override
+	public void close() {
+		super.close();
+		verdicts.close();
+	}
 
 	@Override
 	protected int capacity(FeatureGrant grant) {
-		return new ProtectedGrantCapacity(grant).get();
+		return new ProtectedGrantCapacity(grant, verdicts).get();
 	}
 
+	// TODO: evolve LicenseRunnable to return a result, re-implement with proper
+	// grant acquisition
 	@Override
 	protected boolean beforeAcquire() {
-		checkFlsLicense();
-		return true; // restriction level is 'info': we just report license absence
+		verdicts.covers(feature);
+		return true; // restriction level is 'info': license absence is reported on evaluation
 	}
 
 	@Override
@@ -45,14 +72,12 @@ final class FlsGrantsStorage extends DefaultGrantsStorage {
 		// do nothing
 	}
 
-	// TODO: evolve LicenseRunnable to return a result, re-implement with proper
-	// grant acquisition
-	private boolean checkFlsLicense() {
-		boolean canUse = new EquinoxPassage().canUse(feature);
-		if (!canUse) {
-			log.error(String.format("FLS feature %s is not covered by a license", feature)); //$NON-NLS-1$
-		}
-		return canUse;
+	/**
+	 * Licenses of the FLS itself are looked after for changes
+	 */
+	private Optional<Path> residence() {
+		return new EquinoxPassage().product().data()//
+				.map(product -> new PathFromLicensedProduct(new LicensingFolder(new UserHomePath()), product).get());
 	}
 
 }
@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lbc.internal.base.acquire;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Durable record of all the {@linkplain Lease} changes of a grants storage, so
+ * that outstanding acquisitions survive a server restart
+ */
+interface GrantJournal {
+
+	/**
+	 * Leases that have been held at the moment the journal was read
+	 */
+	Collection<Lease> restored();
+
+	void acquired(Lease lease);
+
+	void renewed(Lease lease);
+
+	void released(Lease lease);
+
+	void expired(Lease lease);
+
+	/**
+	 * Makes all the recorded changes durable and releases the journal resources
+	 */
+	void close();
+
+	static final class None implements GrantJournal {
+
+		@Override
+		public Collection<Lease> restored() {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public void acquired(Lease lease) {
+			// do nothing
+		}
+
+		@Override
+		public void renewed(Lease lease) {
+			// do nothing
+		}
+
+		@Override
+		public void released(Lease lease) {
+			// do nothing
+		}
+
+		@Override
+		public void expired(Lease lease) {
+			// do nothing
+		}
+
+		@Override
+		public void close() {
+			// do nothing
+		}
+
+	}
+
+}
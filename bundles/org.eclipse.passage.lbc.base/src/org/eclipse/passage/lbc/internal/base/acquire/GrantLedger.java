@@ -0,0 +1,180 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lbc.internal.base.acquire;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.passage.lic.api.LicensedProduct;
+
+/**
+ * <p>
+ * Keeps track of all {@code acquisitions} of a single feature grant.
+ * </p>
+ * <p>
+ * Capacity is guarded by an atomic counter: a seat is first
+ * {@linkplain #reserve(int) reserved} with a compare-and-set, and only then an
+ * acquisition is {@linkplain #settle(Lease) settled} in the acquisition
+ * identifier index, which makes release a single map removal. Thus no lock is
+ * shared between different grants, neither between different products.
+ * </p>
+ * <p>
+ * Each acquisition is held as a {@linkplain Lease}: renewal and expiration of
+ * the same lease are atomic with respect to each other.
+ * </p>
+ */
+final class GrantLedger {
+
+	private final AtomicInteger taken = new AtomicInteger();
+	private final Map<String, Lease> acquisitions = new ConcurrentHashMap<>();
+	private volatile int capacity = -1;
+	private volatile String feature = ""; //$NON-NLS-1$
+
+	/**
+	 * Occupies a seat if there is a free one according to the given
+	 * {@code capacity}
+	 */
+	boolean reserve(int capacity) {
+		this.capacity = capacity;
+		while (true) {
+			int current = taken.get();
+			if (current >= capacity) {
+				return false;
+			}
+			if (taken.compareAndSet(current, current + 1)) {
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * Is to be called only for a seat that is already {@linkplain #reserve(int)
+	 * reserved}
+	 */
+	void settle(Lease lease) {
+		feature = lease.acquisition().getFeature();
+		acquisitions.put(lease.acquisition().getIdentifier(), lease);
+	}
+
+	/**
+	 * Takes a seat for a lease restored from a {@linkplain GrantJournal}
+	 * regardless of the capacity: a seat once granted is to be kept
+	 */
+	void restore(Lease lease) {
+		taken.incrementAndGet();
+		settle(lease);
+	}
+
+	Optional<Lease> release(String acquisition) {
+		Lease released = acquisitions.remove(acquisition);
+		if (released == null) {
+			return Optional.empty();
+		}
+		leave(released);
+		return Optional.of(released);
+	}
+
+	/**
+	 * Moves the deadline of an acquisition that is still held and not overdue at
+	 * the moment {@code now}
+	 */
+	Optional<Lease> renew(String acquisition, long now, long until) {
+		Lease[] renewed = new Lease[1];
+		acquisitions.computeIfPresent(acquisition, (id, lease) -> {
+			if (lease.deadline() > now) {
+				lease.prolong(until);
+				renewed[0] = lease;
+			}
+			return lease;
+		});
+		return Optional.ofNullable(renewed[0]);
+	}
+
+	/**
+	 * Frees the seat if the {@code lease} is still held and its deadline has
+	 * passed at the moment {@code now}
+	 */
+	boolean expire(Lease lease, long now) {
+		boolean[] expired = new boolean[1];
+		acquisitions.computeIfPresent(lease.acquisition().getIdentifier(), (id, held) -> {
+			expired[0] = held == lease && held.deadline() <= now;
+			return expired[0] ? null : held;
+		});
+		if (expired[0]) {
+			leave(lease);
+		}
+		return expired[0];
+	}
+
+	int taken() {
+		return taken.get();
+	}
+
+	GrantUtilization utilization(Key key) {
+		return new GrantUtilization(key.product(), key.grant(), feature, taken.get(), capacity);
+	}
+
+	Collection<Lease> leases() {
+		return new ArrayList<>(acquisitions.values());
+	}
+
+	private void leave(Lease lease) {
+		lease.close();
+		taken.decrementAndGet();
+	}
+
+	/**
+	 * (product, grant identifier) pair a {@linkplain GrantLedger} is kept for
+	 */
+	static final class Key {
+
+		private final LicensedProduct product;
+		private final String grant;
+
+		Key(LicensedProduct product, String grant) {
+			Objects.requireNonNull(product, "GrantLedger.Key::product"); //$NON-NLS-1$
+			Objects.requireNonNull(grant, "GrantLedger.Key::grant"); //$NON-NLS-1$
+			this.product = product;
+			this.grant = grant;
+		}
+
+		LicensedProduct product() {
+			return product;
+		}
+
+		String grant() {
+			return grant;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(product, grant);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return product.equals(other.product) && grant.equals(other.grant);
+		}
+
+	}
+
+}
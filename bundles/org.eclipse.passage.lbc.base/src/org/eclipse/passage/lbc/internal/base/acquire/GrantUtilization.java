@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lbc.internal.base.acquire;
+
+import org.eclipse.passage.lic.api.LicensedProduct;
+
+/**
+ * Occupation of a single feature grant of a product at some moment
+ */
+public final class GrantUtilization {
+
+	private final LicensedProduct product;
+	private final String grant;
+	private final String feature;
+	private final int taken;
+	private final int capacity;
+
+	GrantUtilization(LicensedProduct product, String grant, String feature, int taken, int capacity) {
+		this.product = product;
+		this.grant = grant;
+		this.feature = feature;
+		this.taken = taken;
+		this.capacity = capacity;
+	}
+
+	public LicensedProduct product() {
+		return product;
+	}
+
+	public String grant() {
+		return grant;
+	}
+
+	/**
+	 * Is empty until the first acquisition of the grant
+	 */
+	public String feature() {
+		return feature;
+	}
+
+	public int taken() {
+		return taken;
+	}
+
+	/**
+	 * Capacity the grant has been acquired against the last time, negative while
+	 * it has not been acquired since the server start
+	 */
+	public int capacity() {
+		return capacity;
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 ArSysOp
+ * Copyright (c) 2021, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.passage.lbc.internal.base.acquire;
 
+import java.util.Collection;
 import java.util.Optional;
 
 import org.eclipse.passage.lic.api.LicensedProduct;
@@ -24,4 +25,22 @@ public interface GrantsStorage {
 
 	boolean release(LicensedProduct product, GrantAcqisition acquisition);
 
+	/**
+	 * Prolongs the lease of a held {@code acquisition}, fails for an unknown or
+	 * already expired one
+	 */
+	boolean renew(LicensedProduct product, GrantAcqisition acquisition);
+
+	/**
+	 * Current occupation of each grant known to the storage
+	 */
+	Collection<GrantUtilization> utilization();
+
+	/**
+	 * Releases background resources of the storage, if any
+	 */
+	default void close() {
+		// nothing to release
+	}
+
 }
@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lbc.internal.base.acquire;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.passage.lic.licenses.model.api.FeatureGrant;
+import org.eclipse.passage.lic.licenses.model.api.FloatingLicensePack;
+
+/**
+ * Immutable snapshot of all floating licenses decoded for a product, with
+ * feature grants indexed by feature identifier. Keeps the
+ * {@linkplain org.eclipse.passage.lic.base.io.FolderFingerprint fingerprint}
+ * of the residence it has been read from.
+ */
+final class IndexedPacks {
+
+	private final Map<Path, String> fingerprint;
+	private final Map<String, List<FeatureGrant>> features;
+
+	IndexedPacks(Map<Path, String> fingerprint, Collection<FloatingLicensePack> packs) {
+		this.fingerprint = fingerprint;
+		this.features = index(packs);
+	}
+
+	boolean actual(Map<Path, String> current) {
+		return fingerprint.equals(current);
+	}
+
+	List<FeatureGrant> grants(String feature) {
+		return features.getOrDefault(feature, Collections.emptyList());
+	}
+
+	private Map<String, List<FeatureGrant>> index(Collection<FloatingLicensePack> packs) {
+		Map<String, List<FeatureGrant>> index = new HashMap<>();
+		for (FloatingLicensePack pack : packs) {
+			Set<String> covered = new HashSet<>();
+			for (FeatureGrant grant : pack.getFeatures()) {
+				String feature = grant.getFeature().getIdentifier();
+				if (covered.add(feature)) { // a pack offers the only grant per feature
+					index.computeIfAbsent(feature, id -> new ArrayList<>()).add(grant);
+				}
+			}
+		}
+		index.replaceAll((feature, grants) -> Collections.unmodifiableList(grants));
+		return index;
+	}
+
+}
@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lbc.internal.base.acquire;
+
+import java.util.Objects;
+
+import org.eclipse.passage.lic.licenses.model.api.GrantAcqisition;
+
+/**
+ * A {@code grant acquisition} that is kept by the server only until its
+ * {@code deadline}: a client is expected to {@linkplain #prolong(long) renew}
+ * it in time, otherwise the seat is recycled by a {@linkplain LeaseWheel}.
+ */
+final class Lease {
+
+	private final GrantLedger.Key key;
+	private final GrantAcqisition acquisition;
+	private volatile long deadline;
+	private volatile boolean closed;
+
+	Lease(GrantLedger.Key key, GrantAcqisition acquisition, long deadline) {
+		Objects.requireNonNull(key, "Lease::key"); //$NON-NLS-1$
+		Objects.requireNonNull(acquisition, "Lease::acquisition"); //$NON-NLS-1$
+		this.key = key;
+		this.acquisition = acquisition;
+		this.deadline = deadline;
+	}
+
+	GrantLedger.Key key() {
+		return key;
+	}
+
+	GrantAcqisition acquisition() {
+		return acquisition;
+	}
+
+	long deadline() {
+		return deadline;
+	}
+
+	boolean closed() {
+		return closed;
+	}
+
+	void prolong(long until) {
+		deadline = until;
+	}
+
+	/**
+	 * The lease is left by the ledger (released or expired) and is to be dropped
+	 * by the wheel on the next encounter
+	 */
+	void close() {
+		closed = true;
+	}
+
+}
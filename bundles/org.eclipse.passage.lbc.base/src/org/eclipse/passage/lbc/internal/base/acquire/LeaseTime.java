@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lbc.internal.base.acquire;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.eclipse.passage.lic.internal.net.connect.CliParameter;
+
+/**
+ * <p>
+ * Time (in minutes) a grant acquisition is held by the server without renewal,
+ * {@code -server.lease=10} by default.
+ * </p>
+ * <p>
+ * Clients renew their acquisitions much more often, so only acquisitions of
+ * crashed or disconnected clients outlive their lease.
+ * </p>
+ * <p>
+ * {@code -server.lease=0} turns leasing off: an acquisition is held till it is
+ * released, as it used to be before 3.1. This is the setting for a server that
+ * still serves clients that never renew their acquisitions (say, during a
+ * rolling upgrade).
+ * </p>
+ */
+public final class LeaseTime extends CliParameter<Duration> {
+
+	public LeaseTime() {
+		super(Duration.ofMinutes(10));
+	}
+
+	public LeaseTime(Duration lazy) {
+		super(lazy);
+	}
+
+	public LeaseTime(String[] sources, Duration lazy) {
+		super(sources, lazy);
+	}
+
+	@Override
+	public String key() {
+		return "server.lease"; //$NON-NLS-1$
+	}
+
+	@Override
+	protected Optional<Duration> parse(String value) {
+		long minutes;
+		try {
+			minutes = Long.parseLong(value);
+		} catch (NumberFormatException e) {
+			log.error("failed: ", e); //$NON-NLS-1$ ;
+			return Optional.empty();
+		}
+		if (minutes < 0) {
+			log.error(String.format("Lease time must not be negative: %s", value)); //$NON-NLS-1$ ;
+			return Optional.empty();
+		}
+		return Optional.of(Duration.ofMinutes(minutes));
+	}
+
+}
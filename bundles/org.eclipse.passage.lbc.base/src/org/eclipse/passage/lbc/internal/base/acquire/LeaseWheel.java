@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lbc.internal.base.acquire;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * <p>
+ * Hashed timer wheel: a {@linkplain Lease} is placed to the slot its deadline
+ * tick falls to, so scheduling costs constant time and each {@code advance}
+ * looks only through the slots of elapsed ticks.
+ * </p>
+ * <p>
+ * Renewal does not touch the wheel: a lease met in a slot before its (moved)
+ * deadline is just rescheduled, leases left by their ledgers are dropped. Thus
+ * each lease costs amortized constant time per revolution.
+ * </p>
+ * <p>
+ * The wheel has no thread of its own: it is advanced by whoever calls
+ * {@linkplain #advance(long, Predicate)}, and only one caller at a time does the
+ * job while others pass by without waiting.
+ * </p>
+ */
+final class LeaseWheel {
+
+	private final long tick;
+	private final List<Queue<Lease>> slots;
+	private final ReentrantLock turning = new ReentrantLock();
+	/**
+	 * Index of the first tick that has not been processed yet
+	 */
+	private volatile long cursor;
+
+	LeaseWheel(Duration tick, int size, long now) {
+		if (tick.toMillis() <= 0 || size <= 0) {
+			throw new IllegalArgumentException(String.format("Invalid wheel of %d slots %s each", size, tick)); //$NON-NLS-1$
+		}
+		this.tick = tick.toMillis();
+		this.slots = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			slots.add(new ConcurrentLinkedQueue<>());
+		}
+		this.cursor = now / this.tick;
+	}
+
+	void schedule(Lease lease) {
+		slot(Math.max(lease.deadline() / tick, cursor)).add(lease);
+	}
+
+	/**
+	 * Processes all the ticks that have entirely elapsed by the moment
+	 * {@code now}, feeding each due lease to {@code expire}. A lease that
+	 * {@code expire} refuses (say, renewed in the meantime) is kept on the wheel.
+	 * Returns immediately if there is nothing to process or another thread is
+	 * already advancing the wheel.
+	 */
+	void advance(long now, Predicate<Lease> expire) {
+		long target = now / tick;
+		if (target <= cursor || !turning.tryLock()) {
+			return;
+		}
+		try {
+			// a lap longer than the wheel visits each slot only once
+			long start = Math.max(cursor, target - slots.size());
+			List<Lease> later = new ArrayList<>();
+			for (long current = start; current < target; current++) {
+				Queue<Lease> slot = slot(current);
+				for (Lease lease = slot.poll(); lease != null; lease = slot.poll()) {
+					if (lease.closed()) {
+						continue;
+					}
+					if (lease.deadline() > now || !expire.test(lease)) {
+						later.add(lease);
+					}
+				}
+			}
+			cursor = target;
+			later.forEach(this::schedule);
+		} finally {
+			turning.unlock();
+		}
+	}
+
+	private Queue<Lease> slot(long index) {
+		return slots.get((int) (index % slots.size()));
+	}
+
+}
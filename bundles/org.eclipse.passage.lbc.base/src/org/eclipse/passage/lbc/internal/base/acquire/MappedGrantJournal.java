@@ -0,0 +1,364 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lbc.internal.base.acquire;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import org.eclipse.passage.lic.base.BaseLicensedProduct;
+import org.eclipse.passage.lic.licenses.model.api.GrantAcqisition;
+import org.eclipse.passage.lic.licenses.model.meta.LicensesFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>
+ * Write-ahead {@linkplain GrantJournal} kept in a single memory-mapped segment
+ * file of the given {@code folder}.
+ * </p>
+ * <p>
+ * Each lease change is appended as a checksummed record, which costs a memory
+ * copy only. The segment is forced to disk by a background flusher each
+ * {@code flush} period, so an acquisition never waits for disk I/O: a process
+ * crash loses nothing (the page cache survives), while an operating system
+ * crash loses at most the last period.
+ * </p>
+ * <p>
+ * A segment starts with a snapshot of all the leases held at the moment of its
+ * creation. As soon as it runs out of space, a compacted one is written aside,
+ * atomically moved in place and the previous is deleted. The same compaction
+ * happens on start right after the replay, so the journal never grows beyond
+ * the live leases plus one segment of changes.
+ * </p>
+ */
+final class MappedGrantJournal implements GrantJournal {
+
+	private static final byte ACQUIRED = 1;
+	private static final byte RENEWED = 2;
+	private static final byte RELEASED = 3;
+	private static final byte EXPIRED = 4;
+	private static final int FRAME = Integer.BYTES * 2; // length, checksum
+	private static final Pattern SEGMENT = Pattern.compile("grants-(\\d+)\\.journal"); //$NON-NLS-1$
+
+	private final Path folder;
+	private final Supplier<Collection<Lease>> live;
+	private final int capacity;
+	private final Logger log = LoggerFactory.getLogger(getClass());
+	private final List<Lease> restored;
+	private final ScheduledExecutorService flusher;
+	private long number;
+	private FileChannel channel;
+	private MappedByteBuffer segment;
+	private volatile boolean dirty;
+
+	/**
+	 * @param folder   residence of segments
+	 * @param live     all the leases held by the storage at the moment of call
+	 * @param capacity of a segment in bytes
+	 * @param flush    period of group commit
+	 * @param now      leases with deadline before this moment are not restored
+	 */
+	MappedGrantJournal(Path folder, Supplier<Collection<Lease>> live, int capacity, Duration flush, long now) {
+		Objects.requireNonNull(folder, "MappedGrantJournal::folder"); //$NON-NLS-1$
+		Objects.requireNonNull(live, "MappedGrantJournal::live"); //$NON-NLS-1$
+		Objects.requireNonNull(flush, "MappedGrantJournal::flush"); //$NON-NLS-1$
+		this.folder = folder;
+		this.live = live;
+		this.capacity = capacity;
+		this.restored = open(now);
+		this.flusher = Executors.newSingleThreadScheduledExecutor(task -> {
+			Thread thread = new Thread(task, "passage-grants-journal"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		flusher.scheduleWithFixedDelay(this::flush, flush.toMillis(), flush.toMillis(), TimeUnit.MILLISECONDS);
+	}
+
+	MappedGrantJournal(Path folder, Supplier<Collection<Lease>> live, long now) {
+		this(folder, live, 8 * 1024 * 1024, Duration.ofMillis(20), now);
+	}
+
+	@Override
+	public Collection<Lease> restored() {
+		return Collections.unmodifiableList(restored);
+	}
+
+	@Override
+	public void acquired(Lease lease) {
+		append(record(ACQUIRED, lease));
+	}
+
+	@Override
+	public void renewed(Lease lease) {
+		append(record(RENEWED, lease));
+	}
+
+	@Override
+	public void released(Lease lease) {
+		append(record(RELEASED, lease));
+	}
+
+	@Override
+	public void expired(Lease lease) {
+		append(record(EXPIRED, lease));
+	}
+
+	/**
+	 * Stops the flusher, forces the last records to disk and unmaps the segment
+	 */
+	@Override
+	public synchronized void close() {
+		flusher.shutdownNow();
+		try {
+			unmap();
+		} catch (IOException e) {
+			log.error(String.format("Grants journal %s is not closed properly", folder), e); //$NON-NLS-1$
+		}
+		segment = null;
+	}
+
+	private List<Lease> open(long now) {
+		try {
+			Files.createDirectories(folder);
+			Optional<Long> last = segments().stream().max(Long::compare);
+			Map<String, Lease> leases = new LinkedHashMap<>();
+			if (last.isPresent()) {
+				replay(segment(last.get()), leases);
+				number = last.get();
+			}
+			List<Lease> held = leases.values().stream()//
+					.filter(lease -> lease.deadline() > now)//
+					.collect(Collectors.toList());
+			compact(held);
+			log.info(String.format("Grants journal %s: %d leases restored", folder, held.size())); //$NON-NLS-1$
+			return held;
+		} catch (IOException e) {
+			log.error(String.format("Grants journal %s is not available, acquisitions are not durable", folder), e); //$NON-NLS-1$
+			return Collections.emptyList();
+		}
+	}
+
+	private void replay(Path file, Map<String, Lease> leases) throws IOException {
+		ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(file));
+		while (data.remaining() >= FRAME) {
+			int length = data.getInt();
+			int checksum = data.getInt();
+			if (length <= 0 || length > data.remaining()) {
+				break; // end of written records
+			}
+			byte[] record = new byte[length];
+			data.get(record);
+			if (checksum(record) != checksum) {
+				log.warn(String.format("Grants journal %s: torn record at %d is skipped with the rest", //$NON-NLS-1$
+						file, data.position() - length - FRAME));
+				break;
+			}
+			apply(record, leases);
+		}
+	}
+
+	private void apply(byte[] record, Map<String, Lease> leases) throws IOException {
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(record))) {
+			byte type = in.readByte();
+			GrantLedger.Key key = new GrantLedger.Key(new BaseLicensedProduct(in.readUTF(), in.readUTF()), in.readUTF());
+			String identifier = in.readUTF();
+			long deadline = in.readLong();
+			switch (type) {
+				case ACQUIRED:
+					GrantAcqisition acquisition = LicensesFactory.eINSTANCE.createGrantAcqisition();
+					acquisition.setIdentifier(identifier);
+					acquisition.setGrant(key.grant());
+					acquisition.setFeature(in.readUTF());
+					acquisition.setUser(in.readUTF());
+					acquisition.setCreated(new Date(in.readLong()));
+					leases.put(identifier, new Lease(key, acquisition, deadline));
+					break;
+				case RENEWED:
+					Optional.ofNullable(leases.get(identifier)).ifPresent(lease -> lease.prolong(deadline));
+					break;
+				default:
+					leases.remove(identifier);
+			}
+		}
+	}
+
+	private synchronized void append(byte[] record) {
+		if (segment == null) {
+			return;
+		}
+		try {
+			if (segment.remaining() < FRAME + record.length) {
+				compact(live.get());
+			}
+			frame(record, segment);
+			dirty = true;
+		} catch (IOException e) {
+			log.error(String.format("Grants journal %s is broken, acquisitions are not durable any more", folder), e); //$NON-NLS-1$
+			segment = null;
+		}
+	}
+
+	/**
+	 * Writes a new segment starting with a snapshot of the given {@code leases}
+	 * and switches appending to it
+	 */
+	private void compact(Collection<Lease> leases) throws IOException {
+		List<byte[]> records = leases.stream()//
+				.map(lease -> record(ACQUIRED, lease))//
+				.collect(Collectors.toList());
+		ByteBuffer snapshot = ByteBuffer.allocate(records.stream().mapToInt(record -> FRAME + record.length).sum());
+		records.forEach(record -> frame(record, snapshot));
+		snapshot.flip();
+		long next = number + 1;
+		Path written = folder.resolve(name(next) + ".tmp"); //$NON-NLS-1$
+		try (FileChannel out = FileChannel.open(written, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			while (snapshot.hasRemaining()) {
+				out.write(snapshot);
+			}
+			out.force(true);
+		}
+		Files.move(written, segment(next), StandardCopyOption.ATOMIC_MOVE);
+		unmap();
+		channel = FileChannel.open(segment(next), StandardOpenOption.READ, StandardOpenOption.WRITE);
+		segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(capacity, 2 * snapshot.limit()));
+		segment.position(snapshot.limit());
+		number = next;
+		deletePrevious();
+	}
+
+	private void unmap() throws IOException {
+		if (segment != null) {
+			segment.force();
+		}
+		if (channel != null) {
+			channel.close();
+		}
+	}
+
+	private void deletePrevious() throws IOException {
+		for (long previous : segments()) {
+			if (previous < number) {
+				try {
+					Files.delete(segment(previous));
+				} catch (IOException e) {
+					// still mapped on some platforms: next compaction will try again
+					log.debug(String.format("Grants journal segment %s is not deleted yet", segment(previous)), e); //$NON-NLS-1$
+				}
+			}
+		}
+	}
+
+	/**
+	 * Group commit: all the records appended since the previous flush go to disk
+	 * with a single {@code force}, done outside of the append lock
+	 */
+	private void flush() {
+		if (!dirty) {
+			return;
+		}
+		MappedByteBuffer current;
+		synchronized (this) {
+			current = segment;
+			dirty = false;
+		}
+		try {
+			if (current != null) {
+				current.force();
+			}
+		} catch (RuntimeException e) {
+			// failed attempt must not cancel further flushes
+			dirty = true;
+			log.error(String.format("Grants journal %s is not flushed", folder), e); //$NON-NLS-1$
+		}
+	}
+
+	private List<Long> segments() throws IOException {
+		try (Stream<Path> files = Files.list(folder)) {
+			return files.map(file -> SEGMENT.matcher(file.getFileName().toString()))//
+					.filter(Matcher::matches)//
+					.map(matcher -> Long.parseLong(matcher.group(1)))//
+					.collect(Collectors.toList());
+		}
+	}
+
+	private Path segment(long index) {
+		return folder.resolve(name(index));
+	}
+
+	private String name(long index) {
+		return String.format("grants-%d.journal", index); //$NON-NLS-1$
+	}
+
+	private byte[] record(byte type, Lease lease) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			GrantAcqisition acquisition = lease.acquisition();
+			out.writeByte(type);
+			out.writeUTF(lease.key().product().identifier());
+			out.writeUTF(lease.key().product().version());
+			out.writeUTF(lease.key().grant());
+			out.writeUTF(acquisition.getIdentifier());
+			out.writeLong(lease.deadline());
+			if (type == ACQUIRED) {
+				out.writeUTF(String.valueOf(acquisition.getFeature()));
+				out.writeUTF(String.valueOf(acquisition.getUser()));
+				out.writeLong(acquisition.getCreated() == null ? 0 : acquisition.getCreated().getTime());
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException(e); // in-memory stream does not fail
+		}
+		return bytes.toByteArray();
+	}
+
+	private void frame(byte[] record, ByteBuffer target) {
+		target.putInt(record.length);
+		target.putInt(checksum(record));
+		target.put(record);
+	}
+
+	private int checksum(byte[] record) {
+		CRC32 crc = new CRC32();
+		crc.update(record);
+		return (int) crc.getValue();
+	}
+
+}
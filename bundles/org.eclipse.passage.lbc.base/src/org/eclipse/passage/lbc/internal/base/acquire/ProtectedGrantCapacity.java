@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2022 ArSysOp
+ * Copyright (c) 2021, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -14,7 +14,6 @@ package org.eclipse.passage.lbc.internal.base.acquire;
 
 import java.util.function.Supplier;
 
-import org.eclipse.passage.lic.equinox.EquinoxPassage;
 import org.eclipse.passage.lic.licenses.model.api.FeatureGrant;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -22,12 +21,14 @@ import org.slf4j.LoggerFactory;
 final class ProtectedGrantCapacity implements Supplier<Integer> {
 
 	private final Logger log = LoggerFactory.getLogger(getClass());
-	private final String feature = "org.eclipse.passage.lbc.acquire.concurrent.full"; //$NON-NLS-1$
+	static final String feature = "org.eclipse.passage.lbc.acquire.concurrent.full"; //$NON-NLS-1$
 	private final FeatureGrant grant;
+	private final SelfLicensing verdicts;
 	private final int unlicensed = 4;
 
-	ProtectedGrantCapacity(FeatureGrant grant) {
+	ProtectedGrantCapacity(FeatureGrant grant, SelfLicensing verdicts) {
 		this.grant = grant;
+		this.verdicts = verdicts;
 	}
 
 	@Override
@@ -35,7 +36,7 @@ final class ProtectedGrantCapacity implements Supplier<Integer> {
 		if (grant.getCapacity() < unlicensed) {
 			return grant.getCapacity();
 		}
-		if (new EquinoxPassage().canUse(feature)) {
+		if (verdicts.covers(feature)) {
 			return grant.getCapacity();
 		}
 		reportDiminish();
@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lbc.internal.base.acquire;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.eclipse.passage.lic.internal.net.connect.CliParameter;
+
+/**
+ * Period (in minutes) of the FLS own license re-evaluation,
+ * {@code -server.selfcheck=5} by default. Change of the FLS license files
+ * causes re-evaluation regardless of the period.
+ */
+public final class SelfCheckPeriod extends CliParameter<Duration> {
+
+	public SelfCheckPeriod() {
+		super(Duration.ofMinutes(5));
+	}
+
+	public SelfCheckPeriod(Duration lazy) {
+		super(lazy);
+	}
+
+	public SelfCheckPeriod(String[] sources, Duration lazy) {
+		super(sources, lazy);
+	}
+
+	@Override
+	public String key() {
+		return "server.selfcheck"; //$NON-NLS-1$
+	}
+
+	@Override
+	protected Optional<Duration> parse(String value) {
+		long minutes;
+		try {
+			minutes = Long.parseLong(value);
+		} catch (NumberFormatException e) {
+			log.error("failed: ", e); //$NON-NLS-1$ ;
+			return Optional.empty();
+		}
+		if (minutes <= 0) {
+			log.error(String.format("Self check period must be positive: %s", value)); //$NON-NLS-1$ ;
+			return Optional.empty();
+		}
+		return Optional.of(Duration.ofMinutes(minutes));
+	}
+
+}
@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lbc.internal.base.acquire;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.eclipse.passage.lic.api.LicensingException;
+import org.eclipse.passage.lic.base.io.FolderFingerprint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>
+ * Verdicts on the FLS own license coverage for the given {@code features}.
+ * </p>
+ * <p>
+ * Evaluation (a full access cycle) is done once on the first demand and then
+ * only in background: each {@code period} and as soon as the license
+ * {@code residence} is changed, which is looked after each {@code poll}. Thus
+ * the acquisition path reads the last verdict with a single volatile load.
+ * </p>
+ * <p>
+ * Each feature that loses its coverage is reported to the {@code alarm}.
+ * {@linkplain #close()} stops the background evaluation.
+ * </p>
+ */
+public final class SelfLicensing {
+
+	private final Predicate<String> evaluation;
+	private final Collection<String> features;
+	private final Supplier<Optional<Path>> residence;
+	private final Duration period;
+	private final Duration poll;
+	private final Consumer<String> alarm;
+	private final Logger log = LoggerFactory.getLogger(getClass());
+	private volatile Map<String, Boolean> verdicts;
+	private Map<Path, String> fingerprint = Collections.emptyMap();
+	private long evaluated;
+	private ScheduledExecutorService refresher;
+	private boolean closed;
+
+	public SelfLicensing(Predicate<String> evaluation, Collection<String> features, Supplier<Optional<Path>> residence,
+			Duration period, Duration poll) {
+		this(evaluation, features, residence, period, poll, LoggerFactory.getLogger(SelfLicensing.class)::error);
+	}
+
+	public SelfLicensing(Predicate<String> evaluation, Collection<String> features, Supplier<Optional<Path>> residence,
+			Duration period, Duration poll, Consumer<String> alarm) {
+		Objects.requireNonNull(evaluation, "SelfLicensing::evaluation"); //$NON-NLS-1$
+		Objects.requireNonNull(features, "SelfLicensing::features"); //$NON-NLS-1$
+		Objects.requireNonNull(residence, "SelfLicensing::residence"); //$NON-NLS-1$
+		Objects.requireNonNull(period, "SelfLicensing::period"); //$NON-NLS-1$
+		Objects.requireNonNull(poll, "SelfLicensing::poll"); //$NON-NLS-1$
+		Objects.requireNonNull(alarm, "SelfLicensing::alarm"); //$NON-NLS-1$
+		this.evaluation = evaluation;
+		this.features = features;
+		this.residence = residence;
+		this.period = period;
+		this.poll = poll;
+		this.alarm = alarm;
+	}
+
+	public boolean covers(String feature) {
+		Map<String, Boolean> current = verdicts;
+		if (current == null) {
+			current = first();
+		}
+		return current.getOrDefault(feature, Boolean.FALSE);
+	}
+
+	/**
+	 * Stops background evaluation, the last verdicts stay in force
+	 */
+	public synchronized void close() {
+		closed = true;
+		if (refresher != null) {
+			refresher.shutdownNow();
+		}
+	}
+
+	private synchronized Map<String, Boolean> first() {
+		if (verdicts == null) {
+			evaluate();
+		}
+		if (refresher == null && !closed) {
+			refresher = Executors.newSingleThreadScheduledExecutor(task -> {
+				Thread thread = new Thread(task, "passage-fls-self-licensing"); //$NON-NLS-1$
+				thread.setDaemon(true);
+				return thread;
+			});
+			refresher.scheduleWithFixedDelay(this::refresh, poll.toMillis(), poll.toMillis(), TimeUnit.MILLISECONDS);
+		}
+		return verdicts;
+	}
+
+	private void refresh() {
+		try {
+			boolean outdated = System.currentTimeMillis() - evaluated >= period.toMillis();
+			if (outdated || !fingerprint.equals(fingerprint())) {
+				evaluate();
+			}
+		} catch (RuntimeException e) {
+			// failed attempt must not cancel further refreshes
+			log.error("failed: ", e); //$NON-NLS-1$
+		}
+	}
+
+	private synchronized void evaluate() {
+		fingerprint = fingerprint();
+		evaluated = System.currentTimeMillis();
+		Map<String, Boolean> fresh = new HashMap<>();
+		for (String feature : features) {
+			boolean covered = evaluation.test(feature);
+			fresh.put(feature, covered);
+			if (!covered && (verdicts == null || verdicts.getOrDefault(feature, Boolean.TRUE))) {
+				alarm.accept(String.format("FLS feature %s is not covered by a license", feature)); //$NON-NLS-1$
+			}
+		}
+		verdicts = Collections.unmodifiableMap(fresh);
+	}
+
+	private Map<Path, String> fingerprint() {
+		Optional<Path> folder = residence.get();
+		if (!folder.isPresent()) {
+			return Collections.emptyMap();
+		}
+		try {
+			return new FolderFingerprint(folder::get).get();
+		} catch (LicensingException e) {
+			log.error("failed: ", e); //$NON-NLS-1$
+			return Collections.emptyMap();
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2022 ArSysOp
+ * Copyright (c) 2020, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -14,10 +14,23 @@ package org.eclipse.passage.lbc.internal.base.api;
 
 import java.nio.file.Path;
 
+import org.eclipse.passage.lbc.internal.base.metrics.FlsMetrics;
+import org.eclipse.passage.lbc.internal.base.mine.MinedConditions;
+
 public interface FloatingState {
 
 	Grants grants();
 
 	Path source();
 
+	MinedConditions conditions();
+
+	FlsMetrics metrics();
+
+	/**
+	 * Releases resources held by the state (say, lease journal), to be called
+	 * once on server shutdown
+	 */
+	void close();
+
 }
@@ -35,4 +35,10 @@ public interface FlsGear {
 
 	FloatingState state(Supplier<Path> storage);
 
+	/**
+	 * Closes the floating state supplied so far, if any. Next
+	 * {@linkplain #state(Supplier)} request opens a fresh one.
+	 */
+	void close();
+
 }
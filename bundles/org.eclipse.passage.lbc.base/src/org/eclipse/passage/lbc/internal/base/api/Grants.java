@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2022 ArSysOp
+ * Copyright (c) 2020, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -14,6 +14,7 @@ package org.eclipse.passage.lbc.internal.base.api;
 
 import java.util.Optional;
 
+import org.eclipse.passage.lbc.internal.base.acquire.FloatingLicenses;
 import org.eclipse.passage.lbc.internal.base.acquire.GrantsStorage;
 import org.eclipse.passage.lic.api.LicensedProduct;
 import org.eclipse.passage.lic.api.LicensingException;
@@ -23,8 +24,12 @@ public interface Grants {
 
 	GrantsStorage storage();
 
+	FloatingLicenses licenses();
+
 	Optional<GrantAcqisition> acquire(LicensedProduct product, String user, String feature) throws LicensingException;
 
 	boolean release(LicensedProduct product, GrantAcqisition acquisition);
 
+	boolean renew(LicensedProduct product, GrantAcqisition acquisition);
+
 }
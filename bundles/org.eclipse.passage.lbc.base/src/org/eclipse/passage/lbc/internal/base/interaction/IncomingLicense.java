@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 ArSysOp
+ * Copyright (c) 2021, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -19,7 +19,10 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 
+import org.eclipse.passage.lbc.internal.base.api.FloatingState;
+import org.eclipse.passage.lic.api.LicensedProduct;
 import org.eclipse.passage.lic.api.ServiceInvocationResult;
 import org.eclipse.passage.lic.api.diagnostic.Trouble;
 import org.eclipse.passage.lic.base.BaseServiceInvocationResult;
@@ -32,12 +35,26 @@ public final class IncomingLicense {
 
 	private final Path origin;
 	private final Path storage;
+	private final Consumer<LicensedProduct> installed;
 
-	public IncomingLicense(String origin, Path storage) {
+	public IncomingLicense(String origin, FloatingState state) {
+		this(origin, state.source(), product -> {
+			state.grants().licenses().invalidate(product);
+			state.conditions().invalidate(product);
+		});
+	}
+
+	/**
+	 * @param installed is notified on each product a license has been installed
+	 *                  for
+	 */
+	public IncomingLicense(String origin, Path storage, Consumer<LicensedProduct> installed) {
 		Objects.requireNonNull(origin, "IncomingLicense:origin");//$NON-NLS-1$
 		Objects.requireNonNull(storage, "IncomingLicense:storage");//$NON-NLS-1$
+		Objects.requireNonNull(installed, "IncomingLicense:installed");//$NON-NLS-1$
 		this.origin = Paths.get(origin);
 		this.storage = storage;
+		this.installed = installed;
 		validateOrigin();
 	}
 
@@ -56,6 +73,7 @@ public final class IncomingLicense {
 		try {
 			Pack.Resolved resolved = pack.resolve();
 			Path destination = new ExternalLicense(storage, resolved.product()).install(pack.content());
+			installed.accept(resolved.product());
 			return new BaseServiceInvocationResult<>(Collections.singletonList(destination));
 		} catch (Exception e) {
 			return failedToUploadPack(pack, e);
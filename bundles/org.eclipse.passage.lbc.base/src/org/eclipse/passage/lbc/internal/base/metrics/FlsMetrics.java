@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lbc.internal.base.metrics;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.eclipse.passage.lbc.internal.base.acquire.GrantUtilization;
+import org.eclipse.passage.lic.api.LicensedProduct;
+import org.eclipse.passage.lic.api.PassageAction;
+
+/**
+ * <p>
+ * Operational figures of a floating license server:
+ * </p>
+ * <ul>
+ * <li>request handling time per {@linkplain PassageAction};</li>
+ * <li>amount of granted and denied acquisitions per product feature;</li>
+ * <li>occupation of each feature grant, read from the grants storage on
+ * demand.</li>
+ * </ul>
+ * <p>
+ * Recording is cheap enough to be done for each request: it takes no locks,
+ * and a latency record allocates nothing.
+ * </p>
+ */
+public final class FlsMetrics {
+
+	private final Map<String, LatencyHistogram> latencies = new ConcurrentHashMap<>();
+	private final Map<FeatureKey, Acquisitions> acquisitions = new ConcurrentHashMap<>();
+	private final Supplier<Collection<GrantUtilization>> utilization;
+
+	public FlsMetrics(Supplier<Collection<GrantUtilization>> utilization) {
+		Objects.requireNonNull(utilization, "FlsMetrics::utilization"); //$NON-NLS-1$
+		this.utilization = utilization;
+	}
+
+	public LatencyHistogram latency(PassageAction action) {
+		return latencies.computeIfAbsent(action.name(), name -> new LatencyHistogram());
+	}
+
+	public void acquisition(LicensedProduct product, String feature, boolean granted) {
+		Acquisitions counters = acquisitions.computeIfAbsent(new FeatureKey(product, feature),
+				key -> new Acquisitions());
+		(granted ? counters.granted : counters.denied).increment();
+	}
+
+	/**
+	 * Handling time snapshot for each action served, ordered by action name
+	 */
+	public Map<String, LatencyHistogram.Snapshot> latencies() {
+		Map<String, LatencyHistogram.Snapshot> snapshots = new TreeMap<>();
+		latencies.forEach((action, histogram) -> snapshots.put(action, histogram.snapshot()));
+		return snapshots;
+	}
+
+	/**
+	 * Acquisition counters for each product feature, ordered by product and
+	 * feature
+	 */
+	public Map<FeatureKey, Acquisitions> acquisitions() {
+		return new TreeMap<>(acquisitions);
+	}
+
+	public Collection<GrantUtilization> utilization() {
+		return utilization.get();
+	}
+
+	/**
+	 * (product, feature) pair acquisitions are counted for
+	 */
+	public static final class FeatureKey implements Comparable<FeatureKey> {
+
+		private final LicensedProduct product;
+		private final String feature;
+
+		FeatureKey(LicensedProduct product, String feature) {
+			Objects.requireNonNull(product, "FlsMetrics.FeatureKey::product"); //$NON-NLS-1$
+			Objects.requireNonNull(feature, "FlsMetrics.FeatureKey::feature"); //$NON-NLS-1$
+			this.product = product;
+			this.feature = feature;
+		}
+
+		public LicensedProduct product() {
+			return product;
+		}
+
+		public String feature() {
+			return feature;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(product, feature);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof FeatureKey)) {
+				return false;
+			}
+			FeatureKey other = (FeatureKey) obj;
+			return product.equals(other.product) && feature.equals(other.feature);
+		}
+
+		@Override
+		public int compareTo(FeatureKey other) {
+			int byProduct = product.identifier().compareTo(other.product.identifier());
+			if (byProduct != 0) {
+				return byProduct;
+			}
+			int byVersion = product.version().compareTo(other.product.version());
+			return byVersion != 0 ? byVersion : feature.compareTo(other.feature);
+		}
+
+	}
+
+	public static final class Acquisitions {
+
+		private final LongAdder granted = new LongAdder();
+		private final LongAdder denied = new LongAdder();
+
+		Acquisitions() {
+			// instantiated only by metrics
+		}
+
+		public long granted() {
+			return granted.sum();
+		}
+
+		public long denied() {
+			return denied.sum();
+		}
+
+	}
+
+}
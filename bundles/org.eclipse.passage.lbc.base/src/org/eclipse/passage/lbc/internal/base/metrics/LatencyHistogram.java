@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lbc.internal.base.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * Concurrent histogram of durations in nanoseconds, in the manner of
+ * HdrHistogram: buckets are linear within each power of two, thus any value is
+ * kept with relative error below 1/32 (~3%) while the whole {@code long} range
+ * costs less than two thousands counters.
+ * </p>
+ * <p>
+ * {@linkplain #record(long) Recording} allocates nothing and takes no lock, so
+ * it is cheap enough for each request. Reading is done over a
+ * {@linkplain #snapshot() snapshot}.
+ * </p>
+ */
+public final class LatencyHistogram {
+
+	private static final int precision = 5; // bits
+	private static final int half = 1 << precision;
+	private static final int linear = half << 1;
+	private static final int buckets = linear + (Long.SIZE - 2 - precision) * half;
+
+	private final AtomicLongArray counts = new AtomicLongArray(buckets);
+	private final LongAdder total = new LongAdder();
+	private final LongAdder sum = new LongAdder();
+	private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+	public void record(long nanos) {
+		long value = Math.max(0, nanos);
+		counts.incrementAndGet(bucket(value));
+		total.increment();
+		sum.add(value);
+		max.accumulate(value);
+	}
+
+	public Snapshot snapshot() {
+		long[] copy = new long[buckets];
+		for (int i = 0; i < buckets; i++) {
+			copy[i] = counts.get(i);
+		}
+		return new Snapshot(copy, total.sum(), sum.sum(), max.get());
+	}
+
+	static int bucket(long value) {
+		if (value < linear) {
+			return (int) value;
+		}
+		int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - precision;
+		return linear + (exponent - 1) * half + (int) ((value >>> exponent) - half);
+	}
+
+	/**
+	 * The greatest value kept in the given {@code bucket}
+	 */
+	static long highest(int bucket) {
+		if (bucket < linear) {
+			return bucket;
+		}
+		int exponent = (bucket - linear) / half + 1;
+		long mantissa = (bucket - linear) % half + half;
+		return ((mantissa + 1) << exponent) - 1;
+	}
+
+	/**
+	 * Immutable state of a {@linkplain LatencyHistogram} at some moment
+	 */
+	public static final class Snapshot {
+
+		private final long[] counts;
+		private final long total;
+		private final long sum;
+		private final long max;
+
+		private Snapshot(long[] counts, long total, long sum, long max) {
+			this.counts = counts;
+			this.total = total;
+			this.sum = sum;
+			this.max = max;
+		}
+
+		public long count() {
+			return total;
+		}
+
+		public long sum() {
+			return sum;
+		}
+
+		public long max() {
+			return max;
+		}
+
+		/**
+		 * @param quantile from {@code 0} to {@code 1}
+		 * @return value, in nanoseconds, that is not exceeded by the given
+		 *         {@code quantile} of all recorded ones
+		 */
+		public long value(double quantile) {
+			long recorded = 0;
+			for (long count : counts) {
+				recorded += count;
+			}
+			if (recorded == 0) {
+				return 0;
+			}
+			long rank = Math.max(1, (long) Math.ceil(quantile * recorded));
+			long seen = 0;
+			for (int i = 0; i < counts.length; i++) {
+				seen += counts[i];
+				if (seen >= rank) {
+					return Math.min(highest(i), max);
+				}
+			}
+			return max;
+		}
+
+	}
+
+}
@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lbc.internal.base.metrics;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import org.eclipse.passage.lbc.internal.base.acquire.GrantUtilization;
+import org.eclipse.passage.lic.api.LicensedProduct;
+
+/**
+ * {@linkplain FlsMetrics} in Prometheus text exposition format, thus they can
+ * be both read by a human and scraped by a monitoring system
+ */
+public final class MetricsExposition implements Supplier<String> {
+
+	private final FlsMetrics metrics;
+	private final double[] quantiles = { 0.5, 0.9, 0.99, 0.999 };
+
+	public MetricsExposition(FlsMetrics metrics) {
+		Objects.requireNonNull(metrics, "MetricsExposition::metrics"); //$NON-NLS-1$
+		this.metrics = metrics;
+	}
+
+	@Override
+	public String get() {
+		StringBuilder out = new StringBuilder();
+		latencies(out);
+		acquisitions(out);
+		utilization(out);
+		return out.toString();
+	}
+
+	private void latencies(StringBuilder out) {
+		String name = "fls_request_duration_seconds"; //$NON-NLS-1$
+		header(out, name, "summary", "Request handling time per action"); //$NON-NLS-1$ //$NON-NLS-2$
+		Map<String, LatencyHistogram.Snapshot> latencies = metrics.latencies();
+		for (Map.Entry<String, LatencyHistogram.Snapshot> entry : latencies.entrySet()) {
+			String action = label("action", entry.getKey()); //$NON-NLS-1$
+			LatencyHistogram.Snapshot snapshot = entry.getValue();
+			for (double quantile : quantiles) {
+				sample(out, name, action + ',' + label("quantile", Double.toString(quantile)), //$NON-NLS-1$
+						seconds(snapshot.value(quantile)));
+			}
+			sample(out, name + "_sum", action, seconds(snapshot.sum())); //$NON-NLS-1$
+			sample(out, name + "_count", action, Long.toString(snapshot.count())); //$NON-NLS-1$
+		}
+		header(out, name + "_max", "gauge", "Longest request handling time per action"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		for (Map.Entry<String, LatencyHistogram.Snapshot> entry : latencies.entrySet()) {
+			sample(out, name + "_max", label("action", entry.getKey()), seconds(entry.getValue().max())); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	private void acquisitions(StringBuilder out) {
+		String name = "fls_acquisitions_total"; //$NON-NLS-1$
+		header(out, name, "counter", "Grant acquisition attempts per product feature and outcome"); //$NON-NLS-1$ //$NON-NLS-2$
+		for (Map.Entry<FlsMetrics.FeatureKey, FlsMetrics.Acquisitions> entry : metrics.acquisitions().entrySet()) {
+			String feature = product(entry.getKey().product()) + ',' + label("feature", entry.getKey().feature()); //$NON-NLS-1$
+			sample(out, name, feature + ',' + label("outcome", "granted"), //$NON-NLS-1$ //$NON-NLS-2$
+					Long.toString(entry.getValue().granted()));
+			sample(out, name, feature + ',' + label("outcome", "denied"), //$NON-NLS-1$ //$NON-NLS-2$
+					Long.toString(entry.getValue().denied()));
+		}
+	}
+
+	private void utilization(StringBuilder out) {
+		StringBuilder taken = new StringBuilder();
+		StringBuilder capacity = new StringBuilder();
+		for (GrantUtilization grant : metrics.utilization()) {
+			String labels = product(grant.product()) + ',' //
+					+ label("feature", grant.feature()) + ',' //$NON-NLS-1$
+					+ label("grant", grant.grant()); //$NON-NLS-1$
+			sample(taken, "fls_grant_taken", labels, Integer.toString(grant.taken())); //$NON-NLS-1$
+			if (grant.capacity() >= 0) {
+				sample(capacity, "fls_grant_capacity", labels, Integer.toString(grant.capacity())); //$NON-NLS-1$
+			}
+		}
+		header(out, "fls_grant_taken", "gauge", "Seats currently taken per feature grant"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		out.append(taken);
+		header(out, "fls_grant_capacity", "gauge", "Seats available per feature grant"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		out.append(capacity);
+	}
+
+	private void header(StringBuilder out, String name, String type, String help) {
+		out.append("# HELP ").append(name).append(' ').append(help).append('\n'); //$NON-NLS-1$
+		out.append("# TYPE ").append(name).append(' ').append(type).append('\n'); //$NON-NLS-1$
+	}
+
+	private void sample(StringBuilder out, String name, String labels, String value) {
+		out.append(name).append('{').append(labels).append("} ").append(value).append('\n'); //$NON-NLS-1$
+	}
+
+	private String product(LicensedProduct product) {
+		return label("product", product.identifier()) + ',' + label("version", product.version()); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private String label(String name, String value) {
+		String escaped = value//
+				.replace("\\", "\\\\") //$NON-NLS-1$ //$NON-NLS-2$
+				.replace("\"", "\\\"") //$NON-NLS-1$ //$NON-NLS-2$
+				.replace("\n", "\\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		return name + "=\"" + escaped + '"'; //$NON-NLS-1$
+	}
+
+	private String seconds(long nanos) {
+		return Double.toString(nanos / 1e9);
+	}
+
+}
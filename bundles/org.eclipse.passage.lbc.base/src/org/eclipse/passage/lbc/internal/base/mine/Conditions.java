@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2022 ArSysOp
+ * Copyright (c) 2020, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -12,13 +12,16 @@
  *******************************************************************************/
 package org.eclipse.passage.lbc.internal.base.mine;
 
+import java.nio.file.Path;
 import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.passage.lbc.internal.base.EncodedResponse;
 import org.eclipse.passage.lbc.internal.base.api.RawRequest;
+import org.eclipse.passage.lic.api.LicensedProduct;
 import org.eclipse.passage.lic.api.PassageAction;
 import org.eclipse.passage.lic.api.ServiceInvocationResult;
 import org.eclipse.passage.lic.api.conditions.ConditionPack;
@@ -42,10 +45,19 @@ public final class Conditions implements Supplier<NetResponse> {
 
 	@Override
 	public NetResponse get() {
-		log.debug(String.format("Mining conditions for product %s", data.product().get())); //$NON-NLS-1$
+		LicensedProduct product = data.product().get();
+		String user = data.user().get();
+		MinedConditions cache = data.raw().state().conditions();
+		Optional<Map<Path, String>> residence = cache.residence(product);
+		Optional<MinedConditions.Mined> cached = cache.actual(product, user, residence);
+		if (cached.isPresent()) {
+			log.debug(String.format("Conditions for product %s are mined already", product)); //$NON-NLS-1$
+			return encoded(cached.get());
+		}
+		log.debug(String.format("Mining conditions for product %s", product)); //$NON-NLS-1$
 		ServiceInvocationResult<Collection<ConditionPack>> conditions = //
-				new FloatingConditions(data.raw().state()::source, data.user().get())//
-						.all(data.product().get());
+				new FloatingConditions(data.raw().state()::source, user)//
+						.all(product);
 		if (!conditions.data().isPresent()) {
 			return new Failure.OperationFailed(//
 					new PassageAction.Mine().name(), //
@@ -53,25 +65,26 @@ public final class Conditions implements Supplier<NetResponse> {
 		}
 		if (!new NoErrors().test(conditions.diagnostic())) {
 			log.error(new DiagnosticExplained(conditions.diagnostic()).get());
+			// partial result is not to be cached: next mining can succeed completely
+			return encoded(cache.remember(product, user, Optional.empty(), conditions.data().get()));
 		}
-		return encodedPack(pack(conditions.data().get()));
+		return encoded(cache.remember(product, user, residence, conditions.data().get()));
+	}
+
+	private NetResponse encoded(MinedConditions.Mined mined) {
+		return mined.response(data.algorithm().get(), () -> encodedPack(pack(mined)));
 	}
 
 	private NetResponse encodedPack(PersonalLicensePack pack) {
 		return new EncodedResponse<EObject>(pack, data).get();
 	}
 
-	private PersonalLicensePack pack(Collection<ConditionPack> conditions) {
+	private PersonalLicensePack pack(MinedConditions.Mined mined) {
 		return new PersonalLicenseGenerated(//
 				data.product().get(), //
 				data.user().get(), //
-				conditions.stream()//
-						.flatMap(pack -> pack.conditions().stream())//
-						.collect(Collectors.toList()), //
-				conditions.stream()//
-						.flatMap(pack -> pack.agreements().stream())//
-						.collect(Collectors.toList())//
-
+				mined.conditions(), //
+				mined.agreements()//
 		).get();
 	}
 
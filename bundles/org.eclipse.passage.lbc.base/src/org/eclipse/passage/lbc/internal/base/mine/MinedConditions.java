@@ -0,0 +1,266 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lbc.internal.base.mine;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.eclipse.passage.lic.api.LicensedProduct;
+import org.eclipse.passage.lic.api.LicensingException;
+import org.eclipse.passage.lic.api.agreements.GlobalAgreement;
+import org.eclipse.passage.lic.api.conditions.Condition;
+import org.eclipse.passage.lic.api.conditions.ConditionPack;
+import org.eclipse.passage.lic.api.conditions.ValidityPeriodClosed;
+import org.eclipse.passage.lic.api.conditions.mining.ContentType;
+import org.eclipse.passage.lic.base.io.FolderFingerprint;
+import org.eclipse.passage.lic.base.io.PathFromLicensedProduct;
+import org.eclipse.passage.lic.internal.net.api.handle.NetResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>
+ * Keeps conditions mined for each (product, user) pair together with their
+ * encoded responses, thus a repeated mining costs neither license decryption
+ * nor condition assembling nor response encoding.
+ * </p>
+ * <p>
+ * Conditions of a pair are mined anew when
+ * </p>
+ * <ul>
+ * <li>the product residence {@linkplain FolderFingerprint fingerprint}
+ * changes or a license upload {@linkplain #invalidate(LicensedProduct)
+ * invalidates} the product explicitly;</li>
+ * <li>a validity boundary is reached: either a not yet valid condition comes
+ * into force or any condition loses half of the validity time it has been
+ * assembled with.</li>
+ * </ul>
+ */
+public final class MinedConditions {
+
+	private final Supplier<Path> base;
+	private final LongSupplier clock;
+	private final Map<Key, Mined> mined = new ConcurrentHashMap<>();
+	private final Logger log = LoggerFactory.getLogger(getClass());
+
+	public MinedConditions(Supplier<Path> base) {
+		this(base, System::currentTimeMillis);
+	}
+
+	public MinedConditions(Supplier<Path> base, LongSupplier clock) {
+		Objects.requireNonNull(base, "MinedConditions::base"); //$NON-NLS-1$
+		Objects.requireNonNull(clock, "MinedConditions::clock"); //$NON-NLS-1$
+		this.base = base;
+		this.clock = clock;
+	}
+
+	public void invalidate(LicensedProduct product) {
+		mined.keySet().removeIf(key -> key.product.equals(product));
+	}
+
+	public void invalidate() {
+		mined.clear();
+	}
+
+	/**
+	 * Fingerprint of the product residence, to be taken <i>before</i> mining, thus
+	 * a concurrent residence change causes re-mining. Is empty if the residence
+	 * cannot be inspected, which means conditions are not to be cached at all.
+	 */
+	public Optional<Map<Path, String>> residence(LicensedProduct product) {
+		try {
+			return Optional.of(new FolderFingerprint(new PathFromLicensedProduct(base, product)).get());
+		} catch (LicensingException e) {
+			log.warn(String.format("Residence of %s is not inspected, conditions are not cached", product), e); //$NON-NLS-1$
+			return Optional.empty();
+		}
+	}
+
+	public Optional<Mined> actual(LicensedProduct product, String user, Optional<Map<Path, String>> residence) {
+		Key key = new Key(product, user);
+		Mined cached = mined.get(key);
+		if (cached == null) {
+			return Optional.empty();
+		}
+		if (residence.isPresent() && cached.actual(residence.get(), clock.getAsLong())) {
+			return Optional.of(cached);
+		}
+		mined.remove(key, cached);
+		return Optional.empty();
+	}
+
+	/**
+	 * Keeps the given {@code packs} for the pair, unless the {@code residence} is
+	 * unknown or the conditions expire right away
+	 */
+	public Mined remember(LicensedProduct product, String user, Optional<Map<Path, String>> residence,
+			Collection<ConditionPack> packs) {
+		long now = clock.getAsLong();
+		Mined fresh = new Mined(residence.orElse(Collections.emptyMap()), packs, expiration(packs, now));
+		if (residence.isPresent() && fresh.expires > now) {
+			mined.put(new Key(product, user), fresh);
+		}
+		return fresh;
+	}
+
+	private long expiration(Collection<ConditionPack> packs, long now) {
+		long expiration = Long.MAX_VALUE;
+		for (ConditionPack pack : packs) {
+			for (Condition condition : pack.conditions()) {
+				if (!(condition.validityPeriod() instanceof ValidityPeriodClosed)) {
+					continue;
+				}
+				ValidityPeriodClosed period = (ValidityPeriodClosed) condition.validityPeriod();
+				long from = period.from().toInstant().toEpochMilli();
+				long to = period.to().toInstant().toEpochMilli();
+				if (from > now) {
+					expiration = Math.min(expiration, from);
+				}
+				expiration = Math.min(expiration, now + (to - now) / 2);
+			}
+		}
+		return expiration;
+	}
+
+	/**
+	 * Conditions mined for a (product, user) pair, with their encoded responses
+	 * per hash algorithm
+	 */
+	public static final class Mined {
+
+		private final Map<Path, String> residence;
+		private final Collection<Condition> conditions = new ArrayList<>();
+		private final Collection<GlobalAgreement> agreements = new ArrayList<>();
+		private final long expires;
+		private final Map<String, byte[]> encoded = new ConcurrentHashMap<>();
+		private final Logger log = LoggerFactory.getLogger(getClass());
+
+		Mined(Map<Path, String> residence, Collection<ConditionPack> packs, long expires) {
+			this.residence = residence;
+			this.expires = expires;
+			for (ConditionPack pack : packs) {
+				conditions.addAll(pack.conditions());
+				agreements.addAll(pack.agreements());
+			}
+		}
+
+		public Collection<Condition> conditions() {
+			return Collections.unmodifiableCollection(conditions);
+		}
+
+		public Collection<GlobalAgreement> agreements() {
+			return Collections.unmodifiableCollection(agreements);
+		}
+
+		/**
+		 * Answers with the response encoded for the given hash {@code algorithm},
+		 * which is built by the {@code origin} only the first time. A response that
+		 * fails to encode is returned as is and is not remembered.
+		 */
+		public NetResponse response(String algorithm, Supplier<NetResponse> origin) {
+			byte[] bytes = encoded.get(algorithm);
+			if (bytes != null) {
+				return new Encoded(bytes);
+			}
+			NetResponse response = origin.get();
+			if (response.failed() || !response.carriesPayload()) {
+				return response;
+			}
+			try {
+				bytes = response.payload();
+			} catch (LicensingException e) {
+				log.warn(String.format("Mined conditions are not encoded with %s, not cached", algorithm), e); //$NON-NLS-1$
+				return response;
+			}
+			encoded.put(algorithm, bytes);
+			return new Encoded(bytes);
+		}
+
+		private boolean actual(Map<Path, String> current, long now) {
+			return now < expires && residence.equals(current);
+		}
+
+	}
+
+	private static final class Encoded implements NetResponse {
+
+		private final byte[] payload;
+
+		Encoded(byte[] payload) {
+			this.payload = payload;
+		}
+
+		@Override
+		public boolean failed() {
+			return false;
+		}
+
+		@Override
+		public Error error() {
+			throw new IllegalStateException("Successful response does not possess error information"); //$NON-NLS-1$ // dev
+		}
+
+		@Override
+		public boolean carriesPayload() {
+			return true;
+		}
+
+		@Override
+		public byte[] payload() {
+			return payload.clone();
+		}
+
+		@Override
+		public ContentType contentType() {
+			return new ContentType.Xml();
+		}
+
+	}
+
+	private static final class Key {
+
+		private final LicensedProduct product;
+		private final String user;
+
+		Key(LicensedProduct product, String user) {
+			Objects.requireNonNull(product, "MinedConditions.Key::product"); //$NON-NLS-1$
+			Objects.requireNonNull(user, "MinedConditions.Key::user"); //$NON-NLS-1$
+			this.product = product;
+			this.user = user;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(product, user);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return product.equals(other.product) && user.equals(other.user);
+		}
+
+	}
+
+}
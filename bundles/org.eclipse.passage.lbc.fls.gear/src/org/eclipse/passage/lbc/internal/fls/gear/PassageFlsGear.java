@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2022 ArSysOp
+ * Copyright (c) 2021, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -16,6 +16,7 @@ import java.nio.file.Path;
 import java.util.function.Supplier;
 
 import org.eclipse.passage.lbc.internal.base.EagerFloatingState;
+import org.eclipse.passage.lbc.internal.base.acquire.AcquiredGrants;
 import org.eclipse.passage.lbc.internal.base.api.FloatingState;
 import org.eclipse.passage.lbc.internal.base.api.FlsGear;
 import org.eclipse.passage.lic.api.LicensedProduct;
@@ -37,7 +38,7 @@ import org.eclipse.passage.lic.licenses.model.transport.XmiConditionTransport;
 final class PassageFlsGear implements FlsGear {
 
 	private final Registry<StringServiceId, Hashes> hashes;
-	private EagerFloatingState state;
+	private volatile EagerFloatingState state;
 
 	static final PassageFlsGear gear = new PassageFlsGear();
 
@@ -72,11 +73,22 @@ final class PassageFlsGear implements FlsGear {
 		if (state == null) {
 			synchronized (this) {
 				if (state == null) {
-					state = new EagerFloatingState(storage);
+					Path residence = storage.get();
+					state = new EagerFloatingState(//
+							new AcquiredGrants(() -> residence, residence.resolve(".journal")), //$NON-NLS-1$
+							residence);
 				}
 			}
 		}
 		return state;
 	}
 
+	@Override
+	public synchronized void close() {
+		if (state != null) {
+			state.close();
+			state = null;
+		}
+	}
+
 }
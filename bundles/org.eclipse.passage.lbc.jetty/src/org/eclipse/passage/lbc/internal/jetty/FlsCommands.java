@@ -21,6 +21,7 @@ public final class FlsCommands {
 
 	public void register(BundleContext context, String name, Storage storage) {
 		new UploadLicense(name, storage.get().get()).register(context);
+		new Metrics(name, storage.get().get()).register(context);
 	}
 
 }
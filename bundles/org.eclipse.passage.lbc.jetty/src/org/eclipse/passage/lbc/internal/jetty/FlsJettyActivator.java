@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2022 ArSysOp
+ * Copyright (c) 2020, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -13,15 +13,23 @@
 package org.eclipse.passage.lbc.internal.jetty;
 
 import java.io.InputStream;
+import java.util.Optional;
+import java.util.function.Function;
 
 import org.eclipse.passage.lbc.internal.base.FlotingRequestHandled;
 import org.eclipse.passage.lbc.internal.base.api.FloatingState;
 import org.eclipse.passage.lbc.internal.base.api.FloatingStateFromGear;
+import org.eclipse.passage.lbc.internal.base.api.FlsGearAwre;
 import org.eclipse.passage.lbc.jetty.FlsCommandScope;
+import org.eclipse.passage.lic.api.LicensingException;
 import org.eclipse.passage.lic.equinox.io.FileFromBundle;
 import org.eclipse.passage.lic.internal.execute.Logging;
+import org.eclipse.passage.lic.internal.jetty.ChoreExecution;
 import org.eclipse.passage.lic.internal.jetty.JettyHandler;
 import org.eclipse.passage.lic.internal.jetty.interaction.LicensedJettyActivator;
+import org.eclipse.passage.lic.internal.net.api.handle.NetRequest;
+import org.eclipse.passage.lic.internal.net.api.handle.NetResponse;
+import org.eclipse.passage.lic.internal.net.connect.Concurrency;
 import org.eclipse.passage.lic.internal.net.connect.Storage;
 import org.osgi.framework.Bundle;
 import org.osgi.framework.BundleContext;
@@ -44,7 +52,33 @@ public final class FlsJettyActivator extends LicensedJettyActivator {
 	@Override
 	protected JettyHandler handler() {
 		FloatingState state = new FloatingStateFromGear(storage.get()).get();
-		return new JettyHandler(request -> new FlotingRequestHandled(new StatedRequest(request, state)).get());
+		boolean metrics = new MetricsExposure().get().get();
+		Function<NetRequest, NetResponse> handler = request -> {
+			if (metrics && new MetricsRequest(request).get()) {
+				return new MetricsResponse(state.metrics());
+			}
+			return new FlotingRequestHandled(new StatedRequest(request, state)).get();
+		};
+		int concurrency = new Concurrency(Runtime.getRuntime().availableProcessors() * 4).get().get();
+		if (concurrency <= 0) {
+			return new JettyHandler(handler);
+		}
+		return new JettyHandler(handler, new ChoreExecution(concurrency));
+	}
+
+	/**
+	 * Lease journal is flushed and closed only when no request is served anymore
+	 */
+	@Override
+	protected void dispose() {
+		try {
+			new FlsGearAwre().withGear(gear -> {
+				gear.close();
+				return Optional.empty();
+			});
+		} catch (LicensingException e) {
+			e.printStackTrace();
+		}
 	}
 
 	@Override
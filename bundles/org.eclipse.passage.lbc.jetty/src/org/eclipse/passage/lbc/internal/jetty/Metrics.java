@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lbc.internal.jetty;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.eclipse.passage.lbc.internal.base.api.FloatingState;
+import org.eclipse.passage.lbc.internal.base.api.FloatingStateFromGear;
+import org.eclipse.passage.lbc.internal.base.metrics.MetricsExposition;
+import org.eclipse.passage.lic.internal.jetty.interaction.Command;
+import org.eclipse.passage.lic.internal.jetty.interaction.Scope;
+
+final class Metrics extends Command {
+
+	private final Supplier<FloatingState> state;
+
+	public Metrics(String scope, Path storage) {
+		this(scope, new FloatingStateFromGear(storage));
+	}
+
+	public Metrics(String scope, Supplier<FloatingState> state) {
+		this(new Scope.Of(scope), new Report().get(), state);
+	}
+
+	private Metrics(Scope scope, List<String> names, Supplier<FloatingState> state) {
+		super(scope, names);
+		this.state = state;
+	}
+
+	public void metrics() {
+		System.out.print(new MetricsExposition(state.get().metrics()).get());
+	}
+
+	public void metrics(String... args) {
+		if (args.length == 0) {
+			metrics();
+		} else {
+			System.out.println(usage());
+		}
+	}
+
+	@Override
+	protected List<String> commands() {
+		return new Report().get();
+	}
+
+	@Override
+	public String usage() {
+		return "[fls:metrics] prints request latencies, grant acquisition outcomes and grant utilization of the Server.\n" //$NON-NLS-1$
+				+ "Usage:\n\t" //$NON-NLS-1$
+				+ scope.id() + ":metrics\n\t"; //$NON-NLS-1$
+	}
+
+	private static final class Report extends Name {
+
+		protected Report() {
+			super("metrics"); //$NON-NLS-1$
+		}
+
+	}
+
+}
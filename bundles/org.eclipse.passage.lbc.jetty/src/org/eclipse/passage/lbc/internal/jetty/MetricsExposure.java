@@ -0,0 +1,42 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lbc.internal.jetty;
+
+import java.util.Optional;
+
+import org.eclipse.passage.lic.internal.net.connect.CliParameter;
+
+/**
+ * Whether the Server answers {@linkplain MetricsRequest metrics requests}
+ * through the network, {@code -server.metrics=false} by default. Metrics are
+ * answered without authentication, thus are to be exposed only when the
+ * network is trusted (say, the Server is bound to a local address).
+ */
+@SuppressWarnings("restriction")
+final class MetricsExposure extends CliParameter<Boolean> {
+
+	MetricsExposure() {
+		super(false);
+	}
+
+	@Override
+	public String key() {
+		return "server.metrics"; //$NON-NLS-1$
+	}
+
+	@Override
+	protected Optional<Boolean> parse(String value) {
+		return Optional.of(Boolean.parseBoolean(value));
+	}
+
+}
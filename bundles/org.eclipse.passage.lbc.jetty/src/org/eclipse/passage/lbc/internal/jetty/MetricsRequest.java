@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lbc.internal.jetty;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import org.eclipse.passage.lic.api.PassageAction;
+import org.eclipse.passage.lic.internal.net.LicensingAction;
+import org.eclipse.passage.lic.internal.net.api.handle.NetRequest;
+
+/**
+ * Tells if the {@code request} asks for the Server {@linkplain MetricsResponse
+ * metrics} rather than for a licensing action. Metrics are answered without
+ * any authentication, thus they must not expose anything but aggregates and
+ * are answered only when {@linkplain MetricsExposure exposed}.
+ */
+final class MetricsRequest implements Supplier<Boolean> {
+
+	private final NetRequest request;
+
+	MetricsRequest(NetRequest request) {
+		Objects.requireNonNull(request, "MetricsRequest::request"); //$NON-NLS-1$
+		this.request = request;
+	}
+
+	@Override
+	public Boolean get() {
+		return new LicensingAction(key -> new PassageAction.Of(String.valueOf(request.parameter(key)))).get()//
+				.map(PassageAction::name)//
+				.filter("metrics"::equals) //$NON-NLS-1$
+				.isPresent();
+	}
+
+}
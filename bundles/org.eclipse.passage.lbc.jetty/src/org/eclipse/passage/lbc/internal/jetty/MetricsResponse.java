@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lbc.internal.jetty;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+import org.eclipse.passage.lbc.internal.base.metrics.FlsMetrics;
+import org.eclipse.passage.lbc.internal.base.metrics.MetricsExposition;
+import org.eclipse.passage.lic.api.LicensingException;
+import org.eclipse.passage.lic.api.conditions.mining.ContentType;
+import org.eclipse.passage.lic.internal.net.api.handle.NetResponse;
+
+/**
+ * Read-only answer with the current {@linkplain FlsMetrics} in a plain text
+ * exposition format
+ */
+final class MetricsResponse implements NetResponse {
+
+	private final FlsMetrics metrics;
+
+	MetricsResponse(FlsMetrics metrics) {
+		Objects.requireNonNull(metrics, "MetricsResponse::metrics"); //$NON-NLS-1$
+		this.metrics = metrics;
+	}
+
+	@Override
+	public boolean failed() {
+		return false;
+	}
+
+	@Override
+	public Error error() {
+		throw new IllegalStateException("Metrics response is never failed"); //$NON-NLS-1$
+	}
+
+	@Override
+	public boolean carriesPayload() {
+		return true;
+	}
+
+	@Override
+	public byte[] payload() throws LicensingException {
+		return new MetricsExposition(metrics).get().getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Override
+	public ContentType contentType() {
+		return new ContentType.Of("text/plain"); //$NON-NLS-1$
+	}
+
+}
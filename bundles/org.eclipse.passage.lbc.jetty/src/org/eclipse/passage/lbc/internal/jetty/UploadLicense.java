@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2022 ArSysOp
+ * Copyright (c) 2021, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -14,7 +14,10 @@ package org.eclipse.passage.lbc.internal.jetty;
 
 import java.nio.file.Path;
 import java.util.List;
+import java.util.function.Supplier;
 
+import org.eclipse.passage.lbc.internal.base.api.FloatingState;
+import org.eclipse.passage.lbc.internal.base.api.FloatingStateFromGear;
 import org.eclipse.passage.lbc.internal.base.interaction.IncomingLicense;
 import org.eclipse.passage.lic.api.ServiceInvocationResult;
 import org.eclipse.passage.lic.base.io.LicensingFolder;
@@ -24,23 +27,27 @@ import org.eclipse.passage.lic.internal.jetty.interaction.Scope;
 
 final class UploadLicense extends Command {
 
-	private final Path storage;
+	private final Supplier<FloatingState> state;
 
 	public UploadLicense(String scope) {
 		this(scope, new LicensingFolder(new UserHomePath()).get()); // $NON-NLS-1$
 	}
 
 	public UploadLicense(String scope, Path storage) {
-		this(new Scope.Of(scope), new Upload().get(), storage);
+		this(scope, new FloatingStateFromGear(storage));
 	}
 
-	private UploadLicense(Scope scope, List<String> names, Path storage) {
+	public UploadLicense(String scope, Supplier<FloatingState> state) {
+		this(new Scope.Of(scope), new Upload().get(), state);
+	}
+
+	private UploadLicense(Scope scope, List<String> names, Supplier<FloatingState> state) {
 		super(scope, names);
-		this.storage = storage;
+		this.state = state;
 	}
 
 	public void upload(String from) {
-		ServiceInvocationResult<List<Path>> result = new IncomingLicense(from, storage).upload();
+		ServiceInvocationResult<List<Path>> result = new IncomingLicense(from, state.get()).upload();
 		if (result.data().isPresent()) {
 			reportDestination(result.data().get());
 		}
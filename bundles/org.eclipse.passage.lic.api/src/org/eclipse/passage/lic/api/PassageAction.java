@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2021 ArSysOp
+ * Copyright (c) 2020, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -73,6 +73,45 @@ public abstract class PassageAction {
 
 	}
 
+	/**
+	 * Prolongs the lease of a floating grant acquisition
+	 * 
+	 * @since 3.1
+	 */
+	public static final class Renew extends PassageAction {
+
+		public Renew() {
+			super("renew"); //$NON-NLS-1$
+		}
+
+	}
+
+	/**
+	 * Acquires floating grants for several features at once
+	 * 
+	 * @since 3.1
+	 */
+	public static final class BatchAcquire extends PassageAction {
+
+		public BatchAcquire() {
+			super("batchacquire"); //$NON-NLS-1$
+		}
+
+	}
+
+	/**
+	 * Releases several floating grant acquisitions at once
+	 * 
+	 * @since 3.1
+	 */
+	public static final class BatchRelease extends PassageAction {
+
+		public BatchRelease() {
+			super("batchrelease"); //$NON-NLS-1$
+		}
+
+	}
+
 	public static final class CanUse extends PassageAction {
 
 		public CanUse() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 ArSysOp
+ * Copyright (c) 2021, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -21,4 +21,15 @@ public interface ResolvedAgreement {
 
 	String path();
 
+	/**
+	 * Content of a stable agreement never changes, thus can be read once and then
+	 * kept. Stable agreement must implement {@code equals} and {@code hashCode}
+	 * respecting its content origin.
+	 * 
+	 * @since 3.1
+	 */
+	default boolean stable() {
+		return false;
+	}
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2021 ArSysOp
+ * Copyright (c) 2020, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -37,4 +37,15 @@ public interface RuntimeEnvironment extends Service<EvaluationType> {
 
 	boolean isAssuptionTrue(EnvironmentProperty property, String value) throws LicensingException;
 
+	/**
+	 * An environment is free to keep a snapshot of the state it inspects, as the
+	 * inspection can be costly. Demands the next inspection to be done against
+	 * the actual state.
+	 * 
+	 * @since 3.1
+	 */
+	default void refresh() {
+		// nothing is kept by default
+	}
+
 }
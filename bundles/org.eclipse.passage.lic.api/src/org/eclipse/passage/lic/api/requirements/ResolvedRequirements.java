@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2021 ArSysOp
+ * Copyright (c) 2020, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -55,4 +55,21 @@ public interface ResolvedRequirements extends Service<StringServiceId> {
 	 */
 	ServiceInvocationResult<Collection<Requirement>> all();
 
+	/**
+	 * Reads the physical sources for the {@link Requirement}s declared for the
+	 * given {@code feature}. An implementation that keeps its requirements indexed
+	 * is expected to answer without reading all of them. Requirements of other
+	 * features are allowed in the result, as it is to be filtered by a caller
+	 * anyway: by default, all the requirements are returned.
+	 *
+	 * @param feature identifier of a feature under licensing
+	 * @return resolved collection of {@link Requirement}s, never null, couples with
+	 *         {@linkplain Diagnostic} instance
+	 * @since 3.1
+	 */
+	@SuppressWarnings("unused")
+	default ServiceInvocationResult<Collection<Requirement>> all(String feature) {
+		return all();
+	}
+
 }
@@ -0,0 +1,199 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lic.base;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.passage.lic.api.LicensedProduct;
+import org.eclipse.passage.lic.api.Passage;
+import org.eclipse.passage.lic.api.ServiceInvocationResult;
+import org.eclipse.passage.lic.api.access.GrantLockAttempt;
+import org.eclipse.passage.lic.api.diagnostic.Diagnostic;
+import org.eclipse.passage.lic.api.restrictions.ExaminationCertificate;
+
+/**
+ * <p>
+ * Grant pool: {@linkplain Passage} that keeps released grants warm for the
+ * {@code idle} time, thus a frequent licensed action costs an access cycle and
+ * a (floating) acquisition only once in a while.
+ * </p>
+ * <p>
+ * A successfully acquired grant that is {@linkplain #releaseLicense released}
+ * is parked for its feature instead of being released by the {@code delegate}.
+ * Next {@linkplain #acquireLicense acquisition} for the same feature takes the
+ * most recently parked grant, if any. A grant stays parked not longer than
+ * {@code idle}, then it is released for real. Each grant is lent to a single
+ * holder at a time, thus the pool never takes more grants than the amount of
+ * simultaneous holders, and keeps an unused one from others not longer than
+ * {@code idle}.
+ * </p>
+ * <p>
+ * A parked grant is not re-examined when lent again: {@code idle} is to be
+ * kept short enough for license changes to be of no concern.
+ * {@linkplain #close()} releases all the parked grants.
+ * </p>
+ *
+ * @since 3.1
+ */
+public final class PooledPassage implements Passage {
+
+	private final Passage delegate;
+	private final Duration idle;
+	private final Map<String, Deque<Parked>> parked = new HashMap<>();
+	private final Map<GrantLockAttempt, Lent> lent = new IdentityHashMap<>();
+	private ScheduledExecutorService timer;
+	private boolean closed;
+
+	public PooledPassage(Passage delegate, Duration idle) {
+		Objects.requireNonNull(delegate, "PooledPassage::delegate"); //$NON-NLS-1$
+		Objects.requireNonNull(idle, "PooledPassage::idle"); //$NON-NLS-1$
+		this.delegate = delegate;
+		this.idle = idle;
+	}
+
+	@Override
+	public boolean canUse(String feature) {
+		return delegate.canUse(feature);
+	}
+
+	@Override
+	public ServiceInvocationResult<ExaminationCertificate> assess() {
+		return delegate.assess();
+	}
+
+	@Override
+	public ServiceInvocationResult<GrantLockAttempt> acquireLicense(String feature) {
+		Optional<ServiceInvocationResult<GrantLockAttempt>> warm = borrow(feature);
+		if (warm.isPresent()) {
+			return warm.get();
+		}
+		ServiceInvocationResult<GrantLockAttempt> acquired = delegate.acquireLicense(feature);
+		Optional<GrantLockAttempt> lock = acquired.data().filter(GrantLockAttempt::successful);
+		if (lock.isPresent()) {
+			synchronized (this) {
+				lent.put(lock.get(), new Lent(feature, acquired.diagnostic()));
+			}
+		}
+		return acquired;
+	}
+
+	@Override
+	public ServiceInvocationResult<Boolean> releaseLicense(GrantLockAttempt lock) {
+		synchronized (this) {
+			Lent borrowed = lent.get(lock);
+			if (borrowed != null && !closed) {
+				Parked warm = new Parked(lock);
+				parked.computeIfAbsent(borrowed.feature, feature -> new ArrayDeque<>()).push(warm);
+				timer().schedule(() -> evict(borrowed.feature, warm), idle.toMillis(), TimeUnit.MILLISECONDS);
+				return new BaseServiceInvocationResult<>(Boolean.TRUE);
+			}
+			lent.remove(lock);
+		}
+		return delegate.releaseLicense(lock);
+	}
+
+	@Override
+	public ServiceInvocationResult<LicensedProduct> product() {
+		return delegate.product();
+	}
+
+	/**
+	 * Releases all the parked grants, grants still in use are released on return
+	 */
+	public void close() {
+		List<GrantLockAttempt> all = new ArrayList<>();
+		synchronized (this) {
+			closed = true;
+			parked.values().forEach(warm -> warm.forEach(each -> all.add(each.lock)));
+			parked.clear();
+			all.forEach(lent::remove);
+			if (timer != null) {
+				timer.shutdownNow();
+			}
+		}
+		all.forEach(delegate::releaseLicense);
+	}
+
+	private synchronized Optional<ServiceInvocationResult<GrantLockAttempt>> borrow(String feature) {
+		Deque<Parked> warm = parked.get(feature);
+		if (warm == null || warm.isEmpty()) {
+			return Optional.empty();
+		}
+		GrantLockAttempt lock = warm.pop().lock;
+		return Optional.of(new BaseServiceInvocationResult<>(lent.get(lock).diagnostic, lock));
+	}
+
+	private void evict(String feature, Parked expired) {
+		synchronized (this) {
+			Deque<Parked> warm = parked.get(feature);
+			// a grant that has been lent and parked again meanwhile has its own eviction
+			if (warm == null || !warm.removeLastOccurrence(expired)) {
+				return;
+			}
+			if (warm.isEmpty()) {
+				parked.remove(feature);
+			}
+			lent.remove(expired.lock);
+		}
+		delegate.releaseLicense(expired.lock);
+	}
+
+	private synchronized ScheduledExecutorService timer() {
+		if (timer == null) {
+			timer = Executors.newSingleThreadScheduledExecutor(task -> {
+				Thread thread = new Thread(task, "passage-grant-pool"); //$NON-NLS-1$
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		return timer;
+	}
+
+	/**
+	 * Single stay of a grant in the pool, compared by identity
+	 */
+	private static final class Parked {
+
+		private final GrantLockAttempt lock;
+
+		Parked(GrantLockAttempt lock) {
+			this.lock = lock;
+		}
+
+	}
+
+	private static final class Lent {
+
+		private final String feature;
+		private final Diagnostic diagnostic;
+
+		Lent(String feature, Diagnostic diagnostic) {
+			this.feature = feature;
+			this.diagnostic = diagnostic;
+		}
+
+	}
+
+}
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lic.base.agreements;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * <p>
+ * Names of acceptance mark files kept in a product residence folder.
+ * </p>
+ * <p>
+ * The folder is listed only once and the set of marks is then maintained in
+ * memory on each {@linkplain #accept(String, byte[])}, thus assessment of an
+ * agreement does not touch the file system.
+ * </p>
+ */
+final class AcceptedAgreements {
+
+	private static final Map<Path, Set<String>> residences = new ConcurrentHashMap<>();
+
+	private final Supplier<Path> residence;
+	private volatile Path folder;
+
+	AcceptedAgreements(Supplier<Path> residence) {
+		this.residence = residence;
+	}
+
+	boolean accepted(String mark) throws IOException {
+		return marks().contains(mark);
+	}
+
+	void accept(String mark, byte[] content) throws IOException {
+		Set<String> marks = marks();
+		Path home = folder();
+		Files.createDirectories(home);
+		Files.write(home.resolve(mark), content);
+		marks.add(mark);
+	}
+
+	private Path folder() {
+		if (folder == null) {
+			folder = residence.get();
+		}
+		return folder;
+	}
+
+	private Set<String> marks() throws IOException {
+		Path home = folder();
+		Set<String> marks = residences.get(home);
+		if (marks != null) {
+			return marks;
+		}
+		Set<String> listed = listed(home);
+		Set<String> raced = residences.putIfAbsent(home, listed);
+		return raced == null ? listed : raced;
+	}
+
+	private Set<String> listed(Path home) throws IOException {
+		Set<String> marks = ConcurrentHashMap.newKeySet();
+		if (!Files.isDirectory(home)) {
+			return marks;
+		}
+		try (Stream<Path> files = Files.list(home)) {
+			files.filter(Files::isRegularFile)//
+					.map(file -> file.getFileName().toString())//
+					.forEach(marks::add);
+		}
+		return marks;
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 ArSysOp
+ * Copyright (c) 2021, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -12,7 +12,6 @@
  *******************************************************************************/
 package org.eclipse.passage.lic.base.agreements;
 
-import java.io.InputStream;
 import java.util.Collection;
 import java.util.stream.Collectors;
 
@@ -27,11 +26,12 @@ import org.eclipse.passage.lic.base.diagnostic.code.ServiceFailedOnMorsel;
 public final class AgreementAssessmentService {
 
 	private final Collection<Requirement> requirements;
-	private final BaseAgreementAcceptanceService.Smart acceptance;
+	private final AgreementAcceptanceService acceptance;
+	private final AgreementContents contents = new AgreementContents();
 
 	public AgreementAssessmentService(Collection<Requirement> requirements, AgreementAcceptanceService acceptance) {
 		this.requirements = requirements;
-		this.acceptance = new BaseAgreementAcceptanceService.Smart(acceptance);
+		this.acceptance = acceptance;
 	}
 
 	public Collection<AgreementToAccept> assessment() {
@@ -48,17 +48,14 @@ public final class AgreementAssessmentService {
 	}
 
 	private AgreementState assessment(ResolvedAgreement agreement, Requirement requirement) {
-		try (InputStream content = agreement.content()) {
-			return contentAssessment(content, agreement, requirement);
+		String name = origin(agreement, requirement);
+		byte[] content;
+		try {
+			content = contents.content(agreement);
 		} catch (Exception e) {
-			String name = origin(agreement, requirement);
 			return new Assessment(name, cannotBeRead(e, name));
 		}
-	}
-
-	private AgreementState contentAssessment(InputStream content, ResolvedAgreement agreement,
-			Requirement requirement) {
-		return acceptance.accepted(content, origin(agreement, requirement));
+		return acceptance.accepted(content, name);
 	}
 
 	private String origin(ResolvedAgreement agreement, Requirement requirement) {
@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lic.base.agreements;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+import org.eclipse.passage.lic.api.agreements.ResolvedAgreement;
+import org.eclipse.passage.lic.internal.base.BoundedCache;
+
+/**
+ * <p>
+ * Content of a {@linkplain ResolvedAgreement#stable() stable} agreement, like
+ * a resource of the bundle that demands it, is read only once and then kept
+ * for the agreement.
+ * </p>
+ * <p>
+ * The very same array is handed out for the same agreement while it is kept,
+ * thus acceptance service can memoize what it derives from the content.
+ * </p>
+ * <p>
+ * Contents are kept for {@code 128} most recently used agreements and
+ * {@code 8} megabytes at most. Thus agreements of uninstalled or updated
+ * bundles (an updated bundle has another revision, and so its agreements are
+ * not equal to the former ones) and bundles they refer to do not stay in
+ * memory for good.
+ * </p>
+ */
+final class AgreementContents {
+
+	private static final BoundedCache<ResolvedAgreement, byte[]> contents = //
+			new BoundedCache<>(128, 8 * 1024 * 1024, content -> content.length);
+
+	byte[] content(ResolvedAgreement agreement) throws IOException {
+		if (!agreement.stable()) {
+			return read(agreement);
+		}
+		Optional<byte[]> cached = contents.get(agreement);
+		if (cached.isPresent()) {
+			return cached.get();
+		}
+		return contents.put(agreement, read(agreement));
+	}
+
+	private byte[] read(ResolvedAgreement agreement) throws IOException {
+		try (InputStream stream = agreement.content()) {
+			return stream.readAllBytes();
+		}
+	}
+
+}
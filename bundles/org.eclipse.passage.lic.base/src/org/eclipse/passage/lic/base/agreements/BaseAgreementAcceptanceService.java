@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 ArSysOp
+ * Copyright (c) 2021, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -15,13 +15,13 @@ package org.eclipse.passage.lic.base.agreements;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Base64;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
+import java.util.WeakHashMap;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 import org.eclipse.passage.lic.api.LicensedProduct;
 import org.eclipse.passage.lic.api.LicensingException;
@@ -34,16 +34,43 @@ import org.eclipse.passage.lic.api.registry.Registry;
 import org.eclipse.passage.lic.api.registry.StringServiceId;
 import org.eclipse.passage.lic.base.diagnostic.code.NoServicesOfType;
 import org.eclipse.passage.lic.base.diagnostic.code.ServiceFailedOnMorsel;
-import org.eclipse.passage.lic.base.io.UserHomeProductResidence;
-
+import org.eclipse.passage.lic.base.io.LicensingFolder;
+import org.eclipse.passage.lic.base.io.PathFromLicensedProduct;
+import org.eclipse.passage.lic.base.io.UserHomePath;
+import org.eclipse.passage.lic.internal.base.access.CycleResults;
+
+/**
+ * <p>
+ * Agreement is accepted when a mark file, named after the agreement content
+ * hash, resides in the product residence folder.
+ * </p>
+ * <p>
+ * Mark names are memoized per content array (by identity) and the set of
+ * present marks is kept in memory by {@linkplain AcceptedAgreements}, so
+ * repeated assessment of the same agreement touches neither hashing nor the
+ * file system.
+ * </p>
+ */
 public final class BaseAgreementAcceptanceService implements AgreementAcceptanceService {
 
+	private static final Map<byte[], Mark> marks = Collections.synchronizedMap(new WeakHashMap<>());
+
 	private final HashesRegistry hashes;
-	private final LicensedProduct product;
+	private final AcceptedAgreements accepted;
 
 	public BaseAgreementAcceptanceService(HashesRegistry hashes, Supplier<LicensedProduct> product) {
 		this.hashes = hashes;
-		this.product = product.get();
+		this.accepted = new AcceptedAgreements(
+				new PathFromLicensedProduct(new LicensingFolder(new UserHomePath()), product.get()));
+	}
+
+	/**
+	 * @param residence folder to keep acceptance marks in
+	 * @since 3.1
+	 */
+	public BaseAgreementAcceptanceService(HashesRegistry hashes, Path residence) {
+		this.hashes = hashes;
+		this.accepted = new AcceptedAgreements(() -> residence);
 	}
 
 	@Override
@@ -54,7 +81,8 @@ public final class BaseAgreementAcceptanceService implements AgreementAcceptance
 		if (!hashes.isPresent()) {
 			throw new LicensingException(new NoServicesOfType("hash calculator").toString()); //$NON-NLS-1$
 		}
-		write(acceptedContentFile(content, hashes.get()), content);
+		accepted.accept(mark(content, hashes.get()), content);
+		CycleResults.invalidate();
 	}
 
 	@Override
@@ -64,19 +92,26 @@ public final class BaseAgreementAcceptanceService implements AgreementAcceptance
 		if (!hashes.isPresent()) {
 			return new Assessment(name, noHashingService());
 		}
-		Path accepted;
 		try {
-			accepted = acceptedContentFile(content, hashes.get());
+			return new Assessment(name, content, accepted.accepted(mark(content, hashes.get())));
 		} catch (Exception e) {
 			return new Assessment(name, faliledToLocateContent(e, name));
 		}
-		return new Assessment(name, content, Files.exists(accepted) && Files.isRegularFile(accepted));
 	}
 
-	private Path acceptedContentFile(byte[] content, @SuppressWarnings("hiding") Hashes hashes) throws Exception {
-		String bame = toFileName(content, hashes);
-		String name = chop(bame) + ".txt"; //$NON-NLS-1$
-		return new UserHomeProductResidence(product).get().resolve(name);
+	/**
+	 * Arrays do not override {@code equals}, thus the memo is keyed by the content
+	 * instance: contents of bundle agreements are read once by
+	 * {@linkplain AgreementContents} and then come here as the same instances.
+	 */
+	private String mark(byte[] content, @SuppressWarnings("hiding") Hashes hashes) throws Exception {
+		Mark known = marks.get(content);
+		if (known != null && known.hashes.equals(hashes.id())) {
+			return known.name;
+		}
+		String name = chop(toFileName(content, hashes)) + ".txt"; //$NON-NLS-1$
+		marks.put(content, new Mark(hashes.id(), name));
+		return name;
 	}
 
 	private Optional<Hashes> hashingService() {
@@ -92,11 +127,14 @@ public final class BaseAgreementAcceptanceService implements AgreementAcceptance
 	}
 
 	private String onlyLegal(String string) {
-		return IntStream.range(0, string.length())//
-				.map(string::charAt)//
-				.filter(c -> Character.isLetter(c) || Character.isDigit(c))//
-				.mapToObj(c -> Character.toString((char) c))//
-				.collect(Collectors.joining());
+		StringBuilder legal = new StringBuilder(string.length());
+		for (int i = 0; i < string.length(); i++) {
+			char c = string.charAt(i);
+			if (Character.isLetter(c) || Character.isDigit(c)) {
+				legal.append(c);
+			}
+		}
+		return legal.toString();
 	}
 
 	private String base64(byte[] bytes) {
@@ -115,10 +153,6 @@ public final class BaseAgreementAcceptanceService implements AgreementAcceptance
 		return file.length() <= allowed ? file : file.substring(0, allowed);
 	}
 
-	private void write(Path target, byte[] content) throws IOException {
-		Files.write(target, content);
-	}
-
 	private Trouble faliledToLocateContent(Exception e, String name) {
 		return new Trouble(//
 				new ServiceFailedOnMorsel(), //
@@ -132,6 +166,18 @@ public final class BaseAgreementAcceptanceService implements AgreementAcceptance
 				"Any agreement assessment is impossible."); //$NON-NLS-1$
 	}
 
+	private static final class Mark {
+
+		private final StringServiceId hashes;
+		private final String name;
+
+		Mark(StringServiceId hashes, String name) {
+			this.hashes = hashes;
+			this.name = name;
+		}
+
+	}
+
 	public static final class Smart implements AgreementAcceptanceService {
 		private final AgreementAcceptanceService delegate;
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2021 ArSysOp
+ * Copyright (c) 2020, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -15,18 +15,31 @@ package org.eclipse.passage.lic.base.conditions.evaluation;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
 import org.eclipse.passage.lic.api.conditions.evaluation.ExpressionParsingException;
 import org.eclipse.passage.lic.api.conditions.evaluation.ExpressionParsingService;
 import org.eclipse.passage.lic.api.conditions.evaluation.ExpressionProtocol;
 import org.eclipse.passage.lic.api.conditions.evaluation.ParsedExpression;
+import org.eclipse.passage.lic.internal.base.BoundedCache;
 import org.eclipse.passage.lic.internal.base.i18n.ConditionsEvaluationMessages;
 
 /**
+ * <p>
+ * Parses expressions of {@linkplain ExpressionProtocol.Berlin} protocol.
+ * </p>
+ * <p>
+ * Parsed expressions are immutable, thus they are kept (up to a bound) and
+ * shared by all instances of the service: an expression of an unchanged license
+ * is parsed only once.
+ * </p>
+ * 
  * @since 2.1
  */
 public final class BerlinProtocolExpressionParseService implements ExpressionParsingService {
 
+	private static final BoundedCache<String, ParsedExpression> parsed = new BoundedCache<>(512);
+
 	private final ExpressionProtocol protocol = new ExpressionProtocol.Berlin();
 	private final String separator = ";"; //$NON-NLS-1$
 	private final String mediator = "="; //$NON-NLS-1$
@@ -43,6 +56,14 @@ public final class BerlinProtocolExpressionParseService implements ExpressionPar
 	@Override
 	public ParsedExpression parsed(String expression) throws ExpressionParsingException {
 		Objects.requireNonNull(expression);
+		Optional<ParsedExpression> known = parsed.get(expression);
+		if (known.isPresent()) {
+			return known.get();
+		}
+		return parsed.put(expression, parse(expression));
+	}
+
+	private ParsedExpression parse(String expression) throws ExpressionParsingException {
 		Map<String, String> couples = new HashMap<>();
 		for (String segment : expression.split(separator)) {
 			addCouple(segment, couples);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2021 ArSysOp
+ * Copyright (c) 2020, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -13,6 +13,7 @@
 package org.eclipse.passage.lic.base.conditions.evaluation;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -32,7 +33,7 @@ public final class SimpleMapExpression implements ParsedExpression {
 		Objects.requireNonNull(protocol);
 		Objects.requireNonNull(checks);
 		this.protocol = protocol;
-		this.checks = new HashMap<>(checks);
+		this.checks = Collections.unmodifiableMap(new HashMap<>(checks));
 	}
 
 	@Override
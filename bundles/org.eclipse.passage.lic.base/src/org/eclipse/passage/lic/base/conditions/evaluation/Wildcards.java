@@ -0,0 +1,48 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lic.base.conditions.evaluation;
+
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+import org.eclipse.passage.lic.internal.base.BoundedCache;
+
+/**
+ * <p>
+ * Expected value of a condition expression segment can contain {@code *}
+ * wildcards, each of which stands for any sequence of characters. Apart from
+ * that, the value is treated as a regular expression.
+ * </p>
+ * <p>
+ * Patterns are compiled once per expected value and are shared by all
+ * evaluations, thus checking of an unchanged license does not compile any
+ * regular expression.
+ * </p>
+ * 
+ * @since 3.1
+ */
+public final class Wildcards {
+
+	private static final BoundedCache<String, Pattern> patterns = new BoundedCache<>(1024);
+
+	public Pattern pattern(String expected) {
+		Objects.requireNonNull(expected, "Wildcards::expected"); //$NON-NLS-1$
+		return patterns.get(expected)//
+				.orElseGet(() -> patterns.put(expected, Pattern.compile(expected.replaceAll("\\*", ".*")))); //$NON-NLS-1$//$NON-NLS-2$
+	}
+
+	public boolean matches(String expected, String value) {
+		return pattern(expected).matcher(value).matches();
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2021 ArSysOp
+ * Copyright (c) 2020, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -12,11 +12,16 @@
  *******************************************************************************/
 package org.eclipse.passage.lic.base.conditions.mining;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Optional;
 
 import org.eclipse.passage.lic.api.LicensingException;
 import org.eclipse.passage.lic.api.io.DigestExpectation;
@@ -25,6 +30,16 @@ import org.eclipse.passage.lic.api.io.StreamCodec;
 import org.eclipse.passage.lic.internal.base.i18n.AccessCycleMessages;
 
 /**
+ * <p>
+ * Decodes content of an encoded license file and verifies its signature with
+ * the product public key.
+ * </p>
+ * <p>
+ * Verified content is kept process-wide (see {@linkplain VerifiedContents}):
+ * until the file changes, it costs only reading and digesting of the file
+ * and the key, not decoding.
+ * </p>
+ * 
  * @since 2.1
  */
 public final class DecodedContent {
@@ -40,13 +55,29 @@ public final class DecodedContent {
 	}
 
 	public byte[] get() throws LicensingException {
-		try (FileInputStream encoded = new FileInputStream(source.toFile());
-				ByteArrayOutputStream decoded = new ByteArrayOutputStream();
-				InputStream ring = key.productPublicKey()) {
-			codec.decode(encoded, decoded, ring, new DigestExpectation.None());
-			decoded.flush();
-			return decoded.toByteArray();
-		} catch (IOException e) {
+		return verified().content();
+	}
+
+	VerifiedContent verified() throws LicensingException {
+		try {
+			BasicFileAttributes attributes = Files.readAttributes(source, BasicFileAttributes.class);
+			byte[] encoded = Files.readAllBytes(source);
+			byte[] ring = ring();
+			VerifiedContents.Key id = new VerifiedContents.Key(//
+					source.toRealPath().toString(), //
+					codec.getClass().getName(), //
+					digest(ring));
+			VerifiedContent.Fingerprint fingerprint = new VerifiedContent.Fingerprint(//
+					attributes.size(), //
+					attributes.lastModifiedTime().toMillis(), //
+					digest(encoded));
+			VerifiedContents contents = VerifiedContents.shared();
+			Optional<VerifiedContent> known = contents.get(id, fingerprint);
+			if (known.isPresent()) {
+				return known.get();
+			}
+			return contents.put(id, new VerifiedContent(fingerprint, decoded(encoded, ring)));
+		} catch (IOException | GeneralSecurityException e) {
 			throw new LicensingException(//
 					String.format(//
 							AccessCycleMessages.getString("DecodedContent.io_failure"), //$NON-NLS-1$
@@ -55,4 +86,24 @@ public final class DecodedContent {
 		}
 	}
 
+	private byte[] decoded(byte[] encoded, byte[] ring) throws IOException, LicensingException {
+		try (InputStream input = new ByteArrayInputStream(encoded);
+				ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+				InputStream key = new ByteArrayInputStream(ring)) {
+			codec.decode(input, decoded, key, new DigestExpectation.None());
+			decoded.flush();
+			return decoded.toByteArray();
+		}
+	}
+
+	private byte[] ring() throws IOException, LicensingException {
+		try (InputStream ring = key.productPublicKey()) {
+			return ring.readAllBytes();
+		}
+	}
+
+	private byte[] digest(byte[] content) throws GeneralSecurityException {
+		return MessageDigest.getInstance("SHA-256").digest(content); //$NON-NLS-1$
+	}
+
 }
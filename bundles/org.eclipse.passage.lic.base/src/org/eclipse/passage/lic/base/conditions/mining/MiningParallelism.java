@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lic.base.conditions.mining;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+
+/**
+ * <p>
+ * Optional parallel mode of condition mining: miners of an access cycle are
+ * run concurrently, and so are license files of a single miner.
+ * </p>
+ * <p>
+ * Is off by default. Is turned on by {@code passage.mining.parallelism}
+ * system property, which sets the amount of threads to mine with; the value of
+ * {@code 1} or less keeps mining sequential. All the mining is done on a single
+ * bounded {@linkplain ForkJoinPool}: nested fan-out (files of a miner) is
+ * joined with work stealing, thus it never starves the pool.
+ * </p>
+ * <p>
+ * Results are always reported in the order of the sources, thus results and
+ * diagnostics summed up from them do not depend on the mode.
+ * </p>
+ * 
+ * @since 3.1
+ */
+public final class MiningParallelism {
+
+	private static final String property = "passage.mining.parallelism"; //$NON-NLS-1$
+	private static volatile Optional<ForkJoinPool> shared;
+
+	private final Optional<ForkJoinPool> pool;
+
+	/**
+	 * Mining mode is defined by {@code passage.mining.parallelism} system
+	 * property
+	 */
+	public MiningParallelism() {
+		this.pool = shared();
+	}
+
+	/**
+	 * Mines in parallel on the given {@code pool}
+	 */
+	public MiningParallelism(ForkJoinPool pool) {
+		Objects.requireNonNull(pool, "MiningParallelism::pool"); //$NON-NLS-1$
+		this.pool = Optional.of(pool);
+	}
+
+	/**
+	 * Applies {@code mine} to each of {@code sources}, concurrently if parallel
+	 * mining is on
+	 * 
+	 * @return results in the order of {@code sources}
+	 */
+	public <S, T> List<T> mine(Collection<S> sources, Function<S, T> mine) {
+		Optional<ForkJoinPool> parallel = pool;
+		if (!parallel.isPresent() || sources.size() < 2) {
+			return sequentially(sources, mine);
+		}
+		List<ForkJoinTask<T>> tasks = new ArrayList<>();
+		for (S source : sources) {
+			tasks.add(ForkJoinTask.adapt((Callable<T>) () -> mine.apply(source)));
+		}
+		if (ForkJoinTask.getPool() == parallel.get()) {
+			return joined(ForkJoinTask.invokeAll(tasks));
+		}
+		return parallel.get().invoke(new RecursiveTask<List<T>>() {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected List<T> compute() {
+				return joined(ForkJoinTask.invokeAll(tasks));
+			}
+
+		});
+	}
+
+	private <S, T> List<T> sequentially(Collection<S> sources, Function<S, T> mine) {
+		List<T> results = new ArrayList<>(sources.size());
+		for (S source : sources) {
+			results.add(mine.apply(source));
+		}
+		return results;
+	}
+
+	private <T> List<T> joined(Collection<ForkJoinTask<T>> tasks) {
+		List<T> results = new ArrayList<>(tasks.size());
+		for (ForkJoinTask<T> task : tasks) {
+			results.add(task.join());
+		}
+		return results;
+	}
+
+	private static Optional<ForkJoinPool> shared() {
+		Optional<ForkJoinPool> current = shared;
+		if (current != null) {
+			return current;
+		}
+		synchronized (MiningParallelism.class) {
+			if (shared == null) {
+				int threads = Integer.getInteger(property, 0);
+				shared = threads > 1 ? Optional.of(new ForkJoinPool(threads)) : Optional.empty();
+			}
+			return shared;
+		}
+	}
+
+}
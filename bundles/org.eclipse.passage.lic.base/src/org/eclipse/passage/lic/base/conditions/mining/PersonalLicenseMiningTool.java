@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2021 ArSysOp
+ * Copyright (c) 2020, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -17,6 +17,7 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Optional;
 
 import org.eclipse.passage.lic.api.LicensingException;
 import org.eclipse.passage.lic.api.ServiceInvocationResult;
@@ -47,15 +48,14 @@ final class PersonalLicenseMiningTool extends ArmedMiningTool {
 
 	@Override
 	public ServiceInvocationResult<Collection<ConditionPack>> mine(Collection<Path> sources) {
-		return sources.stream()//
-				.map(path -> mine(path)) //
+		return new MiningParallelism().mine(sources, this::mine).stream()//
 				.reduce(new BaseServiceInvocationResult.Sum<>(new SumOfCollections<ConditionPack>())) //
 				.orElse(new BaseServiceInvocationResult<Collection<ConditionPack>>(Collections.emptyList()));
 	}
 
 	private ServiceInvocationResult<Collection<ConditionPack>> mine(Path source) {
 		try {
-			Data data = from(decoded(source));
+			Data data = from(new DecodedContent(source, key, codec).verified());
 			return new BaseServiceInvocationResult<>(//
 					diagnostic(data.conditions(), source), //
 					Collections.singleton(//
@@ -74,9 +74,17 @@ final class PersonalLicenseMiningTool extends ArmedMiningTool {
 		}
 	}
 
-	private Data from(byte[] decoded) throws IOException {
-		try (ByteArrayInputStream input = new ByteArrayInputStream(decoded)) {
-			return transport.read(input);
+	/**
+	 * Conditions read from a verified content are kept along with it, thus an
+	 * unchanged license is not read anew
+	 */
+	private Data from(VerifiedContent verified) throws IOException {
+		Optional<Data> known = verified.derived(transport.getClass(), Data.class);
+		if (known.isPresent()) {
+			return known.get();
+		}
+		try (ByteArrayInputStream input = new ByteArrayInputStream(verified.content())) {
+			return verified.derive(transport.getClass(), transport.read(input));
 		}
 	}
 
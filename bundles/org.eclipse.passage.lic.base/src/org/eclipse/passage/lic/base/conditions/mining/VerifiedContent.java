@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lic.base.conditions.mining;
+
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>
+ * Content of a license file that has been decoded and verified, along with the
+ * fingerprint of the file it has been decoded from.
+ * </p>
+ * <p>
+ * Anything that is derived from the content exclusively (say, conditions read
+ * by a transport) can be kept along.
+ * </p>
+ */
+final class VerifiedContent {
+
+	private final Fingerprint fingerprint;
+	private final byte[] content;
+	private final Map<Object, Object> derived = new ConcurrentHashMap<>();
+
+	VerifiedContent(Fingerprint fingerprint, byte[] content) {
+		Objects.requireNonNull(fingerprint, "VerifiedContent::fingerprint"); //$NON-NLS-1$
+		Objects.requireNonNull(content, "VerifiedContent::content"); //$NON-NLS-1$
+		this.fingerprint = fingerprint;
+		this.content = content;
+	}
+
+	boolean actual(Fingerprint current) {
+		return fingerprint.equals(current);
+	}
+
+	/**
+	 * A copy, which is free to be modified
+	 */
+	byte[] content() {
+		return Arrays.copyOf(content, content.length);
+	}
+
+	int size() {
+		return content.length;
+	}
+
+	<T> Optional<T> derived(Object key, Class<T> type) {
+		return Optional.ofNullable(derived.get(key)).filter(type::isInstance).map(type::cast);
+	}
+
+	<T> T derive(Object key, T value) {
+		derived.put(key, value);
+		return value;
+	}
+
+	/**
+	 * State of an encoded file: size, modification time and digest of the
+	 * content
+	 */
+	static final class Fingerprint {
+
+		private final long size;
+		private final long modified;
+		private final byte[] digest;
+
+		Fingerprint(long size, long modified, byte[] digest) {
+			this.size = size;
+			this.modified = modified;
+			this.digest = digest;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(size, modified, Arrays.hashCode(digest));
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Fingerprint)) {
+				return false;
+			}
+			Fingerprint other = (Fingerprint) obj;
+			return size == other.size //
+					&& modified == other.modified //
+					&& MessageDigest.isEqual(digest, other.digest);
+		}
+
+	}
+
+}
@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lic.base.conditions.mining;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.eclipse.passage.lic.internal.base.BoundedCache;
+
+/**
+ * <p>
+ * Process-wide storage of decoded and verified license content. Thus a license
+ * file is decoded, and its signature is verified, only once until the file
+ * changes.
+ * </p>
+ * <p>
+ * An entry is found by the canonical path of the file, the codec and the
+ * digest of the public key the file is verified with, and is valid only while
+ * the file keeps the same size, modification time and content digest.
+ * </p>
+ * <p>
+ * Storage is bounded both by amount of entries and by total size of content
+ * kept, the least recently used entries are evicted first.
+ * </p>
+ */
+final class VerifiedContents {
+
+	private static final VerifiedContents shared = new VerifiedContents(512, 32 * 1024 * 1024);
+
+	private final BoundedCache<Key, VerifiedContent> contents;
+
+	VerifiedContents(int entries, long bytes) {
+		this.contents = new BoundedCache<>(entries, bytes, VerifiedContent::size);
+	}
+
+	static VerifiedContents shared() {
+		return shared;
+	}
+
+	Optional<VerifiedContent> get(Key key, VerifiedContent.Fingerprint fingerprint) {
+		return contents.get(key).filter(content -> content.actual(fingerprint));
+	}
+
+	VerifiedContent put(Key key, VerifiedContent content) {
+		return contents.put(key, content);
+	}
+
+	/**
+	 * (canonical path, codec, public key digest) triple a content is verified for
+	 */
+	static final class Key {
+
+		private final String path;
+		private final String codec;
+		private final byte[] ring;
+
+		Key(String path, String codec, byte[] ring) {
+			Objects.requireNonNull(path, "VerifiedContents.Key::path"); //$NON-NLS-1$
+			Objects.requireNonNull(codec, "VerifiedContents.Key::codec"); //$NON-NLS-1$
+			Objects.requireNonNull(ring, "VerifiedContents.Key::ring"); //$NON-NLS-1$
+			this.path = path;
+			this.codec = codec;
+			this.ring = ring;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(path, codec, Arrays.hashCode(ring));
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return path.equals(other.path) && codec.equals(other.codec) && Arrays.equals(ring, other.ring);
+		}
+
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2021 ArSysOp
+ * Copyright (c) 2020, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -18,6 +18,7 @@ import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 
 import org.eclipse.passage.lic.api.LicensedProduct;
+import org.eclipse.passage.lic.internal.base.access.CycleResults;
 
 /**
  * @since 2.1
@@ -42,6 +43,7 @@ public final class ExternalLicense {
 		for (Path file : pack) {
 			installLicenseFile(file);
 		}
+		CycleResults.invalidate();
 		return destination;
 	}
 
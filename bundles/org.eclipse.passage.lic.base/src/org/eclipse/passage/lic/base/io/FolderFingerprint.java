@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lic.base.io;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.eclipse.passage.lic.api.LicensingException;
+import org.eclipse.passage.lic.internal.base.i18n.BaseMessages;
+
+/**
+ * <p>
+ * Cheap snapshot of a folder (say, a product residence): size and modification
+ * time of each regular file found under the given {@code folder} recursively.
+ * Absent folder has no files.
+ * </p>
+ * <p>
+ * Any file being added, removed or rewritten alters the fingerprint, while
+ * taking one requires no file to be opened. A fingerprint is to be taken
+ * <i>before</i> the files are read, thus a concurrent change causes re-reading.
+ * </p>
+ *
+ * @since 3.1
+ */
+public final class FolderFingerprint {
+
+	private final Supplier<Path> folder;
+
+	public FolderFingerprint(Supplier<Path> folder) {
+		Objects.requireNonNull(folder, "FolderFingerprint::folder"); //$NON-NLS-1$
+		this.folder = folder;
+	}
+
+	public Map<Path, String> get() throws LicensingException {
+		Path root = folder.get();
+		if (!Files.isDirectory(root)) {
+			return Collections.emptyMap();
+		}
+		Map<Path, String> stamps = new HashMap<>();
+		try (Stream<Path> files = Files.walk(root)) {
+			for (Path file : (Iterable<Path>) files::iterator) {
+				BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+				if (attributes.isRegularFile()) {
+					stamps.put(file, attributes.size() + ":" + attributes.lastModifiedTime().toMillis()); //$NON-NLS-1$
+				}
+			}
+		} catch (IOException e) {
+			throw new LicensingException(
+					String.format(BaseMessages.getString("FolderFingerprint.failure"), root), e); //$NON-NLS-1$
+		}
+		return stamps;
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2021 ArSysOp
+ * Copyright (c) 2020, 2024 ArSysOp
 
  *
  * This program and the accompanying materials are made available under the
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.passage.lic.base.restrictions;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -28,6 +29,7 @@ import org.eclipse.passage.lic.api.agreements.AgreementAcceptanceService;
 import org.eclipse.passage.lic.api.agreements.AgreementToAccept;
 import org.eclipse.passage.lic.api.conditions.evaluation.Permission;
 import org.eclipse.passage.lic.api.registry.StringServiceId;
+import org.eclipse.passage.lic.api.requirements.Feature;
 import org.eclipse.passage.lic.api.requirements.Requirement;
 import org.eclipse.passage.lic.api.restrictions.ExaminationCertificate;
 import org.eclipse.passage.lic.api.restrictions.PermissionsExaminationService;
@@ -82,43 +84,33 @@ public final class BasePermissionsExaminationService implements PermissionsExami
 
 	}
 
+	/**
+	 * Permissions are indexed by feature once per examination, thus each
+	 * requirement is matched only against the permissions for its own feature.
+	 */
 	private List<Restriction> insufficientCoverage(Collection<Requirement> requirements,
 			Collection<Permission> permissions, Map<Requirement, Permission> active) {
-		return requirements.stream() //
-				.collect(Collectors.groupingBy(Requirement::feature)).values().stream()//
-				.map(v -> insufficientLicenseCoverage(v, permissions, active))//
-				.flatMap(Collection::stream)//
-				.collect(Collectors.toList());
-	}
-
-	private Collection<Restriction> insufficientLicenseCoverage(Collection<Requirement> requirements,
-			Collection<Permission> permissions, Map<Requirement, Permission> active) {
-		return requirements.stream()//
-				.filter(requirement -> notCovered(requirement, permissions, active))//
-				.map(this::insufficientLicenseCoverage) //
-				.collect(Collectors.toList());
-	}
-
-	private boolean notCovered(Requirement requirement, Collection<Permission> permissions,
-			Map<Requirement, Permission> active) {
-		Optional<Permission> satisfied = permissions.stream() //
-				.filter(permission -> sameFeature(requirement, permission)) //
-				.filter(permission -> versionMatches(requirement, permission)) //
-				.findAny();
-		if (satisfied.isPresent()) {
-			active.put(requirement, satisfied.get());
+		FeaturePermissions index = new FeaturePermissions(permissions);
+		List<Restriction> uncovered = new ArrayList<>();
+		for (List<Requirement> feature : features(requirements)) {
+			for (Requirement requirement : feature) {
+				Optional<Permission> satisfied = index.covering(requirement);
+				if (satisfied.isPresent()) {
+					active.put(requirement, satisfied.get());
+				} else {
+					uncovered.add(insufficientLicenseCoverage(requirement));
+				}
+			}
 		}
-		return !satisfied.isPresent();
+		return uncovered;
 	}
 
-	private boolean sameFeature(Requirement requirement, Permission permission) {
-		return requirement.feature().identifier().equals(permission.condition().feature());
-	}
-
-	private boolean versionMatches(Requirement requirement, Permission permission) {
-		return permission.condition().versionMatch().rule().match(//
-				requirement.feature().version(), //
-				permission.condition().versionMatch().version());
+	private Collection<List<Requirement>> features(Collection<Requirement> requirements) {
+		Map<Feature, List<Requirement>> features = new HashMap<>();
+		for (Requirement requirement : requirements) {
+			features.computeIfAbsent(requirement.feature(), feature -> new ArrayList<>()).add(requirement);
+		}
+		return features.values();
 	}
 
 	private Restriction insufficientLicenseCoverage(Requirement requirement) {
@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lic.base.restrictions;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.eclipse.passage.lic.api.conditions.MatchingRule;
+import org.eclipse.passage.lic.api.conditions.VersionMatch;
+import org.eclipse.passage.lic.api.conditions.evaluation.Permission;
+import org.eclipse.passage.lic.api.requirements.Requirement;
+
+/**
+ * <p>
+ * Permissions of a single examination indexed by feature identifier: a
+ * requirement is matched only against permissions for its own feature.
+ * </p>
+ * <p>
+ * Outcome of each (rule, required version, allowed version) match is kept for
+ * the examination, thus versions are parsed once per distinct pair, not once
+ * per requirement and permission.
+ * </p>
+ */
+final class FeaturePermissions {
+
+	private final Map<String, List<Permission>> features;
+	private final Map<VersionCheck, Boolean> checks = new HashMap<>();
+
+	FeaturePermissions(Collection<Permission> permissions) {
+		this.features = index(permissions);
+	}
+
+	/**
+	 * The first permission (in the original order) that covers the
+	 * {@code requirement}
+	 */
+	Optional<Permission> covering(Requirement requirement) {
+		List<Permission> candidates = features.getOrDefault(requirement.feature().identifier(),
+				Collections.emptyList());
+		for (Permission permission : candidates) {
+			if (versionMatches(requirement.feature().version(), permission.condition().versionMatch())) {
+				return Optional.of(permission);
+			}
+		}
+		return Optional.empty();
+	}
+
+	private boolean versionMatches(String required, VersionMatch allowed) {
+		return checks.computeIfAbsent(new VersionCheck(allowed.rule(), required, allowed.version()),
+				VersionCheck::match);
+	}
+
+	private Map<String, List<Permission>> index(Collection<Permission> permissions) {
+		Map<String, List<Permission>> index = new HashMap<>();
+		for (Permission permission : permissions) {
+			index.computeIfAbsent(permission.condition().feature(), id -> new ArrayList<>()).add(permission);
+		}
+		return index;
+	}
+
+	private static final class VersionCheck {
+
+		private final MatchingRule rule;
+		private final String required;
+		private final String allowed;
+
+		VersionCheck(MatchingRule rule, String required, String allowed) {
+			this.rule = rule;
+			this.required = required;
+			this.allowed = allowed;
+		}
+
+		boolean match() {
+			return rule.match(required, allowed);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(rule, required, allowed);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof VersionCheck)) {
+				return false;
+			}
+			VersionCheck other = (VersionCheck) obj;
+			return rule.equals(other.rule) //
+					&& Objects.equals(required, other.required) //
+					&& Objects.equals(allowed, other.allowed);
+		}
+
+	}
+
+}
@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lic.internal.base;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * <p>
+ * Keeps at most {@code entries} values, evicting the least recently used ones.
+ * Is meant to be shared between threads.
+ * </p>
+ * <p>
+ * Can be bounded by the total {@code weight} of the values kept as well: a
+ * value heavier than the whole cache is not kept at all.
+ * </p>
+ */
+public final class BoundedCache<K, V> {
+
+	private final int entries;
+	private final long weight;
+	private final ToLongFunction<V> weigher;
+	private final Map<K, V> values = new LinkedHashMap<>(16, 0.75f, true);
+	private long occupied;
+
+	public BoundedCache(int entries) {
+		this(entries, Long.MAX_VALUE, value -> 0);
+	}
+
+	public BoundedCache(int entries, long weight, ToLongFunction<V> weigher) {
+		Objects.requireNonNull(weigher, "BoundedCache::weigher"); //$NON-NLS-1$
+		this.entries = entries;
+		this.weight = weight;
+		this.weigher = weigher;
+	}
+
+	public synchronized Optional<V> get(K key) {
+		return Optional.ofNullable(values.get(key));
+	}
+
+	/**
+	 * Value kept for the {@code key} or, if there is none, the one just
+	 * {@code computed} and kept
+	 */
+	public synchronized V get(K key, Function<? super K, ? extends V> computed) {
+		V known = values.get(key);
+		if (known != null) {
+			return known;
+		}
+		return put(key, computed.apply(key));
+	}
+
+	public synchronized V put(K key, V value) {
+		long heft = weigher.applyAsLong(value);
+		V replaced = heft > weight ? values.remove(key) : values.put(key, value);
+		occupied += (heft > weight ? 0 : heft) - (replaced == null ? 0 : weigher.applyAsLong(replaced));
+		Iterator<V> eldest = values.values().iterator();
+		while (values.size() > entries || occupied > weight) {
+			occupied -= weigher.applyAsLong(eldest.next());
+			eldest.remove();
+		}
+		return value;
+	}
+
+}
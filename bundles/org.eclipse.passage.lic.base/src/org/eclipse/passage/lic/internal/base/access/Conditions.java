@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2021 ArSysOp
+ * Copyright (c) 2020, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -28,6 +28,7 @@ import org.eclipse.passage.lic.api.registry.Registry;
 import org.eclipse.passage.lic.base.BaseServiceInvocationResult;
 import org.eclipse.passage.lic.base.SumOfCollections;
 import org.eclipse.passage.lic.base.conditions.ConditionsFeatureFilter;
+import org.eclipse.passage.lic.base.conditions.mining.MiningParallelism;
 import org.eclipse.passage.lic.base.diagnostic.code.NoServicesOfType;
 import org.eclipse.passage.lic.internal.base.i18n.AccessCycleMessages;
 
@@ -69,8 +70,7 @@ final class Conditions implements Supplier<ServiceInvocationResult<Collection<Co
 							new NoServicesOfType(AccessCycleMessages.getString("Conditions.servive_type")), // //$NON-NLS-1$
 							AccessCycleMessages.getString("Conditions.no_miners"))); //$NON-NLS-1$
 		}
-		return registry.services().stream() //
-				.map(miner -> miner.all(product)) //
+		return new MiningParallelism().mine(registry.services(), miner -> miner.all(product)).stream() //
 				.reduce(new BaseServiceInvocationResult.Sum<>(new SumOfCollections<ConditionPack>()))//
 				.map(filter) //
 				.orElse(new BaseServiceInvocationResult<>(Collections.emptyList()));
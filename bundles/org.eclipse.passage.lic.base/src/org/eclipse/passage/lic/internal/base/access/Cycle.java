@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2021 ArSysOp
+ * Copyright (c) 2020, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -36,6 +36,8 @@ abstract class Cycle<T> {
 	private final CycleFilter filter;
 	private final List<Diagnostic> diagnostics;
 	private final Optional<String> feature;
+	private final CycleResults results;
+	private Optional<Long> validity = Optional.empty();
 
 	Cycle(Framework framework) {
 		this(framework, new CycleFilter(), Optional.empty());
@@ -52,10 +54,20 @@ abstract class Cycle<T> {
 		this.filter = filter;
 		this.diagnostics = new ArrayList<>();
 		this.feature = feature;
+		this.results = CycleResults.of(framework);
 	}
 
 	T apply() {
-		return examine(this::requirements, this::permissions);
+		Optional<T> known = results.known(getClass(), feature);
+		if (known.isPresent()) {
+			return known.get();
+		}
+		long epoch = results.epoch();
+		T result = examine(this::requirements, this::permissions);
+		if (validity.isPresent()) {
+			results.remember(getClass(), feature, result, validity.get(), epoch);
+		}
+		return result;
 	}
 
 	protected Optional<String> feature() {
@@ -71,6 +83,7 @@ abstract class Cycle<T> {
 		if (empty(reqs)) {
 			// no requirements means no restrictions anyway, which is always green light,
 			// we just want to avoid heavy operations below
+			validity = Optional.of(Long.MAX_VALUE);
 			return freeWayOut();
 		}
 		ServiceInvocationResult<AppliedLicenses> perms = permissions.get();
@@ -82,6 +95,7 @@ abstract class Cycle<T> {
 		if (failed(examination)) {
 			return stop();
 		}
+		validity = Optional.of(new NearestBoundary(perms.data().get().permissions(), results.clock()).get());
 		return stop(examination.data().get());
 	}
 
@@ -0,0 +1,273 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lic.internal.base.access;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.eclipse.passage.lic.api.Framework;
+import org.eclipse.passage.lic.api.LicensedProduct;
+import org.eclipse.passage.lic.api.LicensingException;
+import org.eclipse.passage.lic.base.io.FolderFingerprint;
+import org.eclipse.passage.lic.base.io.LicensingFolder;
+import org.eclipse.passage.lic.base.io.PathFromLicensedProduct;
+import org.eclipse.passage.lic.base.io.UserHomePath;
+
+/**
+ * <p>
+ * Remembers conclusive outcomes of access {@linkplain Cycle cycles} of a
+ * framework, per cycle type and feature, thus a feature that is checked over
+ * and over (say, to enable a menu item) does not cost a cycle each time.
+ * </p>
+ * <p>
+ * An outcome is forgotten
+ * </p>
+ * <ul>
+ * <li>when the nearest validity boundary of the permissions it relies on is
+ * reached;</li>
+ * <li>when the product residence in {@code user.home}, or in any other
+ * {@linkplain #watch(Path) watched} licensing folder (like the installation
+ * one), changes: a license is imported or an agreement is accepted. The
+ * residences are looked at not more often than once a second;</li>
+ * <li>on {@linkplain #invalidate()} demand: the runtime is expected to call it
+ * when the set of installed bundles changes, as well as when a license is
+ * supplied from anywhere else;</li>
+ * <li>a minute after it has been evaluated anyway, as conditions can be
+ * mined from sources that cannot be watched (like a floating license
+ * server).</li>
+ * </ul>
+ * <p>
+ * Outcomes that have been stopped by a severe error are never remembered.
+ * </p>
+ */
+public final class CycleResults {
+
+	private static final Map<Framework, CycleResults> frameworks = Collections.synchronizedMap(new WeakHashMap<>());
+	private static final AtomicLong generation = new AtomicLong();
+	private static final Set<Path> watched = ConcurrentHashMap.newKeySet();
+
+	private final Map<Key, Outcome> outcomes = new ConcurrentHashMap<>();
+	private final AtomicLong epoch = new AtomicLong();
+	private final Supplier<Map<Path, String>> residence;
+	private final LongSupplier clock;
+	private final long age;
+	private final long recheck;
+	private volatile Sight sight;
+
+	CycleResults(LicensedProduct product) {
+		this(() -> residences(product), //
+				System::currentTimeMillis, //
+				TimeUnit.MINUTES.toMillis(1), //
+				TimeUnit.SECONDS.toMillis(1));
+	}
+
+	/**
+	 * @param residence state of the folder licenses and acceptance marks reside in
+	 * @param clock     current time in milliseconds
+	 * @param age       longest time, in milliseconds, to keep an outcome
+	 * @param recheck   period, in milliseconds, to look at the {@code residence}
+	 */
+	public CycleResults(Supplier<Map<Path, String>> residence, LongSupplier clock, long age, long recheck) {
+		Objects.requireNonNull(residence, "CycleResults::residence"); //$NON-NLS-1$
+		Objects.requireNonNull(clock, "CycleResults::clock"); //$NON-NLS-1$
+		this.residence = residence;
+		this.clock = clock;
+		this.age = age;
+		this.recheck = recheck;
+		this.sight = new Sight(residence.get(), clock.getAsLong(), generation.get());
+	}
+
+	static CycleResults of(Framework framework) {
+		synchronized (frameworks) {
+			return frameworks.computeIfAbsent(framework, any -> new CycleResults(framework.product()));
+		}
+	}
+
+	/**
+	 * Makes product residences under the given {@code licensing} folder looked
+	 * after in addition to the {@code user.home} ones
+	 */
+	public static void watch(Path licensing) {
+		Objects.requireNonNull(licensing, "CycleResults::licensing"); //$NON-NLS-1$
+		if (watched.add(licensing)) {
+			invalidate();
+		}
+	}
+
+	/**
+	 * Stops looking after product residences under the given {@code licensing}
+	 * folder
+	 */
+	public static void unwatch(Path licensing) {
+		Objects.requireNonNull(licensing, "CycleResults::licensing"); //$NON-NLS-1$
+		if (watched.remove(licensing)) {
+			invalidate();
+		}
+	}
+
+	private static Map<Path, String> residences(LicensedProduct product) {
+		Map<Path, String> state = new HashMap<>(
+				state(new PathFromLicensedProduct(new LicensingFolder(new UserHomePath()), product)));
+		for (Path licensing : watched) {
+			state.putAll(state(new PathFromLicensedProduct(() -> licensing, product)));
+		}
+		return state;
+	}
+
+	private static Map<Path, String> state(Supplier<Path> residence) {
+		try {
+			return new FolderFingerprint(residence).get();
+		} catch (LicensingException e) {
+			// a folder in the middle of a change: the next look is to tell
+			return Collections.singletonMap(residence.get(), e.getMessage());
+		}
+	}
+
+	/**
+	 * Forget all the outcomes of all the frameworks
+	 */
+	public static void invalidate() {
+		generation.incrementAndGet();
+	}
+
+	@SuppressWarnings("unchecked")
+	public <T> Optional<T> known(Class<?> cycle, Optional<String> feature) {
+		long now = clock.getAsLong();
+		if (!actual(now)) {
+			return Optional.empty();
+		}
+		Key key = new Key(cycle, feature);
+		Outcome outcome = outcomes.get(key);
+		if (outcome == null) {
+			return Optional.empty();
+		}
+		if (outcome.until <= now) {
+			outcomes.remove(key, outcome);
+			return Optional.empty();
+		}
+		return Optional.of((T) outcome.result);
+	}
+
+	/**
+	 * Current time in milliseconds, the outcomes are aged by
+	 */
+	LongSupplier clock() {
+		return clock;
+	}
+
+	/**
+	 * To be taken before a cycle starts and given back to
+	 * {@linkplain #remember(Class, Optional, Object, long, long)} along with its
+	 * outcome: an outcome of a cycle run across a change is not remembered.
+	 */
+	public long epoch() {
+		return epoch.get();
+	}
+
+	/**
+	 * @param until moment, in milliseconds, the {@code result} can be relied upon
+	 *              till
+	 * @param since {@linkplain #epoch()} taken before the cycle has started
+	 */
+	public <T> void remember(Class<?> cycle, Optional<String> feature, T result, long until, long since) {
+		long now = clock.getAsLong();
+		if (!actual(now) || since != epoch.get()) {
+			return;
+		}
+		outcomes.put(new Key(cycle, feature), new Outcome(result, Math.min(until, now + age)));
+	}
+
+	/**
+	 * Tells if the outcomes are still in line with the residence and the
+	 * {@linkplain #invalidate()} calls, forgetting all of them if they are not
+	 */
+	private boolean actual(long now) {
+		Sight seen = sight;
+		long current = generation.get();
+		if (seen.generation == current && now - seen.moment < recheck) {
+			return true;
+		}
+		Sight fresh = new Sight(residence.get(), now, current);
+		sight = fresh;
+		if (seen.generation == current && fresh.state.equals(seen.state)) {
+			return true;
+		}
+		epoch.incrementAndGet();
+		outcomes.clear();
+		return false;
+	}
+
+	private static final class Sight {
+
+		private final Map<Path, String> state;
+		private final long moment;
+		private final long generation;
+
+		Sight(Map<Path, String> state, long moment, long generation) {
+			this.state = state;
+			this.moment = moment;
+			this.generation = generation;
+		}
+
+	}
+
+	private static final class Outcome {
+
+		private final Object result;
+		private final long until;
+
+		Outcome(Object result, long until) {
+			this.result = result;
+			this.until = until;
+		}
+
+	}
+
+	private static final class Key {
+
+		private final Class<?> cycle;
+		private final Optional<String> feature;
+
+		Key(Class<?> cycle, Optional<String> feature) {
+			this.cycle = cycle;
+			this.feature = feature;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(cycle, feature);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return cycle.equals(other.cycle) && feature.equals(other.feature);
+		}
+
+	}
+
+}
@@ -0,0 +1,51 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lic.internal.base.access;
+
+import java.util.Collection;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.eclipse.passage.lic.api.conditions.evaluation.Permission;
+
+/**
+ * The closest future moment, in milliseconds, some of the {@code permissions}
+ * comes into force or expires at. {@linkplain Long#MAX_VALUE} if there is no
+ * such a moment. Current time is told by the {@code clock}.
+ */
+final class NearestBoundary implements Supplier<Long> {
+
+	private final Collection<Permission> permissions;
+	private final LongSupplier clock;
+
+	NearestBoundary(Collection<Permission> permissions, LongSupplier clock) {
+		this.permissions = permissions;
+		this.clock = clock;
+	}
+
+	@Override
+	public Long get() {
+		long now = clock.getAsLong();
+		long nearest = Long.MAX_VALUE;
+		for (Permission permission : permissions) {
+			nearest = closer(nearest, now, permission.leaseDate().toInstant().toEpochMilli());
+			nearest = closer(nearest, now, permission.expireDate().toInstant().toEpochMilli());
+		}
+		return nearest;
+	}
+
+	private long closer(long nearest, long now, long boundary) {
+		return boundary > now ? Math.min(nearest, boundary) : nearest;
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2021 ArSysOp
+ * Copyright (c) 2020, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -78,12 +78,16 @@ public final class Requirements implements Supplier<ServiceInvocationResult<Coll
 
 	private ServiceInvocationResult<Collection<Requirement>> filtered() {
 		return registry.services().stream() //
-				.map(ResolvedRequirements::all) //
+				.map(this::resolved) //
 				.reduce(new BaseServiceInvocationResult.Sum<>(new SumOfCollections<Requirement>()))//
 				.map(filter)//
 				.get(); // always exists
 	}
 
+	private ServiceInvocationResult<Collection<Requirement>> resolved(ResolvedRequirements service) {
+		return feature.map(service::all).orElseGet(service::all);
+	}
+
 	private BaseServiceInvocationResult<Collection<Requirement>> noServices() {
 		return new BaseServiceInvocationResult<Collection<Requirement>>(//
 				new Trouble(//
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 ArSysOp
+ * Copyright (c) 2022, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -12,61 +12,214 @@
  *******************************************************************************/
 package org.eclipse.passage.lic.internal.base.access.storage;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.eclipse.passage.lic.api.acquire.GrantAcquisition;
+import org.eclipse.passage.lic.base.acquire.BaseGrantAcquisition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * <p>
+ * Append-only log of grant tracing events. Each record is a type byte, an
+ * {@code int} payload length and the payload itself: all the grant fields for
+ * a {@linkplain #kept(GrantAcquisition) kept} grant, and only its identifier
+ * for a {@linkplain #forgotten(String) forgotten} one.
+ * </p>
+ * <p>
+ * The log is replayed on {@linkplain #read()} and is
+ * {@linkplain #compact(Collection) compacted} to the actual grants when it
+ * grows too long. Grants of the former whole-file residence are taken over on
+ * the first read.
+ * </p>
+ * <p>
+ * Not thread safe: is guarded by the owning {@linkplain StoringGrantTraceService}.
+ * </p>
+ */
 final class Residence {
 
+	private static final byte kept = 1;
+	private static final byte forgotten = 2;
+	private static final int header = Byte.BYTES + Integer.BYTES; // type, length
+
 	private final Path file;
+	private final Path legacy;
 	private final Logger log = LoggerFactory.getLogger(getClass());
+	private int records;
 
 	Residence(Supplier<Path> srotage) {
-		this.file = srotage.get().resolve("forsaken-grants.bin"); //$NON-NLS-1$
+		Path folder = srotage.get();
+		this.file = folder.resolve("forsaken-grants.log"); //$NON-NLS-1$
+		this.legacy = folder.resolve("forsaken-grants.bin"); //$NON-NLS-1$
 	}
 
 	List<GrantAcquisition> read() {
-		if (notWrittenYet()) {
-			return Collections.emptyList();
+		Map<String, GrantAcquisition> grants = new LinkedHashMap<>();
+		boolean[] damaged = new boolean[1];
+		if (written(file)) {
+			safelyAndSilently(() -> damaged[0] = replay(grants));
+		}
+		boolean inherited = written(legacy);
+		if (inherited) {
+			safelyAndSilently(() -> rawReadLegacy(grants));
+		}
+		if (damaged[0] || inherited) {
+			compact(grants.values());
 		}
-		List<GrantAcquisition> grants = new ArrayList<>();
-		safelyAndSilently(() -> rawRead(grants));
-		return grants;
+		if (inherited) {
+			safelyAndSilently(() -> Files.delete(legacy));
+		}
+		return new ArrayList<>(grants.values());
 	}
 
-	void write(List<GrantAcquisition> grants) {
+	void kept(GrantAcquisition grant) {
+		append(kept, payload -> write(grant, payload));
+	}
+
+	void forgotten(String identifier) {
+		append(forgotten, payload -> payload.writeUTF(identifier));
+	}
+
+	/**
+	 * @return {@code true} when the log keeps considerably more records than there
+	 *         are {@code actual} grants
+	 */
+	boolean overgrown(int actual) {
+		return records > 2 * actual + 64;
+	}
+
+	void compact(Collection<GrantAcquisition> grants) {
 		checkFile();
-		safelyAndSilently(() -> rawWrite(grants));
+		safelyAndSilently(() -> rawCompact(grants));
 	}
 
-	private void rawWrite(List<GrantAcquisition> grants) throws Exception {
+	private void append(byte type, Payload payload) {
 		checkFile();
-		try (ObjectOutputStream stream = new ObjectOutputStream(new FileOutputStream(file.toFile()))) {
-			stream.writeInt(grants.size());
+		safelyAndSilently(() -> {
+			byte[] record = record(type, payload);
+			try (OutputStream stream = Files.newOutputStream(file, //
+					StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+				stream.write(record);
+			}
+			records++;
+		});
+	}
+
+	private byte[] record(byte type, Payload payload) throws IOException {
+		ByteArrayOutputStream content = new ByteArrayOutputStream();
+		try (DataOutputStream stream = new DataOutputStream(content)) {
+			payload.write(stream);
+		}
+		ByteArrayOutputStream record = new ByteArrayOutputStream(content.size() + header);
+		try (DataOutputStream stream = new DataOutputStream(record)) {
+			stream.writeByte(type);
+			stream.writeInt(content.size());
+			content.writeTo(stream);
+		}
+		return record.toByteArray();
+	}
+
+	private void rawCompact(Collection<GrantAcquisition> grants) throws IOException {
+		Path fresh = file.resolveSibling(file.getFileName() + ".tmp"); //$NON-NLS-1$
+		try (OutputStream stream = Files.newOutputStream(fresh)) {
 			for (GrantAcquisition grant : grants) {
-				stream.writeObject(grant);
+				stream.write(record(kept, payload -> write(grant, payload)));
 			}
-			stream.flush();
 		}
+		Files.move(fresh, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		records = grants.size();
 	}
 
-	private void rawRead(List<GrantAcquisition> grants) throws Exception {
-		try (ObjectInputStream stream = new ObjectInputStream(new FileInputStream(file.toFile()))) {
+	private void write(GrantAcquisition grant, DataOutputStream payload) throws IOException {
+		payload.writeUTF(grant.identifier());
+		payload.writeUTF(grant.grant());
+		payload.writeUTF(grant.feature());
+		payload.writeUTF(grant.user());
+		payload.writeLong(grant.created().getTime());
+	}
+
+	/**
+	 * Applies all the sound records, stopping at the first one that is cut off or
+	 * corrupt: grants of the records that precede it are kept, while it and all
+	 * the following ones are lost
+	 *
+	 * @return {@code true} if the log tail is damaged, say, by an interrupted
+	 *         append
+	 */
+	private boolean replay(Map<String, GrantAcquisition> grants) throws IOException {
+		records = 0;
+		ByteBuffer content = ByteBuffer.wrap(Files.readAllBytes(file));
+		while (content.hasRemaining()) {
+			int start = content.position();
+			if (content.remaining() < header) {
+				return damaged(start, "cut off"); //$NON-NLS-1$
+			}
+			int type = content.get();
+			int length = content.getInt();
+			if (length < 0 || length > content.remaining()) {
+				return damaged(start, String.format("of length %d, which is out of the log", length)); //$NON-NLS-1$
+			}
+			byte[] payload = new byte[length];
+			content.get(payload);
+			try {
+				apply(type, payload, grants);
+			} catch (IOException e) {
+				return damaged(start, e.getMessage());
+			}
+			records++;
+		}
+		return false;
+	}
+
+	private boolean damaged(int position, String reason) {
+		log.warn(String.format("Forsaken grants log [%s] is damaged at %d (record is %s) and is to be rewritten", //$NON-NLS-1$
+				file.toAbsolutePath(), position, reason));
+		return true;
+	}
+
+	private void apply(int type, byte[] payload, Map<String, GrantAcquisition> grants) throws IOException {
+		try (DataInputStream stream = new DataInputStream(new ByteArrayInputStream(payload))) {
+			if (type == kept) {
+				GrantAcquisition grant = new BaseGrantAcquisition(//
+						stream.readUTF(), stream.readUTF(), stream.readUTF(), stream.readUTF(),
+						new Date(stream.readLong()));
+				grants.putIfAbsent(grant.identifier(), grant);
+			} else if (type == forgotten) {
+				grants.remove(stream.readUTF());
+			} else {
+				throw new IOException(String.format("Unknown forsaken grants log record type %d", type)); //$NON-NLS-1$
+			}
+		}
+	}
+
+	private void rawReadLegacy(Map<String, GrantAcquisition> grants) throws Exception {
+		try (InputStream input = new FileInputStream(legacy.toFile());
+				ObjectInputStream stream = new ObjectInputStream(input)) {
 			int amount = stream.readInt();
 			for (int i = 0; i < amount; i++) {
-				grants.add((GrantAcquisition) stream.readObject());
+				GrantAcquisition grant = (GrantAcquisition) stream.readObject();
+				grants.putIfAbsent(grant.identifier(), grant);
 			}
 		}
 	}
@@ -82,8 +235,8 @@ final class Residence {
 		}
 	}
 
-	private boolean notWrittenYet() {
-		return !Files.exists(file) || !Files.isRegularFile(file);
+	private boolean written(Path target) {
+		return Files.exists(target) && Files.isRegularFile(target);
 	}
 
 	private void checkFile() {
@@ -123,4 +276,8 @@ final class Residence {
 	private interface Operation {
 		void run() throws Exception;
 	}
+
+	private interface Payload {
+		void write(DataOutputStream payload) throws IOException;
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 ArSysOp
+ * Copyright (c) 2022, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -13,55 +13,44 @@
 package org.eclipse.passage.lic.internal.base.access.storage;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.passage.lic.api.acquire.GrantAcquisition;
 
 /**
- * Stateful
+ * Stateful: grants indexed by identifier. Is guarded by the owning
+ * {@linkplain StoringGrantTraceService}.
  */
 final class Storage {
 
-	private final List<GrantAcquisition> grants = new ArrayList<>();
+	private final Map<String, GrantAcquisition> grants = new LinkedHashMap<>();
 
 	Storage(List<GrantAcquisition> initial) {
-		synchronized (this.grants) {
-			this.grants.addAll(initial);
-		}
+		initial.forEach(this::keep);
 	}
 
-	void keep(GrantAcquisition grant) {
-		synchronized (grants) {
-			if (notYetSpotted(grant)) {
-				grants.add(grant);
-			}
-		}
+	/**
+	 * @return {@code true} if the grant has not been kept yet
+	 */
+	boolean keep(GrantAcquisition grant) {
+		return grants.putIfAbsent(grant.identifier(), grant) == null;
 	}
 
-	void forget(GrantAcquisition grant) {
-		synchronized (grants) {
-			grants.remove(grant);
-		}
+	/**
+	 * @return {@code true} if the grant has been kept
+	 */
+	boolean forget(GrantAcquisition grant) {
+		return grants.remove(grant.identifier()) != null;
 	}
 
-	void forget(List<GrantAcquisition> bunch) {
-		synchronized (grants) {
-			grants.removeAll(bunch);
-		}
+	int size() {
+		return grants.size();
 	}
 
 	List<GrantAcquisition> grants() {
-		List<GrantAcquisition> all = new ArrayList<>();
-		synchronized (grants) {
-			all.addAll(grants);
-		}
-		return all;
-	}
-
-	private boolean notYetSpotted(GrantAcquisition grant) {
-		return grants.stream()//
-				.map(GrantAcquisition::identifier)//
-				.noneMatch(grant.identifier()::equals);
+		return new ArrayList<>(grants.values());
 	}
 
 }
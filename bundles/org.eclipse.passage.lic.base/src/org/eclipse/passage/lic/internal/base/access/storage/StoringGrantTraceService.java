@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 ArSysOp
+ * Copyright (c) 2022, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -13,6 +13,12 @@
 package org.eclipse.passage.lic.internal.base.access.storage;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 
 import org.eclipse.passage.lic.api.LicensedProduct;
@@ -20,38 +26,88 @@ import org.eclipse.passage.lic.api.acquire.GrantAcquisition;
 import org.eclipse.passage.lic.api.acquire.GrantsTraceService;
 import org.eclipse.passage.lic.api.acquire.LicenseAcquisitionServicesRegistry;
 
+/**
+ * <p>
+ * Each traced or forgotten grant costs a single small append to the
+ * {@linkplain Residence} log. The log is compacted by the {@code compaction}
+ * executor when it becomes considerably longer than the list of actual grants.
+ * </p>
+ */
 public final class StoringGrantTraceService implements GrantsTraceService {
 
+	private static final Executor shared = compaction();
+
 	private final Residence residence;
 	private final Storage storage;
 	private final Conduit conduit;
+	private final Executor compaction;
+	private final AtomicBoolean compacting = new AtomicBoolean();
 	private volatile boolean fresh = true;
 
 	public StoringGrantTraceService(Supplier<LicensedProduct> product, Supplier<Path> srotage,
 			Supplier<LicenseAcquisitionServicesRegistry> acquirers) {
+		this(product, srotage, acquirers, shared);
+	}
+
+	/**
+	 * @param compaction executor to compact the residence log on
+	 * @since 3.1
+	 */
+	public StoringGrantTraceService(Supplier<LicensedProduct> product, Supplier<Path> srotage,
+			Supplier<LicenseAcquisitionServicesRegistry> acquirers, Executor compaction) {
 		this.residence = new Residence(srotage);
 		this.storage = new Storage(residence.read());
 		this.conduit = new Conduit(product, acquirers);
+		this.compaction = compaction;
 	}
 
 	@Override
 	public synchronized void trace(GrantAcquisition grant) {
-		synchronized (storage) {
-			if (fresh) {
-				fresh = false;
-				storage.forget(conduit.release(storage.grants()));
+		if (fresh) {
+			fresh = false;
+			List<GrantAcquisition> released = conduit.release(storage.grants());
+			for (GrantAcquisition forsaken : released) {
+				storage.forget(forsaken);
+				residence.forgotten(forsaken.identifier());
 			}
-			storage.keep(grant);
-			residence.write(storage.grants());
 		}
+		if (storage.keep(grant)) {
+			residence.kept(grant);
+		}
+		compactIfOvergrown();
 	}
 
 	@Override
 	public synchronized void forget(GrantAcquisition grant) {
-		synchronized (storage) {
-			storage.forget(grant);
-			residence.write(storage.grants());
+		if (storage.forget(grant)) {
+			residence.forgotten(grant.identifier());
 		}
+		compactIfOvergrown();
+	}
+
+	private void compactIfOvergrown() {
+		if (residence.overgrown(storage.size()) && compacting.compareAndSet(false, true)) {
+			compaction.execute(this::compact);
+		}
+	}
+
+	private synchronized void compact() {
+		try {
+			residence.compact(storage.grants());
+		} finally {
+			compacting.set(false);
+		}
+	}
+
+	private static Executor compaction() {
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+				runnable -> {
+					Thread thread = new Thread(runnable, "passage-forsaken-grants-compaction"); //$NON-NLS-1$
+					thread.setDaemon(true);
+					return thread;
+				});
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
 	}
 
 }
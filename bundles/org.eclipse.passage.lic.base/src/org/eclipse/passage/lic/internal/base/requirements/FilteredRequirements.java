@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 ArSysOp
+ * Copyright (c) 2022, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -43,7 +43,16 @@ public final class FilteredRequirements implements ResolvedRequirements {
 
 	@Override
 	public ServiceInvocationResult<Collection<Requirement>> all() {
-		ServiceInvocationResult<Collection<Requirement>> all = delegate.all();
+		return filtered(delegate.all());
+	}
+
+	@Override
+	public ServiceInvocationResult<Collection<Requirement>> all(String feature) {
+		return filtered(delegate.all(feature));
+	}
+
+	private ServiceInvocationResult<Collection<Requirement>> filtered(
+			ServiceInvocationResult<Collection<Requirement>> all) {
 		Optional<Collection<Requirement>> some = all.data().map(this::filtered);
 		return new BaseServiceInvocationResult<>(all.diagnostic(), some);
 	}
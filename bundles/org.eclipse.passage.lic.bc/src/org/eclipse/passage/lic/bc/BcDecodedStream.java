@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2021 ArSysOp
+ * Copyright (c) 2020, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -12,7 +12,6 @@
  *******************************************************************************/
 package org.eclipse.passage.lic.bc;
 
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -26,41 +25,66 @@ import org.bouncycastle.openpgp.PGPObjectFactory;
 import org.bouncycastle.openpgp.PGPOnePassSignature;
 import org.bouncycastle.openpgp.PGPOnePassSignatureList;
 import org.bouncycastle.openpgp.PGPPublicKey;
+import org.bouncycastle.openpgp.PGPPublicKeyRingCollection;
 import org.bouncycastle.openpgp.PGPSignature;
 import org.bouncycastle.openpgp.PGPSignatureList;
 import org.bouncycastle.openpgp.PGPUtil;
-import org.bouncycastle.openpgp.bc.BcPGPPublicKeyRingCollection;
 import org.bouncycastle.openpgp.jcajce.JcaPGPObjectFactory;
-import org.bouncycastle.openpgp.operator.jcajce.JcaPGPContentVerifierBuilderProvider;
 import org.eclipse.passage.lic.api.LicensedProduct;
 import org.eclipse.passage.lic.api.LicensingException;
 import org.eclipse.passage.lic.api.io.DigestExpectation;
 import org.eclipse.passage.lic.internal.bc.i18n.BcMessages;
 
+/**
+ * <p>
+ * Decodes and verifies signed content block by block.
+ * </p>
+ * <p>
+ * By default the decoded content is kept aside until the signature is
+ * verified, and only then gets to the {@code output}. In {@code streaming} mode
+ * content is written to the {@code output} as soon as it is decoded, and
+ * signature mismatch is reported by {@linkplain LicensingException} at the
+ * end: the caller is responsible for discarding all the output written by then.
+ * </p>
+ */
 final class BcDecodedStream {
 
+	private static final int block = 8192;
+
 	private final LicensedProduct product;
 	private final InputStream input;
 	private final OutputStream output;
+	private final boolean streaming;
+	private final PublicKeyRings rings = new PublicKeyRings();
 
-	BcDecodedStream(LicensedProduct product, InputStream input, OutputStream output) {
+	BcDecodedStream(LicensedProduct product, InputStream input, OutputStream output, boolean streaming) {
 		this.product = product;
 		this.input = input;
 		this.output = output;
+		this.streaming = streaming;
+	}
+
+	BcDecodedStream(LicensedProduct product, InputStream input, OutputStream output) {
+		this(product, input, output, false);
 	}
 
 	void produce(InputStream publicKeyRing, DigestExpectation digest) throws LicensingException {
-		byte[] ring = ring(publicKeyRing, digest);
+		byte[] ring = publicKeyRing(publicKeyRing);
+		byte[] fingerprint = new BcDigest(ring).get();
+		verifyKey(digest, fingerprint);
 		try (//
 				InputStream decodedInput = PGPUtil.getDecoderStream(input);
 				InputStream compressed = compressedData(decodedInput).getDataStream()) {
 			PGPObjectFactory factory = new JcaPGPObjectFactory(compressed);
 			PGPOnePassSignature signature = signature(factory);
-			try (InputStream literal = literalDataStream(factory);
-					InputStream decoder = PGPUtil.getDecoderStream(new ByteArrayInputStream(ring))) {
-				PGPPublicKey decodeKey = decodeKey(new BcPGPPublicKeyRingCollection(decoder), signature.getKeyID());
-				signature.init(new JcaPGPContentVerifierBuilderProvider(), decodeKey);
-				writeVerifiedDecodedOutput(literal, signature, factory);
+			try (InputStream literal = literalDataStream(factory)) {
+				PGPPublicKey decodeKey = decodeKey(rings.collection(ring, fingerprint), signature.getKeyID());
+				signature.init(rings.verifiers(), decodeKey);
+				if (streaming) {
+					writeDecodedOutput(literal, signature, factory);
+				} else {
+					writeVerifiedDecodedOutput(literal, signature, factory);
+				}
 			}
 		} catch (Exception e) {
 			throw new LicensingException( //
@@ -72,17 +96,31 @@ final class BcDecodedStream {
 	private void writeVerifiedDecodedOutput(InputStream literal, PGPOnePassSignature signature,
 			PGPObjectFactory factory) throws Exception {
 		ByteArrayOutputStream untrusted = new ByteArrayOutputStream();
-		int ch;
-		while ((ch = literal.read()) >= 0) {
-			signature.update((byte) ch);
-			untrusted.write(ch);
-		}
+		copy(literal, signature, untrusted);
 		if (signature.verify(pairSignature(factory))) {
-			output.write(untrusted.toByteArray()); // verified now
+			untrusted.writeTo(output); // verified now
+		}
+	}
+
+	private void writeDecodedOutput(InputStream literal, PGPOnePassSignature signature, PGPObjectFactory factory)
+			throws Exception {
+		copy(literal, signature, output);
+		if (!signature.verify(pairSignature(factory))) {
+			throw new IOException(//
+					String.format(BcMessages.getString("BcStreamCodec_decode_error_signature"), product)); //$NON-NLS-1$
+		}
+	}
+
+	private void copy(InputStream literal, PGPOnePassSignature signature, OutputStream target) throws IOException {
+		byte[] buffer = new byte[block];
+		int read;
+		while ((read = literal.read(buffer)) >= 0) {
+			signature.update(buffer, 0, read);
+			target.write(buffer, 0, read);
 		}
 	}
 
-	private PGPPublicKey decodeKey(BcPGPPublicKeyRingCollection rings, long id) throws Exception {
+	private PGPPublicKey decodeKey(PGPPublicKeyRingCollection rings, long id) throws Exception {
 		Optional<PGPPublicKey> key = Optional.ofNullable(rings.getPublicKey(id));
 		if (!key.isPresent()) {
 			throw new IOException(//
@@ -113,30 +151,20 @@ final class BcDecodedStream {
 		return compressed.get();
 	}
 
-	private byte[] ring(InputStream publicKeyRing, DigestExpectation digest) throws LicensingException {
-		byte[] ring = publicKeyRing(publicKeyRing);
-		verifyKey(digest, ring);
-		return ring;
-	}
-
 	private byte[] publicKeyRing(InputStream key) throws LicensingException {
-		try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-			int chk;
-			while ((chk = key.read()) >= 0) {
-				baos.write(chk);
-			}
-			return baos.toByteArray();
+		try {
+			return key.readAllBytes();
 		} catch (Exception e) {
 			throw new LicensingException(//
 					String.format(BcMessages.getString("BcStreamCodec_encode_error_public_key"), product)); //$NON-NLS-1$
 		}
 	}
 
-	private void verifyKey(DigestExpectation digest, byte[] key) throws LicensingException {
+	private void verifyKey(DigestExpectation digest, byte[] fingerprint) throws LicensingException {
 		if (!digest.expected()) {
 			return;
 		}
-		if (Objects.deepEquals(new BcDigest(key).get(), digest.value())) {
+		if (Objects.deepEquals(fingerprint, digest.value())) {
 			return;
 		}
 		throw new LicensingException(//
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2021 ArSysOp
+ * Copyright (c) 2020, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -38,17 +38,41 @@ public final class BcStreamCodec implements StreamCodec {
 	private final Supplier<LicensedProduct> product;
 	private final EncryptionAlgorithm algorithm;
 	private final EncryptionKeySize keySize;
+	private final boolean streaming;
 
-	public BcStreamCodec(Supplier<LicensedProduct> product, EncryptionAlgorithm algorithm, EncryptionKeySize keySize) {
+	private BcStreamCodec(Supplier<LicensedProduct> product, EncryptionAlgorithm algorithm, EncryptionKeySize keySize,
+			boolean streaming) {
 		this.product = product;
 		this.algorithm = algorithm;
 		this.keySize = keySize;
+		this.streaming = streaming;
+	}
+
+	public BcStreamCodec(Supplier<LicensedProduct> product, EncryptionAlgorithm algorithm, EncryptionKeySize keySize) {
+		this(product, algorithm, keySize, false);
 	}
 
 	public BcStreamCodec(Supplier<LicensedProduct> product) {
 		this(product, new EncryptionAlgorithm.Default(), new EncryptionKeySize.Default());
 	}
 
+	/**
+	 * <p>
+	 * Codec of the same configuration that does not keep decoded content aside
+	 * until its signature is verified, but writes it to the output right away.
+	 * </p>
+	 * <p>
+	 * Signature mismatch is reported with {@linkplain LicensingException} after
+	 * all the content is written, so the caller must discard the output in this
+	 * case.
+	 * </p>
+	 * 
+	 * @since 3.1
+	 */
+	public BcStreamCodec streaming() {
+		return new BcStreamCodec(product, algorithm, keySize, true);
+	}
+
 	@Override
 	public LicensedProduct id() {
 		return product.get();
@@ -99,7 +123,7 @@ public final class BcStreamCodec implements StreamCodec {
 		Objects.requireNonNull(output, "BcStreamCodec::decode::output"); //$NON-NLS-1$
 		Objects.requireNonNull(key, "BcStreamCodec::decode::key"); //$NON-NLS-1$ ;
 		Objects.requireNonNull(digest, "BcStreamCodec::decode::digest"); //$NON-NLS-1$
-		new BcDecodedStream(product.get(), input, output)//
+		new BcDecodedStream(product.get(), input, output, streaming)//
 				.produce(key, digest);
 	}
 
@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lic.bc;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.bouncycastle.openpgp.PGPException;
+import org.bouncycastle.openpgp.PGPPublicKeyRingCollection;
+import org.bouncycastle.openpgp.PGPUtil;
+import org.bouncycastle.openpgp.bc.BcPGPPublicKeyRingCollection;
+import org.bouncycastle.openpgp.operator.PGPContentVerifierBuilderProvider;
+import org.bouncycastle.openpgp.operator.jcajce.JcaPGPContentVerifierBuilderProvider;
+import org.eclipse.passage.lic.internal.base.BoundedCache;
+
+/**
+ * <p>
+ * Keeps public key ring collections parsed, indexed by the
+ * {@linkplain BcDigest digest} of the ring raw content, thus each decoding with
+ * the same product key does not pay for armor decoding and ring parsing again.
+ * </p>
+ * <p>
+ * Parsed collections are only read from, so they are shared between threads
+ * together with the single content verifier builder provider.
+ * </p>
+ */
+@SuppressWarnings("restriction")
+final class PublicKeyRings {
+
+	private static final BoundedCache<Key, PGPPublicKeyRingCollection> rings = new BoundedCache<>(32);
+	private static final PGPContentVerifierBuilderProvider verifiers = new JcaPGPContentVerifierBuilderProvider();
+
+	PGPContentVerifierBuilderProvider verifiers() {
+		return verifiers;
+	}
+
+	/**
+	 * @param ring   raw (possibly armored) public key ring content
+	 * @param digest {@linkplain BcDigest} of the {@code ring}
+	 */
+	PGPPublicKeyRingCollection collection(byte[] ring, byte[] digest) throws IOException, PGPException {
+		Key key = new Key(digest);
+		Optional<PGPPublicKeyRingCollection> cached = rings.get(key);
+		if (cached.isPresent()) {
+			return cached.get();
+		}
+		return rings.put(key, parsed(ring));
+	}
+
+	private PGPPublicKeyRingCollection parsed(byte[] ring) throws IOException, PGPException {
+		try (InputStream decoder = PGPUtil.getDecoderStream(new ByteArrayInputStream(ring))) {
+			return new BcPGPPublicKeyRingCollection(decoder);
+		}
+	}
+
+	private static final class Key {
+
+		private final byte[] digest;
+
+		Key(byte[] digest) {
+			this.digest = digest;
+		}
+
+		@Override
+		public int hashCode() {
+			return Arrays.hashCode(digest);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			return Arrays.equals(digest, ((Key) obj).digest);
+		}
+
+	}
+
+}
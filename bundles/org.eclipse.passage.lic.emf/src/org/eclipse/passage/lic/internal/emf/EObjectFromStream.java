@@ -15,6 +15,7 @@ package org.eclipse.passage.lic.internal.emf;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -43,6 +44,18 @@ public abstract class EObjectFromStream<T extends EObject> {
 		return from(only(content(options)));
 	}
 
+	/**
+	 * Reads a stream that may keep several (or none) root objects, all of the
+	 * {@code expected} type
+	 */
+	public List<T> all(Map<?, ?> options) throws LicensingException {
+		List<T> all = new ArrayList<>();
+		for (EObject root : content(options)) {
+			all.add(from(root));
+		}
+		return all;
+	}
+
 	protected abstract InputStream stream() throws IOException;
 
 	private List<EObject> content(Map<?, ?> options) throws LicensingException {
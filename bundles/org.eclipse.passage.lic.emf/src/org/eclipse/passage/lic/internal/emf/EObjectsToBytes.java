@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lic.internal.emf;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.passage.lic.api.LicensingException;
+import org.eclipse.passage.lic.internal.emf.i18n.EmfMessages;
+
+/**
+ * Several root objects of the same {@code type} stored in a single resource
+ */
+public final class EObjectsToBytes {
+
+	private final Collection<? extends EObject> sources;
+	private final EClass type;
+
+	public EObjectsToBytes(Collection<? extends EObject> sources, EClass type) {
+		this.sources = Objects.requireNonNull(sources, getClass().getSimpleName() + "::sources"); //$NON-NLS-1$
+		this.type = Objects.requireNonNull(type, getClass().getSimpleName() + "::type"); //$NON-NLS-1$
+	}
+
+	public byte[] get() throws LicensingException {
+		return get(Collections.emptyMap());
+	}
+
+	public byte[] get(Map<?, ?> options) throws LicensingException {
+		Resource resource = new BlindResource(type).get();
+		resource.getContents().addAll(sources);
+		try (ByteArrayOutputStream stream = new ByteArrayOutputStream()) {
+			resource.save(stream, options);
+			return stream.toByteArray();
+		} catch (IOException e) {
+			throw new LicensingException(EmfMessages.EObjectToBytes_failure, e);
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 ArSysOp
+ * Copyright (c) 2021, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -12,11 +12,13 @@
  *******************************************************************************/
 package org.eclipse.passage.lic.equinox;
 
+import java.time.Duration;
 import java.util.Optional;
 import java.util.function.Consumer;
 
 import org.eclipse.passage.lic.api.ServiceInvocationResult;
 import org.eclipse.passage.lic.api.access.GrantLockAttempt;
+import org.eclipse.passage.lic.base.PooledPassage;
 
 /**
  * @since 2.1
@@ -51,7 +53,7 @@ public abstract class LicensedRunnable implements Runnable {
 			}
 		} finally {
 			response.flatMap(ServiceInvocationResult::data)//
-					.ifPresent(new EquinoxPassage()::releaseLicense);
+					.ifPresent(this::releaseLicense);
 		}
 	}
 
@@ -65,6 +67,13 @@ public abstract class LicensedRunnable implements Runnable {
 	@SuppressWarnings("hiding")
 	protected abstract ServiceInvocationResult<GrantLockAttempt> acquireLicense(String feature);
 
+	/**
+	 * @since 3.1
+	 */
+	protected ServiceInvocationResult<Boolean> releaseLicense(GrantLockAttempt lock) {
+		return new EquinoxPassage().releaseLicense(lock);
+	}
+
 	public static final class Default extends LicensedRunnable {
 
 		public Default(String feature, Runnable action) {
@@ -82,4 +91,60 @@ public abstract class LicensedRunnable implements Runnable {
 
 	}
 
+	/**
+	 * <p>
+	 * Takes grants from the shared {@linkplain PooledPassage grant pool}: a grant
+	 * released by a runnable is kept warm for the next one of the same feature
+	 * during the idle time, 30 seconds by default. The idle time is defined in
+	 * milliseconds by {@code passage.grant.pool.idle} system property.
+	 * </p>
+	 * <p>
+	 * Grants parked in the pool are released on idle timeout or by
+	 * {@linkplain #shutdown()}, which is to be called on application stop.
+	 * </p>
+	 * 
+	 * @since 3.1
+	 */
+	public static final class Pooled extends LicensedRunnable {
+
+		private static PooledPassage pool;
+
+		public Pooled(String feature, Runnable action) {
+			super(feature, action);
+		}
+
+		public Pooled(String feature, Runnable action, Consumer<ServiceInvocationResult<GrantLockAttempt>> fallback) {
+			super(feature, action, fallback);
+		}
+
+		@Override
+		protected ServiceInvocationResult<GrantLockAttempt> acquireLicense(String feature) {
+			return pool().acquireLicense(feature);
+		}
+
+		@Override
+		protected ServiceInvocationResult<Boolean> releaseLicense(GrantLockAttempt lock) {
+			return pool().releaseLicense(lock);
+		}
+
+		/**
+		 * Releases all the grants parked in the shared pool
+		 */
+		public static synchronized void shutdown() {
+			if (pool != null) {
+				pool.close();
+				pool = null;
+			}
+		}
+
+		private static synchronized PooledPassage pool() {
+			if (pool == null) {
+				pool = new PooledPassage(new EquinoxPassage(),
+						Duration.ofMillis(Long.getLong("passage.grant.pool.idle", 30_000))); //$NON-NLS-1$
+			}
+			return pool;
+		}
+
+	}
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2021 ArSysOp
+ * Copyright (c) 2020, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -12,9 +12,7 @@
  *******************************************************************************/
 package org.eclipse.passage.lic.equinox.requirements;
 
-import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.Optional;
 
 import org.eclipse.passage.lic.api.ServiceInvocationResult;
@@ -23,9 +21,9 @@ import org.eclipse.passage.lic.api.registry.StringServiceId;
 import org.eclipse.passage.lic.api.requirements.Requirement;
 import org.eclipse.passage.lic.api.requirements.ResolvedRequirements;
 import org.eclipse.passage.lic.base.BaseServiceInvocationResult;
-import org.eclipse.passage.lic.base.SumOfCollections;
 import org.eclipse.passage.lic.base.diagnostic.code.ServiceCannotOperate;
 import org.eclipse.passage.lic.internal.equinox.i18n.EquinoxMessages;
+import org.eclipse.passage.lic.internal.equinox.requirements.RequirementIndex;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.FrameworkUtil;
 
@@ -35,6 +33,10 @@ import org.osgi.framework.FrameworkUtil;
  * {@linkplain Requirement} declarations in an OSGi-bundles meta information:
  * among <i>Provide-Capability</i> declarations.
  * </p>
+ * <p>
+ * Bundles are not scanned on each call: declarations are kept in a
+ * {@linkplain RequirementIndex} that follows bundle lifecycle.
+ * </p>
  * 
  * @see Requirement
  * @see ResolvedRequirements
@@ -56,24 +58,26 @@ public final class BundleRequirements implements ResolvedRequirements {
 	@Override
 	public ServiceInvocationResult<Collection<Requirement>> all() {
 		if (sabotage()) {
-			return new BaseServiceInvocationResult<Collection<Requirement>>(//
-					new Trouble(new ServiceCannotOperate(), EquinoxMessages.BundleRequirements_no_context));
+			return noContext();
+		}
+		return RequirementIndex.of(context.get()).all();
+	}
+
+	@Override
+	public ServiceInvocationResult<Collection<Requirement>> all(String feature) {
+		if (sabotage()) {
+			return noContext();
 		}
-		return resolve();
+		return RequirementIndex.of(context.get()).feature(feature);
 	}
 
 	private boolean sabotage() {
 		return !context.isPresent();
 	}
 
-	private ServiceInvocationResult<Collection<Requirement>> resolve() {
-		return Arrays.stream(context.get().getBundles())//
-				.map(RequirementsFromBundle::new)//
-				.map(RequirementsFromBundle::get) //
-				.filter(Optional::isPresent)//
-				.map(Optional::get)//
-				.reduce(new BaseServiceInvocationResult.Sum<>(new SumOfCollections<Requirement>()))//
-				.orElse(new BaseServiceInvocationResult<>(Collections.emptyList()));
+	private ServiceInvocationResult<Collection<Requirement>> noContext() {
+		return new BaseServiceInvocationResult<Collection<Requirement>>(//
+				new Trouble(new ServiceCannotOperate(), EquinoxMessages.BundleRequirements_no_context));
 	}
 
 }
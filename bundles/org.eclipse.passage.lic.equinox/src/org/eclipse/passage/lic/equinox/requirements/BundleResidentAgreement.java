@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 ArSysOp
+ * Copyright (c) 2021, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -15,6 +15,7 @@ package org.eclipse.passage.lic.equinox.requirements;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -29,10 +30,12 @@ public final class BundleResidentAgreement implements ResolvedAgreement {
 
 	private final Bundle bundle;
 	private final String path;
+	private final long revision;
 
 	public BundleResidentAgreement(Bundle bundle, String path) {
 		this.bundle = bundle;
 		this.path = path;
+		this.revision = bundle.getLastModified();
 	}
 
 	@Override
@@ -45,6 +48,31 @@ public final class BundleResidentAgreement implements ResolvedAgreement {
 		return path;
 	}
 
+	/**
+	 * Bundle resources do not change until the bundle is updated, and an updated
+	 * bundle has another {@code revision}
+	 */
+	@Override
+	public boolean stable() {
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(bundle.getBundleId(), path, revision);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (!(obj instanceof BundleResidentAgreement)) {
+			return false;
+		}
+		BundleResidentAgreement other = (BundleResidentAgreement) obj;
+		return bundle.getBundleId() == other.bundle.getBundleId() //
+				&& path.equals(other.path) //
+				&& revision == other.revision;
+	}
+
 	final static class Pack implements Supplier<List<ResolvedAgreement>> {
 
 		private final Bundle bundle;
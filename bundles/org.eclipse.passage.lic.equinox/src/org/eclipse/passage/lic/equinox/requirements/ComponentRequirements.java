@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2021 ArSysOp
+ * Copyright (c) 2020, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -24,13 +24,25 @@ import org.eclipse.passage.lic.api.requirements.ResolvedRequirements;
 import org.eclipse.passage.lic.base.BaseServiceInvocationResult;
 import org.eclipse.passage.lic.base.diagnostic.code.ServiceCannotOperate;
 import org.eclipse.passage.lic.internal.equinox.i18n.EquinoxMessages;
+import org.eclipse.passage.lic.internal.equinox.requirements.IndexedRequirements;
+import org.eclipse.passage.lic.internal.equinox.requirements.RequirementIndex;
 import org.osgi.framework.BundleContext;
+import org.osgi.framework.Constants;
 import org.osgi.framework.FrameworkUtil;
+import org.osgi.framework.ServiceReference;
 import org.osgi.service.component.runtime.ServiceComponentRuntime;
 
 /**
+ * <p>
  * Looks for licensing {@linkplain Requirement} declarations among
  * {@code OSGi-component}s.
+ * </p>
+ * <p>
+ * Components are not looked through on each call: the requirements found are
+ * kept indexed by feature until either the component runtime reports a change
+ * (its service {@code service.changecount} property moves on) or the set of
+ * bundles changes.
+ * </p>
  * 
  * @see Requirement
  * @see ResolvedRequirements
@@ -39,17 +51,19 @@ import org.osgi.service.component.runtime.ServiceComponentRuntime;
 public final class ComponentRequirements implements ResolvedRequirements {
 
 	private final Optional<BundleContext> context;
+	private final Optional<ServiceReference<ServiceComponentRuntime>> reference;
 	private final Optional<ServiceComponentRuntime> runtime;
+	private volatile Snapshot snapshot = new Snapshot(-1, -1, Optional.empty());
 
 	public ComponentRequirements() {
 		context = Optional.of(FrameworkUtil.getBundle(getClass()).getBundleContext());
+		reference = Optional.ofNullable(context.get().getServiceReference(ServiceComponentRuntime.class));
 		runtime = retrieveRuntime();
 	}
 
 	private Optional<ServiceComponentRuntime> retrieveRuntime() {
 		BundleContext bundle = context.get();
-		return Optional.ofNullable(bundle.getServiceReference(ServiceComponentRuntime.class))
-				.map(ref -> bundle.getService(ref));
+		return reference.map(ref -> bundle.getService(ref));
 	}
 
 	@Override
@@ -65,7 +79,42 @@ public final class ComponentRequirements implements ResolvedRequirements {
 		if (!context.isPresent()) {
 			return noWay(BundleContext.class.getSimpleName());
 		}
-		return new BaseServiceInvocationResult<Collection<Requirement>>(resolve());
+		return indexed().all();
+	}
+
+	@Override
+	public ServiceInvocationResult<Collection<Requirement>> all(String feature) {
+		if (!runtime.isPresent()) {
+			return noWay(ServiceComponentRuntime.class.getSimpleName());
+		}
+		if (!context.isPresent()) {
+			return noWay(BundleContext.class.getSimpleName());
+		}
+		return indexed().feature(feature);
+	}
+
+	private IndexedRequirements indexed() {
+		Optional<Long> changes = changes();
+		long bundles = RequirementIndex.of(context.get()).generation();
+		Snapshot current = snapshot;
+		if (changes.isPresent() && current.actual(changes.get(), bundles)) {
+			return current.index.get();
+		}
+		IndexedRequirements index = new IndexedRequirements(new BaseServiceInvocationResult<>(resolve()));
+		if (changes.isPresent()) {
+			snapshot = new Snapshot(changes.get(), bundles, Optional.of(index));
+		}
+		return index;
+	}
+
+	/**
+	 * Runtime that does not count its changes cannot be trusted with caching
+	 */
+	private Optional<Long> changes() {
+		return reference//
+				.map(ref -> ref.getProperty(Constants.SERVICE_CHANGECOUNT))//
+				.filter(Long.class::isInstance)//
+				.map(Long.class::cast);
 	}
 
 	private ServiceInvocationResult<Collection<Requirement>> noWay(String resource) {
@@ -83,4 +132,22 @@ public final class ComponentRequirements implements ResolvedRequirements {
 				.collect(Collectors.toList());
 	}
 
+	private static final class Snapshot {
+
+		private final long changes;
+		private final long bundles;
+		private final Optional<IndexedRequirements> index;
+
+		Snapshot(long changes, long bundles, Optional<IndexedRequirements> index) {
+			this.changes = changes;
+			this.bundles = bundles;
+			this.index = index;
+		}
+
+		boolean actual(long changes, long bundles) {
+			return index.isPresent() && this.changes == changes && this.bundles == bundles;
+		}
+
+	}
+
 }
@@ -37,7 +37,7 @@ import org.osgi.framework.wiring.BundleWiring;
  * @see RequirementFromCapability
  * @see BundleRequirements
  */
-final class RequirementsFromBundle extends BaseNamedData<ServiceInvocationResult<Collection<Requirement>>> {
+public final class RequirementsFromBundle extends BaseNamedData<ServiceInvocationResult<Collection<Requirement>>> {
 
 	public RequirementsFromBundle(Bundle bundle) {
 		super(key -> new FromBundle(bundle).read(key));
@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lic.internal.equinox.access;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.eclipse.passage.lic.base.io.LicensingFolder;
+import org.eclipse.passage.lic.base.io.PathFromLocalUrl;
+import org.eclipse.passage.lic.internal.base.access.CycleResults;
+import org.osgi.framework.BundleActivator;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.BundleEvent;
+import org.osgi.framework.SynchronousBundleListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Makes remembered access cycle outcomes {@linkplain CycleResults#invalidate()
+ * forgotten} each time a bundle comes or goes: licensing requirements are
+ * declared by bundles. Also makes licenses of the installation folder
+ * {@linkplain CycleResults#watch(Path) looked after}. Listens to the framework
+ * while the bundle is active.
+ */
+public final class BundleChanges implements BundleActivator, SynchronousBundleListener {
+
+	private final Logger log = LoggerFactory.getLogger(getClass());
+	private Optional<Path> installation = Optional.empty();
+
+	@Override
+	public void start(BundleContext context) {
+		context.addBundleListener(this);
+		installation = installation(context);
+		installation.ifPresent(CycleResults::watch);
+	}
+
+	@Override
+	public void stop(BundleContext context) {
+		context.removeBundleListener(this);
+		installation.ifPresent(CycleResults::unwatch);
+		installation = Optional.empty();
+	}
+
+	private Optional<Path> installation(BundleContext context) {
+		String area = context.getProperty("osgi.install.area"); //$NON-NLS-1$
+		if (area == null) {
+			return Optional.empty();
+		}
+		try {
+			return Optional.of(new LicensingFolder(new PathFromLocalUrl(new URL(area))).get());
+		} catch (MalformedURLException e) {
+			log.warn(String.format("Installation area %s is not watched for licenses", area), e); //$NON-NLS-1$
+			return Optional.empty();
+		}
+	}
+
+	@Override
+	public void bundleChanged(BundleEvent event) {
+		switch (event.getType()) {
+			case BundleEvent.INSTALLED:
+			case BundleEvent.UNINSTALLED:
+			case BundleEvent.RESOLVED:
+			case BundleEvent.UNRESOLVED:
+			case BundleEvent.UPDATED:
+				CycleResults.invalidate();
+				break;
+			default:
+				break;
+		}
+	}
+
+}
@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lic.internal.equinox.requirements;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.passage.lic.api.ServiceInvocationResult;
+import org.eclipse.passage.lic.api.diagnostic.Diagnostic;
+import org.eclipse.passage.lic.api.requirements.Requirement;
+import org.eclipse.passage.lic.base.BaseServiceInvocationResult;
+
+/**
+ * Immutable set of resolved requirements indexed by feature identifier. The
+ * diagnostic of the resolution accompanies each answer.
+ */
+public final class IndexedRequirements {
+
+	private final Diagnostic diagnostic;
+	private final List<Requirement> all;
+	private final Map<String, List<Requirement>> features;
+
+	public IndexedRequirements(ServiceInvocationResult<Collection<Requirement>> resolved) {
+		this.diagnostic = resolved.diagnostic();
+		this.all = Collections.unmodifiableList(new ArrayList<>(resolved.data().orElse(Collections.emptyList())));
+		this.features = index(all);
+	}
+
+	public ServiceInvocationResult<Collection<Requirement>> all() {
+		return new BaseServiceInvocationResult<>(diagnostic, all);
+	}
+
+	public ServiceInvocationResult<Collection<Requirement>> feature(String feature) {
+		return new BaseServiceInvocationResult<>(diagnostic,
+				features.getOrDefault(feature, Collections.emptyList()));
+	}
+
+	private Map<String, List<Requirement>> index(List<Requirement> requirements) {
+		Map<String, List<Requirement>> index = new HashMap<>();
+		for (Requirement requirement : requirements) {
+			index.computeIfAbsent(requirement.feature().identifier(), id -> new ArrayList<>()).add(requirement);
+		}
+		index.replaceAll((feature, list) -> Collections.unmodifiableList(list));
+		return index;
+	}
+
+}
@@ -0,0 +1,179 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lic.internal.equinox.requirements;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.passage.lic.api.ServiceInvocationResult;
+import org.eclipse.passage.lic.api.requirements.Requirement;
+import org.eclipse.passage.lic.base.BaseServiceInvocationResult;
+import org.eclipse.passage.lic.base.SumOfCollections;
+import org.eclipse.passage.lic.equinox.requirements.RequirementsFromBundle;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.BundleEvent;
+import org.osgi.framework.SynchronousBundleListener;
+import org.osgi.util.tracker.BundleTracker;
+import org.osgi.util.tracker.BundleTrackerCustomizer;
+
+/**
+ * <p>
+ * Licensing requirements declared by capabilities of all the bundles of a
+ * framework, indexed by feature identifier.
+ * </p>
+ * <p>
+ * Each bundle is read once, when the index is opened or when the bundle
+ * appears, and then only if its wiring changes: the index is kept in line
+ * with the framework by a {@linkplain BundleTracker}. Thus requirements of a
+ * feature are obtained with a map look up, not with a scan of all the bundles.
+ * </p>
+ * <p>
+ * A shared index is closed and forgotten as soon as the bundle of its context
+ * stops.
+ * </p>
+ */
+public final class RequirementIndex {
+
+	private static final Map<Long, RequirementIndex> indices = new HashMap<>();
+	private static final int states = Bundle.INSTALLED | Bundle.RESOLVED | Bundle.STARTING | Bundle.ACTIVE
+			| Bundle.STOPPING;
+
+	private final BundleTracker<Bundle> tracker;
+	private final Map<Bundle, ServiceInvocationResult<Collection<Requirement>>> bundles = new ConcurrentHashMap<>();
+	private final AtomicLong generation = new AtomicLong();
+	private volatile Snapshot snapshot = new Snapshot(-1, Optional.empty());
+
+	public RequirementIndex(BundleContext context) {
+		Objects.requireNonNull(context, "RequirementIndex::context"); //$NON-NLS-1$
+		this.tracker = new BundleTracker<>(context, states, new Reader());
+	}
+
+	/**
+	 * The index shared by all the resolvers of the given {@code context}, opened
+	 * on the first demand
+	 */
+	public static RequirementIndex of(BundleContext context) {
+		long owner = context.getBundle().getBundleId();
+		synchronized (indices) {
+			return indices.computeIfAbsent(owner, any -> shared(context, owner));
+		}
+	}
+
+	private static RequirementIndex shared(BundleContext context, long owner) {
+		RequirementIndex index = new RequirementIndex(context);
+		context.addBundleListener((SynchronousBundleListener) event -> {
+			if (event.getType() == BundleEvent.STOPPING && event.getBundle().getBundleId() == owner) {
+				synchronized (indices) {
+					indices.remove(owner, index);
+				}
+				index.close();
+			}
+		});
+		return index.open();
+	}
+
+	public RequirementIndex open() {
+		tracker.open();
+		return this;
+	}
+
+	public void close() {
+		tracker.close();
+	}
+
+	public ServiceInvocationResult<Collection<Requirement>> all() {
+		return indexed().all();
+	}
+
+	public ServiceInvocationResult<Collection<Requirement>> feature(String feature) {
+		return indexed().feature(feature);
+	}
+
+	/**
+	 * Changes each time a bundle comes, goes or gets rewired
+	 */
+	public long generation() {
+		return generation.get();
+	}
+
+	private IndexedRequirements indexed() {
+		Snapshot current = snapshot;
+		long actual = generation.get();
+		if (current.generation == actual && current.index.isPresent()) {
+			return current.index.get();
+		}
+		IndexedRequirements index = new IndexedRequirements(bundles.values().stream()//
+				.reduce(new BaseServiceInvocationResult.Sum<>(new SumOfCollections<Requirement>()))//
+				.orElse(new BaseServiceInvocationResult<>(Collections.emptyList())));
+		snapshot = new Snapshot(actual, Optional.of(index));
+		return index;
+	}
+
+	private void read(Bundle bundle) {
+		bundles.put(bundle, new RequirementsFromBundle(bundle).get()//
+				.orElse(new BaseServiceInvocationResult<>(Collections.emptyList())));
+		generation.incrementAndGet();
+	}
+
+	private final class Reader implements BundleTrackerCustomizer<Bundle> {
+
+		@Override
+		public Bundle addingBundle(Bundle bundle, BundleEvent event) {
+			read(bundle);
+			return bundle;
+		}
+
+		@Override
+		public void modifiedBundle(Bundle bundle, BundleEvent event, Bundle object) {
+			if (event == null) {
+				return;
+			}
+			switch (event.getType()) {
+				case BundleEvent.RESOLVED:
+				case BundleEvent.UNRESOLVED:
+				case BundleEvent.UPDATED:
+					read(bundle);
+					break;
+				default:
+					break;
+			}
+		}
+
+		@Override
+		public void removedBundle(Bundle bundle, BundleEvent event, Bundle object) {
+			bundles.remove(bundle);
+			generation.incrementAndGet();
+		}
+
+	}
+
+	private static final class Snapshot {
+
+		private final long generation;
+		private final Optional<IndexedRequirements> index;
+
+		Snapshot(long generation, Optional<IndexedRequirements> index) {
+			this.generation = generation;
+			this.index = index;
+		}
+
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 ArSysOp
+ * Copyright (c) 2021, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -27,7 +27,7 @@ import org.eclipse.passage.lic.api.registry.StringServiceId;
 import org.eclipse.passage.lic.base.io.MD5Hashes;
 import org.eclipse.passage.lic.base.registry.ReadOnlyRegistry;
 import org.eclipse.passage.lic.hc.remote.impl.Equipment;
-import org.eclipse.passage.lic.hc.remote.impl.NetConnection;
+import org.eclipse.passage.lic.hc.remote.impl.PooledConnection;
 import org.eclipse.passage.lic.hc.remote.impl.acquire.RemoteAcquisitionService;
 import org.eclipse.passage.lic.hc.remote.impl.mine.RemoteConditions;
 
@@ -40,9 +40,9 @@ final class FloatingLicensing implements LicensingDirection {
 	FloatingLicensing(KeyKeeperRegistry keys, StreamCodecRegistry codecs, ConditionTransportRegistry transports) {
 		this.hashes = new ReadOnlyRegistry<>(new MD5Hashes());
 		this.conditions = new ReadOnlyRegistry<>(
-				new RemoteConditions<NetConnection>(equipment(keys, codecs, transports)));
+				new RemoteConditions<PooledConnection>(equipment(keys, codecs, transports)));
 		this.acquirers = new ReadOnlyRegistry<>(
-				new RemoteAcquisitionService<NetConnection>(equipment(keys, codecs, transports)));
+				new RemoteAcquisitionService<PooledConnection>(equipment(keys, codecs, transports)));
 	}
 
 	@Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2021 ArSysOp
+ * Copyright (c) 2020, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -27,6 +27,15 @@ public interface Connection {
 
 	void withTimeout(int timeout);
 
+	/**
+	 * @param timeout longest time, in milliseconds, to wait for the response data
+	 * @since 3.1
+	 */
+	@SuppressWarnings("unused")
+	default void withReadTimeout(int timeout) {
+		// not supported by default
+	}
+
 	void withProperty(String name, String value);
 
 	void withPayload(byte[] payload) throws LicensingException;
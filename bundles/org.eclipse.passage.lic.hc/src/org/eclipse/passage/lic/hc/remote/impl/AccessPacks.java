@@ -13,13 +13,22 @@
  *******************************************************************************/
 package org.eclipse.passage.lic.hc.remote.impl;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Supplier;
 
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.passage.lic.api.LicensedProduct;
 import org.eclipse.passage.lic.api.LicensingException;
 import org.eclipse.passage.lic.api.ServiceInvocationResult;
@@ -34,19 +43,40 @@ import org.eclipse.passage.lic.base.diagnostic.BaseDiagnostic;
 import org.eclipse.passage.lic.base.diagnostic.code.ServiceCannotOperate;
 import org.eclipse.passage.lic.base.diagnostic.code.ServiceFailedOnInfrastructureDenial;
 import org.eclipse.passage.lic.base.diagnostic.code.ServiceFailedOnMorsel;
+import org.eclipse.passage.lic.base.io.FolderFingerprint;
 import org.eclipse.passage.lic.base.io.LicensingFolder;
+import org.eclipse.passage.lic.base.io.PathFromLicensedProduct;
 import org.eclipse.passage.lic.base.io.UserHomePath;
+import org.eclipse.passage.lic.internal.base.BoundedCache;
 import org.eclipse.passage.lic.internal.emf.EObjectFromBytes;
 import org.eclipse.passage.lic.internal.hc.i18n.AccessMessages;
 import org.eclipse.passage.lic.licenses.model.api.FloatingLicenseAccess;
 import org.eclipse.passage.lic.licenses.model.meta.LicensesPackage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
+ * <p>
+ * Floating license access files of a product are decoded and parsed only once
+ * and are kept until the product residence
+ * {@linkplain FolderFingerprint fingerprint} changes. Files that have failed to
+ * be read are not remembered, thus are read again on the next call: the
+ * failure may be caused by a product key that has been fixed since then.
+ * </p>
+ * <p>
+ * Accesses are kept for the residence, the codec and the digest of the product
+ * public key they have been read with, and each call is answered with copies of
+ * them, thus a caller cannot spoil accesses for others.
+ * </p>
  * 
  * @since 1.1
  */
+@SuppressWarnings("restriction")
 public final class AccessPacks implements Supplier<ServiceInvocationResult<Collection<FloatingLicenseAccess>>> {
 
+	private static final BoundedCache<Key, Snapshot> snapshots = new BoundedCache<>(64);
+
+	private final Logger log = LoggerFactory.getLogger(getClass());
 	private final LicensedProduct product;
 	private final KeyKeeperRegistry keys;
 	private final StreamCodecRegistry codecs;
@@ -75,7 +105,14 @@ public final class AccessPacks implements Supplier<ServiceInvocationResult<Colle
 			return new BaseServiceInvocationResult<>(
 					new Trouble(new ServiceCannotOperate(), AccessMessages.AccessPacks_insufficient_configuration, e));
 		}
-		List<FloatingLicenseAccess> result = new ArrayList<>();
+		Path residence = new PathFromLicensedProduct(source, product).get();
+		Optional<Map<Path, String>> fingerprint = fingerprint(residence);
+		Optional<Key> id = fingerprint.flatMap(any -> id(residence, key, codec));
+		Optional<Snapshot> cached = id.flatMap(snapshots::get)//
+				.filter(snapshot -> snapshot.fingerprint.equals(fingerprint.get()));
+		if (cached.isPresent()) {
+			return result(cached.get());
+		}
 		Collection<Path> files;
 		try {
 			files = new AccessFiles(product, source).get();
@@ -83,8 +120,48 @@ public final class AccessPacks implements Supplier<ServiceInvocationResult<Colle
 			return new BaseServiceInvocationResult<>(new Trouble(new ServiceFailedOnInfrastructureDenial(),
 					AccessMessages.AccessPacks_files_gaining_failed, e));
 		}
-		List<Trouble> failures = accessPacks(key, codec, result, files);
-		return new BaseServiceInvocationResult<>(new BaseDiagnostic(Collections.emptyList(), failures), result);
+		List<FloatingLicenseAccess> accesses = new ArrayList<>();
+		List<Trouble> failures = accessPacks(key, codec, accesses, files);
+		Snapshot fresh = new Snapshot(fingerprint.orElseGet(Collections::emptyMap), accesses, failures);
+		if (id.isPresent() && failures.isEmpty()) {
+			snapshots.put(id.get(), fresh);
+		}
+		return result(fresh);
+	}
+
+	private ServiceInvocationResult<Collection<FloatingLicenseAccess>> result(Snapshot snapshot) {
+		return new BaseServiceInvocationResult<>(//
+				new BaseDiagnostic(Collections.emptyList(), snapshot.failures), //
+				new ArrayList<>(EcoreUtil.copyAll(snapshot.accesses)));
+	}
+
+	/**
+	 * Is empty if the product public key cannot be read, thus accesses decoded
+	 * with it are not to be remembered
+	 */
+	private Optional<Key> id(Path residence, KeyKeeper key, StreamCodec codec) {
+		try (InputStream ring = key.productPublicKey()) {
+			return Optional.of(new Key(//
+					residence.toString(), //
+					codec.getClass().getName(), //
+					MessageDigest.getInstance("SHA-256").digest(ring.readAllBytes()))); //$NON-NLS-1$
+		} catch (LicensingException | IOException | GeneralSecurityException e) {
+			log.debug(String.format("Product key for %s is not read, accesses are not remembered", residence), e); //$NON-NLS-1$
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Is empty if the {@code residence} cannot be inspected, thus accesses read
+	 * from it are not to be remembered
+	 */
+	private Optional<Map<Path, String>> fingerprint(Path residence) {
+		try {
+			return Optional.of(new FolderFingerprint(() -> residence).get());
+		} catch (LicensingException e) {
+			log.debug(String.format("Residence %s is not inspected, accesses are not remembered", residence), e); //$NON-NLS-1$
+			return Optional.empty();
+		}
 	}
 
 	private List<Trouble> accessPacks(KeyKeeper key, StreamCodec codec, List<FloatingLicenseAccess> result,
@@ -125,4 +202,56 @@ public final class AccessPacks implements Supplier<ServiceInvocationResult<Colle
 		return codecs.get().service(product);
 	}
 
+	/**
+	 * Accesses parsed from a product residence along with the
+	 * {@code fingerprint} of the files they have been read from
+	 */
+	private static final class Snapshot {
+
+		private final Map<Path, String> fingerprint;
+		private final List<FloatingLicenseAccess> accesses;
+		private final List<Trouble> failures;
+
+		Snapshot(Map<Path, String> fingerprint, List<FloatingLicenseAccess> accesses, List<Trouble> failures) {
+			this.fingerprint = fingerprint;
+			this.accesses = Collections.unmodifiableList(accesses);
+			this.failures = Collections.unmodifiableList(failures);
+		}
+
+	}
+
+	/**
+	 * (residence, codec, public key digest) triple accesses are read for
+	 */
+	private static final class Key {
+
+		private final String residence;
+		private final String codec;
+		private final byte[] ring;
+
+		Key(String residence, String codec, byte[] ring) {
+			Objects.requireNonNull(residence, "AccessPacks.Key::residence"); //$NON-NLS-1$
+			Objects.requireNonNull(codec, "AccessPacks.Key::codec"); //$NON-NLS-1$
+			Objects.requireNonNull(ring, "AccessPacks.Key::ring"); //$NON-NLS-1$
+			this.residence = residence;
+			this.codec = codec;
+			this.ring = ring;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(residence, codec, Arrays.hashCode(ring));
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return residence.equals(other.residence) && codec.equals(other.codec) && Arrays.equals(ring, other.ring);
+		}
+
+	}
+
 }
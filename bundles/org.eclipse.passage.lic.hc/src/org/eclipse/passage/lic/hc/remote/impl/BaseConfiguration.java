@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2021 ArSysOp
+ * Copyright (c) 2020, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -28,14 +28,25 @@ import org.eclipse.passage.lic.hc.remote.Connection;
 public abstract class BaseConfiguration<C extends Connection> implements Configuration<C> {
 
 	private final int timeout;
+	private final int read;
 	private final Map<String, String> properties;
 
-	protected BaseConfiguration(int timeout, Map<String, String> properties) {
+	/**
+	 * @param timeout connection timeout in milliseconds
+	 * @param read    response reading timeout in milliseconds
+	 * @since 3.1
+	 */
+	protected BaseConfiguration(int timeout, int read, Map<String, String> properties) {
 		Objects.requireNonNull(properties, "BaseConfiguration::properties"); //$NON-NLS-1$
 		this.timeout = timeout;
+		this.read = read;
 		this.properties = properties;
 	}
 
+	protected BaseConfiguration(int timeout, Map<String, String> properties) {
+		this(timeout, 10_000, properties);
+	}
+
 	protected BaseConfiguration(Map<String, String> properties) {
 		this(1000, properties);
 	}
@@ -54,6 +65,7 @@ public abstract class BaseConfiguration<C extends Connection> implements Configu
 
 	private void installRequestDemands(C connection) throws Exception {
 		connection.withTimeout(timeout);
+		connection.withReadTimeout(read);
 	}
 
 	protected abstract void paveRoadForData(C connection) throws Exception;
@@ -64,6 +76,13 @@ public abstract class BaseConfiguration<C extends Connection> implements Configu
 
 	public static final class Get<C extends Connection> extends BaseConfiguration<C> {
 
+		/**
+		 * @since 3.1
+		 */
+		public Get(int timeout, int read, Map<String, String> properties) {
+			super(timeout, read, properties);
+		}
+
 		public Get(int timeout, Map<String, String> properties) {
 			super(timeout, properties);
 		}
@@ -88,6 +107,14 @@ public abstract class BaseConfiguration<C extends Connection> implements Configu
 
 		private final byte[] payload;
 
+		/**
+		 * @since 3.1
+		 */
+		public Post(int timeout, int read, Map<String, String> properties, byte[] payload) {
+			super(timeout, read, properties);
+			this.payload = payload;
+		}
+
 		public Post(int timeout, Map<String, String> properties, byte[] payload) {
 			super(timeout, properties);
 			this.payload = payload;
@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lic.hc.remote.impl;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Objects;
+
+import org.eclipse.passage.lic.internal.base.BoundedCache;
+
+/**
+ * <p>
+ * Keeps a single {@linkplain HttpClient} per licensing server (scheme, host and
+ * port), thus all the requests to the same server share its pool of
+ * kept-alive connections.
+ * </p>
+ * <p>
+ * The pool is shared by the whole process and keeps clients of 64 most
+ * recently used servers at most: a client of a server that has not been asked
+ * for long is dropped, and its connections are closed as soon as the client is
+ * collected.
+ * </p>
+ */
+@SuppressWarnings("restriction")
+final class ClientPool {
+
+	private static final BoundedCache<Key, HttpClient> clients = new BoundedCache<>(64);
+
+	HttpClient client(URI server, Duration connect, HttpClient.Version version) {
+		return clients.get(new Key(server, connect, version), //
+				key -> HttpClient.newBuilder()//
+						.connectTimeout(connect)//
+						.version(version)//
+						.followRedirects(HttpClient.Redirect.NEVER)//
+						.build());
+	}
+
+	private static final class Key {
+
+		private final String scheme;
+		private final String host;
+		private final int port;
+		private final Duration connect;
+		private final HttpClient.Version version;
+
+		Key(URI server, Duration connect, HttpClient.Version version) {
+			this.scheme = server.getScheme();
+			this.host = server.getHost();
+			this.port = server.getPort();
+			this.connect = connect;
+			this.version = version;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(scheme, host, port, connect, version);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return Objects.equals(scheme, other.scheme) //
+					&& Objects.equals(host, other.host) //
+					&& port == other.port //
+					&& connect.equals(other.connect) //
+					&& version == other.version;
+		}
+
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2021 ArSysOp
+ * Copyright (c) 2020, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -52,6 +52,11 @@ public final class NetConnection implements Connection {
 		connection.setConnectTimeout(timeout);
 	}
 
+	@Override
+	public void withReadTimeout(int timeout) {
+		connection.setReadTimeout(timeout);
+	}
+
 	@Override
 	public void withProperty(String name, String value) {
 		connection.addRequestProperty(name, value);
@@ -94,11 +99,9 @@ public final class NetConnection implements Connection {
 	}
 
 	private byte[] read() throws Exception {
-		byte[] content = new byte[connection.getContentLength()];
 		try (InputStream source = connection.getInputStream()) {
-			source.read(content); // read all and close the connection briefly
+			return source.readAllBytes(); // read all and close the connection briefly
 		}
-		return content;
 	}
 
 	private void invoke(Failable method) throws LicensingException {
@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lic.hc.remote.impl;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.passage.lic.api.LicensingException;
+import org.eclipse.passage.lic.api.conditions.mining.ContentType;
+import org.eclipse.passage.lic.hc.remote.Connection;
+import org.eclipse.passage.lic.internal.hc.i18n.AccessMessages;
+
+/**
+ * <p>
+ * Collects request configuration and sends the request on the first demand of
+ * any response data through the {@linkplain HttpClient} shared for the server.
+ * </p>
+ * <p>
+ * Three deadlines are respected: {@code connect} to establish a new connection
+ * (reused connections do not pay for it), {@code read} to wait for the response
+ * to start and {@code total} for the whole exchange including the response
+ * body, which is always read up to the end.
+ * </p>
+ * 
+ * @since 3.1
+ */
+public final class PooledConnection implements Connection {
+
+	private final URI uri;
+	private final ClientPool pool;
+	private final HttpClient.Version version;
+	private final Duration total;
+	private final HttpRequest.Builder request;
+	private Duration connect = Duration.ofSeconds(1);
+	private Duration read = Duration.ofSeconds(10);
+	private String method = "GET"; //$NON-NLS-1$
+	private byte[] content = new byte[0];
+	private HttpResponse<byte[]> response;
+
+	PooledConnection(URI uri, ClientPool pool, HttpClient.Version version, Duration total) {
+		this.uri = uri;
+		this.pool = pool;
+		this.version = version;
+		this.total = total;
+		this.request = HttpRequest.newBuilder(uri);
+	}
+
+	@Override
+	public void beGet() throws LicensingException {
+		method = "GET"; //$NON-NLS-1$
+	}
+
+	@Override
+	public void bePost() throws LicensingException {
+		method = "POST"; //$NON-NLS-1$
+	}
+
+	@Override
+	public void withTimeout(int timeout) {
+		connect = Duration.ofMillis(timeout);
+	}
+
+	@Override
+	public void withReadTimeout(int timeout) {
+		read = Duration.ofMillis(timeout);
+	}
+
+	@Override
+	public void withProperty(String name, String value) {
+		request.header(name, value);
+	}
+
+	@Override
+	public void withPayload(byte[] payload) throws LicensingException {
+		content = payload;
+	}
+
+	@Override
+	public boolean successful() throws LicensingException {
+		return code() == 200;
+	}
+
+	@Override
+	public int code() throws LicensingException {
+		return response().statusCode();
+	}
+
+	@Override
+	public String message() throws LicensingException {
+		return response().version() + " " + response().statusCode(); //$NON-NLS-1$
+	}
+
+	@Override
+	public ContentType contentType() throws LicensingException {
+		return new ContentType.Of(response().headers().firstValue("Content-Type").orElse("none")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Override
+	public byte[] payload() throws LicensingException {
+		return response().body();
+	}
+
+	private HttpResponse<byte[]> response() throws LicensingException {
+		if (response == null) {
+			response = exchange();
+		}
+		return response;
+	}
+
+	private HttpResponse<byte[]> exchange() throws LicensingException {
+		HttpRequest built = request//
+				.method(method, HttpRequest.BodyPublishers.ofByteArray(content))//
+				.timeout(read)//
+				.build();
+		CompletableFuture<HttpResponse<byte[]>> future = pool.client(uri, connect, version)//
+				.sendAsync(built, HttpResponse.BodyHandlers.ofByteArray());
+		try {
+			return future.get(total.toMillis(), TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			future.cancel(true);
+			throw new LicensingException(String.format(AccessMessages.PooledConnection_no_response, uri, total), e);
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new LicensingException(e);
+		} catch (Exception e) {
+			throw new LicensingException(e);
+		}
+	}
+
+}
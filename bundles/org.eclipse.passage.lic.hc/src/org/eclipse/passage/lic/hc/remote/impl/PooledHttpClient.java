@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lic.hc.remote.impl;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Objects;
+
+import org.eclipse.passage.lic.api.ServiceInvocationResult;
+import org.eclipse.passage.lic.api.diagnostic.Trouble;
+import org.eclipse.passage.lic.base.BaseServiceInvocationResult;
+import org.eclipse.passage.lic.base.diagnostic.BaseDiagnostic;
+import org.eclipse.passage.lic.base.diagnostic.code.ServiceFailedOnInfrastructureDenial;
+import org.eclipse.passage.lic.hc.internal.remote.Client;
+import org.eclipse.passage.lic.hc.internal.remote.ResponseHandler;
+import org.eclipse.passage.lic.hc.remote.Request;
+import org.eclipse.passage.lic.hc.remote.RequestContext;
+import org.eclipse.passage.lic.internal.hc.i18n.AccessMessages;
+
+/**
+ * <p>
+ * {@linkplain Client} on {@linkplain java.net.http.HttpClient}: all the
+ * requests to the same licensing server share a pool of kept-alive
+ * connections, so an access cycle does not pay for connection setup on each
+ * call.
+ * </p>
+ * <p>
+ * HTTP/1.1 is used by default, as any server supports it. HTTP/2 is negotiated
+ * by an upgrade ({@code h2c}) when demanded and falls back to HTTP/1.1 if the
+ * server does not support it.
+ * </p>
+ * 
+ * @since 3.1
+ */
+public final class PooledHttpClient<T> implements Client<PooledConnection, T> {
+
+	private static final ClientPool pool = new ClientPool();
+
+	private final java.net.http.HttpClient.Version version;
+	private final Duration total;
+
+	/**
+	 * @param total longest time for a whole request-response exchange
+	 */
+	public PooledHttpClient(java.net.http.HttpClient.Version version, Duration total) {
+		Objects.requireNonNull(version, "PooledHttpClient::version"); //$NON-NLS-1$
+		Objects.requireNonNull(total, "PooledHttpClient::total"); //$NON-NLS-1$
+		this.version = version;
+		this.total = total;
+	}
+
+	public PooledHttpClient() {
+		this(java.net.http.HttpClient.Version.HTTP_1_1, Duration.ofSeconds(30));
+	}
+
+	@Override
+	public ServiceInvocationResult<T> request(Request<PooledConnection> request, ResponseHandler<T> handler) {
+		try {
+			return netResults(connection(request), handler, request.context());
+		} catch (Exception e) {
+			return new BaseServiceInvocationResult<>(//
+					new BaseDiagnostic(//
+							Collections.emptyList(), //
+							Collections.singletonList(//
+									new Trouble(new ServiceFailedOnInfrastructureDenial(),
+											AccessMessages.HttpClient_failure, e))));
+		}
+	}
+
+	private PooledConnection connection(Request<PooledConnection> request) throws Exception {
+		return request.config().apply(new PooledConnection(request.url().toURI(), pool, version, total));
+	}
+
+	private ServiceInvocationResult<T> netResults(PooledConnection connection, ResponseHandler<T> handler,
+			RequestContext context) throws Exception {
+		// actual exchange is happening on this construction of the results
+		ResultsTransfered results = new ResultsTransfered(connection);
+		if (!results.successful()) {
+			return new BaseServiceInvocationResult<>(results.diagnose());
+		}
+		return new BaseServiceInvocationResult<>(handler.read(results, context));
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2021 ArSysOp
+ * Copyright (c) 2020, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -12,6 +12,8 @@
  *******************************************************************************/
 package org.eclipse.passage.lic.hc.remote.impl;
 
+import java.util.Collection;
+
 import org.eclipse.passage.lic.api.LicensedProduct;
 
 /**
@@ -53,6 +55,33 @@ public abstract class RemoteServiceData {
 
 	}
 
+	/**
+	 * @since 3.1
+	 */
+	public static final class OfFeatures extends RemoteServiceData {
+
+		private final Collection<String> features;
+		private final boolean atomic;
+
+		/**
+		 * @param atomic all the {@code features} are to be served, or none of them
+		 */
+		public OfFeatures(LicensedProduct product, Collection<String> features, boolean atomic) {
+			super(product);
+			this.features = features;
+			this.atomic = atomic;
+		}
+
+		public Collection<String> features() {
+			return features;
+		}
+
+		public boolean atomic() {
+			return atomic;
+		}
+
+	}
+
 	public static final class WithPayload<T> extends RemoteServiceData {
 
 		private final T payload;
@@ -0,0 +1,378 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lic.hc.remote.impl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>
+ * Optional concurrent mode of talking to several floating servers of a
+ * product.
+ * </p>
+ * <p>
+ * Is off by default: servers are asked one after another. Is turned on by
+ * {@code passage.hc.fanout.deadline} system property, which sets (in
+ * milliseconds) the global deadline of a single fan-out;
+ * {@code passage.hc.fanout.hedge} sets the delay (500 milliseconds by default)
+ * after which a hedging request is sent to the next server while the current
+ * one has not yet answered.
+ * </p>
+ * <ul>
+ * <li>{@linkplain #every} asks all the servers at once and merges their answers
+ * as they arrive, servers that have not answered by the deadline are reported
+ * as {@code late};</li>
+ * <li>{@linkplain #any} asks the first server, and the next one either as soon
+ * as the previous has failed or when the hedging delay has passed. The first
+ * successful answer wins, requests still in flight are cancelled. A successful
+ * answer that arrives after the winner is passed to {@code surplus}, thus a
+ * caller can revert its effect.</li>
+ * </ul>
+ *
+ * @since 3.1
+ */
+public final class ServerFanout {
+
+	private static final String deadlineProperty = "passage.hc.fanout.deadline"; //$NON-NLS-1$
+	private static final String hedgeProperty = "passage.hc.fanout.hedge"; //$NON-NLS-1$
+	private static Executor shared;
+
+	private final Optional<Executor> executor;
+	private final Duration deadline;
+	private final Duration hedge;
+
+	/**
+	 * Mode is defined by {@code passage.hc.fanout.deadline} and
+	 * {@code passage.hc.fanout.hedge} system properties
+	 */
+	public ServerFanout() {
+		long limit = Long.getLong(deadlineProperty, 0);
+		this.executor = limit > 0 ? Optional.of(shared()) : Optional.empty();
+		this.deadline = Duration.ofMillis(Math.max(limit, 0));
+		this.hedge = Duration.ofMillis(Math.max(Long.getLong(hedgeProperty, 500), 0));
+	}
+
+	/**
+	 * Talks to servers concurrently on the given {@code executor}
+	 *
+	 * @param deadline global time limit of a single fan-out
+	 * @param hedge    delay before an extra request to the next server is sent
+	 *                 while the current one keeps silence
+	 */
+	public ServerFanout(Executor executor, Duration deadline, Duration hedge) {
+		Objects.requireNonNull(executor, "ServerFanout::executor"); //$NON-NLS-1$
+		Objects.requireNonNull(deadline, "ServerFanout::deadline"); //$NON-NLS-1$
+		Objects.requireNonNull(hedge, "ServerFanout::hedge"); //$NON-NLS-1$
+		this.executor = Optional.of(executor);
+		this.deadline = deadline;
+		this.hedge = hedge;
+	}
+
+	public Duration deadline() {
+		return deadline;
+	}
+
+	/**
+	 * Applies {@code query} to each of {@code servers}, all at once if the
+	 * concurrent mode is on, and passes each answer to {@code arrived} in the
+	 * order of arrival. Is always called on the caller thread.
+	 *
+	 * @param late is given each server that has not answered in time
+	 */
+	public <S, T> void every(Collection<S> servers, Function<S, T> query, Consumer<T> arrived, Consumer<S> late) {
+		if (!parallel(servers)) {
+			for (S server : servers) {
+				arrived.accept(query.apply(server));
+			}
+			return;
+		}
+		Arrivals<S, T> arrivals = new Arrivals<>();
+		List<Attempt<S, T>> pending = new ArrayList<>();
+		try {
+			for (S server : servers) {
+				pending.add(launch(server, query, arrivals));
+			}
+			long until = System.nanoTime() + deadline.toNanos();
+			while (!pending.isEmpty()) {
+				Optional<Attempt<S, T>> done = arrivals.next(until - System.nanoTime());
+				if (!done.isPresent()) {
+					break;
+				}
+				pending.remove(done.get());
+				arrived.accept(done.get().answer());
+			}
+			for (Attempt<S, T> attempt : arrivals.settle(answer -> false, answer -> {
+				// nothing to revert
+			})) {
+				pending.remove(attempt);
+				arrived.accept(attempt.answer());
+			}
+			for (Attempt<S, T> attempt : pending) {
+				late.accept(attempt.server);
+			}
+		} finally {
+			pending.forEach(Attempt::cancel);
+		}
+	}
+
+	/**
+	 * Applies {@code query} to {@code servers} until the first answer that is
+	 * recognized as a {@code success}.
+	 *
+	 * @param tried   is given each answer that has arrived before the winner
+	 *                has been chosen, the winner included
+	 * @param surplus is given successful answers that have arrived after the
+	 *                winner, possibly on a foreign thread
+	 * @param late    is given each server that has been asked, but has not
+	 *                answered in time, if there is no winner
+	 * @param unasked is given each server that has not been asked at all before
+	 *                the deadline, if there is no winner
+	 * @return the winner, if any
+	 */
+	public <S, T> Optional<T> any(Collection<S> servers, Function<S, T> query, Predicate<T> success,
+			Consumer<T> tried, Consumer<T> surplus, Consumer<S> late, Consumer<S> unasked) {
+		if (!parallel(servers)) {
+			return sequentially(servers, query, success, tried);
+		}
+		Arrivals<S, T> arrivals = new Arrivals<>();
+		Iterator<S> next = servers.iterator();
+		List<Attempt<S, T>> pending = new ArrayList<>();
+		try {
+			pending.add(launch(next.next(), query, arrivals));
+			long until = System.nanoTime() + deadline.toNanos();
+			Optional<T> winner = Optional.empty();
+			while (!pending.isEmpty() && !winner.isPresent()) {
+				long remaining = until - System.nanoTime();
+				if (remaining <= 0 || Thread.currentThread().isInterrupted()) {
+					break;
+				}
+				Optional<Attempt<S, T>> done = arrivals.next(//
+						next.hasNext() ? Math.min(hedge.toNanos(), remaining) : remaining);
+				if (done.isPresent()) {
+					pending.remove(done.get());
+					T answer = done.get().answer();
+					tried.accept(answer);
+					if (success.test(answer)) {
+						winner = Optional.of(answer);
+						continue;
+					}
+				}
+				if (next.hasNext() && until - System.nanoTime() > 0) { // either failed or is silent for too long
+					pending.add(launch(next.next(), query, arrivals));
+				}
+			}
+			for (Attempt<S, T> attempt : arrivals.settle(success, surplus)) {
+				pending.remove(attempt);
+				T answer = attempt.answer();
+				if (!success.test(answer)) {
+					tried.accept(answer);
+				} else if (winner.isPresent()) {
+					surplus.accept(answer);
+				} else {
+					tried.accept(answer);
+					winner = Optional.of(answer);
+				}
+			}
+			if (!winner.isPresent()) {
+				pending.forEach(attempt -> late.accept(attempt.server));
+				next.forEachRemaining(unasked);
+			}
+			return winner;
+		} finally {
+			pending.forEach(Attempt::cancel);
+			arrivals.abandon(success, surplus);
+		}
+	}
+
+	private <S, T> Optional<T> sequentially(Collection<S> servers, Function<S, T> query, Predicate<T> success,
+			Consumer<T> tried) {
+		for (S server : servers) {
+			T answer = query.apply(server);
+			tried.accept(answer);
+			if (success.test(answer)) {
+				return Optional.of(answer);
+			}
+		}
+		return Optional.empty();
+	}
+
+	private boolean parallel(Collection<?> servers) {
+		return executor.isPresent() && servers.size() > 1;
+	}
+
+	private <S, T> Attempt<S, T> launch(S server, Function<S, T> query, Arrivals<S, T> arrivals) {
+		Attempt<S, T> attempt = new Attempt<>(server, query, arrivals);
+		executor.get().execute(attempt);
+		return attempt;
+	}
+
+	private static synchronized Executor shared() {
+		if (shared == null) {
+			shared = Executors.newCachedThreadPool(task -> {
+				Thread thread = new Thread(task, "passage-server-fanout"); //$NON-NLS-1$
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		return shared;
+	}
+
+	/**
+	 * Request to a single server, reports itself to {@linkplain Arrivals} once
+	 * answered. Cancellation interrupts the request, but an answer that is gained
+	 * nevertheless is still reported.
+	 */
+	private static final class Attempt<S, T> implements Runnable {
+
+		private final S server;
+		private final Function<S, T> query;
+		private final Arrivals<S, T> arrivals;
+		private Thread runner;
+		private boolean cancelled;
+		private T answer;
+		private Throwable failure;
+
+		Attempt(S server, Function<S, T> query, Arrivals<S, T> arrivals) {
+			this.server = server;
+			this.query = query;
+			this.arrivals = arrivals;
+		}
+
+		@Override
+		public void run() {
+			synchronized (this) {
+				if (cancelled) {
+					return;
+				}
+				runner = Thread.currentThread();
+			}
+			try {
+				answer = query.apply(server);
+			} catch (RuntimeException | Error e) {
+				failure = e;
+			} finally {
+				synchronized (this) {
+					runner = null;
+					if (cancelled) {
+						Thread.interrupted(); // do not leak the interruption to the next task of the thread
+					}
+				}
+				arrivals.arrive(this);
+			}
+		}
+
+		synchronized void cancel() {
+			cancelled = true;
+			if (runner != null) {
+				runner.interrupt();
+			}
+		}
+
+		/**
+		 * Is to be called only for an attempt that has {@linkplain Arrivals arrived}
+		 */
+		T answer() {
+			if (failure instanceof Error) {
+				throw (Error) failure;
+			}
+			if (failure != null) {
+				throw (RuntimeException) failure;
+			}
+			return answer;
+		}
+
+	}
+
+	/**
+	 * Collects answered attempts for the caller thread until the fan-out is
+	 * settled, afterwards hands late successful answers to a {@code surplus}
+	 * consumer right on arrival
+	 */
+	private static final class Arrivals<S, T> {
+
+		private final Logger log = LoggerFactory.getLogger(getClass());
+		private final BlockingQueue<Attempt<S, T>> queue = new LinkedBlockingQueue<>();
+		private Predicate<T> success;
+		private Consumer<T> surplus;
+
+		void arrive(Attempt<S, T> attempt) {
+			Predicate<T> verdict;
+			Consumer<T> late;
+			synchronized (this) {
+				if (surplus == null) {
+					queue.add(attempt);
+					return;
+				}
+				verdict = success;
+				late = surplus;
+			}
+			try {
+				T answer = attempt.answer();
+				if (verdict.test(answer)) {
+					late.accept(answer);
+				}
+			} catch (RuntimeException e) {
+				log.debug("Failed answer has arrived after the fan-out is settled", e); //$NON-NLS-1$
+			}
+		}
+
+		Optional<Attempt<S, T>> next(long nanos) {
+			try {
+				return Optional.ofNullable(queue.poll(Math.max(nanos, 0), TimeUnit.NANOSECONDS));
+			} catch (InterruptedException e) {
+				log.debug("Fan-out is interrupted", e); //$NON-NLS-1$
+				Thread.currentThread().interrupt();
+				return Optional.empty();
+			}
+		}
+
+		/**
+		 * @return attempts that have arrived, but have not been taken by the caller
+		 *         thread yet
+		 */
+		synchronized List<Attempt<S, T>> settle(Predicate<T> success, Consumer<T> surplus) {
+			this.success = success;
+			this.surplus = surplus;
+			List<Attempt<S, T>> unclaimed = new ArrayList<>();
+			queue.drainTo(unclaimed);
+			return unclaimed;
+		}
+
+		/**
+		 * Settles the fan-out that has been broken by a failure: successful answers
+		 * that have arrived, but have not been taken by the caller thread, go to
+		 * {@code surplus} as well as the ones still to come
+		 */
+		void abandon(Predicate<T> success, Consumer<T> surplus) {
+			settle(success, surplus).forEach(this::arrive);
+		}
+
+	}
+
+}
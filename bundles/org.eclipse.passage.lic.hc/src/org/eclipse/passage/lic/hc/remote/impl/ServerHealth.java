@@ -0,0 +1,231 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lic.hc.remote.impl;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.passage.lic.api.diagnostic.Diagnostic;
+import org.eclipse.passage.lic.base.diagnostic.code.ServiceFailedOnInfrastructureDenial;
+import org.eclipse.passage.lic.licenses.model.api.FloatingLicenseAccess;
+import org.eclipse.passage.lic.licenses.model.api.FloatingServerConnection;
+
+/**
+ * <p>
+ * Remembers how each floating server (identified by its
+ * {@linkplain FloatingServerConnection host and port}) has been answering:
+ * exponentially weighted moving averages of latency and of infrastructure
+ * failure rate, and a circuit breaker.
+ * </p>
+ * <p>
+ * A circuit is {@code closed} while a server answers. It gets {@code open}
+ * after two successive infrastructure failures (no connection,
+ * no answer in time): the server is skipped until a probe interval passes. Then
+ * the circuit is {@code half-open}: a single request at a time is let through
+ * as a probe, which either closes the circuit or opens it again for twice as
+ * long (up to five minutes). Probe intervals are jittered, thus clients do not
+ * return to a recovered server all at once.
+ * </p>
+ * <p>
+ * Instances created with the default constructor share the state, thus the
+ * health learnt in one access cycle serves the following ones.
+ * </p>
+ *
+ * @since 3.1
+ */
+public final class ServerHealth {
+
+	private static final Map<Key, Endpoint> shared = new ConcurrentHashMap<>();
+	private static final int threshold = 2;
+	private static final double weight = 0.3;
+	private static final long firstProbe = TimeUnit.SECONDS.toNanos(5);
+	private static final long lastProbe = TimeUnit.MINUTES.toNanos(5);
+
+	private final Map<Key, Endpoint> endpoints;
+	private final LongSupplier clock;
+
+	public ServerHealth() {
+		this(shared, System::nanoTime);
+	}
+
+	/**
+	 * Keeps its own state apart from the shared one
+	 *
+	 * @param clock source of time in nanoseconds
+	 */
+	public ServerHealth(LongSupplier clock) {
+		this(new ConcurrentHashMap<>(), clock);
+	}
+
+	private ServerHealth(Map<Key, Endpoint> endpoints, LongSupplier clock) {
+		Objects.requireNonNull(clock, "ServerHealth::clock"); //$NON-NLS-1$
+		this.endpoints = endpoints;
+		this.clock = clock;
+	}
+
+	/**
+	 * @return {@code servers} ordered from the healthiest one, with servers of
+	 *         open circuits skipped. If all the circuits are open, all the
+	 *         servers are returned, the one to be probed soonest first.
+	 */
+	public List<FloatingLicenseAccess> candidates(Collection<FloatingLicenseAccess> servers) {
+		long now = clock.getAsLong();
+		List<FloatingLicenseAccess> available = servers.stream()//
+				.filter(server -> endpoint(server).admits(now))//
+				.sorted(Comparator.comparingDouble(server -> endpoint(server).score()))//
+				.collect(Collectors.toList());
+		if (!available.isEmpty() || servers.isEmpty()) {
+			return available;
+		}
+		return servers.stream()//
+				.sorted(Comparator.comparingLong(server -> endpoint(server).probe()))//
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Is to be called right before a request is sent to the {@code server}:
+	 * claims the probe of a half-open circuit, thus the circuit stays open for
+	 * others till the probe is answered or the claim expires
+	 */
+	public void claim(FloatingLicenseAccess server) {
+		endpoint(server).claim(clock.getAsLong());
+	}
+
+	/**
+	 * Takes into account an answer of the {@code server}, which has cost
+	 * {@code nanos} and has been diagnosed with {@code diagnostic}
+	 */
+	public void record(FloatingLicenseAccess server, long nanos, Diagnostic diagnostic) {
+		record(server, nanos, !failed(diagnostic));
+	}
+
+	/**
+	 * Takes into account an attempt to reach the {@code server}, which has cost
+	 * {@code nanos}
+	 */
+	public void record(FloatingLicenseAccess server, long nanos, boolean reached) {
+		endpoint(server).record(nanos, reached, clock.getAsLong());
+	}
+
+	/**
+	 * @return {@code true} if the {@code server} is skipped at the moment
+	 */
+	public boolean open(FloatingLicenseAccess server) {
+		return endpoint(server).open(clock.getAsLong());
+	}
+
+	private boolean failed(Diagnostic diagnostic) {
+		ServiceFailedOnInfrastructureDenial denial = new ServiceFailedOnInfrastructureDenial();
+		return Stream.concat(diagnostic.severe().stream(), diagnostic.bearable().stream())//
+				.anyMatch(trouble -> denial.equals(trouble.code()));
+	}
+
+	private Endpoint endpoint(FloatingLicenseAccess server) {
+		return endpoints.computeIfAbsent(new Key(server.getServer()), key -> new Endpoint());
+	}
+
+	/**
+	 * Mutable health record of a single server, guarded by its own monitor
+	 */
+	private static final class Endpoint {
+
+		private double latency;
+		private double errors;
+		private int failures;
+		private long interval;
+		private long probe;
+
+		synchronized boolean admits(long now) {
+			return !open(now);
+		}
+
+		/**
+		 * Claims a probe of a half-open circuit. Till the claim expires, the circuit
+		 * stays open for others: a lost probe is retried after an interval.
+		 */
+		synchronized void claim(long now) {
+			if (failures >= threshold && !open(now)) {
+				probe = now + jittered(interval);
+			}
+		}
+
+		synchronized boolean open(long now) {
+			return failures >= threshold && now - probe < 0;
+		}
+
+		synchronized void record(long nanos, boolean reached, long now) {
+			latency = latency == 0 ? nanos : weight * nanos + (1 - weight) * latency;
+			errors = weight * (reached ? 0 : 1) + (1 - weight) * errors;
+			if (reached) {
+				failures = 0;
+				interval = 0;
+				return;
+			}
+			failures++;
+			if (failures >= threshold) {
+				interval = interval == 0 ? firstProbe : Math.min(interval * 2, lastProbe);
+				probe = now + jittered(interval);
+			}
+		}
+
+		synchronized double score() {
+			// a failure weighs as a second of silence
+			return latency * (1 + errors) + errors * TimeUnit.SECONDS.toNanos(1);
+		}
+
+		synchronized long probe() {
+			return probe;
+		}
+
+		private long jittered(long nanos) {
+			return nanos - nanos / 5 + ThreadLocalRandom.current().nextLong(nanos * 2 / 5 + 1);
+		}
+
+	}
+
+	private static final class Key {
+
+		private final String host;
+		private final int port;
+
+		Key(FloatingServerConnection server) {
+			this.host = server.getIp();
+			this.port = server.getPort();
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(host, port);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return Objects.equals(host, other.host) && port == other.port;
+		}
+
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2021 ArSysOp
+ * Copyright (c) 2020, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -15,11 +15,13 @@ package org.eclipse.passage.lic.hc.remote.impl;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Supplier;
 
 import org.eclipse.passage.lic.api.ServiceInvocationResult;
 import org.eclipse.passage.lic.api.diagnostic.Diagnostic;
+import org.eclipse.passage.lic.api.diagnostic.Trouble;
 import org.eclipse.passage.lic.base.BaseServiceInvocationResult;
 import org.eclipse.passage.lic.base.diagnostic.BaseDiagnostic;
 import org.eclipse.passage.lic.base.diagnostic.NoSevereErrors;
@@ -38,19 +40,48 @@ public abstract class ServiceAny<C extends Connection, T, D extends RemoteServic
 		super(equipment, client, source);
 	}
 
+	/**
+	 * @since 3.1
+	 */
+	protected ServiceAny(Equipment equipment, Supplier<Client<C, T>> client, Supplier<Path> source,
+			ServerFanout fanout) {
+		super(equipment, client, source, fanout);
+	}
+
+	/**
+	 * Servers are asked from the healthiest one, servers with open circuits are
+	 * skipped
+	 */
 	@Override
 	protected final ServiceInvocationResult<T> withServers(D parameters, Collection<FloatingLicenseAccess> servers) {
 		List<Diagnostic> diagnostics = new ArrayList<>();
-		return servers.stream()//
-				.map(server -> withServer(parameters, server))//
-				.peek(result -> diagnostics.add(result.diagnostic())) //
-				.filter(result -> new NoSevereErrors().test(result.diagnostic()))//
-				.filter(result -> result.data().isPresent())//
-				.findAny()//
-				.orElse(new BaseServiceInvocationResult<>(sum(diagnostics)));
+		List<Trouble> late = new ArrayList<>();
+		return fanout.any(health.candidates(servers), //
+				server -> withServer(parameters, server), //
+				result -> new NoSevereErrors().test(result.diagnostic()) && result.data().isPresent(), //
+				result -> diagnostics.add(result.diagnostic()), //
+				result -> surplus(parameters, result.data().get()), //
+				server -> late.add(late(server)), //
+				server -> late.add(unasked(server)))//
+				.orElseGet(() -> new BaseServiceInvocationResult<>(sum(diagnostics, late)));
+	}
+
+	/**
+	 * Is given data of a successful answer that has arrived after another server
+	 * has already served the request in concurrent fan-out. Does nothing by
+	 * default, a service with side effects on a server is to revert them here.
+	 * 
+	 * @since 3.1
+	 */
+	@SuppressWarnings("unused")
+	protected void surplus(D parameters, T data) {
+		// nothing to revert by default
 	}
 
-	private Diagnostic sum(List<Diagnostic> particles) {
+	private Diagnostic sum(List<Diagnostic> particles, List<Trouble> late) {
+		if (!late.isEmpty()) {
+			particles.add(new BaseDiagnostic(Collections.emptyList(), late));
+		}
 		return particles.stream()//
 				.reduce(new SumOfDiagnostics())//
 				.orElseGet(BaseDiagnostic::new);
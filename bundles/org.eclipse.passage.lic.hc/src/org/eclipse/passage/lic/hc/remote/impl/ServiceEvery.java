@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2021 ArSysOp
+ * Copyright (c) 2020, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -13,12 +13,17 @@
 package org.eclipse.passage.lic.hc.remote.impl;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.function.BinaryOperator;
 import java.util.function.Supplier;
 
 import org.eclipse.passage.lic.api.ServiceInvocationResult;
+import org.eclipse.passage.lic.api.diagnostic.Trouble;
 import org.eclipse.passage.lic.base.BaseServiceInvocationResult;
+import org.eclipse.passage.lic.base.diagnostic.BaseDiagnostic;
 import org.eclipse.passage.lic.hc.internal.remote.Client;
 import org.eclipse.passage.lic.hc.remote.Connection;
 import org.eclipse.passage.lic.licenses.model.api.FloatingLicenseAccess;
@@ -34,12 +39,35 @@ public abstract class ServiceEvery<C extends Connection, T, D extends RemoteServ
 		super(equipment, client, source);
 	}
 
+	/**
+	 * @since 3.1
+	 */
+	protected ServiceEvery(Equipment equipment, Supplier<Client<C, T>> client, Supplier<Path> source,
+			ServerFanout fanout) {
+		super(equipment, client, source, fanout);
+	}
+
+	/**
+	 * Answers are summed up as they arrive, a server that keeps silence longer
+	 * than the fan-out deadline adds a bearable trouble to the sum
+	 */
 	@Override
 	protected ServiceInvocationResult<T> withServers(D params, Collection<FloatingLicenseAccess> servers) {
-		return servers.stream()//
-				.map(access -> withServer(params, access))//
-				.reduce(new BaseServiceInvocationResult.Sum<>(sum()))//
-				.orElse(new BaseServiceInvocationResult<>(noResult()));
+		BinaryOperator<ServiceInvocationResult<T>> sum = new BaseServiceInvocationResult.Sum<>(sum());
+		List<ServiceInvocationResult<T>> merged = new ArrayList<>(1);
+		List<Trouble> late = new ArrayList<>();
+		fanout.every(servers, //
+				access -> withServer(params, access), //
+				result -> merged.add(merged.isEmpty() ? result : sum.apply(merged.remove(0), result)), //
+				access -> late.add(late(access)));
+		if (merged.isEmpty()) {
+			merged.add(new BaseServiceInvocationResult<>(noResult()));
+		}
+		if (late.isEmpty()) {
+			return merged.get(0);
+		}
+		return sum.apply(merged.get(0),
+				new BaseServiceInvocationResult<>(new BaseDiagnostic(Collections.emptyList(), late)));
 	}
 
 	protected abstract BinaryOperator<T> sum();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2021 ArSysOp
+ * Copyright (c) 2020, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -24,6 +24,7 @@ import org.eclipse.passage.lic.base.BaseServiceInvocationResult;
 import org.eclipse.passage.lic.base.diagnostic.BaseDiagnostic;
 import org.eclipse.passage.lic.base.diagnostic.NoSevereErrors;
 import org.eclipse.passage.lic.base.diagnostic.code.AbsentLicenseAttendantFile;
+import org.eclipse.passage.lic.base.diagnostic.code.ServiceFailedOnInfrastructureDenial;
 import org.eclipse.passage.lic.base.io.LicensingFolder;
 import org.eclipse.passage.lic.base.io.PathFromLicensedProduct;
 import org.eclipse.passage.lic.base.io.UserHomePath;
@@ -41,12 +42,27 @@ public abstract class ServiceRemote<C extends Connection, T, D extends RemoteSer
 
 	protected final Equipment equipment;
 	private final Supplier<Path> source;
+	protected final ServerFanout fanout;
+	/**
+	 * @since 3.1
+	 */
+	protected final ServerHealth health = new ServerHealth();
 	private final Supplier<Client<C, T>> client;
 
 	protected ServiceRemote(Equipment equipment, Supplier<Client<C, T>> client, Supplier<Path> source) {
+		this(equipment, client, source, new ServerFanout());
+	}
+
+	/**
+	 * @param fanout defines whether several servers are asked concurrently
+	 * @since 3.1
+	 */
+	protected ServiceRemote(Equipment equipment, Supplier<Client<C, T>> client, Supplier<Path> source,
+			ServerFanout fanout) {
 		this.equipment = equipment;
 		this.source = source;
 		this.client = client;
+		this.fanout = fanout;
 	}
 
 	protected ServiceRemote(Equipment equipment, Supplier<Client<C, T>> client) {
@@ -64,10 +80,48 @@ public abstract class ServiceRemote<C extends Connection, T, D extends RemoteSer
 		return withServers(parameters, accesses.data().get());
 	}
 
+	/**
+	 * The answer is taken into account by the server {@linkplain #health}, unless
+	 * it has been abandoned by the caller
+	 */
 	protected final ServiceInvocationResult<T> withServer(D params, FloatingLicenseAccess access) {
-		return client.get().request(//
+		health.claim(access);
+		long start = System.nanoTime();
+		ServiceInvocationResult<T> result = client.get().request(//
 				request(params, access), //
 				handler(access));
+		if (!Thread.currentThread().isInterrupted()) {
+			health.record(access, System.nanoTime() - start, result.diagnostic());
+		}
+		return result;
+	}
+
+	/**
+	 * Diagnoses a {@code server} that has not answered within the
+	 * {@linkplain ServerFanout#deadline() deadline} of concurrent fan-out, the
+	 * silence counts as a failure of the server
+	 * 
+	 * @since 3.1
+	 */
+	protected final Trouble late(FloatingLicenseAccess server) {
+		health.record(server, fanout.deadline().toNanos(), false);
+		return unasked(server);
+	}
+
+	/**
+	 * Diagnoses a {@code server} that has not been asked at all before the
+	 * {@linkplain ServerFanout#deadline() deadline} of concurrent fan-out has
+	 * passed, the server {@linkplain #health} is not affected
+	 * 
+	 * @since 3.1
+	 */
+	protected final Trouble unasked(FloatingLicenseAccess server) {
+		return new Trouble(//
+				new ServiceFailedOnInfrastructureDenial(), //
+				String.format(AccessMessages.RemoteService_server_late, //
+						server.getServer().getIp(), //
+						server.getServer().getPort(), //
+						fanout.deadline().toMillis()));
 	}
 
 	private ServiceInvocationResult<T> noServers(LicensedProduct product) {
@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lic.hc.remote.impl.acquire;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.stream.Collectors;
+
+import org.eclipse.passage.lic.api.LicensingException;
+import org.eclipse.passage.lic.api.acquire.GrantAcquisition;
+import org.eclipse.passage.lic.api.conditions.mining.ContentType;
+import org.eclipse.passage.lic.hc.internal.remote.ResponseHandler;
+import org.eclipse.passage.lic.hc.remote.RequestContext;
+import org.eclipse.passage.lic.hc.remote.impl.Equipment;
+import org.eclipse.passage.lic.hc.remote.impl.ResultsTransfered;
+import org.eclipse.passage.lic.internal.emf.EObjectFromBytes;
+import org.eclipse.passage.lic.internal.hc.i18n.AccessMessages;
+import org.eclipse.passage.lic.internal.licenses.convert.PGrantAcquisition;
+import org.eclipse.passage.lic.internal.net.io.SafePayload;
+import org.eclipse.passage.lic.licenses.model.api.GrantAcqisition;
+import org.eclipse.passage.lic.licenses.model.meta.LicensesPackage;
+
+/**
+ * Reads all the grant acquisitions a batch response brings
+ */
+final class AcquisitionsResponse implements ResponseHandler<Collection<GrantAcquisition>> {
+
+	private final Equipment equipment;
+
+	AcquisitionsResponse(Equipment equipment) {
+		this.equipment = equipment;
+	}
+
+	@Override
+	public Collection<GrantAcquisition> read(ResultsTransfered results, RequestContext context)
+			throws LicensingException {
+		ContentType.Xml xml = new ContentType.Xml();
+		if (!xml.equals(results.contentType())) {
+			throw new LicensingException(String.format(AccessMessages.EObjectFromXmiResponse_unexpected_content_type,
+					results.contentType(), xml.contentType()));
+		}
+		return new EObjectFromBytes<GrantAcqisition>(decoded(results.data(), context),
+				LicensesPackage.eINSTANCE.getGrantAcqisition())//
+						.all(Collections.emptyMap())//
+						.stream()//
+						.map(acquisition -> new PGrantAcquisition(acquisition).get())//
+						.collect(Collectors.toList());
+	}
+
+	private byte[] decoded(byte[] raw, RequestContext context) throws LicensingException {
+		return new SafePayload(equipment.keeper(context.product()), equipment.hash(context.hash())).decode(raw);
+	}
+
+}
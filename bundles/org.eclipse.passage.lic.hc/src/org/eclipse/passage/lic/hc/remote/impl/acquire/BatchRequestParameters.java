@@ -0,0 +1,53 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lic.hc.remote.impl.acquire;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.passage.lic.api.LicensedProduct;
+import org.eclipse.passage.lic.api.LicensingException;
+import org.eclipse.passage.lic.api.PassageAction;
+import org.eclipse.passage.lic.base.NamedData;
+import org.eclipse.passage.lic.hc.remote.impl.RequestParameters;
+import org.eclipse.passage.lic.internal.net.BatchMode;
+import org.eclipse.passage.lic.licenses.model.api.FloatingLicenseAccess;
+
+/**
+ * Features (or acquisitions) of a batch travel in the encoded request body,
+ * only the batch mode is exposed
+ */
+final class BatchRequestParameters extends RequestParameters {
+
+	private final PassageAction action;
+	private final boolean atomic;
+
+	BatchRequestParameters(LicensedProduct product, FloatingLicenseAccess access, String hash, PassageAction action,
+			boolean atomic) {
+		super(product, access, hash);
+		this.action = action;
+		this.atomic = atomic;
+	}
+
+	@Override
+	protected PassageAction action() {
+		return action;
+	}
+
+	@SuppressWarnings("rawtypes")
+	@Override
+	protected List<NamedData> actionParameters() throws LicensingException {
+		return Collections.singletonList(new BatchMode(atomic ? BatchMode.atomic : BatchMode.any));
+	}
+
+}
@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lic.hc.remote.impl.acquire;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.eclipse.passage.lic.api.ServiceInvocationResult;
+import org.eclipse.passage.lic.api.acquire.GrantAcquisition;
+import org.eclipse.passage.lic.base.diagnostic.DiagnosticExplained;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>
+ * Keeps floating grant acquisitions alive on a server: each held acquisition is
+ * renewed with the given {@code period} until it is {@linkplain #forget
+ * forgotten} on release.
+ * </p>
+ * <p>
+ * The {@code period} must be well below the server-side lease time, so a single
+ * lost renewal does not cost the grant.
+ * </p>
+ */
+final class LeaseRenewals {
+
+	private final Duration period;
+	private final Map<String, ScheduledFuture<?>> renewals = new ConcurrentHashMap<>();
+	private final Logger log = LoggerFactory.getLogger(getClass());
+	private ScheduledExecutorService timer;
+
+	LeaseRenewals(Duration period) {
+		Objects.requireNonNull(period, "LeaseRenewals::period"); //$NON-NLS-1$
+		this.period = period;
+	}
+
+	void keep(GrantAcquisition acquisition, Supplier<ServiceInvocationResult<Boolean>> renewal) {
+		long delay = period.toMillis();
+		ScheduledFuture<?> scheduled = timer().scheduleWithFixedDelay(//
+				() -> renew(acquisition, renewal), delay, delay, TimeUnit.MILLISECONDS);
+		renewals.put(acquisition.identifier(), scheduled);
+	}
+
+	void forget(GrantAcquisition acquisition) {
+		Optional.ofNullable(renewals.remove(acquisition.identifier()))//
+				.ifPresent(scheduled -> scheduled.cancel(false));
+	}
+
+	private void renew(GrantAcquisition acquisition, Supplier<ServiceInvocationResult<Boolean>> renewal) {
+		try {
+			ServiceInvocationResult<Boolean> result = renewal.get();
+			if (!result.data().orElse(Boolean.FALSE)) {
+				log.warn(String.format("Lease of acquisition %s for feature %s has not been renewed: %s", //$NON-NLS-1$
+						acquisition.identifier(), acquisition.feature(),
+						new DiagnosticExplained(result.diagnostic()).get()));
+			}
+		} catch (RuntimeException e) {
+			// failed attempt must not cancel further renewals
+			log.error("failed: ", e); //$NON-NLS-1$
+		}
+	}
+
+	private synchronized ScheduledExecutorService timer() {
+		if (timer == null) {
+			timer = Executors.newSingleThreadScheduledExecutor(task -> {
+				Thread thread = new Thread(task, "passage-lease-renewal"); //$NON-NLS-1$
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		return timer;
+	}
+
+}
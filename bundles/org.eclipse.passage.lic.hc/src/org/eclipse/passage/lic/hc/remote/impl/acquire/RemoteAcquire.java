@@ -14,6 +14,7 @@
 package org.eclipse.passage.lic.hc.remote.impl.acquire;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import org.eclipse.passage.lic.api.LicensingException;
@@ -32,6 +33,7 @@ import org.eclipse.passage.lic.hc.remote.impl.RemoteServiceData;
 import org.eclipse.passage.lic.hc.remote.impl.RemoteServiceData.OfFeature;
 import org.eclipse.passage.lic.hc.remote.impl.RequestParameters;
 import org.eclipse.passage.lic.hc.remote.impl.ResultsTransfered;
+import org.eclipse.passage.lic.hc.remote.impl.ServerFanout;
 import org.eclipse.passage.lic.hc.remote.impl.ServiceAny;
 import org.eclipse.passage.lic.internal.licenses.convert.PGrantAcquisition;
 import org.eclipse.passage.lic.licenses.model.api.FloatingLicenseAccess;
@@ -39,8 +41,21 @@ import org.eclipse.passage.lic.licenses.model.meta.LicensesPackage;
 
 final class RemoteAcquire<C extends Connection> extends ServiceAny<C, GrantAcquisition, RemoteServiceData.OfFeature> {
 
-	RemoteAcquire(Equipment equipment, Supplier<Client<C, GrantAcquisition>> client, Supplier<Path> source) {
-		super(equipment, client, source);
+	private final Consumer<GrantAcquisition> release;
+
+	/**
+	 * @param release is given an acquisition that has been gained on a hedging
+	 *                request in vain
+	 */
+	RemoteAcquire(Equipment equipment, Supplier<Client<C, GrantAcquisition>> client, Supplier<Path> source,
+			ServerFanout fanout, Consumer<GrantAcquisition> release) {
+		super(equipment, client, source, fanout);
+		this.release = release;
+	}
+
+	@Override
+	protected void surplus(OfFeature params, GrantAcquisition acquisition) {
+		release.accept(acquisition);
 	}
 
 	@Override
@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lic.hc.remote.impl.acquire;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.eclipse.passage.lic.api.LicensingException;
+import org.eclipse.passage.lic.api.PassageAction;
+import org.eclipse.passage.lic.api.acquire.GrantAcquisition;
+import org.eclipse.passage.lic.api.io.HashesRegistry;
+import org.eclipse.passage.lic.hc.internal.remote.Client;
+import org.eclipse.passage.lic.hc.internal.remote.ResponseHandler;
+import org.eclipse.passage.lic.hc.remote.Configuration;
+import org.eclipse.passage.lic.hc.remote.Connection;
+import org.eclipse.passage.lic.hc.remote.impl.BaseConfiguration;
+import org.eclipse.passage.lic.hc.remote.impl.Equipment;
+import org.eclipse.passage.lic.hc.remote.impl.RemoteRequest;
+import org.eclipse.passage.lic.hc.remote.impl.RemoteServiceData.OfFeatures;
+import org.eclipse.passage.lic.hc.remote.impl.RequestParameters;
+import org.eclipse.passage.lic.hc.remote.impl.ServerFanout;
+import org.eclipse.passage.lic.hc.remote.impl.ServiceAny;
+import org.eclipse.passage.lic.internal.net.io.SafePayload;
+import org.eclipse.passage.lic.licenses.model.api.FloatingLicenseAccess;
+
+final class RemoteAcquireBatch<C extends Connection> extends ServiceAny<C, Collection<GrantAcquisition>, OfFeatures> {
+
+	private final Consumer<Collection<GrantAcquisition>> release;
+
+	/**
+	 * @param release is given acquisitions that have been gained on a hedging
+	 *                request in vain
+	 */
+	RemoteAcquireBatch(Equipment equipment, Supplier<Client<C, Collection<GrantAcquisition>>> client,
+			Supplier<Path> source, ServerFanout fanout, Consumer<Collection<GrantAcquisition>> release) {
+		super(equipment, client, source, fanout);
+		this.release = release;
+	}
+
+	@Override
+	protected void surplus(OfFeatures params, Collection<GrantAcquisition> acquisitions) {
+		release.accept(acquisitions);
+	}
+
+	@Override
+	protected RemoteRequest<C> request(OfFeatures params, FloatingLicenseAccess access) {
+		return new Request(params, access, equipment.hashes());
+	}
+
+	@Override
+	protected ResponseHandler<Collection<GrantAcquisition>> handler(FloatingLicenseAccess access) {
+		return new AcquisitionsResponse(equipment);
+	}
+
+	private final class Request extends RemoteRequest<C> {
+
+		private final OfFeatures data;
+
+		Request(OfFeatures data, FloatingLicenseAccess access, HashesRegistry hashes) {
+			super(data.product(), access, hashes);
+			this.data = data;
+		}
+
+		@Override
+		public Configuration<C> config() throws LicensingException {
+			return new BaseConfiguration.Post<>(encoded(payload()));
+		}
+
+		private byte[] encoded(byte[] payload) throws LicensingException {
+			return new SafePayload(equipment.keeper(data.product()), equipment.hash(hash)).encode(payload);
+		}
+
+		@Override
+		public RequestParameters parameters() {
+			return new BatchRequestParameters(product, access, hash, new PassageAction.BatchAcquire(),
+					data.atomic());
+		}
+
+		private byte[] payload() {
+			return String.join("\n", data.features()).getBytes(StandardCharsets.UTF_8); //$NON-NLS-1$
+		}
+
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2021 ArSysOp
+ * Copyright (c) 2020, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -13,6 +13,11 @@
 package org.eclipse.passage.lic.hc.remote.impl.acquire;
 
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Supplier;
 
 import org.eclipse.passage.lic.api.LicensedProduct;
@@ -20,15 +25,25 @@ import org.eclipse.passage.lic.api.ServiceInvocationResult;
 import org.eclipse.passage.lic.api.acquire.GrantAcquisition;
 import org.eclipse.passage.lic.api.acquire.LicenseAcquisitionService;
 import org.eclipse.passage.lic.api.conditions.ConditionMiningTarget;
+import org.eclipse.passage.lic.api.diagnostic.Diagnostic;
+import org.eclipse.passage.lic.base.BaseServiceInvocationResult;
+import org.eclipse.passage.lic.base.diagnostic.BaseDiagnostic;
+import org.eclipse.passage.lic.base.diagnostic.SumOfDiagnostics;
 import org.eclipse.passage.lic.base.io.LicensingFolder;
 import org.eclipse.passage.lic.base.io.UserHomePath;
 import org.eclipse.passage.lic.hc.internal.remote.Client;
 import org.eclipse.passage.lic.hc.remote.Connection;
 import org.eclipse.passage.lic.hc.remote.impl.Equipment;
-import org.eclipse.passage.lic.hc.remote.impl.HttpClient;
+import org.eclipse.passage.lic.hc.remote.impl.PooledHttpClient;
 import org.eclipse.passage.lic.hc.remote.impl.RemoteServiceData;
+import org.eclipse.passage.lic.hc.remote.impl.ServerFanout;
 
 /**
+ * <p>
+ * Each successfully acquired grant is renewed on the server periodically (once
+ * a minute by default) until it is released, as the server holds a grant only
+ * for a limited lease time.
+ * </p>
  * 
  * @param <C>
  * 
@@ -40,19 +55,75 @@ public final class RemoteAcquisitionService<C extends Connection> implements Lic
 	private final ConditionMiningTarget target = new ConditionMiningTarget.Remote();
 	private final Supplier<Client<C, GrantAcquisition>> acquire;
 	private final Supplier<Client<C, Boolean>> release;
+	private final Supplier<Client<C, Boolean>> renew;
+	private final Optional<Supplier<Client<C, Collection<GrantAcquisition>>>> batch;
 	private final Supplier<Path> source;
+	private final ServerFanout fanout;
+	private final LeaseRenewals renewals;
 
+	/**
+	 * Batch operations are served one by one
+	 */
 	public RemoteAcquisitionService(Equipment equipment, Supplier<Client<C, GrantAcquisition>> acquire,
 			Supplier<Client<C, Boolean>> release, //
 			Supplier<Path> source) {
+		// a client is not bound to an action: the one for release serves renewal
+		this(equipment, acquire, release, release, Optional.empty(), source, Duration.ofMinutes(1),
+				new ServerFanout());
+	}
+
+	/**
+	 * @param renewal period of acquisition renewal, must be well below the lease
+	 *                time of the server
+	 * @since 3.1
+	 */
+	public RemoteAcquisitionService(Equipment equipment, Supplier<Client<C, GrantAcquisition>> acquire,
+			Supplier<Client<C, Boolean>> release, //
+			Supplier<Client<C, Boolean>> renew, //
+			Supplier<Client<C, Collection<GrantAcquisition>>> batch, //
+			Supplier<Path> source, //
+			Duration renewal) {
+		this(equipment, acquire, release, renew, Optional.of(batch), source, renewal, new ServerFanout());
+	}
+
+	/**
+	 * @param renewal period of acquisition renewal, must be well below the lease
+	 *                time of the server
+	 * @param fanout  defines whether several floating servers are asked
+	 *                concurrently. An acquisition gained on a hedging request in
+	 *                vain is released at once.
+	 * @since 3.1
+	 */
+	public RemoteAcquisitionService(Equipment equipment, Supplier<Client<C, GrantAcquisition>> acquire,
+			Supplier<Client<C, Boolean>> release, //
+			Supplier<Client<C, Boolean>> renew, //
+			Supplier<Client<C, Collection<GrantAcquisition>>> batch, //
+			Supplier<Path> source, //
+			Duration renewal, //
+			ServerFanout fanout) {
+		this(equipment, acquire, release, renew, Optional.of(batch), source, renewal, fanout);
+	}
+
+	public RemoteAcquisitionService(Equipment equipment) {
+		this(equipment, PooledHttpClient::new, PooledHttpClient::new, PooledHttpClient::new, PooledHttpClient::new,
+				new LicensingFolder(new UserHomePath()), Duration.ofMinutes(1));
+	}
+
+	private RemoteAcquisitionService(Equipment equipment, Supplier<Client<C, GrantAcquisition>> acquire,
+			Supplier<Client<C, Boolean>> release, //
+			Supplier<Client<C, Boolean>> renew, //
+			Optional<Supplier<Client<C, Collection<GrantAcquisition>>>> batch, //
+			Supplier<Path> source, //
+			Duration renewal, //
+			ServerFanout fanout) {
 		this.equipment = equipment;
 		this.acquire = acquire;
 		this.release = release;
+		this.renew = renew;
+		this.batch = batch;
 		this.source = source;
-	}
-
-	public RemoteAcquisitionService(Equipment equipment) {
-		this(equipment, HttpClient::new, HttpClient::new, new LicensingFolder(new UserHomePath()));
+		this.fanout = fanout;
+		this.renewals = new LeaseRenewals(renewal);
 	}
 
 	@Override
@@ -62,14 +133,112 @@ public final class RemoteAcquisitionService<C extends Connection> implements Lic
 
 	@Override
 	public ServiceInvocationResult<GrantAcquisition> acquire(LicensedProduct product, String feature) {
-		return new RemoteAcquire<>(equipment, acquire, source)
+		ServiceInvocationResult<GrantAcquisition> result = new RemoteAcquire<>(equipment, acquire, source, fanout,
+				surplus -> release(product, surplus))
 				.request(new RemoteServiceData.OfFeature(product, feature));
+		result.data().ifPresent(acquisition -> renewals.keep(acquisition, () -> renew(product, acquisition)));
+		return result;
 	}
 
 	@Override
 	public ServiceInvocationResult<Boolean> release(LicensedProduct product, GrantAcquisition acquisition) {
-		return new RemoteRelease<>(equipment, release, source)//
+		renewals.forget(acquisition);
+		return new RemoteRelease<>(equipment, release, source, fanout)//
+				.request(new RemoteServiceData.WithPayload<>(product, acquisition));
+	}
+
+	/**
+	 * Acquires grants for all the {@code features} in a single round trip.
+	 * 
+	 * @param atomic either all the features get a grant or none does, otherwise
+	 *               features with no grant available are skipped
+	 * @since 3.1
+	 */
+	public ServiceInvocationResult<Collection<GrantAcquisition>> acquire(LicensedProduct product,
+			Collection<String> features, boolean atomic) {
+		if (!batch.isPresent()) {
+			return acquireOneByOne(product, features, atomic);
+		}
+		ServiceInvocationResult<Collection<GrantAcquisition>> result = //
+				new RemoteAcquireBatch<>(equipment, batch.get(), source, fanout,
+						surplus -> release(product, surplus))//
+						.request(new RemoteServiceData.OfFeatures(product, features, atomic));
+		result.data().ifPresent(acquisitions -> acquisitions.forEach(//
+				acquisition -> renewals.keep(acquisition, () -> renew(product, acquisition))));
+		return result;
+	}
+
+	/**
+	 * Releases all the {@code acquisitions} in a single round trip.
+	 * 
+	 * @return acquisitions that have been actually released
+	 * @since 3.1
+	 */
+	public ServiceInvocationResult<Collection<GrantAcquisition>> release(LicensedProduct product,
+			Collection<GrantAcquisition> acquisitions) {
+		if (!batch.isPresent()) {
+			return releaseOneByOne(product, acquisitions);
+		}
+		acquisitions.forEach(renewals::forget);
+		return new RemoteReleaseBatch<>(equipment, batch.get(), source, fanout)//
+				.request(new RemoteServiceData.WithPayload<>(product, acquisitions));
+	}
+
+	/**
+	 * Prolongs the server-side lease of the given {@code acquisition}. Is called
+	 * periodically for each held acquisition, there is no need to call it
+	 * explicitly.
+	 * 
+	 * @since 3.1
+	 */
+	public ServiceInvocationResult<Boolean> renew(LicensedProduct product, GrantAcquisition acquisition) {
+		return new RemoteRenew<>(equipment, renew, source, fanout)//
 				.request(new RemoteServiceData.WithPayload<>(product, acquisition));
 	}
 
+	private ServiceInvocationResult<Collection<GrantAcquisition>> acquireOneByOne(LicensedProduct product,
+			Collection<String> features, boolean atomic) {
+		List<GrantAcquisition> acquired = new ArrayList<>();
+		List<Diagnostic> diagnostics = new ArrayList<>();
+		for (String feature : features) {
+			ServiceInvocationResult<GrantAcquisition> single = acquire(product, feature);
+			diagnostics.add(single.diagnostic());
+			if (single.data().isPresent()) {
+				acquired.add(single.data().get());
+			} else if (atomic) {
+				releaseOneByOne(product, acquired);
+				return new BaseServiceInvocationResult<>(sum(diagnostics));
+			}
+		}
+		return oneByOne(diagnostics, acquired);
+	}
+
+	private ServiceInvocationResult<Collection<GrantAcquisition>> releaseOneByOne(LicensedProduct product,
+			Collection<GrantAcquisition> acquisitions) {
+		List<GrantAcquisition> released = new ArrayList<>();
+		List<Diagnostic> diagnostics = new ArrayList<>();
+		for (GrantAcquisition acquisition : acquisitions) {
+			ServiceInvocationResult<Boolean> single = release(product, acquisition);
+			diagnostics.add(single.diagnostic());
+			if (single.data().orElse(Boolean.FALSE)) {
+				released.add(acquisition);
+			}
+		}
+		return oneByOne(diagnostics, released);
+	}
+
+	private ServiceInvocationResult<Collection<GrantAcquisition>> oneByOne(List<Diagnostic> diagnostics,
+			List<GrantAcquisition> served) {
+		if (served.isEmpty()) {
+			return new BaseServiceInvocationResult<>(sum(diagnostics));
+		}
+		return new BaseServiceInvocationResult<>(sum(diagnostics), served);
+	}
+
+	private Diagnostic sum(List<Diagnostic> particles) {
+		return particles.stream()//
+				.reduce(new SumOfDiagnostics())//
+				.orElseGet(BaseDiagnostic::new);
+	}
+
 }
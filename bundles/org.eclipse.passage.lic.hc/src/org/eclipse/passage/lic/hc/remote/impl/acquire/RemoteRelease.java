@@ -30,6 +30,7 @@ import org.eclipse.passage.lic.hc.remote.impl.RemoteRequest;
 import org.eclipse.passage.lic.hc.remote.impl.RemoteServiceData;
 import org.eclipse.passage.lic.hc.remote.impl.RequestParameters;
 import org.eclipse.passage.lic.hc.remote.impl.ResultsTransfered;
+import org.eclipse.passage.lic.hc.remote.impl.ServerFanout;
 import org.eclipse.passage.lic.hc.remote.impl.ServiceAny;
 import org.eclipse.passage.lic.internal.emf.EObjectToBytes;
 import org.eclipse.passage.lic.internal.licenses.convert.EGrantAcquisition;
@@ -39,8 +40,9 @@ import org.eclipse.passage.lic.licenses.model.api.FloatingLicenseAccess;
 final class RemoteRelease<C extends Connection>
 		extends ServiceAny<C, Boolean, RemoteServiceData.WithPayload<GrantAcquisition>> {
 
-	RemoteRelease(Equipment equipment, Supplier<Client<C, Boolean>> client, Supplier<Path> source) {
-		super(equipment, client, source);
+	RemoteRelease(Equipment equipment, Supplier<Client<C, Boolean>> client, Supplier<Path> source,
+			ServerFanout fanout) {
+		super(equipment, client, source, fanout);
 	}
 
 	@Override
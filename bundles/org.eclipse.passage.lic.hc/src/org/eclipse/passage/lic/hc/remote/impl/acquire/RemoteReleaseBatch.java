@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lic.hc.remote.impl.acquire;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.eclipse.passage.lic.api.LicensingException;
+import org.eclipse.passage.lic.api.PassageAction;
+import org.eclipse.passage.lic.api.acquire.GrantAcquisition;
+import org.eclipse.passage.lic.api.io.HashesRegistry;
+import org.eclipse.passage.lic.hc.internal.remote.Client;
+import org.eclipse.passage.lic.hc.internal.remote.ResponseHandler;
+import org.eclipse.passage.lic.hc.remote.Configuration;
+import org.eclipse.passage.lic.hc.remote.Connection;
+import org.eclipse.passage.lic.hc.remote.impl.BaseConfiguration;
+import org.eclipse.passage.lic.hc.remote.impl.Equipment;
+import org.eclipse.passage.lic.hc.remote.impl.RemoteRequest;
+import org.eclipse.passage.lic.hc.remote.impl.RemoteServiceData;
+import org.eclipse.passage.lic.hc.remote.impl.RequestParameters;
+import org.eclipse.passage.lic.hc.remote.impl.ServerFanout;
+import org.eclipse.passage.lic.hc.remote.impl.ServiceAny;
+import org.eclipse.passage.lic.internal.emf.EObjectsToBytes;
+import org.eclipse.passage.lic.internal.licenses.convert.EGrantAcquisition;
+import org.eclipse.passage.lic.internal.net.io.SafePayload;
+import org.eclipse.passage.lic.licenses.model.api.FloatingLicenseAccess;
+import org.eclipse.passage.lic.licenses.model.api.GrantAcqisition;
+import org.eclipse.passage.lic.licenses.model.meta.LicensesPackage;
+
+final class RemoteReleaseBatch<C extends Connection> extends
+		ServiceAny<C, Collection<GrantAcquisition>, RemoteServiceData.WithPayload<Collection<GrantAcquisition>>> {
+
+	RemoteReleaseBatch(Equipment equipment, Supplier<Client<C, Collection<GrantAcquisition>>> client,
+			Supplier<Path> source, ServerFanout fanout) {
+		super(equipment, client, source, fanout);
+	}
+
+	@Override
+	protected RemoteRequest<C> request(RemoteServiceData.WithPayload<Collection<GrantAcquisition>> params,
+			FloatingLicenseAccess access) {
+		return new Request(params, access, equipment.hashes());
+	}
+
+	@Override
+	protected ResponseHandler<Collection<GrantAcquisition>> handler(FloatingLicenseAccess access) {
+		return new AcquisitionsResponse(equipment);
+	}
+
+	private final class Request extends RemoteRequest<C> {
+
+		private final RemoteServiceData.WithPayload<Collection<GrantAcquisition>> data;
+
+		Request(RemoteServiceData.WithPayload<Collection<GrantAcquisition>> data, FloatingLicenseAccess access,
+				HashesRegistry hashes) {
+			super(data.product(), access, hashes);
+			this.data = data;
+		}
+
+		@Override
+		public Configuration<C> config() throws LicensingException {
+			return new BaseConfiguration.Post<>(encoded(payload()));
+		}
+
+		private byte[] encoded(byte[] payload) throws LicensingException {
+			return new SafePayload(equipment.keeper(data.product()), equipment.hash(hash)).encode(payload);
+		}
+
+		@Override
+		public RequestParameters parameters() {
+			return new BatchRequestParameters(product, access, hash, new PassageAction.BatchRelease(), false);
+		}
+
+		private byte[] payload() throws LicensingException {
+			List<GrantAcqisition> acquisitions = data.payload().stream()//
+					.map(acquisition -> new EGrantAcquisition(acquisition).get())//
+					.collect(Collectors.toList());
+			return new EObjectsToBytes(acquisitions, LicensesPackage.eINSTANCE.getGrantAcqisition()).get();
+		}
+
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2021 ArSysOp
+ * Copyright (c) 2020, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -30,10 +30,11 @@ import org.eclipse.passage.lic.hc.internal.remote.Client;
 import org.eclipse.passage.lic.hc.internal.remote.ResponseHandler;
 import org.eclipse.passage.lic.hc.remote.Connection;
 import org.eclipse.passage.lic.hc.remote.impl.Equipment;
-import org.eclipse.passage.lic.hc.remote.impl.HttpClient;
+import org.eclipse.passage.lic.hc.remote.impl.PooledHttpClient;
 import org.eclipse.passage.lic.hc.remote.impl.RemoteRequest;
 import org.eclipse.passage.lic.hc.remote.impl.RemoteServiceData;
 import org.eclipse.passage.lic.hc.remote.impl.RemoteServiceData.Bulk;
+import org.eclipse.passage.lic.hc.remote.impl.ServerFanout;
 import org.eclipse.passage.lic.hc.remote.impl.ServiceEvery;
 import org.eclipse.passage.lic.licenses.model.api.FloatingLicenseAccess;
 
@@ -51,8 +52,18 @@ public final class RemoteConditions<C extends Connection> //
 		super(equipment, client, source);
 	}
 
+	/**
+	 * @param fanout defines whether several floating servers are asked
+	 *               concurrently
+	 * @since 3.1
+	 */
+	public RemoteConditions(Equipment equipment, Supplier<Client<C, Collection<ConditionPack>>> client,
+			Supplier<Path> source, ServerFanout fanout) {
+		super(equipment, client, source, fanout);
+	}
+
 	public RemoteConditions(Equipment equipment) {
-		this(equipment, HttpClient::new, new LicensingFolder(new UserHomePath()));
+		this(equipment, PooledHttpClient::new, new LicensingFolder(new UserHomePath()));
 	}
 
 	@Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020 ArSysOp
+ * Copyright (c) 2020, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -27,6 +27,7 @@ public final class AccessMessages extends NLS {
 	public static String EObjectFromXmiResponse_unexpected_content_type;
 
 	public static String RemoteService_no_server;
+	public static String RemoteService_server_late;
 
 	public static String RequestParameters_encoding_failed;
 
@@ -34,6 +35,8 @@ public final class AccessMessages extends NLS {
 
 	public static String HttpClient_failure;
 
+	public static String PooledConnection_no_response;
+
 	static {
 		NLS.initializeMessages(BUNDLE_NAME, AccessMessages.class);
 	}
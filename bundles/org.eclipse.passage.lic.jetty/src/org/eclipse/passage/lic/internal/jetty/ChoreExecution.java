@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lic.internal.jetty;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>
+ * Runs request chores away from connector threads, no more than
+ * {@code limit} of them at once, while no more than {@code limit} other chores
+ * wait for their turn. A chore beyond that is
+ * {@linkplain RejectedExecutionException rejected} at once, so an overloaded
+ * server answers {@code 503} instead of piling requests up.
+ * </p>
+ * <p>
+ * Chores are served by virtual threads when the running JVM provides them: a
+ * chore blocked on file I/O then holds no platform thread. Otherwise platform
+ * threads serve the chores.
+ * </p>
+ */
+public final class ChoreExecution implements Executor, AutoCloseable {
+
+	private final Logger log = LoggerFactory.getLogger(getClass());
+	private final ThreadPoolExecutor executor;
+
+	public ChoreExecution(int limit) {
+		if (limit <= 0) {
+			throw new IllegalArgumentException("Chore execution limit must be positive: " + limit); //$NON-NLS-1$
+		}
+		this.executor = new ThreadPoolExecutor(limit, limit, 0, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(limit), threads(limit), new ThreadPoolExecutor.AbortPolicy());
+	}
+
+	/**
+	 * @throws RejectedExecutionException when {@code limit} chores are running and
+	 *                                    as many are waiting, or the execution is
+	 *                                    closed
+	 */
+	@Override
+	public void execute(Runnable chore) {
+		executor.execute(chore);
+	}
+
+	@Override
+	public void close() {
+		executor.shutdown();
+	}
+
+	private ThreadFactory threads(int limit) {
+		try {
+			Class<?> type = Class.forName("java.lang.Thread$Builder"); //$NON-NLS-1$
+			Object builder = Thread.class.getMethod("ofVirtual").invoke(null); //$NON-NLS-1$
+			builder = type.getMethod("name", String.class, long.class).invoke(builder, "passage-chore-", 1L); //$NON-NLS-1$ //$NON-NLS-2$
+			return (ThreadFactory) type.getMethod("factory").invoke(builder); //$NON-NLS-1$
+		} catch (ReflectiveOperationException e) {
+			log.info(String.format("Virtual threads are not available, %d platform threads serve requests", limit)); //$NON-NLS-1$
+			log.debug("Virtual thread factory lookup failed", e); //$NON-NLS-1$
+			return new Named();
+		}
+	}
+
+	private static final class Named implements ThreadFactory {
+
+		private final AtomicInteger index = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable target) {
+			Thread thread = new Thread(target, "passage-chore-" + index.incrementAndGet()); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		}
+
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2023 ArSysOp
+ * Copyright (c) 2021, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -16,42 +16,116 @@ package org.eclipse.passage.lic.internal.jetty;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Function;
 
+import org.eclipse.jetty.http.HttpException;
 import org.eclipse.jetty.http.HttpHeader;
 import org.eclipse.jetty.http.HttpStatus;
+import org.eclipse.jetty.io.Content;
+import org.eclipse.jetty.io.EofException;
 import org.eclipse.jetty.server.Handler;
 import org.eclipse.jetty.server.Request;
 import org.eclipse.jetty.server.Response;
 import org.eclipse.jetty.util.Callback;
+import org.eclipse.jetty.util.thread.Invocable;
 import org.eclipse.passage.lic.internal.net.api.handle.NetRequest;
 import org.eclipse.passage.lic.internal.net.api.handle.NetResponse;
 import org.eclipse.passage.lic.internal.net.api.handle.NetResponse.Error;
 
 /**
+ * <p>
  * There is one single instance of the handler for a server. All of the rest in
  * the flow is created per-request, exploited and got rid of.
- * 
+ * </p>
+ * <p>
  * Thus, it's the only place to keep server's {@code state}. Which, for the
  * floating server, is a persistent grant acquisition ledger.
+ * </p>
+ * <p>
+ * Being supplied with a {@linkplain ChoreExecution}, the handler does not
+ * occupy a connector thread: request body is read asynchronously, and the
+ * request is handled and answered by the execution, so a burst of slow
+ * requests cannot starve the connector. A request the execution has no room
+ * for is answered with {@code 503} at once. Otherwise each request is handled
+ * right on the thread it came with.
+ * </p>
  */
 public final class JettyHandler extends Handler.Abstract {
 
+	private static final int body = 16 * 1024 * 1024; // max request body size, in bytes
 	private final Function<NetRequest, NetResponse> handler;
+	private final Optional<ChoreExecution> execution;
 
 	public JettyHandler(Function<NetRequest, NetResponse> handler) {
+		this(handler, Optional.empty());
+	}
+
+	public JettyHandler(Function<NetRequest, NetResponse> handler, ChoreExecution execution) {
+		this(handler, Optional.of(execution));
+	}
+
+	private JettyHandler(Function<NetRequest, NetResponse> handler, Optional<ChoreExecution> execution) {
+		super(execution.isPresent() ? Invocable.InvocationType.NON_BLOCKING : Invocable.InvocationType.BLOCKING);
 		Objects.requireNonNull(handler, "JettyHandler::handler"); //$NON-NLS-1$
+		Objects.requireNonNull(execution, "JettyHandler::execution"); //$NON-NLS-1$
 		this.handler = handler;
+		this.execution = execution;
 	}
 
 	@Override
 	public boolean handle(Request request, Response answer, Callback callback) throws Exception {
+		if (execution.isPresent()) {
+			if (request.getLength() > body) {
+				Response.writeError(request, answer, callback, HttpStatus.PAYLOAD_TOO_LARGE_413,
+						String.format("Request body exceeds %d bytes", body)); //$NON-NLS-1$
+				return true;
+			}
+			Content.Source.asByteArrayAsync(request, body).whenComplete((content, failure) -> {
+				if (failure != null) {
+					Response.writeError(request, answer, callback, status(failure), failure.getMessage());
+				} else {
+					offload(new JettyRequest(request, content), request, answer, callback);
+				}
+			});
+			return true;
+		}
 		NetResponse response = handler.apply(new JettyRequest(request));
 		write(response, request, answer, callback);
 		return true;
 
 	}
 
+	/**
+	 * A body of unknown length that runs over the limit fails the accumulation
+	 * with a plain {@linkplain IOException}, while a malformed one fails with an
+	 * {@linkplain HttpException} or a connection failure
+	 */
+	private int status(Throwable failure) {
+		if (failure instanceof HttpException) {
+			return ((HttpException) failure).getCode();
+		}
+		if (failure instanceof IOException && !(failure instanceof EofException)) {
+			return HttpStatus.PAYLOAD_TOO_LARGE_413;
+		}
+		return HttpStatus.BAD_REQUEST_400;
+	}
+
+	private void offload(NetRequest input, Request request, Response answer, Callback callback) {
+		try {
+			execution.get().execute(() -> {
+				try {
+					write(handler.apply(input), request, answer, callback);
+				} catch (Throwable e) {
+					callback.failed(e);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			Response.writeError(request, answer, callback, HttpStatus.SERVICE_UNAVAILABLE_503, e.getMessage());
+		}
+	}
+
 	private void write(NetResponse response, Request request, Response answer, Callback callback) throws IOException {
 		if (response.failed()) {
 			Error error = response.error();
@@ -78,4 +152,10 @@ public final class JettyHandler extends Handler.Abstract {
 		return response.contentType().contentType();
 	}
 
+	@Override
+	protected void doStop() throws Exception {
+		execution.ifPresent(ChoreExecution::close);
+		super.doStop();
+	}
+
 }
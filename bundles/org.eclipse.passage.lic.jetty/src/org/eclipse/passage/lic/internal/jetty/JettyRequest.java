@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2023 ArSysOp
+ * Copyright (c) 2021, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -16,6 +16,7 @@ package org.eclipse.passage.lic.internal.jetty;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Objects;
+import java.util.Optional;
 
 import org.eclipse.jetty.server.Request;
 import org.eclipse.jetty.util.Fields;
@@ -25,11 +26,25 @@ public final class JettyRequest implements NetRequest {
 
 	private final Request origin;
 	private final Fields parameters;
+	private final Optional<byte[]> content;
 
 	public JettyRequest(Request origin) {
+		this(origin, Optional.empty());
+	}
+
+	/**
+	 * Request which body has already been read in full
+	 */
+	public JettyRequest(Request origin, byte[] content) {
+		this(origin, Optional.of(content));
+	}
+
+	private JettyRequest(Request origin, Optional<byte[]> content) {
 		Objects.requireNonNull(origin, "JettyRequest::origin"); //$NON-NLS-1$
+		Objects.requireNonNull(content, "JettyRequest::content"); //$NON-NLS-1$
 		this.origin = origin;
 		this.parameters = Request.extractQueryParameters(origin);
+		this.content = content;
 	}
 
 	@Override
@@ -39,11 +54,12 @@ public final class JettyRequest implements NetRequest {
 
 	@Override
 	public byte[] content() throws IOException {
-		byte[] content = new byte[(int) origin.getLength()];
+		if (content.isPresent()) {
+			return content.get();
+		}
 		try (InputStream stream = Request.asInputStream(origin)) {
-			stream.read(content);
+			return stream.readAllBytes();
 		}
-		return content;
 	}
 
 }
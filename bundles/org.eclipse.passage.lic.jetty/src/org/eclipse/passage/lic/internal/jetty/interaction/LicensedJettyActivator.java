@@ -36,6 +36,7 @@ public abstract class LicensedJettyActivator implements BundleActivator {
 	@Override
 	public final void stop(BundleContext context) throws Exception {
 		server.stop();
+		dispose();
 	}
 
 	protected abstract void configureLogging();
@@ -53,4 +54,12 @@ public abstract class LicensedJettyActivator implements BundleActivator {
 
 	protected abstract void registerCustomCommands(BundleContext context);
 
+	/**
+	 * Releases whatever the {@linkplain #handler()} holds, called once the server
+	 * is stopped
+	 */
+	protected void dispose() {
+		// nothing to release by default
+	}
+
 }
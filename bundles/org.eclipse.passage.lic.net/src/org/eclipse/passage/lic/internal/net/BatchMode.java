@@ -0,0 +1,41 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lic.internal.net;
+
+import java.util.function.Function;
+
+import org.eclipse.passage.lic.base.StringNamedData;
+
+/**
+ * How a batch of features is to be acquired: {@linkplain #atomic} (all or
+ * nothing) or {@linkplain #any} (as many as possible)
+ */
+public final class BatchMode extends StringNamedData {
+
+	public static final String atomic = "atomic"; //$NON-NLS-1$
+	public static final String any = "any"; //$NON-NLS-1$
+
+	public BatchMode(String value) {
+		super(value);
+	}
+
+	public BatchMode(Function<String, String> retrieve) {
+		super(retrieve);
+	}
+
+	@Override
+	public String key() {
+		return "batch.mode"; //$NON-NLS-1$
+	}
+
+}
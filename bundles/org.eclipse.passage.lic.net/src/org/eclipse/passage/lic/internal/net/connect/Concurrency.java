@@ -0,0 +1,46 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lic.internal.net.connect;
+
+import java.util.Optional;
+
+/**
+ * Amount of requests a server handles simultaneously. Zero (or a negative
+ * value) demands each request to be handled right on a connector thread.
+ */
+public final class Concurrency extends CliParameter<Integer> {
+
+	public Concurrency(int lazy) {
+		super(lazy);
+	}
+
+	public Concurrency(String[] sources, int lazy) {
+		super(sources, lazy);
+	}
+
+	@Override
+	public String key() {
+		return "server.concurrency"; //$NON-NLS-1$
+	}
+
+	@Override
+	protected Optional<Integer> parse(String value) {
+		try {
+			return Optional.of(Integer.parseInt(value));
+		} catch (NumberFormatException e) {
+			log.error("failed: ", e); //$NON-NLS-1$ ;
+			return defaultValue();
+		}
+	}
+
+}
@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lic.internal.net.handle;
+
+import java.util.Collection;
+import java.util.Objects;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.passage.lic.api.LicensingException;
+import org.eclipse.passage.lic.api.conditions.mining.ContentType;
+import org.eclipse.passage.lic.api.io.Hashes;
+import org.eclipse.passage.lic.api.io.KeyKeeper;
+import org.eclipse.passage.lic.internal.emf.EObjectsToBytes;
+import org.eclipse.passage.lic.internal.net.api.handle.NetResponse;
+import org.eclipse.passage.lic.internal.net.io.SafePayload;
+
+/**
+ * Transfers several objects of the same {@code type} in a single encoded
+ * response
+ */
+public final class EObjectsTransfer implements NetResponse {
+
+	private final Collection<? extends EObject> payload;
+	private final EClass type;
+	private final KeyKeeper key;
+	private final Hashes hashes;
+
+	public EObjectsTransfer(Collection<? extends EObject> payload, EClass type, KeyKeeper key, Hashes hashes) {
+		this.payload = Objects.requireNonNull(payload);
+		this.type = Objects.requireNonNull(type);
+		this.key = Objects.requireNonNull(key);
+		this.hashes = Objects.requireNonNull(hashes);
+	}
+
+	@Override
+	public boolean failed() {
+		return false;
+	}
+
+	@Override
+	public boolean carriesPayload() {
+		return true;
+	}
+
+	@Override
+	public Error error() {
+		throw new IllegalStateException("Successful response does not possess error information"); //$NON-NLS-1$ // dev
+	}
+
+	@Override
+	public byte[] payload() throws LicensingException {
+		return encode(new EObjectsToBytes(payload, type).get());
+	}
+
+	@Override
+	public ContentType contentType() {
+		return new ContentType.Xml();
+	}
+
+	private byte[] encode(byte[] plain) throws LicensingException {
+		return new SafePayload(key, hashes).encode(plain);
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020 ArSysOp
+ * Copyright (c) 2020, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -12,17 +12,17 @@
  *******************************************************************************/
 package org.eclipse.passage.lic.oshi;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 import org.eclipse.passage.lic.api.inspection.EnvironmentProperty;
 
 final class EnvironmentProperties {
 
-	private final Map<EnvironmentProperty, String> properties = new HashMap<>();
+	private final Map<EnvironmentProperty, String> properties = new ConcurrentHashMap<>();
 
 	void store(Supplier<String> value, EnvironmentProperty key) {
 		Optional<String> read;
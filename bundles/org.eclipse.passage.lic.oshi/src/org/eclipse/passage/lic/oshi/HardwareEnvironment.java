@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2021 ArSysOp
+ * Copyright (c) 2020, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -12,19 +12,27 @@
  *******************************************************************************/
 package org.eclipse.passage.lic.oshi;
 
+import java.time.Duration;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
 
 import org.eclipse.passage.lic.api.EvaluationType;
 import org.eclipse.passage.lic.api.LicensingException;
 import org.eclipse.passage.lic.api.inspection.EnvironmentProperty;
 import org.eclipse.passage.lic.api.inspection.RuntimeEnvironment;
 
-import oshi.SystemInfo;
-
 /**
  * <p>
- * It's extremely important to have not more then one instance of this service
- * at runtime (guaranteed by {@code Framework}).
+ * Inspects hardware through a {@linkplain State} snapshot, which is shared by
+ * all the instances of the service, as hardware is one for the whole process.
+ * Each family of hardware properties is read only on demand, once per
+ * snapshot.
+ * </p>
+ * <p>
+ * A snapshot is dropped when it gets older than the {@code refresh} period or
+ * on an explicit {@linkplain #refresh()} call.
  * </p>
  * 
  * @see State
@@ -33,7 +41,50 @@ import oshi.SystemInfo;
 
 public final class HardwareEnvironment implements RuntimeEnvironment {
 
+	private static final AtomicReference<Snapshot> shared = new AtomicReference<>();
+
 	private final EvaluationType type = new EvaluationType.Hardware();
+	private final long refresh;
+	private final AtomicReference<Snapshot> snapshots;
+	private final LongSupplier clock;
+	private final Consumer<String> reading;
+
+	public HardwareEnvironment() {
+		this(Duration.ofMinutes(10));
+	}
+
+	/**
+	 * @param refresh maximum age of a hardware snapshot
+	 * @since 3.1
+	 */
+	public HardwareEnvironment(Duration refresh) {
+		this(refresh, shared, System::nanoTime, family -> {
+			// nobody to tell
+		});
+	}
+
+	/**
+	 * Keeps its own snapshot apart from the shared one
+	 *
+	 * @param refresh maximum age of a hardware snapshot
+	 * @param clock   source of time in nanoseconds
+	 * @param reading is told of each family of hardware properties being read
+	 * @since 3.1
+	 */
+	public HardwareEnvironment(Duration refresh, LongSupplier clock, Consumer<String> reading) {
+		this(refresh, new AtomicReference<>(), clock, reading);
+	}
+
+	private HardwareEnvironment(Duration refresh, AtomicReference<Snapshot> snapshots, LongSupplier clock,
+			Consumer<String> reading) {
+		Objects.requireNonNull(refresh, "HardwareEnvironment::refresh"); //$NON-NLS-1$
+		Objects.requireNonNull(clock, "HardwareEnvironment::clock"); //$NON-NLS-1$
+		Objects.requireNonNull(reading, "HardwareEnvironment::reading"); //$NON-NLS-1$
+		this.refresh = refresh.toNanos();
+		this.snapshots = snapshots;
+		this.clock = clock;
+		this.reading = reading;
+	}
 
 	@Override
 	public EvaluationType id() {
@@ -44,32 +95,44 @@ public final class HardwareEnvironment implements RuntimeEnvironment {
 	public boolean isAssuptionTrue(EnvironmentProperty property, String assumption) throws LicensingException {
 		Objects.requireNonNull(property, "HardwareEnvironment::isAssuptionTrue::property"); //$NON-NLS-1$
 		Objects.requireNonNull(assumption, "HardwareEnvironment::isAssuptionTrue::assumption"); //$NON-NLS-1$
-		return freshState().hasValue(property, assumption);
+		return snapshot().hasValue(property, assumption);
 	}
 
 	@Override
 	public String state() throws LicensingException {
-		return new GlanceOfState(freshState()).get();
+		return new GlanceOfState(snapshot().complete()).get();
 	}
 
-	/**
-	 * <p>
-	 * It's extremely important to prevent any concurrent access to the
-	 * {@linkplain State} reading. We synchronize it by key {@code OSHI} class
-	 * ({@linkplain SystemInfo}) lock to be sure we have exclusive access to it
-	 * until the hardware scanning is over.
-	 * </p>
-	 * <p>
-	 * Behind all the benefits of such a sync lock choice, it's still a foreign
-	 * class. Just beware, in case of any threading troubles revise.
-	 * </p>
-	 */
-	private State freshState() throws LicensingException {
-		State state;
-		synchronized (SystemInfo.class) {
-			state = new State();
+	@Override
+	public void refresh() {
+		snapshots.set(null);
+	}
+
+	private State snapshot() {
+		long now = clock.getAsLong();
+		Snapshot current = snapshots.get();
+		if (current != null && now - current.born < refresh) {
+			return current.state;
 		}
-		return state;
+		Snapshot fresh = new Snapshot(new State(reading), now);
+		if (snapshots.compareAndSet(current, fresh)) {
+			return fresh.state;
+		}
+		// a concurrent snapshot won: share its hardware reading
+		Snapshot winner = snapshots.get();
+		return winner == null ? fresh.state : winner.state;
+	}
+
+	private static final class Snapshot {
+
+		private final State state;
+		private final long born;
+
+		Snapshot(State state, long born) {
+			this.state = state;
+			this.born = born;
+		}
+
 	}
 
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2022 ArSysOp
+ * Copyright (c) 2020, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -14,14 +14,18 @@
 package org.eclipse.passage.lic.oshi;
 
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
+import java.util.regex.Pattern;
 
 import org.eclipse.passage.lic.api.LicensingException;
 import org.eclipse.passage.lic.api.inspection.EnvironmentProperty;
+import org.eclipse.passage.lic.base.conditions.evaluation.Wildcards;
 import org.eclipse.passage.lic.internal.base.inspection.hardware.BaseBoard;
 import org.eclipse.passage.lic.internal.base.inspection.hardware.Computer;
 import org.eclipse.passage.lic.internal.base.inspection.hardware.Cpu;
@@ -38,48 +42,68 @@ import oshi.software.os.OperatingSystem;
 
 /**
  * <p>
- * State has aggressively not thread-safe hardware state reading phase, which is
- * done on construction time.
+ * Snapshot of hardware state, which is read lazily: a family of properties
+ * (say, {@code os} or {@code hwdisk}) is read only on the first demand for any
+ * of its properties, and then is kept as is for the whole life of the
+ * snapshot. Thus, a look at a CPU property does not cost inventory of all disks
+ * and network interfaces.
  * </p>
  * <p>
- * Reading hardware (done eagerly on a State construction) boils down to lots
- * tricky native code invocation, which has static parts and does not stand
- * concurrent access.
+ * Reading hardware boils down to lots tricky native code invocation, which has
+ * static parts and does not stand concurrent access.
  * </p>
  * <p>
- * Thus, State construction must be synchronized externally: until one State if
- * fully constructed, no another one must even think about it.
+ * Thus, each family reading is synchronized by key {@code OSHI} class
+ * ({@linkplain SystemInfo}) lock: until one family is fully read, no another
+ * one, of this or any other State, must even think about it. Behind all the
+ * benefits of such a sync lock choice, it's still a foreign class. Just beware,
+ * in case of any threading troubles revise.
  * </p>
  * <p>
- * We construct it under a class-dedicated lock only in a
- * {@linkplain HardwareEnvironment} service, which, it turn, must have only
- * single instance at runtime (which is guaranteed by {@code Framework}).
- * </p>
- * <p>
- * Regarding to the data it collects - it's fully immutable, always fresh and
- * absolutely thread safe.
+ * Regarding to the data it collects - once read it's immutable and absolutely
+ * thread safe.
  * </p>
  */
 final class State {
 
 	private final EnvironmentProperties hardware;
 	private final List<Swath<?>> swaths;
+	private final Map<String, Consumer<SystemInfo>> families;
+	private final Set<String> read = ConcurrentHashMap.newKeySet();
+	private final Wildcards wildcards = new Wildcards();
+	private final Consumer<String> reading;
+	private SystemInfo system; // guarded by SystemInfo.class
 
-	State() throws LicensingException {
+	/**
+	 * @param reading is told of each family being read
+	 */
+	State(Consumer<String> reading) {
+		this.reading = reading;
 		this.hardware = new EnvironmentProperties();
 		this.swaths = Arrays.asList(new Swath.Disks(), new Swath.Nets());
-		read(); // eager due to OSHI specifics
+		this.families = families();
+	}
+
+	boolean hasValue(EnvironmentProperty property, String expected) throws LicensingException {
+		read(property.family());
+		Pattern pattern = wildcards.pattern(expected);
+		for (Swath<?> swath : swaths) {
+			if (swath.relates(property.family())) {
+				return swath.hasValue(property, pattern);
+			}
+		}
+		String value = hardware.get(property);
+		return value != null && pattern.matcher(value).matches();
 	}
 
-	boolean hasValue(EnvironmentProperty property, String expected) {
-		String regexp = expected.replaceAll("\\*", ".*"); //$NON-NLS-1$//$NON-NLS-2$
-		Optional<Swath<?>> swath = swaths.stream().filter(sw -> sw.relates(property.family())).findAny();
-		if (swath.isPresent()) {
-			return swath.get().hasValue(property, regexp);
+	/**
+	 * Reads all the families that have not been read yet
+	 */
+	State complete() throws LicensingException {
+		for (String family : families.keySet()) {
+			read(family);
 		}
-		return Optional.ofNullable(hardware.get(property))//
-				.map(value -> value.matches(regexp))//
-				.orElse(false);
+		return this;
 	}
 
 	Set<EnvironmentProperty> properties() {
@@ -94,15 +118,38 @@ final class State {
 		return swaths;
 	}
 
-	private void read() throws LicensingException {
-		try {
-			SystemInfo system = new SystemInfo();
-			readOS(system.getOperatingSystem());
-			readHal(system.getHardware());
-			swaths.forEach(swath -> swath.read(system));
-		} catch (Throwable e) {
-			throw new LicensingException(AssessmentMessages.State_error_reading_hw, e);
+	private void read(String family) throws LicensingException {
+		if (read.contains(family) || !families.containsKey(family)) {
+			return;
 		}
+		synchronized (SystemInfo.class) {
+			if (read.contains(family)) {
+				return;
+			}
+			try {
+				if (system == null) {
+					system = new SystemInfo();
+				}
+				families.get(family).accept(system);
+			} catch (Throwable e) {
+				throw new LicensingException(AssessmentMessages.State_error_reading_hw, e);
+			}
+			read.add(family); // publishes all the family properties
+			reading.accept(family);
+		}
+	}
+
+	private Map<String, Consumer<SystemInfo>> families() {
+		Map<String, Consumer<SystemInfo>> all = new LinkedHashMap<>();
+		all.put(new OS.Family().family(), sys -> readOS(sys.getOperatingSystem()));
+		all.put(new Computer.Model().family(), sys -> readPart(sys.getHardware()::getComputerSystem, this::readSystem));
+		all.put(new BaseBoard.Model().family(),
+				sys -> readPart(() -> sys.getHardware().getComputerSystem().getBaseboard(), this::readBaseBoard));
+		all.put(new Firmware.Name().family(),
+				sys -> readPart(() -> sys.getHardware().getComputerSystem().getFirmware(), this::readFirmware));
+		all.put(new Cpu.Name().family(), sys -> readHal(sys.getHardware()));
+		swaths.forEach(swath -> all.put(swath.family(), swath::read));
+		return all;
 	}
 
 	private void readOS(OperatingSystem info) {
@@ -113,7 +160,6 @@ final class State {
 	}
 
 	private void readHal(HardwareAbstractionLayer hal) {
-		readPart(hal::getComputerSystem, this::readSystem);
 		readPart(hal.getProcessor()::getProcessorIdentifier, this::readProcessor);
 	}
 
@@ -121,8 +167,6 @@ final class State {
 		hardware.store(info::getManufacturer, new Computer.Manufacturer());
 		hardware.store(info::getModel, new Computer.Model());
 		hardware.store(info::getSerialNumber, new Computer.Serial());
-		readPart(info::getBaseboard, this::readBaseBoard);
-		readPart(info::getFirmware, this::readFirmware);
 	}
 
 	private void readBaseBoard(Baseboard info) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2022 ArSysOp
+ * Copyright (c) 2020, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -15,8 +15,8 @@ package org.eclipse.passage.lic.oshi;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 import org.eclipse.passage.lic.api.inspection.EnvironmentProperty;
 import org.eclipse.passage.lic.internal.base.inspection.hardware.Disk;
@@ -59,11 +59,14 @@ abstract class Swath<T> {
 		return family;
 	}
 
-	final boolean hasValue(EnvironmentProperty property, String regexp) {
-		return properties.stream()//
-				.map(props -> props.get(property))//
-				.filter(Objects::nonNull)//
-				.anyMatch(value -> value.matches(regexp));
+	final boolean hasValue(EnvironmentProperty property, Pattern pattern) {
+		for (EnvironmentProperties props : properties) {
+			String value = props.get(property);
+			if (value != null && pattern.matcher(value).matches()) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	final void read(SystemInfo system) {
@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lbc.base.benchmarks;
+
+import java.nio.file.Path;
+import java.util.function.Supplier;
+
+import org.eclipse.passage.lbc.internal.base.api.FloatingState;
+import org.eclipse.passage.lbc.internal.base.api.FlsGear;
+import org.eclipse.passage.lbc.internal.base.api.FlsGearSupplier;
+import org.eclipse.passage.lic.api.LicensedProduct;
+import org.eclipse.passage.lic.api.conditions.mining.ConditionTransport;
+import org.eclipse.passage.lic.api.conditions.mining.ContentType;
+import org.eclipse.passage.lic.api.io.HashesRegistry;
+import org.eclipse.passage.lic.api.io.KeyKeeper;
+import org.eclipse.passage.lic.api.io.StreamCodec;
+import org.eclipse.passage.lic.base.io.MD5Hashes;
+import org.eclipse.passage.lic.base.io.PathKeyKeeper;
+import org.eclipse.passage.lic.base.registry.ReadOnlyRegistry;
+import org.eclipse.passage.lic.bc.BcStreamCodec;
+import org.eclipse.passage.lic.licenses.model.transport.XmiConditionTransport;
+
+/**
+ * The equipment of FLS gear, served in a forked benchmark JVM where no DS
+ * runtime registers the real one. Floating state is owned by the benchmark.
+ */
+@SuppressWarnings("restriction")
+final class BenchmarkGear implements FlsGear, FlsGearSupplier {
+
+	private final HashesRegistry hashes = () -> new ReadOnlyRegistry<>(new MD5Hashes());
+
+	@Override
+	public FlsGear get() {
+		return this;
+	}
+
+	@Override
+	public HashesRegistry hashes() {
+		return hashes;
+	}
+
+	@Override
+	public KeyKeeper keyKeper(LicensedProduct product, Supplier<Path> residense) {
+		return new PathKeyKeeper(product, residense);
+	}
+
+	@Override
+	public StreamCodec codec(LicensedProduct product) {
+		return new BcStreamCodec(() -> product);
+	}
+
+	@Override
+	public ConditionTransport transport(ContentType contentType) {
+		return new XmiConditionTransport();
+	}
+
+	@Override
+	public FloatingState state(Supplier<Path> storage) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void close() {
+		// floating state is closed by the benchmark
+	}
+
+}
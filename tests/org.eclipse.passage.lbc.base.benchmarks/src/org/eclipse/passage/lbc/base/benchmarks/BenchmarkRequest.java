@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lbc.base.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.passage.lbc.internal.base.api.FloatingState;
+import org.eclipse.passage.lbc.internal.base.api.RawRequest;
+import org.eclipse.passage.lic.api.LicensedProduct;
+import org.eclipse.passage.lic.api.PassageAction;
+import org.eclipse.passage.lic.base.FeatureIdentifier;
+import org.eclipse.passage.lic.base.ProductIdentifier;
+import org.eclipse.passage.lic.base.ProductVersion;
+import org.eclipse.passage.lic.base.StringNamedData;
+import org.eclipse.passage.lic.base.io.MD5Hashes;
+import org.eclipse.passage.lic.internal.net.EncodingAlgorithm;
+import org.eclipse.passage.lic.internal.net.LicenseUser;
+import org.eclipse.passage.lic.internal.net.LicensingAction;
+
+/**
+ * Request as it is seen by FLS chores after the server authentication has
+ * passed. Content is expected to be encoded already.
+ */
+@SuppressWarnings("restriction")
+final class BenchmarkRequest implements RawRequest {
+
+	private final Map<String, String> params = new HashMap<>();
+	private final byte[] content;
+	private final FloatingState state;
+
+	BenchmarkRequest(PassageAction action, LicensedProduct product, String user, FloatingState state) {
+		this(action, product, user, state, new byte[0]);
+	}
+
+	BenchmarkRequest(PassageAction action, LicensedProduct product, String user, FloatingState state,
+			byte[] content) {
+		this.content = content;
+		this.state = state;
+		params.put(new LicensingAction(action).key(), action.name());
+		put(new ProductIdentifier(product.identifier()));
+		put(new ProductVersion(product.version()));
+		put(new LicenseUser(user));
+		put(new EncodingAlgorithm(new MD5Hashes().id().toString()));
+	}
+
+	BenchmarkRequest withFeature(String feature) {
+		put(new FeatureIdentifier(feature));
+		return this;
+	}
+
+	@Override
+	public String parameter(String name) {
+		return params.get(name);
+	}
+
+	@Override
+	public byte[] content() {
+		return content;
+	}
+
+	@Override
+	public FloatingState state() {
+		return state;
+	}
+
+	private void put(StringNamedData data) {
+		params.put(data.key(), data.get().get());
+	}
+
+}
@@ -0,0 +1,210 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lbc.base.benchmarks;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.passage.lbc.internal.base.EagerFloatingState;
+import org.eclipse.passage.lbc.internal.base.EncodedResponse;
+import org.eclipse.passage.lbc.internal.base.acquire.AcquiredGrants;
+import org.eclipse.passage.lbc.internal.base.acquire.Acquisition;
+import org.eclipse.passage.lbc.internal.base.api.FloatingState;
+import org.eclipse.passage.lbc.internal.base.api.FlsGearSupplier;
+import org.eclipse.passage.lbc.internal.base.api.RawRequest;
+import org.eclipse.passage.lbc.internal.base.mine.Conditions;
+import org.eclipse.passage.lic.api.LicensedProduct;
+import org.eclipse.passage.lic.api.LicensingException;
+import org.eclipse.passage.lic.api.PassageAction;
+import org.eclipse.passage.lic.base.BaseLicensedProduct;
+import org.eclipse.passage.lic.internal.licenses.model.EmptyPersonalFeatureGrant;
+import org.eclipse.passage.lic.internal.licenses.model.EmptyPersonalLicensePack;
+import org.eclipse.passage.lic.internal.net.api.handle.NetResponse;
+import org.eclipse.passage.lic.internal.net.handle.ProductUserRequest;
+import org.eclipse.passage.lic.licenses.model.api.PersonalFeatureGrant;
+import org.eclipse.passage.lic.licenses.model.api.PersonalLicensePack;
+import org.eclipse.passage.lic.licenses.model.api.ValidityPeriodClosed;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.osgi.framework.FrameworkUtil;
+import org.osgi.framework.ServiceRegistration;
+
+/**
+ * <p>
+ * FLS hot paths driven directly, bypassing transport and server
+ * authentication, against synthetic floating licenses:
+ * </p>
+ * <ul>
+ * <li>{@code acquireRelease}: grant acquisition with encoded response and its
+ * release;</li>
+ * <li>{@code mine}: mining of conditions as a client sees it between license
+ * changes;</li>
+ * <li>{@code mineAnew}: mining of conditions with all licenses decoded and
+ * reassembled;</li>
+ * <li>{@code encode}: encoding of a personal license pack response.</li>
+ * </ul>
+ * <p>
+ * FLS gear is served by a {@linkplain BenchmarkGear} registered to the
+ * framework of the forked JVM.
+ * </p>
+ */
+@SuppressWarnings("restriction")
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FloatingServerBenchmark {
+
+	@Benchmark
+	public NetResponse acquireRelease(Client client) throws LicensingException {
+		// acquisition response is encoded the same way as a release request
+		byte[] acquisition = payload(new Acquisition(client.acquire).get());
+		return succeeded(new Acquisition(client.release(acquisition)).returnBack());
+	}
+
+	@Benchmark
+	public byte[] mine(Client client) throws LicensingException {
+		return payload(new Conditions(client.mine).get());
+	}
+
+	@Benchmark
+	public byte[] mineAnew(Server server, Client client) throws LicensingException {
+		server.state.conditions().invalidate(server.product);
+		return payload(new Conditions(client.mine).get());
+	}
+
+	@Benchmark
+	public byte[] encode(Client client) throws LicensingException {
+		return payload(new EncodedResponse<EObject>(client.pack, client.mine).get());
+	}
+
+	private byte[] payload(NetResponse response) throws LicensingException {
+		return succeeded(response).payload();
+	}
+
+	private NetResponse succeeded(NetResponse response) {
+		if (response.failed()) {
+			throw new IllegalStateException(response.error().message());
+		}
+		return response;
+	}
+
+	@State(Scope.Benchmark)
+	public static class Server {
+
+		static final int users = 64;
+
+		@Param({ "1", "10", "50" })
+		public int packs;
+
+		@Param({ "10" })
+		public int features;
+
+		final LicensedProduct product = new BaseLicensedProduct("benchmark.product", "1.0.0"); //$NON-NLS-1$ //$NON-NLS-2$
+		SyntheticResidence residence;
+		FloatingState state;
+		private ServiceRegistration<FlsGearSupplier> gear;
+
+		@Setup(Level.Trial)
+		public void populate() throws IOException, LicensingException {
+			gear = FrameworkUtil.getBundle(getClass()).getBundleContext()//
+					.registerService(FlsGearSupplier.class, new BenchmarkGear(), null);
+			residence = new SyntheticResidence(product);
+			residence.populate(packs, features, users);
+			state = new EagerFloatingState(new AcquiredGrants(residence, new GrantCapacityStorage()), residence.get());
+		}
+
+		@TearDown(Level.Trial)
+		public void clear() throws IOException {
+			state.close();
+			gear.unregister();
+			residence.clear();
+		}
+
+	}
+
+	@State(Scope.Thread)
+	public static class Client {
+
+		private Server server;
+		private String user;
+		ProductUserRequest<RawRequest> acquire;
+		ProductUserRequest<RawRequest> mine;
+		PersonalLicensePack pack;
+
+		@Setup(Level.Trial)
+		public void prepare(Server origin, ThreadParams thread) throws LicensingException {
+			server = origin;
+			user = SyntheticResidence.user(thread.getThreadIndex() % Server.users);
+			String feature = SyntheticResidence.feature(thread.getThreadIndex() % server.features);
+			acquire = new ProductUserRequest<>(
+					new BenchmarkRequest(new PassageAction.Acquire(), server.product, user, server.state)
+							.withFeature(feature));
+			mine = new ProductUserRequest<>(
+					new BenchmarkRequest(new PassageAction.Mine(), server.product, user, server.state));
+			pack = pack();
+		}
+
+		ProductUserRequest<RawRequest> release(byte[] acquisition) throws LicensingException {
+			return new ProductUserRequest<>(new BenchmarkRequest(//
+					new PassageAction.Release(), server.product, user, server.state, acquisition));
+		}
+
+		private PersonalLicensePack pack() {
+			PersonalLicensePack personal = new EmptyPersonalLicensePack().get();
+			personal.getLicense().setIdentifier("personal"); //$NON-NLS-1$
+			personal.getLicense().setIssueDate(new Date());
+			personal.getLicense().getProduct().setIdentifier(server.product.identifier());
+			personal.getLicense().getProduct().setVersion(server.product.version());
+			personal.getLicense().getUser().setIdentifier(user);
+			for (int i = 0; i < server.packs * server.features; i++) {
+				personal.getGrants().add(grant(i));
+			}
+			return personal;
+		}
+
+		private PersonalFeatureGrant grant(int index) {
+			PersonalFeatureGrant grant = new EmptyPersonalFeatureGrant().get();
+			grant.setIdentifier("grant-" + index); //$NON-NLS-1$
+			grant.getFeature().setIdentifier(SyntheticResidence.feature(index % server.features));
+			grant.getFeature().getVersionMatch().setVersion("1.0.0"); //$NON-NLS-1$
+			grant.getFeature().getVersionMatch().setRule("compatible"); //$NON-NLS-1$
+			grant.setCapacity(1);
+			grant.getUserAuthentication().setType("hardware"); //$NON-NLS-1$
+			grant.getUserAuthentication().setExpression("os.family=*"); //$NON-NLS-1$
+			Instant now = Instant.now();
+			((ValidityPeriodClosed) grant.getValid()).setFrom(Date.from(now));
+			((ValidityPeriodClosed) grant.getValid()).setUntil(Date.from(now.plus(Duration.ofHours(1))));
+			return grant;
+		}
+
+	}
+
+}
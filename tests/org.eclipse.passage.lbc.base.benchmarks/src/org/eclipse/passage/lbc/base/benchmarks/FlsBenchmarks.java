@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lbc.base.benchmarks;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.eclipse.passage.lic.benchmarks.fork.ForkedJmh;
+import org.junit.Test;
+import org.openjdk.jmh.profile.GCProfiler;
+
+/**
+ * <p>
+ * Runs {@linkplain FloatingServerBenchmark} in a forked JVM for each amount of
+ * threads listed in {@code passage.benchmarks.threads} system property (comma
+ * separated).
+ * </p>
+ * <p>
+ * Reports throughput together with allocation rate ({@linkplain GCProfiler})
+ * as JSON, a file per amount of threads, to the folder set by
+ * {@code passage.benchmarks.results} system property.
+ * </p>
+ */
+public final class FlsBenchmarks {
+
+	@Test
+	public void measure() throws IOException, InterruptedException {
+		Path results = Files.createDirectories(Paths.get(System.getProperty("passage.benchmarks.results", //$NON-NLS-1$
+				"target/benchmarks"))); //$NON-NLS-1$
+		for (String threads : threads()) {
+			Path result = results.resolve(String.format("fls-%s-threads.json", threads)); //$NON-NLS-1$
+			int code = new ForkedJmh(//
+					FloatingServerBenchmark.class.getName(), //
+					"-t", threads, //$NON-NLS-1$
+					"-f", "1", //$NON-NLS-1$ //$NON-NLS-2$
+					"-prof", "gc", //$NON-NLS-1$ //$NON-NLS-2$
+					"-rf", "json", //$NON-NLS-1$ //$NON-NLS-2$
+					"-rff", result.toString()) //$NON-NLS-1$
+					.run();
+			assertEquals(0, code);
+			assertTrue(Files.size(result) > 0);
+		}
+	}
+
+	private String[] threads() {
+		return Arrays.stream(System.getProperty("passage.benchmarks.threads", "1,4,16").split(",")) //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				.map(String::trim)//
+				.toArray(String[]::new);
+	}
+
+}
@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lbc.base.benchmarks;
+
+import org.eclipse.passage.lbc.internal.base.acquire.DefaultGrantsStorage;
+import org.eclipse.passage.lic.licenses.model.api.FeatureGrant;
+
+/**
+ * Storage that trusts grant capacity as is: FLS self-licensing is out of the
+ * measurement scope.
+ */
+@SuppressWarnings("restriction")
+final class GrantCapacityStorage extends DefaultGrantsStorage {
+
+	@Override
+	protected boolean beforeAcquire() {
+		return true;
+	}
+
+	@Override
+	protected boolean afterAcquire() {
+		return true;
+	}
+
+	@Override
+	protected void beforeRelease() {
+		// do nothing
+	}
+
+	@Override
+	protected void afterRelease() {
+		// do nothing
+	}
+
+	@Override
+	protected int capacity(FeatureGrant grant) {
+		return grant.getCapacity();
+	}
+
+}
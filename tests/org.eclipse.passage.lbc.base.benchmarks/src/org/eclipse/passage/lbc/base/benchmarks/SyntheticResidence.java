@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lbc.base.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.eclipse.passage.lic.api.LicensedProduct;
+import org.eclipse.passage.lic.api.LicensingException;
+import org.eclipse.passage.lic.base.io.FileNameFromLicensedProduct;
+import org.eclipse.passage.lic.base.io.FloatingFileExtension;
+import org.eclipse.passage.lic.base.io.PassageFileExtension;
+import org.eclipse.passage.lic.base.io.PathFromLicensedProduct;
+import org.eclipse.passage.lic.bc.BcStreamCodec;
+import org.eclipse.passage.lic.internal.emf.EObjectToBytes;
+import org.eclipse.passage.lic.internal.licenses.model.EmptyFeatureGrant;
+import org.eclipse.passage.lic.internal.licenses.model.EmptyFloatingLicensePack;
+import org.eclipse.passage.lic.licenses.model.api.EvaluationInstructions;
+import org.eclipse.passage.lic.licenses.model.api.FeatureGrant;
+import org.eclipse.passage.lic.licenses.model.api.FloatingLicensePack;
+import org.eclipse.passage.lic.licenses.model.api.UserGrant;
+import org.eclipse.passage.lic.licenses.model.api.ValidityPeriodClosed;
+import org.eclipse.passage.lic.licenses.model.meta.LicensesFactory;
+
+/**
+ * Temporary licensing folder with the given amount of floating license packs
+ * for a single product, encoded with a freshly generated key pair by
+ * {@linkplain BcStreamCodec}. Each pack grants each of the {@code features} to
+ * each of the {@code users}.
+ */
+@SuppressWarnings("restriction")
+final class SyntheticResidence implements Supplier<Path> {
+
+	private final Path base;
+	private final LicensedProduct product;
+	private final String username = "benchmark"; //$NON-NLS-1$
+	private final String password = "benchmark.password"; //$NON-NLS-1$
+
+	SyntheticResidence(LicensedProduct product) throws IOException {
+		this.base = Files.createTempDirectory("passage-benchmarks"); //$NON-NLS-1$
+		this.product = product;
+	}
+
+	@Override
+	public Path get() {
+		return base;
+	}
+
+	void populate(int packs, int features, int users) throws IOException, LicensingException {
+		Path residence = new PathFromLicensedProduct(this, product).get();
+		Files.createDirectories(residence);
+		BcStreamCodec codec = new BcStreamCodec(() -> product);
+		ByteArrayOutputStream secret = new ByteArrayOutputStream();
+		try (OutputStream open = Files.newOutputStream(residence.resolve(name(new PassageFileExtension.PublicKey())))) {
+			codec.createKeyPair(open, secret, username, password);
+		}
+		for (int i = 0; i < packs; i++) {
+			Path license = residence.resolve(String.format("pack-%d%s", i, //$NON-NLS-1$
+					new FloatingFileExtension.FloatingLicenseEncrypted().get()));
+			try (InputStream plain = new ByteArrayInputStream(new EObjectToBytes(pack(i, features, users)).get());
+					InputStream key = new ByteArrayInputStream(secret.toByteArray());
+					OutputStream encoded = Files.newOutputStream(license)) {
+				codec.encode(plain, encoded, key, username, password);
+			}
+		}
+	}
+
+	void clear() throws IOException {
+		try (Stream<Path> all = Files.walk(base)) {
+			for (Path path : (Iterable<Path>) all.sorted(Comparator.reverseOrder())::iterator) {
+				Files.delete(path);
+			}
+		}
+	}
+
+	static String feature(int index) {
+		return "feature-" + index; //$NON-NLS-1$
+	}
+
+	static String user(int index) {
+		return "user-" + index; //$NON-NLS-1$
+	}
+
+	private FloatingLicensePack pack(int index, int features, int users) {
+		FloatingLicensePack pack = new EmptyFloatingLicensePack().get();
+		pack.getLicense().setIdentifier("pack-" + index); //$NON-NLS-1$
+		pack.getLicense().setIssueDate(new Date());
+		pack.getLicense().setPlan("benchmark"); //$NON-NLS-1$
+		pack.getLicense().getProduct().setIdentifier(product.identifier());
+		pack.getLicense().getProduct().setVersion(product.version());
+		pack.getLicense().getCompany().setIdentifier("benchmark"); //$NON-NLS-1$
+		valid((ValidityPeriodClosed) pack.getLicense().getValid());
+		pack.setHost(LicensesFactory.eINSTANCE.createFloatingServer());
+		pack.getHost().setIdentifier("benchmark-server"); //$NON-NLS-1$
+		pack.getHost().setAuthentication(authentication());
+		for (int user = 0; user < users; user++) {
+			UserGrant grant = LicensesFactory.eINSTANCE.createUserGrant();
+			grant.setUser(user(user));
+			grant.setAuthentication(authentication());
+			pack.getUsers().add(grant);
+		}
+		for (int feature = 0; feature < features; feature++) {
+			pack.getFeatures().add(grant(index, feature));
+		}
+		return pack;
+	}
+
+	private FeatureGrant grant(int pack, int feature) {
+		FeatureGrant grant = new EmptyFeatureGrant().get();
+		grant.setIdentifier(String.format("pack-%d#%d", pack, feature)); //$NON-NLS-1$
+		grant.getFeature().setIdentifier(feature(feature));
+		grant.getFeature().getVersionMatch().setVersion("1.0.0"); //$NON-NLS-1$
+		grant.getFeature().getVersionMatch().setRule("compatible"); //$NON-NLS-1$
+		grant.setCapacity(Integer.MAX_VALUE);
+		grant.setVivid(60);
+		ValidityPeriodClosed period = LicensesFactory.eINSTANCE.createValidityPeriodClosed();
+		valid(period);
+		grant.setValid(period);
+		return grant;
+	}
+
+	private EvaluationInstructions authentication() {
+		EvaluationInstructions instructions = LicensesFactory.eINSTANCE.createEvaluationInstructions();
+		instructions.setType("hardware"); //$NON-NLS-1$
+		instructions.setExpression("os.family=*"); //$NON-NLS-1$
+		return instructions;
+	}
+
+	private void valid(ValidityPeriodClosed period) {
+		Instant now = Instant.now();
+		period.setFrom(Date.from(now.minus(Duration.ofDays(1))));
+		period.setUntil(Date.from(now.plus(Duration.ofDays(365))));
+	}
+
+	private String name(PassageFileExtension extension) {
+		return new FileNameFromLicensedProduct(product, extension).get();
+	}
+
+}
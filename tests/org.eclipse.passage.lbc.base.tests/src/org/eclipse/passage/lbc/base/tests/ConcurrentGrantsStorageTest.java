@@ -0,0 +1,200 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lbc.base.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.passage.lbc.internal.base.acquire.DefaultGrantsStorage;
+import org.eclipse.passage.lic.api.LicensedProduct;
+import org.eclipse.passage.lic.base.BaseLicensedProduct;
+import org.eclipse.passage.lic.licenses.model.api.FeatureGrant;
+import org.eclipse.passage.lic.licenses.model.api.GrantAcqisition;
+import org.eclipse.passage.lic.licenses.model.meta.LicensesFactory;
+import org.junit.Test;
+
+public final class ConcurrentGrantsStorageTest {
+
+	private final int capacity = 5;
+	private final int threads = Runtime.getRuntime().availableProcessors() * 4;
+	private final int attempts = 2000;
+
+	@Test
+	public void capacityIsNeverExceeded() throws Exception {
+		// having
+		DefaultGrantsStorage storage = new FixedCapacityStorage(capacity);
+		List<Seat> seats = new ArrayList<>();
+		for (String product : new String[] { "first.product", "second.product" }) { //$NON-NLS-1$ //$NON-NLS-2$
+			for (String feature : new String[] { "alpha", "beta", "gamma" }) { //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				seats.add(new Seat(new BaseLicensedProduct(product, "1.0.0"), grant(product, feature))); //$NON-NLS-1$
+			}
+		}
+		// when
+		List<Integer> gains = runConcurrently(storage, seats);
+		// then
+		int total = gains.stream().mapToInt(Integer::intValue).sum();
+		assertTrue(total > 0);
+		for (Seat seat : seats) {
+			assertTrue(String.format("capacity %d exceeded: %d", capacity, seat.peak.get()), //$NON-NLS-1$
+					seat.peak.get() <= capacity);
+			assertEquals(0, seat.holders.get());
+			assertTrue(storage.acquire(seat.product, "after", seat.grant).isPresent()); //$NON-NLS-1$
+		}
+	}
+
+	@Test
+	public void releaseOfUnknownAcquisitionFails() {
+		DefaultGrantsStorage storage = new FixedCapacityStorage(1);
+		Seat seat = new Seat(new BaseLicensedProduct("product", "1.0.0"), grant("product", "feature")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		Optional<GrantAcqisition> acquisition = storage.acquire(seat.product, "user", seat.grant); //$NON-NLS-1$
+		assertTrue(acquisition.isPresent());
+		assertFalse(storage.acquire(seat.product, "user", seat.grant).isPresent()); //$NON-NLS-1$
+		GrantAcqisition foreign = LicensesFactory.eINSTANCE.createGrantAcqisition();
+		foreign.setGrant(seat.grant.getIdentifier());
+		foreign.setIdentifier("foreign"); //$NON-NLS-1$
+		assertFalse(storage.release(seat.product, foreign));
+		assertTrue(storage.release(seat.product, acquisition.get()));
+		assertFalse(storage.release(seat.product, acquisition.get()));
+	}
+
+	private List<Integer> runConcurrently(DefaultGrantsStorage storage, List<Seat> seats) throws Exception {
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Integer>> futures = new ArrayList<>();
+		for (int i = 0; i < threads; i++) {
+			futures.add(pool.submit(new Occupant(storage, seats, i, attempts, start)));
+		}
+		start.countDown();
+		List<Integer> gains = new ArrayList<>();
+		for (Future<Integer> future : futures) {
+			gains.add(future.get());
+		}
+		pool.shutdown();
+		return gains;
+	}
+
+	private FeatureGrant grant(String product, String feature) {
+		FeatureGrant grant = LicensesFactory.eINSTANCE.createFeatureGrant();
+		grant.setIdentifier(product + '#' + feature);
+		grant.setFeature(LicensesFactory.eINSTANCE.createFeatureRef());
+		grant.getFeature().setIdentifier(feature);
+		grant.setCapacity(capacity);
+		return grant;
+	}
+
+	private static final class Seat {
+
+		private final LicensedProduct product;
+		private final FeatureGrant grant;
+		private final AtomicInteger holders = new AtomicInteger();
+		private final AtomicInteger peak = new AtomicInteger();
+
+		Seat(LicensedProduct product, FeatureGrant grant) {
+			this.product = product;
+			this.grant = grant;
+		}
+
+		void occupy() {
+			peak.accumulateAndGet(holders.incrementAndGet(), Math::max);
+		}
+
+		void leave() {
+			holders.decrementAndGet();
+		}
+
+	}
+
+	private static final class Occupant implements Callable<Integer> {
+
+		private final DefaultGrantsStorage storage;
+		private final List<Seat> seats;
+		private final int index;
+		private final int attempts;
+		private final CountDownLatch start;
+
+		Occupant(DefaultGrantsStorage storage, List<Seat> seats, int index, int attempts, CountDownLatch start) {
+			this.storage = storage;
+			this.seats = seats;
+			this.index = index;
+			this.attempts = attempts;
+			this.start = start;
+		}
+
+		@Override
+		public Integer call() throws Exception {
+			start.await();
+			int gains = 0;
+			for (int i = 0; i < attempts; i++) {
+				Seat seat = seats.get((index + i) % seats.size());
+				Optional<GrantAcqisition> acquisition = storage.acquire(seat.product, "user" + index, seat.grant); //$NON-NLS-1$
+				if (!acquisition.isPresent()) {
+					continue;
+				}
+				gains++;
+				seat.occupy();
+				Thread.yield();
+				seat.leave();
+				assertTrue(storage.release(seat.product, acquisition.get()));
+			}
+			return gains;
+		}
+
+	}
+
+	private static final class FixedCapacityStorage extends DefaultGrantsStorage {
+
+		private final int capacity;
+
+		FixedCapacityStorage(int capacity) {
+			this.capacity = capacity;
+		}
+
+		@Override
+		protected boolean beforeAcquire() {
+			return true;
+		}
+
+		@Override
+		protected boolean afterAcquire() {
+			return true;
+		}
+
+		@Override
+		protected void beforeRelease() {
+			// do nothing
+		}
+
+		@Override
+		protected void afterRelease() {
+			// do nothing
+		}
+
+		@Override
+		protected int capacity(FeatureGrant grant) {
+			return capacity;
+		}
+
+	}
+
+}
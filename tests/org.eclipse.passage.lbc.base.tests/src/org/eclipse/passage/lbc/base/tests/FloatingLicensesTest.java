@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lbc.base.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.passage.lbc.internal.base.acquire.FloatingLicenses;
+import org.eclipse.passage.lic.api.LicensedProduct;
+import org.eclipse.passage.lic.api.LicensingException;
+import org.eclipse.passage.lic.base.BaseLicensedProduct;
+import org.eclipse.passage.lic.base.io.PathFromLicensedProduct;
+import org.eclipse.passage.lic.licenses.model.api.FeatureGrant;
+import org.eclipse.passage.lic.licenses.model.api.FloatingLicensePack;
+import org.eclipse.passage.lic.licenses.model.meta.LicensesFactory;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public final class FloatingLicensesTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private final LicensedProduct product = new BaseLicensedProduct("floating", "1.0.0"); //$NON-NLS-1$ //$NON-NLS-2$
+	private final AtomicInteger reads = new AtomicInteger();
+	private final AtomicLong clock = new AtomicLong(1);
+	private FloatingLicenses licenses;
+	private Path license;
+
+	@Before
+	public void residence() throws Exception {
+		Path residence = new PathFromLicensedProduct(folder.getRoot()::toPath, product).get();
+		Files.createDirectories(residence);
+		license = Files.write(residence.resolve("pack.flicen"), new byte[] { 1 }); //$NON-NLS-1$
+		licenses = new FloatingLicenses(folder.getRoot()::toPath, clock::get, 1_000);
+	}
+
+	@Test
+	public void licensesAreReadOnce() throws LicensingException {
+		// when
+		for (int i = 0; i < 10; i++) {
+			grants("feature"); //$NON-NLS-1$
+			clock.addAndGet(500);
+		}
+		// then
+		assertEquals(1, reads.get());
+		assertEquals(1, grants("feature").size()); //$NON-NLS-1$
+		assertTrue(grants("unknown").isEmpty()); //$NON-NLS-1$
+	}
+
+	@Test
+	public void packOffersSingleGrantPerFeature() throws LicensingException {
+		assertEquals(1, grants("twice").size()); //$NON-NLS-1$
+	}
+
+	@Test
+	public void changedResidenceIsNoticedOnRecheck() throws Exception {
+		// given
+		grants("feature"); //$NON-NLS-1$
+		// when
+		Files.setLastModifiedTime(license, FileTime.fromMillis(Files.getLastModifiedTime(license).toMillis() + 2_000));
+		grants("feature"); //$NON-NLS-1$
+		// then: the residence is not looked at till the recheck period passes
+		assertEquals(1, reads.get());
+		clock.addAndGet(1_000);
+		grants("feature"); //$NON-NLS-1$
+		assertEquals(2, reads.get());
+	}
+
+	@Test
+	public void uploadInvalidatesAtOnce() throws LicensingException {
+		// given
+		grants("feature"); //$NON-NLS-1$
+		// when
+		licenses.invalidate(product);
+		grants("feature"); //$NON-NLS-1$
+		// then
+		assertEquals(2, reads.get());
+	}
+
+	private Collection<FeatureGrant> grants(String feature) throws LicensingException {
+		return licenses.grants(product, feature, () -> {
+			reads.incrementAndGet();
+			return Collections.singletonList(pack("feature", "twice", "twice")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		});
+	}
+
+	private FloatingLicensePack pack(String... features) {
+		FloatingLicensePack pack = LicensesFactory.eINSTANCE.createFloatingLicensePack();
+		Arrays.stream(features).forEach(feature -> {
+			FeatureGrant grant = LicensesFactory.eINSTANCE.createFeatureGrant();
+			grant.setFeature(LicensesFactory.eINSTANCE.createFeatureRef());
+			grant.getFeature().setIdentifier(feature);
+			pack.getFeatures().add(grant);
+		});
+		return pack;
+	}
+
+}
@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lbc.base.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.eclipse.passage.lbc.internal.base.acquire.DefaultGrantsStorage;
+import org.eclipse.passage.lbc.internal.base.acquire.GrantUtilization;
+import org.eclipse.passage.lbc.internal.base.metrics.FlsMetrics;
+import org.eclipse.passage.lbc.internal.base.metrics.MetricsExposition;
+import org.eclipse.passage.lic.api.LicensedProduct;
+import org.eclipse.passage.lic.api.PassageAction;
+import org.eclipse.passage.lic.base.BaseLicensedProduct;
+import org.eclipse.passage.lic.licenses.model.api.FeatureGrant;
+import org.eclipse.passage.lic.licenses.model.api.GrantAcqisition;
+import org.eclipse.passage.lic.licenses.model.meta.LicensesFactory;
+import org.junit.Test;
+
+public final class FlsMetricsTest {
+
+	private final LicensedProduct product = new BaseLicensedProduct("metered", "1.0.0"); //$NON-NLS-1$ //$NON-NLS-2$
+
+	@Test
+	public void utilizationFollowsStorage() {
+		// having
+		DefaultGrantsStorage storage = new TwoSeatsStorage();
+		FeatureGrant grant = grant();
+		// when
+		Optional<GrantAcqisition> acquisition = storage.acquire(product, "user", grant); //$NON-NLS-1$
+		// then
+		assertTrue(acquisition.isPresent());
+		Collection<GrantUtilization> utilization = storage.utilization();
+		assertEquals(1, utilization.size());
+		GrantUtilization seats = utilization.iterator().next();
+		assertEquals(product, seats.product());
+		assertEquals(grant.getIdentifier(), seats.grant());
+		assertEquals("feature", seats.feature()); //$NON-NLS-1$
+		assertEquals(1, seats.taken());
+		assertEquals(2, seats.capacity());
+		storage.release(product, acquisition.get());
+		assertEquals(0, storage.utilization().iterator().next().taken());
+	}
+
+	@Test
+	public void exposition() {
+		// having
+		DefaultGrantsStorage storage = new TwoSeatsStorage();
+		FlsMetrics metrics = new FlsMetrics(storage::utilization);
+		storage.acquire(product, "user", grant()); //$NON-NLS-1$
+		// when
+		metrics.latency(new PassageAction.Acquire()).record(2_000_000);
+		metrics.acquisition(product, "feature", true); //$NON-NLS-1$
+		metrics.acquisition(product, "feature", false); //$NON-NLS-1$
+		metrics.acquisition(product, "feature", false); //$NON-NLS-1$
+		String text = new MetricsExposition(metrics).get();
+		// then
+		assertTrue(text, text.contains("fls_request_duration_seconds_count{action=\"acquire\"} 1\n")); //$NON-NLS-1$
+		assertTrue(text, text.contains("fls_request_duration_seconds_max{action=\"acquire\"} 0.002\n")); //$NON-NLS-1$
+		assertTrue(text, text.contains(
+				"fls_acquisitions_total{product=\"metered\",version=\"1.0.0\",feature=\"feature\",outcome=\"granted\"} 1\n")); //$NON-NLS-1$
+		assertTrue(text, text.contains(
+				"fls_acquisitions_total{product=\"metered\",version=\"1.0.0\",feature=\"feature\",outcome=\"denied\"} 2\n")); //$NON-NLS-1$
+		assertTrue(text, text.contains(
+				"fls_grant_taken{product=\"metered\",version=\"1.0.0\",feature=\"feature\",grant=\"metered#feature\"} 1\n")); //$NON-NLS-1$
+		assertTrue(text, text.contains(
+				"fls_grant_capacity{product=\"metered\",version=\"1.0.0\",feature=\"feature\",grant=\"metered#feature\"} 2\n")); //$NON-NLS-1$
+		assertFalse(text, text.contains("user")); //$NON-NLS-1$
+	}
+
+	@Test
+	public void labelsAreEscaped() {
+		FlsMetrics metrics = new FlsMetrics(Collections::emptyList);
+		metrics.acquisition(product, "odd\"feature\\", true); //$NON-NLS-1$
+		String text = new MetricsExposition(metrics).get();
+		assertTrue(text, text.contains("feature=\"odd\\\"feature\\\\\"")); //$NON-NLS-1$
+	}
+
+	private FeatureGrant grant() {
+		FeatureGrant grant = LicensesFactory.eINSTANCE.createFeatureGrant();
+		grant.setIdentifier("metered#feature"); //$NON-NLS-1$
+		grant.setFeature(LicensesFactory.eINSTANCE.createFeatureRef());
+		grant.getFeature().setIdentifier("feature"); //$NON-NLS-1$
+		grant.setCapacity(2);
+		return grant;
+	}
+
+	private static final class TwoSeatsStorage extends DefaultGrantsStorage {
+
+		@Override
+		protected boolean beforeAcquire() {
+			return true;
+		}
+
+		@Override
+		protected boolean afterAcquire() {
+			return true;
+		}
+
+		@Override
+		protected void beforeRelease() {
+			// do nothing
+		}
+
+		@Override
+		protected void afterRelease() {
+			// do nothing
+		}
+
+		@Override
+		protected int capacity(FeatureGrant grant) {
+			return 2;
+		}
+
+	}
+
+}
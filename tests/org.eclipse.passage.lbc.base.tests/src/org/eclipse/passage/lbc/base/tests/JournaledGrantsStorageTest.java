@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lbc.base.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.eclipse.passage.lbc.internal.base.acquire.DefaultGrantsStorage;
+import org.eclipse.passage.lic.api.LicensedProduct;
+import org.eclipse.passage.lic.base.BaseLicensedProduct;
+import org.eclipse.passage.lic.licenses.model.api.FeatureGrant;
+import org.eclipse.passage.lic.licenses.model.api.GrantAcqisition;
+import org.eclipse.passage.lic.licenses.model.meta.LicensesFactory;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public final class JournaledGrantsStorageTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private final Duration lease = Duration.ofMinutes(10);
+	private final LicensedProduct product = new BaseLicensedProduct("product", "1.0.0"); //$NON-NLS-1$ //$NON-NLS-2$
+	private final FeatureGrant grant = grant();
+	private final AtomicLong clock = new AtomicLong(System.currentTimeMillis());
+
+	@Test
+	public void heldAcquisitionsSurviveRestart() throws IOException {
+		// having
+		Path journal = folder.newFolder("journal").toPath(); //$NON-NLS-1$
+		DefaultGrantsStorage before = new TwoSeatsStorage(journal);
+		Optional<GrantAcqisition> kept = before.acquire(product, "kept", grant); //$NON-NLS-1$
+		Optional<GrantAcqisition> released = before.acquire(product, "released", grant); //$NON-NLS-1$
+		assertTrue(kept.isPresent());
+		assertTrue(released.isPresent());
+		assertTrue(before.release(product, released.get()));
+		// when
+		DefaultGrantsStorage after = new TwoSeatsStorage(journal);
+		// then
+		assertTrue(after.acquire(product, "another", grant).isPresent()); //$NON-NLS-1$
+		assertFalse(after.acquire(product, "one more", grant).isPresent()); //$NON-NLS-1$
+		assertTrue(after.renew(product, kept.get()));
+		assertTrue(after.release(product, kept.get()));
+		assertFalse(after.release(product, released.get()));
+	}
+
+	@Test
+	public void overdueAcquisitionsAreNotRestored() throws IOException {
+		// having
+		Path journal = folder.newFolder("journal").toPath(); //$NON-NLS-1$
+		DefaultGrantsStorage before = new TwoSeatsStorage(journal);
+		Optional<GrantAcqisition> renewed = before.acquire(product, "renewed", grant); //$NON-NLS-1$
+		Optional<GrantAcqisition> abandoned = before.acquire(product, "abandoned", grant); //$NON-NLS-1$
+		clock.addAndGet(lease.minusMinutes(1).toMillis());
+		assertTrue(before.renew(product, renewed.get()));
+		// when
+		clock.addAndGet(Duration.ofMinutes(2).toMillis());
+		DefaultGrantsStorage after = new TwoSeatsStorage(journal);
+		// then
+		assertFalse(after.renew(product, abandoned.get()));
+		assertTrue(after.renew(product, renewed.get()));
+		assertTrue(after.acquire(product, "another", grant).isPresent()); //$NON-NLS-1$
+		assertFalse(after.acquire(product, "one more", grant).isPresent()); //$NON-NLS-1$
+	}
+
+	@Test
+	public void journalIsCompacted() throws IOException {
+		// having
+		Path journal = folder.newFolder("journal").toPath(); //$NON-NLS-1$
+		DefaultGrantsStorage before = new TwoSeatsStorage(journal);
+		Optional<GrantAcqisition> kept = before.acquire(product, "kept", grant); //$NON-NLS-1$
+		// when
+		for (int i = 0; i < 50_000; i++) {
+			Optional<GrantAcqisition> temporary = before.acquire(product, "transient", grant); //$NON-NLS-1$
+			assertTrue(temporary.isPresent());
+			assertTrue(before.release(product, temporary.get()));
+		}
+		// then
+		assertEquals(1, segments(journal));
+		DefaultGrantsStorage after = new TwoSeatsStorage(journal);
+		assertTrue(after.release(product, kept.get()));
+	}
+
+	@Test
+	public void closedJournalKeepsRecords() throws IOException {
+		// having
+		Path journal = folder.newFolder("journal").toPath(); //$NON-NLS-1$
+		DefaultGrantsStorage before = new TwoSeatsStorage(journal);
+		Optional<GrantAcqisition> kept = before.acquire(product, "kept", grant); //$NON-NLS-1$
+		// when
+		before.close();
+		before.acquire(product, "unrecorded", grant); //$NON-NLS-1$
+		DefaultGrantsStorage after = new TwoSeatsStorage(journal);
+		// then
+		assertTrue(after.release(product, kept.get()));
+		assertTrue(after.acquire(product, "another", grant).isPresent()); //$NON-NLS-1$
+		assertTrue(after.acquire(product, "one more", grant).isPresent()); //$NON-NLS-1$
+		after.close();
+	}
+
+	private long segments(Path journal) throws IOException {
+		try (Stream<Path> files = Files.list(journal)) {
+			return files.count();
+		}
+	}
+
+	private FeatureGrant grant() {
+		FeatureGrant result = LicensesFactory.eINSTANCE.createFeatureGrant();
+		result.setIdentifier("product#feature"); //$NON-NLS-1$
+		result.setFeature(LicensesFactory.eINSTANCE.createFeatureRef());
+		result.getFeature().setIdentifier("feature"); //$NON-NLS-1$
+		result.setCapacity(2);
+		return result;
+	}
+
+	private final class TwoSeatsStorage extends DefaultGrantsStorage {
+
+		TwoSeatsStorage(Path journal) {
+			super(lease, clock::get, Optional.of(journal));
+		}
+
+		@Override
+		protected boolean beforeAcquire() {
+			return true;
+		}
+
+		@Override
+		protected boolean afterAcquire() {
+			return true;
+		}
+
+		@Override
+		protected void beforeRelease() {
+			// do nothing
+		}
+
+		@Override
+		protected void afterRelease() {
+			// do nothing
+		}
+
+		@Override
+		protected int capacity(FeatureGrant grant) {
+			return 2;
+		}
+
+	}
+
+}
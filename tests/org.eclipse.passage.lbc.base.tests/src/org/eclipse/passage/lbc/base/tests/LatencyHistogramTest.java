@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lbc.base.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.passage.lbc.internal.base.metrics.LatencyHistogram;
+import org.junit.Test;
+
+public final class LatencyHistogramTest {
+
+	@Test
+	public void emptyHistogramReportsZeros() {
+		LatencyHistogram.Snapshot snapshot = new LatencyHistogram().snapshot();
+		assertEquals(0, snapshot.count());
+		assertEquals(0, snapshot.sum());
+		assertEquals(0, snapshot.max());
+		assertEquals(0, snapshot.value(0.99));
+	}
+
+	@Test
+	public void smallValuesAreExact() {
+		// having
+		LatencyHistogram histogram = new LatencyHistogram();
+		// when
+		for (long value = 1; value <= 50; value++) {
+			histogram.record(value);
+		}
+		// then
+		LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+		assertEquals(50, snapshot.count());
+		assertEquals(1275, snapshot.sum());
+		assertEquals(50, snapshot.max());
+		assertEquals(25, snapshot.value(0.5));
+		assertEquals(50, snapshot.value(1));
+	}
+
+	@Test
+	public void quantilesKeepRelativePrecision() {
+		// having
+		LatencyHistogram histogram = new LatencyHistogram();
+		long step = TimeUnit.MICROSECONDS.toNanos(7);
+		// when
+		for (int i = 1; i <= 10_000; i++) {
+			histogram.record(i * step);
+		}
+		// then
+		LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+		assertEquals(10_000 * step, snapshot.max());
+		for (double quantile : new double[] { 0.5, 0.9, 0.99, 0.999 }) {
+			long exact = (long) Math.ceil(quantile * 10_000) * step;
+			long reported = snapshot.value(quantile);
+			assertTrue(String.format("%s quantile: %d for %d", quantile, reported, exact), //$NON-NLS-1$
+					reported >= exact && reported - exact <= exact / 32);
+		}
+	}
+
+	@Test
+	public void hugeAndNegativeValuesAreKept() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(Long.MAX_VALUE);
+		histogram.record(-1);
+		LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+		assertEquals(2, snapshot.count());
+		assertEquals(Long.MAX_VALUE, snapshot.max());
+		assertEquals(0, snapshot.value(0.5));
+		assertEquals(Long.MAX_VALUE, snapshot.value(1));
+	}
+
+}
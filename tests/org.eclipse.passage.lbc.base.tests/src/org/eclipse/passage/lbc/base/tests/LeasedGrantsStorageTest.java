@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lbc.base.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.passage.lbc.internal.base.acquire.DefaultGrantsStorage;
+import org.eclipse.passage.lbc.internal.base.acquire.LeaseTime;
+import org.eclipse.passage.lic.api.LicensedProduct;
+import org.eclipse.passage.lic.base.BaseLicensedProduct;
+import org.eclipse.passage.lic.licenses.model.api.FeatureGrant;
+import org.eclipse.passage.lic.licenses.model.api.GrantAcqisition;
+import org.eclipse.passage.lic.licenses.model.meta.LicensesFactory;
+import org.junit.Test;
+
+public final class LeasedGrantsStorageTest {
+
+	private final Duration lease = Duration.ofMinutes(10);
+	private final LicensedProduct product = new BaseLicensedProduct("product", "1.0.0"); //$NON-NLS-1$ //$NON-NLS-2$
+	private final FeatureGrant grant = grant();
+
+	@Test
+	public void overdueAcquisitionIsRecycled() {
+		// having
+		AtomicLong clock = new AtomicLong(System.currentTimeMillis());
+		DefaultGrantsStorage storage = new SingleSeatStorage(lease, clock);
+		Optional<GrantAcqisition> crashed = storage.acquire(product, "crashed", grant); //$NON-NLS-1$
+		assertTrue(crashed.isPresent());
+		assertFalse(storage.acquire(product, "another", grant).isPresent()); //$NON-NLS-1$
+		// when
+		clock.addAndGet(lease.plusSeconds(2).toMillis());
+		// then
+		assertTrue(storage.acquire(product, "another", grant).isPresent()); //$NON-NLS-1$
+		assertFalse(storage.renew(product, crashed.get()));
+		assertFalse(storage.release(product, crashed.get()));
+	}
+
+	@Test
+	public void renewedAcquisitionIsKept() {
+		// having
+		AtomicLong clock = new AtomicLong(System.currentTimeMillis());
+		DefaultGrantsStorage storage = new SingleSeatStorage(lease, clock);
+		Optional<GrantAcqisition> alive = storage.acquire(product, "alive", grant); //$NON-NLS-1$
+		assertTrue(alive.isPresent());
+		// when
+		for (int minute = 0; minute < 60; minute++) {
+			clock.addAndGet(Duration.ofMinutes(1).toMillis());
+			assertTrue(storage.renew(product, alive.get()));
+			assertFalse(storage.acquire(product, "another", grant).isPresent()); //$NON-NLS-1$
+		}
+		// then
+		assertTrue(storage.release(product, alive.get()));
+		assertFalse(storage.renew(product, alive.get()));
+		assertTrue(storage.acquire(product, "another", grant).isPresent()); //$NON-NLS-1$
+	}
+
+	@Test
+	public void leaseLongerThanWheelExpiresInTime() {
+		// having
+		Duration day = Duration.ofDays(1);
+		AtomicLong clock = new AtomicLong(System.currentTimeMillis());
+		DefaultGrantsStorage storage = new SingleSeatStorage(day, clock);
+		assertTrue(storage.acquire(product, "crashed", grant).isPresent()); //$NON-NLS-1$
+		// when
+		clock.addAndGet(day.minusMinutes(1).toMillis());
+		assertFalse(storage.acquire(product, "another", grant).isPresent()); //$NON-NLS-1$
+		clock.addAndGet(Duration.ofMinutes(2).toMillis());
+		// then
+		assertTrue(storage.acquire(product, "another", grant).isPresent()); //$NON-NLS-1$
+	}
+
+	@Test
+	public void zeroLeaseNeverExpires() {
+		// having
+		AtomicLong clock = new AtomicLong(System.currentTimeMillis());
+		DefaultGrantsStorage storage = new SingleSeatStorage(Duration.ZERO, clock);
+		Optional<GrantAcqisition> legacy = storage.acquire(product, "legacy", grant); //$NON-NLS-1$
+		assertTrue(legacy.isPresent());
+		// when
+		clock.addAndGet(Duration.ofDays(30).toMillis());
+		// then
+		assertFalse(storage.acquire(product, "another", grant).isPresent()); //$NON-NLS-1$
+		assertTrue(storage.renew(product, legacy.get()));
+		assertTrue(storage.release(product, legacy.get()));
+		assertTrue(storage.acquire(product, "another", grant).isPresent()); //$NON-NLS-1$
+	}
+
+	@Test
+	public void zeroLeaseTimeIsAccepted() {
+		assertEquals(Optional.of(Duration.ZERO), new LeaseTime(new String[] { "-server.lease=0" }, lease).get()); //$NON-NLS-1$
+		assertFalse(new LeaseTime(new String[] { "-server.lease=-1" }, lease).get().isPresent()); //$NON-NLS-1$
+	}
+
+	private FeatureGrant grant() {
+		FeatureGrant result = LicensesFactory.eINSTANCE.createFeatureGrant();
+		result.setIdentifier("product#feature"); //$NON-NLS-1$
+		result.setFeature(LicensesFactory.eINSTANCE.createFeatureRef());
+		result.getFeature().setIdentifier("feature"); //$NON-NLS-1$
+		result.setCapacity(1);
+		return result;
+	}
+
+	private static final class SingleSeatStorage extends DefaultGrantsStorage {
+
+		SingleSeatStorage(Duration lease, AtomicLong clock) {
+			super(lease, clock::get);
+		}
+
+		@Override
+		protected boolean beforeAcquire() {
+			return true;
+		}
+
+		@Override
+		protected boolean afterAcquire() {
+			return true;
+		}
+
+		@Override
+		protected void beforeRelease() {
+			// do nothing
+		}
+
+		@Override
+		protected void afterRelease() {
+			// do nothing
+		}
+
+		@Override
+		protected int capacity(FeatureGrant grant) {
+			return 1;
+		}
+
+	}
+
+}
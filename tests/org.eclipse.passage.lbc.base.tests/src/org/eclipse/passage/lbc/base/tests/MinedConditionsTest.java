@@ -0,0 +1,208 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lbc.base.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.passage.lbc.internal.base.mine.MinedConditions;
+import org.eclipse.passage.lic.api.EvaluationType;
+import org.eclipse.passage.lic.api.LicensedProduct;
+import org.eclipse.passage.lic.api.LicensingException;
+import org.eclipse.passage.lic.api.conditions.ConditionMiningTarget;
+import org.eclipse.passage.lic.api.conditions.ConditionPack;
+import org.eclipse.passage.lic.api.conditions.mining.ContentType;
+import org.eclipse.passage.lic.base.BaseLicensedProduct;
+import org.eclipse.passage.lic.base.conditions.BaseCondition;
+import org.eclipse.passage.lic.base.conditions.BaseConditionOrigin;
+import org.eclipse.passage.lic.base.conditions.BaseConditionPack;
+import org.eclipse.passage.lic.base.conditions.BaseEvaluationInstructions;
+import org.eclipse.passage.lic.base.conditions.BaseValidityPeriodClosed;
+import org.eclipse.passage.lic.base.conditions.BaseVersionMatch;
+import org.eclipse.passage.lic.base.conditions.MatchingRuleDefault;
+import org.eclipse.passage.lic.internal.net.api.handle.NetResponse;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+@SuppressWarnings("restriction")
+public final class MinedConditionsTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private final LicensedProduct product = new BaseLicensedProduct("product", "1.0.0"); //$NON-NLS-1$ //$NON-NLS-2$
+	private final String user = "albert"; //$NON-NLS-1$
+	private final AtomicLong clock = new AtomicLong(System.currentTimeMillis());
+	private MinedConditions cache;
+
+	@Before
+	public void residence() throws IOException {
+		Path residence = folder.getRoot().toPath().resolve(product.identifier()).resolve(product.version());
+		Files.createDirectories(residence);
+		Files.write(residence.resolve("license.lic"), new byte[] { 1, 2, 3 }); //$NON-NLS-1$
+		cache = new MinedConditions(folder.getRoot()::toPath, clock::get);
+	}
+
+	@Test
+	public void keptUntilHalfOfValidityIsSpent() {
+		// having
+		remember(Duration.ofHours(-1), Duration.ofMinutes(10));
+		// when
+		clock.addAndGet(Duration.ofMinutes(4).toMillis());
+		// then
+		assertTrue(actual().isPresent());
+		// when
+		clock.addAndGet(Duration.ofMinutes(2).toMillis());
+		// then
+		assertFalse(actual().isPresent());
+	}
+
+	@Test
+	public void minedAnewWhenConditionComesIntoForce() {
+		// having
+		remember(Duration.ofMinutes(2), Duration.ofHours(1));
+		// when
+		clock.addAndGet(Duration.ofMinutes(1).toMillis());
+		// then
+		assertTrue(actual().isPresent());
+		// when
+		clock.addAndGet(Duration.ofMinutes(2).toMillis());
+		// then
+		assertFalse(actual().isPresent());
+	}
+
+	@Test
+	public void minedAnewOnResidenceChange() throws IOException {
+		// having
+		remember(Duration.ofHours(-1), Duration.ofHours(1));
+		assertTrue(actual().isPresent());
+		// when
+		Path residence = folder.getRoot().toPath().resolve(product.identifier()).resolve(product.version());
+		Files.write(residence.resolve("another.lic"), new byte[] { 4, 5 }); //$NON-NLS-1$
+		// then
+		assertFalse(actual().isPresent());
+	}
+
+	@Test
+	public void minedAnewOnInvalidation() {
+		// having
+		remember(Duration.ofHours(-1), Duration.ofHours(1));
+		assertTrue(actual().isPresent());
+		// when
+		cache.invalidate(product);
+		// then
+		assertFalse(actual().isPresent());
+	}
+
+	@Test
+	public void notKeptForUnknownResidence() {
+		// when
+		cache.remember(product, user, Optional.empty(), packs(Duration.ofHours(-1), Duration.ofHours(1)));
+		// then
+		assertFalse(actual().isPresent());
+	}
+
+	@Test
+	public void encodedOncePerAlgorithm() throws LicensingException {
+		// having
+		MinedConditions.Mined mined = remember(Duration.ofHours(-1), Duration.ofHours(1));
+		AtomicInteger encodings = new AtomicInteger();
+		// when
+		NetResponse first = mined.response("sha", () -> encoded(encodings)); //$NON-NLS-1$
+		NetResponse second = actual().get().response("sha", () -> encoded(encodings)); //$NON-NLS-1$
+		mined.response("md5", () -> encoded(encodings)); //$NON-NLS-1$
+		// then
+		assertEquals(2, encodings.get());
+		assertArrayEquals(first.payload(), second.payload());
+		second.payload()[0] = 0;
+		assertArrayEquals(first.payload(), second.payload());
+	}
+
+	private MinedConditions.Mined remember(Duration from, Duration to) {
+		return cache.remember(product, user, cache.residence(product), packs(from, to));
+	}
+
+	private Optional<MinedConditions.Mined> actual() {
+		Optional<Map<Path, String>> residence = cache.residence(product);
+		return cache.actual(product, user, residence);
+	}
+
+	private NetResponse encoded(AtomicInteger encodings) {
+		encodings.incrementAndGet();
+		return new Payload();
+	}
+
+	private Collection<ConditionPack> packs(Duration from, Duration to) {
+		return Collections.singletonList(new BaseConditionPack(//
+				new BaseConditionOrigin(new ConditionMiningTarget.Local(), "license.lic"), //$NON-NLS-1$
+				Collections.singletonList(new BaseCondition(//
+						"grant", //$NON-NLS-1$
+						"feature", //$NON-NLS-1$
+						new BaseVersionMatch("1.0.0", new MatchingRuleDefault()), //$NON-NLS-1$
+						new BaseValidityPeriodClosed(moment(from), moment(to)), //
+						new BaseEvaluationInstructions(new EvaluationType.Hardware(), "os.family=*"))), //$NON-NLS-1$
+				Collections.emptyList()));
+	}
+
+	private ZonedDateTime moment(Duration shift) {
+		return ZonedDateTime.ofInstant(Instant.ofEpochMilli(clock.get()).plus(shift), ZoneId.systemDefault());
+	}
+
+	private static final class Payload implements NetResponse {
+
+		@Override
+		public boolean failed() {
+			return false;
+		}
+
+		@Override
+		public Error error() {
+			throw new IllegalStateException();
+		}
+
+		@Override
+		public boolean carriesPayload() {
+			return true;
+		}
+
+		@Override
+		public byte[] payload() {
+			return new byte[] { 7, 8, 9 };
+		}
+
+		@Override
+		public ContentType contentType() {
+			return new ContentType.Xml();
+		}
+
+	}
+
+}
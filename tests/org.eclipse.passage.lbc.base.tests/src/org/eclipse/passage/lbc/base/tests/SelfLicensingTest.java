@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lbc.base.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.passage.lbc.internal.base.acquire.SelfCheckPeriod;
+import org.eclipse.passage.lbc.internal.base.acquire.SelfLicensing;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public final class SelfLicensingTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private final String feature = "feature"; //$NON-NLS-1$
+	private final AtomicInteger evaluations = new AtomicInteger();
+	private final List<String> alarms = new CopyOnWriteArrayList<>();
+	private volatile boolean licensed = true;
+	private SelfLicensing verdicts;
+
+	@After
+	public void close() {
+		if (verdicts != null) {
+			verdicts.close();
+		}
+	}
+
+	@Test
+	public void verdictIsCached() {
+		// given
+		verdicts = verdicts(Optional.empty(), Duration.ofMinutes(5));
+		// when
+		for (int i = 0; i < 100; i++) {
+			assertTrue(verdicts.covers(feature));
+		}
+		// then
+		assertEquals(1, evaluations.get());
+		assertFalse(verdicts.covers("unknown")); //$NON-NLS-1$
+		assertTrue(alarms.isEmpty());
+	}
+
+	@Test
+	public void verdictIsRefreshedEachPeriod() throws InterruptedException {
+		// given
+		verdicts = verdicts(Optional.empty(), Duration.ofMillis(100));
+		assertTrue(verdicts.covers(feature));
+		// when
+		licensed = false;
+		// then
+		assertTrue(eventually(() -> !verdicts.covers(feature)));
+		assertEquals(1, alarms.size());
+	}
+
+	@Test
+	public void verdictIsRefreshedOnResidenceChange() throws Exception {
+		// given
+		Path residence = folder.newFolder("residence").toPath(); //$NON-NLS-1$
+		verdicts = verdicts(Optional.of(residence), Duration.ofMinutes(5));
+		assertTrue(verdicts.covers(feature));
+		// when
+		licensed = false;
+		Files.write(residence.resolve("product.lic"), new byte[] { 1 }); //$NON-NLS-1$
+		// then
+		assertTrue(eventually(() -> !verdicts.covers(feature)));
+		assertEquals(2, evaluations.get());
+	}
+
+	@Test
+	public void lostCoverageIsReportedOnce() throws Exception {
+		// given
+		Path residence = folder.newFolder("residence").toPath(); //$NON-NLS-1$
+		verdicts = verdicts(Optional.of(residence), Duration.ofMinutes(5));
+		licensed = false;
+		// when: coverage is lost, stays lost and then comes back
+		touch(residence, "first.lic", 2); //$NON-NLS-1$
+		touch(residence, "second.lic", 3); //$NON-NLS-1$
+		licensed = true;
+		touch(residence, "third.lic", 4); //$NON-NLS-1$
+		// then
+		assertTrue(verdicts.covers(feature));
+		assertEquals(Arrays.asList(String.format("FLS feature %s is not covered by a license", feature)), alarms); //$NON-NLS-1$
+	}
+
+	@Test
+	public void closedVerdictsAreKept() throws Exception {
+		// given
+		Path residence = folder.newFolder("residence").toPath(); //$NON-NLS-1$
+		verdicts = verdicts(Optional.of(residence), Duration.ofMillis(50));
+		assertTrue(verdicts.covers(feature));
+		// when
+		verdicts.close();
+		licensed = false;
+		Files.write(residence.resolve("product.lic"), new byte[] { 1 }); //$NON-NLS-1$
+		Thread.sleep(200);
+		// then
+		assertTrue(verdicts.covers(feature));
+		assertEquals(1, evaluations.get());
+	}
+
+	@Test
+	public void selfCheckPeriodIsInMinutes() {
+		assertEquals(Optional.of(Duration.ofMinutes(3)),
+				new SelfCheckPeriod(new String[] { "-server.selfcheck=3" }, Duration.ofMinutes(5)).get()); //$NON-NLS-1$
+		assertEquals(Optional.of(Duration.ofMinutes(5)), new SelfCheckPeriod(new String[0], Duration.ofMinutes(5)).get());
+		assertFalse(new SelfCheckPeriod(new String[] { "-server.selfcheck=0" }, Duration.ofMinutes(5)).get().isPresent()); //$NON-NLS-1$
+		assertFalse(new SelfCheckPeriod(new String[] { "-server.selfcheck=soon" }, Duration.ofMinutes(5)).get().isPresent()); //$NON-NLS-1$
+	}
+
+	private SelfLicensing verdicts(Optional<Path> residence, Duration period) {
+		return new SelfLicensing(//
+				any -> {
+					evaluations.incrementAndGet();
+					return licensed;
+				}, //
+				Arrays.asList(feature), //
+				() -> residence, //
+				period, //
+				Duration.ofMillis(10), //
+				alarms::add);
+	}
+
+	/**
+	 * Changes the residence and waits for it to be evaluated
+	 */
+	private void touch(Path residence, String file, int evaluated) throws IOException, InterruptedException {
+		verdicts.covers(feature);
+		Files.write(residence.resolve(file), new byte[] { 1 });
+		assertTrue(eventually(() -> evaluations.get() >= evaluated));
+	}
+
+	private boolean eventually(BooleanSupplier condition) throws InterruptedException {
+		for (int i = 0; i < 200; i++) {
+			if (condition.getAsBoolean()) {
+				return true;
+			}
+			Thread.sleep(10);
+		}
+		return false;
+	}
+
+}
@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lic.internal.base.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.passage.lic.internal.base.BoundedCache;
+import org.junit.Test;
+
+@SuppressWarnings("restriction")
+public final class BoundedCacheTest {
+
+	@Test
+	public void evictsLeastRecentlyUsed() {
+		// given
+		BoundedCache<String, String> cache = new BoundedCache<>(2);
+		cache.put("a", "A"); //$NON-NLS-1$ //$NON-NLS-2$
+		cache.put("b", "B"); //$NON-NLS-1$ //$NON-NLS-2$
+		cache.get("a"); //$NON-NLS-1$
+		// when
+		cache.put("c", "C"); //$NON-NLS-1$ //$NON-NLS-2$
+		// then
+		assertTrue(cache.get("a").isPresent()); //$NON-NLS-1$
+		assertFalse(cache.get("b").isPresent()); //$NON-NLS-1$
+		assertTrue(cache.get("c").isPresent()); //$NON-NLS-1$
+	}
+
+	@Test
+	public void evictsTillWeightFits() {
+		// given
+		BoundedCache<String, String> cache = new BoundedCache<>(10, 5, String::length);
+		cache.put("a", "AA"); //$NON-NLS-1$ //$NON-NLS-2$
+		cache.put("b", "BB"); //$NON-NLS-1$ //$NON-NLS-2$
+		// when
+		cache.put("c", "CCC"); //$NON-NLS-1$ //$NON-NLS-2$
+		// then
+		assertFalse(cache.get("a").isPresent()); //$NON-NLS-1$
+		assertTrue(cache.get("b").isPresent()); //$NON-NLS-1$
+		assertTrue(cache.get("c").isPresent()); //$NON-NLS-1$
+	}
+
+	@Test
+	public void doesNotKeepOverweight() {
+		// given
+		BoundedCache<String, String> cache = new BoundedCache<>(10, 5, String::length);
+		cache.put("a", "AA"); //$NON-NLS-1$ //$NON-NLS-2$
+		// when
+		String heavy = cache.put("a", "AAAAAA"); //$NON-NLS-1$ //$NON-NLS-2$
+		// then
+		assertEquals("AAAAAA", heavy); //$NON-NLS-1$
+		assertFalse(cache.get("a").isPresent()); //$NON-NLS-1$
+		cache.put("b", "BBBBB"); //$NON-NLS-1$ //$NON-NLS-2$
+		assertTrue(cache.get("b").isPresent()); //$NON-NLS-1$
+	}
+
+	@Test
+	public void computesOnce() {
+		// given
+		BoundedCache<String, String> cache = new BoundedCache<>(2);
+		// when
+		String first = cache.get("a", String::toUpperCase); //$NON-NLS-1$
+		String second = cache.get("a", key -> "other"); //$NON-NLS-1$ //$NON-NLS-2$
+		// then
+		assertEquals("A", first); //$NON-NLS-1$
+		assertEquals("A", second); //$NON-NLS-1$
+	}
+
+}
@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lic.internal.base.tests.access;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.passage.lic.internal.base.access.CycleResults;
+import org.junit.Test;
+
+public final class CycleResultsTest {
+
+	private final AtomicLong clock = new AtomicLong(1_000);
+	private final Map<Path, String> residence = new HashMap<>();
+	private final CycleResults results = new CycleResults(() -> new HashMap<>(residence), clock::get, 60_000, 1_000);
+	private final Optional<String> feature = Optional.of("feature"); //$NON-NLS-1$
+
+	@Test
+	public void remembersPerCycleAndFeature() {
+		// when
+		results.remember(Boolean.class, feature, Boolean.TRUE, Long.MAX_VALUE, results.epoch());
+		// then
+		assertEquals(Optional.of(Boolean.TRUE), results.known(Boolean.class, feature));
+		assertFalse(results.known(String.class, feature).isPresent());
+		assertFalse(results.known(Boolean.class, Optional.of("another")).isPresent()); //$NON-NLS-1$
+		assertFalse(results.known(Boolean.class, Optional.empty()).isPresent());
+	}
+
+	@Test
+	public void forgetsOnValidityBoundary() {
+		results.remember(Boolean.class, feature, Boolean.TRUE, 5_000, results.epoch());
+		clock.set(4_999);
+		assertTrue(results.known(Boolean.class, feature).isPresent());
+		clock.set(5_000);
+		assertFalse(results.known(Boolean.class, feature).isPresent());
+	}
+
+	@Test
+	public void forgetsWhenTooOld() {
+		results.remember(Boolean.class, feature, Boolean.TRUE, Long.MAX_VALUE, results.epoch());
+		clock.addAndGet(60_000);
+		assertFalse(results.known(Boolean.class, feature).isPresent());
+	}
+
+	@Test
+	public void forgetsOnResidenceChange() {
+		// having
+		results.remember(Boolean.class, feature, Boolean.TRUE, Long.MAX_VALUE, results.epoch());
+		// when
+		residence.put(Paths.get("license.lic"), "1:1"); //$NON-NLS-1$ //$NON-NLS-2$
+		// then: the residence is not looked at too often
+		clock.addAndGet(999);
+		assertTrue(results.known(Boolean.class, feature).isPresent());
+		clock.addAndGet(1);
+		assertFalse(results.known(Boolean.class, feature).isPresent());
+	}
+
+	@Test
+	public void keepsOnSameResidence() {
+		residence.put(Paths.get("license.lic"), "1:1"); //$NON-NLS-1$ //$NON-NLS-2$
+		CycleResults stable = new CycleResults(() -> Collections.unmodifiableMap(residence), clock::get, 60_000, 1_000);
+		stable.remember(Boolean.class, feature, Boolean.TRUE, Long.MAX_VALUE, stable.epoch());
+		clock.addAndGet(5_000);
+		assertTrue(stable.known(Boolean.class, feature).isPresent());
+	}
+
+	@Test
+	public void forgetsOnInvalidation() {
+		results.remember(Boolean.class, feature, Boolean.TRUE, Long.MAX_VALUE, results.epoch());
+		CycleResults.invalidate();
+		assertFalse(results.known(Boolean.class, feature).isPresent());
+	}
+
+	@Test
+	public void forgetsOnWatchedFoldersChange() {
+		// given
+		Path licensing = Paths.get("installation", ".passage"); //$NON-NLS-1$ //$NON-NLS-2$
+		results.remember(Boolean.class, feature, Boolean.TRUE, Long.MAX_VALUE, results.epoch());
+		// when
+		CycleResults.watch(licensing);
+		// then
+		assertFalse(results.known(Boolean.class, feature).isPresent());
+		results.remember(Boolean.class, feature, Boolean.TRUE, Long.MAX_VALUE, results.epoch());
+		CycleResults.unwatch(licensing);
+		assertFalse(results.known(Boolean.class, feature).isPresent());
+	}
+
+	@Test
+	public void doesNotRememberOutcomeOfOutdatedCycle() {
+		// having
+		long epoch = results.epoch();
+		// when: residence changes while a cycle is running
+		residence.put(Paths.get("license.lic"), "1:1"); //$NON-NLS-1$ //$NON-NLS-2$
+		clock.addAndGet(1_000);
+		results.known(Boolean.class, feature);
+		results.remember(Boolean.class, feature, Boolean.TRUE, Long.MAX_VALUE, epoch);
+		// then
+		assertFalse(results.known(Boolean.class, feature).isPresent());
+	}
+
+}
@@ -0,0 +1,165 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lic.internal.base.tests.access;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.passage.lic.api.LicensedProduct;
+import org.eclipse.passage.lic.api.Passage;
+import org.eclipse.passage.lic.api.ServiceInvocationResult;
+import org.eclipse.passage.lic.api.access.GrantLockAttempt;
+import org.eclipse.passage.lic.api.acquire.GrantAcquisition;
+import org.eclipse.passage.lic.api.restrictions.ExaminationCertificate;
+import org.eclipse.passage.lic.base.BaseServiceInvocationResult;
+import org.eclipse.passage.lic.base.PooledPassage;
+import org.junit.Test;
+
+public final class PooledPassageTest {
+
+	private final CountingPassage origin = new CountingPassage();
+
+	@Test
+	public void releasedGrantIsReused() {
+		// given
+		PooledPassage pool = new PooledPassage(origin, Duration.ofMinutes(1));
+		// when
+		GrantLockAttempt first = run(pool, "feature"); //$NON-NLS-1$
+		GrantLockAttempt second = run(pool, "feature"); //$NON-NLS-1$
+		// then
+		assertSame(first, second);
+		assertEquals(1, origin.acquired.get());
+		assertEquals(0, origin.released.get());
+		// when
+		pool.close();
+		// then
+		assertEquals(1, origin.released.get());
+	}
+
+	@Test
+	public void simultaneousHoldersGetDistinctGrants() {
+		// given
+		PooledPassage pool = new PooledPassage(origin, Duration.ofMinutes(1));
+		// when
+		GrantLockAttempt first = pool.acquireLicense("feature").data().get(); //$NON-NLS-1$
+		GrantLockAttempt second = pool.acquireLicense("feature").data().get(); //$NON-NLS-1$
+		pool.releaseLicense(first);
+		pool.releaseLicense(second);
+		GrantLockAttempt other = run(pool, "other"); //$NON-NLS-1$
+		// then
+		assertNotSame(first, second);
+		assertNotSame(first, other);
+		assertEquals(3, origin.acquired.get());
+		pool.close();
+		assertEquals(3, origin.released.get());
+	}
+
+	@Test
+	public void idleGrantIsReleased() throws InterruptedException {
+		// given
+		PooledPassage pool = new PooledPassage(origin, Duration.ofMillis(50));
+		run(pool, "feature"); //$NON-NLS-1$
+		// when
+		for (int i = 0; i < 100 && origin.released.get() == 0; i++) {
+			Thread.sleep(20);
+		}
+		// then
+		assertEquals(1, origin.released.get());
+		run(pool, "feature"); //$NON-NLS-1$
+		assertEquals(2, origin.acquired.get());
+		pool.close();
+	}
+
+	@Test
+	public void failedLockIsNotPooled() {
+		// given
+		PooledPassage pool = new PooledPassage(origin, Duration.ofMinutes(1));
+		origin.refuse = true;
+		// when
+		run(pool, "feature"); //$NON-NLS-1$
+		// then
+		assertEquals(1, origin.released.get());
+		pool.close();
+	}
+
+	private GrantLockAttempt run(Passage passage, String feature) {
+		GrantLockAttempt lock = passage.acquireLicense(feature).data().get();
+		passage.releaseLicense(lock);
+		return lock;
+	}
+
+	private static final class CountingPassage implements Passage {
+
+		private final AtomicInteger acquired = new AtomicInteger();
+		private final AtomicInteger released = new AtomicInteger();
+		private volatile boolean refuse;
+
+		@Override
+		public boolean canUse(String feature) {
+			return true;
+		}
+
+		@Override
+		public ServiceInvocationResult<ExaminationCertificate> assess() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public ServiceInvocationResult<GrantLockAttempt> acquireLicense(String feature) {
+			acquired.incrementAndGet();
+			return new BaseServiceInvocationResult<>(new Lock(!refuse));
+		}
+
+		@Override
+		public ServiceInvocationResult<Boolean> releaseLicense(GrantLockAttempt lock) {
+			released.incrementAndGet();
+			return new BaseServiceInvocationResult<>(Boolean.TRUE);
+		}
+
+		@Override
+		public ServiceInvocationResult<LicensedProduct> product() {
+			throw new UnsupportedOperationException();
+		}
+
+	}
+
+	private static final class Lock implements GrantLockAttempt {
+
+		private final boolean successful;
+
+		Lock(boolean successful) {
+			this.successful = successful;
+		}
+
+		@Override
+		public ExaminationCertificate certificate() {
+			return null;
+		}
+
+		@Override
+		public boolean successful() {
+			return successful;
+		}
+
+		@Override
+		public GrantAcquisition grant() {
+			throw new UnsupportedOperationException();
+		}
+
+	}
+
+}
@@ -0,0 +1,195 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lic.internal.base.tests.access;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.passage.lic.api.LicensedProduct;
+import org.eclipse.passage.lic.api.ServiceInvocationResult;
+import org.eclipse.passage.lic.api.acquire.GrantAcquisition;
+import org.eclipse.passage.lic.api.acquire.LicenseAcquisitionService;
+import org.eclipse.passage.lic.api.conditions.ConditionMiningTarget;
+import org.eclipse.passage.lic.base.BaseLicensedProduct;
+import org.eclipse.passage.lic.base.BaseServiceInvocationResult;
+import org.eclipse.passage.lic.base.acquire.BaseGrantAcquisition;
+import org.eclipse.passage.lic.base.registry.ReadOnlyRegistry;
+import org.eclipse.passage.lic.internal.base.access.storage.StoringGrantTraceService;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public final class StoringGrantTraceServiceTest {
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	private final LicensedProduct product = new BaseLicensedProduct("trace.product", "1.0.0"); //$NON-NLS-1$ //$NON-NLS-2$
+	private final Set<String> released = new HashSet<>();
+
+	@Test
+	public void forsakenGrantsSurviveRestart() {
+		// given
+		StoringGrantTraceService service = service();
+		service.trace(grant("first")); //$NON-NLS-1$
+		service.trace(grant("second")); //$NON-NLS-1$
+		service.trace(grant("third")); //$NON-NLS-1$
+		service.forget(grant("second")); //$NON-NLS-1$
+		// when
+		service().trace(grant("fourth")); //$NON-NLS-1$
+		// then
+		assertEquals(Set.of("first", "third"), released); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void logIsCompacted() throws Exception {
+		// given
+		StoringGrantTraceService service = service();
+		for (int i = 0; i < 1000; i++) {
+			GrantAcquisition grant = grant(Integer.toString(i));
+			service.trace(grant);
+			service.forget(grant);
+		}
+		service.trace(grant("last")); //$NON-NLS-1$
+		// when
+		long size = Files.size(folder.getRoot().toPath().resolve("forsaken-grants.log")); //$NON-NLS-1$
+		service().trace(grant("next")); //$NON-NLS-1$
+		// then
+		assertTrue(size < 4096);
+		assertEquals(Set.of("last"), released); //$NON-NLS-1$
+	}
+
+	@Test
+	public void formerResidenceIsTakenOver() throws Exception {
+		// given
+		Path former = folder.getRoot().toPath().resolve("forsaken-grants.bin"); //$NON-NLS-1$
+		List<GrantAcquisition> grants = new ArrayList<>();
+		grants.add(grant("former")); //$NON-NLS-1$
+		try (OutputStream file = Files.newOutputStream(former); ObjectOutputStream stream = new ObjectOutputStream(file)) {
+			stream.writeInt(grants.size());
+			for (GrantAcquisition grant : grants) {
+				stream.writeObject(grant);
+			}
+		}
+		// when
+		service().trace(grant("actual")); //$NON-NLS-1$
+		// then
+		assertEquals(Set.of("former"), released); //$NON-NLS-1$
+		assertFalse(Files.exists(former));
+	}
+
+	@Test
+	public void cutOffTailIsDropped() throws Exception {
+		// given
+		StoringGrantTraceService service = service();
+		service.trace(grant("first")); //$NON-NLS-1$
+		service.trace(grant("second")); //$NON-NLS-1$
+		byte[] written = Files.readAllBytes(log());
+		Files.write(log(), Arrays.copyOf(written, written.length - 3));
+		// then
+		assertTailIsRewritten();
+	}
+
+	@Test
+	public void unknownRecordIsDropped() throws Exception {
+		assertCorruptTailIsDropped(new byte[] { 9, 0, 0, 0, 1, 0 });
+	}
+
+	@Test
+	public void negativeLengthIsDropped() throws Exception {
+		assertCorruptTailIsDropped(new byte[] { 1, (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xfe });
+	}
+
+	@Test
+	public void hugeLengthIsDropped() throws Exception {
+		assertCorruptTailIsDropped(new byte[] { 1, 0x7f, (byte) 0xff, (byte) 0xff, (byte) 0xff, 0 });
+	}
+
+	private void assertCorruptTailIsDropped(byte[] corrupt) throws Exception {
+		// given
+		StoringGrantTraceService service = service();
+		service.trace(grant("first")); //$NON-NLS-1$
+		Files.write(log(), corrupt, StandardOpenOption.APPEND);
+		// then
+		assertTailIsRewritten();
+	}
+
+	/**
+	 * Grants logged before the damage are restored, while grants logged after the
+	 * restart survive the next one
+	 */
+	private void assertTailIsRewritten() {
+		// when
+		service().trace(grant("after")); //$NON-NLS-1$
+		// then
+		assertTrue(released.contains("first")); //$NON-NLS-1$
+		assertFalse(released.contains("second")); //$NON-NLS-1$
+		// when
+		released.clear();
+		service().trace(grant("next")); //$NON-NLS-1$
+		// then
+		assertTrue(released.contains("after")); //$NON-NLS-1$
+	}
+
+	private Path log() {
+		return folder.getRoot().toPath().resolve("forsaken-grants.log"); //$NON-NLS-1$
+	}
+
+	private StoringGrantTraceService service() {
+		return new StoringGrantTraceService(//
+				() -> product, //
+				() -> folder.getRoot().toPath(), //
+				() -> () -> new ReadOnlyRegistry<>(new RecordingAcquisition()), //
+				Runnable::run);
+	}
+
+	private GrantAcquisition grant(String id) {
+		return new BaseGrantAcquisition(id, "grant", "feature", "user", new Date(0)); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	private final class RecordingAcquisition implements LicenseAcquisitionService {
+
+		private final ConditionMiningTarget target = new ConditionMiningTarget.Local();
+
+		@Override
+		public ConditionMiningTarget id() {
+			return target;
+		}
+
+		@Override
+		public ServiceInvocationResult<GrantAcquisition> acquire(LicensedProduct licensed, String feature) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public ServiceInvocationResult<Boolean> release(LicensedProduct licensed, GrantAcquisition acquisition) {
+			released.add(acquisition.identifier());
+			return new BaseServiceInvocationResult<>(Boolean.FALSE);
+		}
+
+	}
+
+}
@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lic.internal.base.tests.agreements;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.passage.lic.api.agreements.AgreementAcceptanceService;
+import org.eclipse.passage.lic.api.agreements.AgreementToAccept;
+import org.eclipse.passage.lic.api.agreements.ResolvedAgreement;
+import org.eclipse.passage.lic.api.requirements.Requirement;
+import org.eclipse.passage.lic.api.restrictions.RestrictionLevel;
+import org.eclipse.passage.lic.base.agreements.AgreementAssessmentService;
+import org.eclipse.passage.lic.base.agreements.BaseAgreementAcceptanceService;
+import org.eclipse.passage.lic.base.io.MD5Hashes;
+import org.eclipse.passage.lic.base.registry.ReadOnlyRegistry;
+import org.eclipse.passage.lic.base.requirements.BaseFeature;
+import org.eclipse.passage.lic.base.requirements.BaseRequirement;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public final class AgreementAssessmentServiceTest {
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void acceptanceIsRemembered() throws Exception {
+		// given
+		Path residence = folder.newFolder().toPath();
+		Agreement agreement = new Agreement("remembered.txt", "Accept me"); //$NON-NLS-1$ //$NON-NLS-2$
+		AgreementAcceptanceService acceptance = acceptance(residence);
+		assertFalse(assessment(agreement, acceptance).get(0).acceptance().accepted());
+		// when
+		acceptance.accept(agreement::bytes);
+		// then
+		assertTrue(assessment(agreement, acceptance).get(0).acceptance().accepted());
+		assertEquals(1, marks(residence).size());
+	}
+
+	@Test
+	public void formerAcceptanceIsFound() throws Exception {
+		// given
+		Path former = folder.newFolder().toPath();
+		Agreement agreement = new Agreement("former.txt", "Accepted before"); //$NON-NLS-1$ //$NON-NLS-2$
+		acceptance(former).accept(agreement::bytes);
+		Path residence = folder.newFolder().toPath();
+		Path mark = marks(former).get(0);
+		Files.copy(mark, residence.resolve(mark.getFileName()));
+		// when
+		List<AgreementToAccept> assessment = assessment(agreement, acceptance(residence));
+		// then
+		assertTrue(assessment.get(0).acceptance().accepted());
+	}
+
+	@Test
+	public void stableContentIsReadOnce() {
+		// given
+		Agreement agreement = new Agreement("stable.txt", "Read me once"); //$NON-NLS-1$ //$NON-NLS-2$
+		AgreementAcceptanceService acceptance = acceptance(folder.getRoot().toPath());
+		// when
+		for (int i = 0; i < 5; i++) {
+			assessment(agreement, acceptance);
+		}
+		// then
+		assertEquals(1, agreement.reads.get());
+	}
+
+	private List<AgreementToAccept> assessment(ResolvedAgreement agreement, AgreementAcceptanceService acceptance) {
+		Requirement requirement = new BaseRequirement(//
+				new BaseFeature("agreements.feature", "1.0.0", "Agreements", "test"), //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+				new RestrictionLevel.Error(), //
+				Collections.singletonList(agreement), //
+				"agreements.source"); //$NON-NLS-1$
+		Collection<AgreementToAccept> assessment = new AgreementAssessmentService(//
+				Collections.singleton(requirement), acceptance).assessment();
+		return assessment.stream().collect(Collectors.toList());
+	}
+
+	private AgreementAcceptanceService acceptance(Path residence) {
+		return new BaseAgreementAcceptanceService(() -> new ReadOnlyRegistry<>(new MD5Hashes()), residence);
+	}
+
+	private List<Path> marks(Path residence) throws IOException {
+		try (Stream<Path> files = Files.list(residence)) {
+			return files.collect(Collectors.toList());
+		}
+	}
+
+	private static final class Agreement implements ResolvedAgreement {
+
+		private final String path;
+		private final String content;
+		private final AtomicInteger reads = new AtomicInteger();
+
+		Agreement(String path, String content) {
+			this.path = path;
+			this.content = content;
+		}
+
+		byte[] bytes() {
+			return content.getBytes(StandardCharsets.UTF_8);
+		}
+
+		@Override
+		public InputStream content() {
+			reads.incrementAndGet();
+			return new ByteArrayInputStream(bytes());
+		}
+
+		@Override
+		public String path() {
+			return path;
+		}
+
+		@Override
+		public boolean stable() {
+			return true;
+		}
+
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020 ArSysOp
+ * Copyright (c) 2020, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -13,6 +13,7 @@
 package org.eclipse.passage.lic.internal.base.tests.conditions.evaluation;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 
 import org.eclipse.passage.lic.api.conditions.evaluation.ExpressionParsingException;
@@ -69,6 +70,17 @@ public final class BerlinProtocolExpressionParseServiceTest extends ExpressionPa
 		assertEquals("v", parsed.expected("k")); //$NON-NLS-1$//$NON-NLS-2$
 	}
 
+	@Test
+	public void expressionIsParsedOnce() throws ExpressionParsingException {
+		String expression = "os.family=linux;cpu.name=*"; //$NON-NLS-1$
+		assertSame(parser().parsed(expression), parser().parsed(expression));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void sharedExpressionIsImmutable() throws ExpressionParsingException {
+		((SimpleMapExpression) parser().parsed("k=v")).keys().clear(); //$NON-NLS-1$
+	}
+
 	@Override
 	protected ExpressionParsingService parser() {
 		return new BerlinProtocolExpressionParseService();
@@ -0,0 +1,42 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lic.internal.base.tests.conditions.evaluation;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.passage.lic.base.conditions.evaluation.Wildcards;
+import org.junit.Test;
+
+public final class WildcardsTest {
+
+	@Test
+	public void exactValueMatches() {
+		assertTrue(new Wildcards().matches("linux", "linux")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertFalse(new Wildcards().matches("linux", "windows")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void wildcardStandsForAnySequence() {
+		assertTrue(new Wildcards().matches("*", "")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertTrue(new Wildcards().matches("Intel*i7*", "Intel(R) Core(TM) i7-8550U")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertFalse(new Wildcards().matches("AMD*", "Intel(R) Core(TM) i7-8550U")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void patternIsCompiledOnce() {
+		assertSame(new Wildcards().pattern("x*y"), new Wildcards().pattern("x*y")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2021 ArSysOp
+ * Copyright (c) 2020, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -59,6 +59,37 @@ public final class LocalConditionsTest {
 		assertMiningResultsAreOk(features, conditions);
 	}
 
+	@Test
+	public void decodesUnchangedLicenseOnce() throws IOException {
+		// given
+		List<String> features = Arrays.asList("A", "B", "C"); //$NON-NLS-1$//$NON-NLS-2$//$NON-NLS-3$
+		writePseudoLicenseFile(features);
+		Spy spy = new Spy();
+		PathResidentConditions miner = new PathResidentConditions(folder.getRoot().toPath(), equipment(spy));
+		// when
+		miner.all(product());
+		ServiceInvocationResult<Collection<ConditionPack>> conditions = miner.all(product());
+		// then
+		assertCrutialServicesHaveBeenProperlyInvolved(spy);
+		assertMiningResultsAreOk(features, conditions);
+	}
+
+	@Test
+	public void decodesChangedLicenseAnew() throws IOException {
+		// given
+		File license = writePseudoLicenseFile(Arrays.asList("A", "B", "C")); //$NON-NLS-1$//$NON-NLS-2$//$NON-NLS-3$
+		Spy spy = new Spy();
+		PathResidentConditions miner = new PathResidentConditions(folder.getRoot().toPath(), equipment(spy));
+		miner.all(product());
+		// when
+		List<String> features = Arrays.asList("D", "E"); //$NON-NLS-1$//$NON-NLS-2$
+		writeFeatures(license, features);
+		ServiceInvocationResult<Collection<ConditionPack>> conditions = miner.all(product());
+		// then
+		assertEquals(5, spy.decoded);
+		assertMiningResultsAreOk(features, conditions);
+	}
+
 	@Test(expected = NullPointerException.class)
 	public void miningPathIsMandatoryOnRuntime() {
 		new PathResidentConditions(null, equipment(new Spy())).all(product());
@@ -101,7 +132,7 @@ public final class LocalConditionsTest {
 		return new BaseLicensedProduct("test-local-condition-minder-product", "1.0.0"); //$NON-NLS-1$//$NON-NLS-2$
 	}
 
-	private void writePseudoLicenseFile(List<String> features) throws IOException {
+	private File writePseudoLicenseFile(List<String> features) throws IOException {
 		LicensedProduct product = product();
 		folder.newFolder(product.identifier());
 		folder.newFolder(Paths.get(product.identifier()).resolve(product.version()).toString());
@@ -110,7 +141,12 @@ public final class LocalConditionsTest {
 						.resolve(product.version())//
 						.resolve("fake-license" + new PassageFileExtension.LicenseEncrypted().get()) //$NON-NLS-1$
 						.toString());
-		try (PrintWriter writer = new PrintWriter(new FileWriter(lic))) {
+		writeFeatures(lic, features);
+		return lic;
+	}
+
+	private void writeFeatures(File license, List<String> features) throws IOException {
+		try (PrintWriter writer = new PrintWriter(new FileWriter(license))) {
 			features.forEach(writer::println);
 		}
 	}
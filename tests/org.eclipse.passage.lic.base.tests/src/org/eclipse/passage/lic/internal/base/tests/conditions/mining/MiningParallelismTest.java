@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lic.internal.base.tests.conditions.mining;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.passage.lic.base.conditions.mining.MiningParallelism;
+import org.junit.Test;
+
+public final class MiningParallelismTest {
+
+	@Test
+	public void keepsOrderOfSources() {
+		// having
+		List<Integer> sources = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+		ForkJoinPool pool = new ForkJoinPool(4);
+		// when
+		List<Integer> results = new MiningParallelism(pool).mine(sources, this::slowSquare);
+		// then
+		assertEquals(sources.stream().map(i -> i * i).collect(Collectors.toList()), results);
+		pool.shutdown();
+	}
+
+	@Test
+	public void usesSeveralThreads() {
+		// having
+		Set<Thread> threads = ConcurrentHashMap.newKeySet();
+		ForkJoinPool pool = new ForkJoinPool(4);
+		// when
+		new MiningParallelism(pool).mine(IntStream.range(0, 16).boxed().collect(Collectors.toList()), i -> {
+			threads.add(Thread.currentThread());
+			return slowSquare(i);
+		});
+		// then
+		assertTrue(threads.size() > 1);
+		pool.shutdown();
+	}
+
+	@Test
+	public void nestedMiningDoesNotStarve() {
+		// having: more miners than threads, each miner fans out its files
+		ForkJoinPool pool = new ForkJoinPool(2);
+		MiningParallelism parallelism = new MiningParallelism(pool);
+		// when
+		List<Integer> results = parallelism.mine(Arrays.asList(1, 2, 3, 4, 5), miner -> parallelism
+				.mine(Arrays.asList(miner, miner, miner), this::slowSquare).stream().mapToInt(Integer::intValue).sum());
+		// then
+		assertEquals(Arrays.asList(3, 12, 27, 48, 75), results);
+		pool.shutdown();
+	}
+
+	private int slowSquare(int value) {
+		try {
+			Thread.sleep(5);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return value * value;
+	}
+
+}
@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lic.internal.base.tests.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+
+import org.eclipse.passage.lic.base.io.FolderFingerprint;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public final class FolderFingerprintTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void regularFilesAreStampedRecursively() throws Exception {
+		// given
+		Path root = folder.getRoot().toPath();
+		Files.write(root.resolve("top.lic"), new byte[] { 1 }); //$NON-NLS-1$
+		Files.write(Files.createDirectory(root.resolve("inner")).resolve("inner.lic"), new byte[] { 1, 2 }); //$NON-NLS-1$ //$NON-NLS-2$
+		// when
+		Map<Path, String> stamps = new FolderFingerprint(() -> root).get();
+		// then
+		assertEquals(2, stamps.size());
+		assertTrue(stamps.containsKey(root.resolve("inner").resolve("inner.lic"))); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void rewrittenFileAltersFingerprint() throws Exception {
+		// given
+		Path root = folder.getRoot().toPath();
+		Path file = Files.write(root.resolve("product.lic"), new byte[] { 1 }); //$NON-NLS-1$
+		Map<Path, String> before = new FolderFingerprint(() -> root).get();
+		// when
+		Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 2_000));
+		// then
+		assertNotEquals(before, new FolderFingerprint(() -> root).get());
+	}
+
+	@Test
+	public void absentFolderHasNoFiles() throws Exception {
+		assertTrue(new FolderFingerprint(new NotExistingFolder(folder.getRoot().toPath())).get().isEmpty());
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void folderIsMandatory() {
+		new FolderFingerprint(null);
+	}
+
+}
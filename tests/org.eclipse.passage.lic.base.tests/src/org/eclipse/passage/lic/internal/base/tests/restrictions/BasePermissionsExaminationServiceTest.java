@@ -100,6 +100,32 @@ public final class BasePermissionsExaminationServiceTest extends PermissionsExam
 		assertEquals(new InsufficientLicenseCoverage(), restriction.reason());
 	}
 
+	@Test
+	public void choosesPermissionOfRequiredFeature() {
+		// given
+		TestState state = new TestState();
+		// when: the only suitable permission is the last one
+		ExaminationCertificate certificate = examiner(state::product).examine(//
+				Arrays.asList(state.requirementFirst()), //
+				Arrays.asList(state.permissionSecondObsolete(), state.permissionSecond(), state.permissionFirst()));
+		// then
+		assertTrue(certificate.restrictions().isEmpty());
+		assertPermissionHasDoneItsWork(state.permissionFirst(), certificate);
+	}
+
+	@Test
+	public void skipsPermissionOfMismatchingVersion() {
+		// given
+		TestState state = new TestState();
+		// when: the feature has two permissions, the first does not match by version
+		ExaminationCertificate certificate = examiner(state::product).examine(//
+				Arrays.asList(state.requirementSecond()), //
+				Arrays.asList(state.permissionSecondObsolete(), state.permissionSecond()));
+		// then
+		assertTrue(certificate.restrictions().isEmpty());
+		assertPermissionHasDoneItsWork(state.permissionSecond(), certificate);
+	}
+
 	@Test
 	public void restrictsNothingOnEmptyRequest() {
 		testSuccess(Collections.emptyList(), Collections.emptyList(), new FakeLicensedProduct());
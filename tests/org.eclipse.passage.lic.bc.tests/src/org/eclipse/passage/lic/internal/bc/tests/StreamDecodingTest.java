@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2021 ArSysOp
+ * Copyright (c) 2020, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -12,11 +12,14 @@
  *******************************************************************************/
 package org.eclipse.passage.lic.internal.bc.tests;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.junit.Assume.assumeTrue;
 
+import java.io.ByteArrayOutputStream;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
@@ -27,6 +30,18 @@ import java.nio.file.Path;
 import java.util.Objects;
 import java.util.function.Function;
 
+import org.bouncycastle.bcpg.ArmoredOutputStream;
+import org.bouncycastle.bcpg.BCPGOutputStream;
+import org.bouncycastle.openpgp.PGPCompressedData;
+import org.bouncycastle.openpgp.PGPCompressedDataGenerator;
+import org.bouncycastle.openpgp.PGPException;
+import org.bouncycastle.openpgp.PGPLiteralData;
+import org.bouncycastle.openpgp.PGPLiteralDataGenerator;
+import org.bouncycastle.openpgp.PGPObjectFactory;
+import org.bouncycastle.openpgp.PGPOnePassSignatureList;
+import org.bouncycastle.openpgp.PGPSignatureList;
+import org.bouncycastle.openpgp.PGPUtil;
+import org.bouncycastle.openpgp.jcajce.JcaPGPObjectFactory;
 import org.eclipse.passage.lic.api.LicensingException;
 import org.eclipse.passage.lic.api.io.DigestExpectation;
 import org.eclipse.passage.lic.base.io.BaseDigestExpectation;
@@ -39,9 +54,114 @@ public final class StreamDecodingTest extends BcStreamCodecTest {
 
 	@Test
 	public void decodingIsFunctional() throws IOException {
+		assertDecoded(new BcStreamCodec(this::product));
+	}
+
+	@Test
+	public void streamingDecodingIsFunctional() throws IOException {
+		assertDecoded(new BcStreamCodec(this::product).streaming());
+	}
+
+	@Test
+	public void streamingDecodingRequiresProperKey() throws IOException {
+		try {
+			decode(PairInfo::secondInfo, key -> new DigestExpectation.None(),
+					new BcStreamCodec(this::product).streaming());
+		} catch (LicensingException e) {
+			return;
+		}
+		fail("Decoding with incorrect key must fail"); //$NON-NLS-1$
+	}
+
+	@Test
+	public void keyRingIsReusable() throws IOException, LicensingException {
+		// given
+		String user = "Suer"; //$NON-NLS-1$
+		String pass = "Vyer"; //$NON-NLS-1$
+		PairInfo<Path> pair = pair(user, pass);
+		Path origin = new TmpFile(root).fileWithContent();
+		Path encoded = encoded(origin, pair.secondInfo(), user, pass);
+		BcStreamCodec codec = new BcStreamCodec(this::product);
+		byte[] expected = new FileContent(origin).get();
+		for (int i = 0; i < 3; i++) {
+			// when
+			ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+			try (//
+					InputStream source = new FileInputStream(encoded.toFile());
+					InputStream key = new FileInputStream(pair.firstInfo().toFile())) {
+				codec.decode(source, decoded, key, new DigestExpectation.None());
+			}
+			// then
+			assertArrayEquals(expected, decoded.toByteArray());
+		}
+	}
+
+	@Test
+	public void streamingDecodingRejectsTamperedContent() throws IOException, PGPException {
+		try {
+			decodeTampered(new BcStreamCodec(this::product).streaming());
+		} catch (LicensingException e) {
+			assertTrue(e.getCause().getMessage().contains("Signature")); //$NON-NLS-1$
+			return;
+		}
+		fail("Decoding of content that does not match its signature must fail"); //$NON-NLS-1$
+	}
+
+	@Test
+	public void tamperedContentIsNotDecoded() throws IOException, PGPException, LicensingException {
+		assertEquals(0, decodeTampered(new BcStreamCodec(this::product)).length);
+	}
+
+	private byte[] decodeTampered(BcStreamCodec codec) throws IOException, PGPException, LicensingException {
+		// given
+		String user = "Suer"; //$NON-NLS-1$
+		String pass = "Vyer"; //$NON-NLS-1$
+		PairInfo<Path> pair = pair(user, pass);
+		Path tampered = tampered(encoded(new TmpFile(root).fileWithContent(), pair.secondInfo(), user, pass));
+		ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+		// when
+		try (//
+				InputStream source = new FileInputStream(tampered.toFile());
+				InputStream key = new FileInputStream(pair.firstInfo().toFile())) {
+			codec.decode(source, decoded, key, new DigestExpectation.None());
+		}
+		return decoded.toByteArray();
+	}
+
+	/**
+	 * Packs the signature made with the proper key together with the signed
+	 * content that has got a single bit changed
+	 */
+	private Path tampered(Path encoded) throws IOException, PGPException {
+		Path tampered = new TmpFile(root).file(".txt"); //$NON-NLS-1$
+		PGPCompressedDataGenerator compressor = new PGPCompressedDataGenerator(PGPCompressedData.ZLIB);
+		try (//
+				InputStream source = PGPUtil.getDecoderStream(new FileInputStream(encoded.toFile()));
+				OutputStream armored = new ArmoredOutputStream(new FileOutputStream(tampered.toFile()))) {
+			PGPCompressedData compressed = (PGPCompressedData) new JcaPGPObjectFactory(source).nextObject();
+			PGPObjectFactory factory = new JcaPGPObjectFactory(compressed.getDataStream());
+			PGPOnePassSignatureList header = (PGPOnePassSignatureList) factory.nextObject();
+			PGPLiteralData literal = (PGPLiteralData) factory.nextObject();
+			byte[] content = literal.getInputStream().readAllBytes();
+			content[0] ^= 1;
+			PGPSignatureList signature = (PGPSignatureList) factory.nextObject();
+			BCPGOutputStream stream = new BCPGOutputStream(compressor.open(armored));
+			header.get(0).encode(stream);
+			PGPLiteralDataGenerator generator = new PGPLiteralDataGenerator();
+			try (OutputStream data = generator.open(stream, PGPLiteralData.BINARY, literal.getFileName(),
+					content.length, literal.getModificationTime())) {
+				data.write(content);
+			}
+			signature.get(0).encode(stream);
+			compressor.close();
+		}
+		return tampered;
+	}
+
+	private void assertDecoded(BcStreamCodec codec) throws IOException {
 		Path[] actors;
 		try {
-			actors = decode();
+			actors = decode(pair -> pair.firstInfo(), key -> new DigestExpectation.None(), codec);
 		} catch (LicensingException e) {
 			fail("Decoding for valid data is not supposed to fail"); //$NON-NLS-1$
 			throw new RuntimeException();// unreachable
@@ -141,10 +261,6 @@ public final class StreamDecodingTest extends BcStreamCodecTest {
 		}
 	}
 
-	private Path[] decode() throws IOException, LicensingException {
-		return decode(pair -> pair.firstInfo(), key -> new DigestExpectation.None());
-	}
-
 	private Path[] decodeWithDigest(ThrowingDigestSupplier digest) throws IOException, LicensingException {
 		return decode(pair -> pair.firstInfo(), digest);
 	}
@@ -155,6 +271,11 @@ public final class StreamDecodingTest extends BcStreamCodecTest {
 
 	private Path[] decode(Function<PairInfo<Path>, Path> publicKey, ThrowingDigestSupplier digest)
 			throws IOException, LicensingException {
+		return decode(publicKey, digest, new BcStreamCodec(this::product));
+	}
+
+	private Path[] decode(Function<PairInfo<Path>, Path> publicKey, ThrowingDigestSupplier digest,
+			BcStreamCodec codec) throws IOException, LicensingException {
 		// given
 		String user = "Suer"; //$NON-NLS-1$
 		String pass = "Vyer"; //$NON-NLS-1$
@@ -169,7 +290,7 @@ public final class StreamDecodingTest extends BcStreamCodecTest {
 				InputStream source = new FileInputStream(encoded.toFile());
 				OutputStream destination = new FileOutputStream(decoded.toFile());
 				InputStream key = new FileInputStream(publicKey.apply(pair).toFile())) {
-			new BcStreamCodec(this::product).decode(source, destination, key, digest.forKey(pair.firstInfo()));
+			codec.decode(source, destination, key, digest.forKey(pair.firstInfo()));
 		}
 		return new Path[] { origin, encoded, decoded };
 	}
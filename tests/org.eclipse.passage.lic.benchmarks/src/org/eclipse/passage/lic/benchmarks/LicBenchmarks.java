@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lic.benchmarks;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.eclipse.passage.lic.benchmarks.fork.ForkedJmh;
+import org.junit.Test;
+import org.openjdk.jmh.profile.GCProfiler;
+
+/**
+ * <p>
+ * Runs licensing client benchmarks of this bundle which match the
+ * {@code passage.benchmarks.include} system property (a regular expression,
+ * all of them by default), each in a forked JVM.
+ * </p>
+ * <p>
+ * Reports measurements together with allocation rate
+ * ({@linkplain GCProfiler}) as JSON to the folder set by
+ * {@code passage.benchmarks.results} system property.
+ * </p>
+ */
+public final class LicBenchmarks {
+
+	@Test
+	public void measure() throws IOException, InterruptedException {
+		Path results = Files.createDirectories(Paths.get(System.getProperty("passage.benchmarks.results", //$NON-NLS-1$
+				"target/benchmarks"))).resolve("lic.json"); //$NON-NLS-1$ //$NON-NLS-2$
+		int code = new ForkedJmh(//
+				getClass().getPackageName() + '.' + System.getProperty("passage.benchmarks.include", ".*"), //$NON-NLS-1$ //$NON-NLS-2$
+				"-f", "1", //$NON-NLS-1$ //$NON-NLS-2$
+				"-prof", "gc", //$NON-NLS-1$ //$NON-NLS-2$
+				"-rf", "json", //$NON-NLS-1$ //$NON-NLS-2$
+				"-rff", results.toString()) //$NON-NLS-1$
+				.run();
+		assertEquals(0, code);
+		assertTrue(Files.size(results) > 0);
+	}
+
+}
@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lic.benchmarks;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.passage.lic.api.EvaluationType;
+import org.eclipse.passage.lic.api.LicensedProduct;
+import org.eclipse.passage.lic.api.conditions.evaluation.Permission;
+import org.eclipse.passage.lic.api.requirements.Requirement;
+import org.eclipse.passage.lic.api.restrictions.PermissionsExaminationService;
+import org.eclipse.passage.lic.api.restrictions.RestrictionLevel;
+import org.eclipse.passage.lic.base.BaseLicensedProduct;
+import org.eclipse.passage.lic.base.agreements.BaseAgreementAcceptanceService;
+import org.eclipse.passage.lic.base.conditions.BaseCondition;
+import org.eclipse.passage.lic.base.conditions.BaseEvaluationInstructions;
+import org.eclipse.passage.lic.base.conditions.BaseValidityPeriodClosed;
+import org.eclipse.passage.lic.base.conditions.BaseVersionMatch;
+import org.eclipse.passage.lic.base.conditions.MatchingRuleCompatible;
+import org.eclipse.passage.lic.base.conditions.UnknownConditionOrigin;
+import org.eclipse.passage.lic.base.conditions.evaluation.BasePermission;
+import org.eclipse.passage.lic.base.io.MD5Hashes;
+import org.eclipse.passage.lic.base.registry.ReadOnlyRegistry;
+import org.eclipse.passage.lic.base.requirements.BaseFeature;
+import org.eclipse.passage.lic.base.requirements.BaseRequirement;
+import org.eclipse.passage.lic.base.restrictions.BasePermissionsExaminationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>
+ * Examination of {@code requirements} declared features against
+ * {@code permissions} issued for a license with a grant per feature. Each
+ * permission covers a feature of its own, so the amount of covered
+ * requirements is the least of the two.
+ * </p>
+ * <p>
+ * Shows how examination scales with both amounts.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PermissionsExaminationBenchmark {
+
+	@Param({ "10", "100", "1000" })
+	private int requirements;
+
+	@Param({ "10", "100", "1000" })
+	private int permissions;
+
+	private final LicensedProduct product = new BaseLicensedProduct("benchmarks.product", "1.0.0"); //$NON-NLS-1$ //$NON-NLS-2$
+	private PermissionsExaminationService examiner;
+	private Collection<Requirement> required;
+	private Collection<Permission> permitted;
+
+	@Setup(Level.Trial)
+	public void populate() {
+		examiner = new BasePermissionsExaminationService(//
+				new BaseAgreementAcceptanceService(() -> new ReadOnlyRegistry<>(new MD5Hashes()), () -> product), //
+				() -> product);
+		required = requirements();
+		permitted = permissions();
+	}
+
+	@Benchmark
+	public Object examine() {
+		return examiner.examine(required, permitted);
+	}
+
+	private Collection<Requirement> requirements() {
+		List<Requirement> all = new ArrayList<>();
+		for (int i = 0; i < requirements; i++) {
+			all.add(new BaseRequirement(//
+					new BaseFeature(feature(i), "1.2.0", "Feature " + i, "benchmarks"), //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					new RestrictionLevel.Error(), //
+					this));
+		}
+		return all;
+	}
+
+	private Collection<Permission> permissions() {
+		ZonedDateTime now = ZonedDateTime.now();
+		List<Permission> all = new ArrayList<>();
+		for (int i = 0; i < permissions; i++) {
+			all.add(new BasePermission(//
+					product, //
+					new BaseCondition(Integer.toString(i), feature(i), //
+							new BaseVersionMatch("1.0.0", new MatchingRuleCompatible()), //$NON-NLS-1$
+							new BaseValidityPeriodClosed(now.minusDays(1), now.plusDays(1)), //
+							new BaseEvaluationInstructions(new EvaluationType.Hardware(), "os.family=*")), //$NON-NLS-1$
+					now.minusDays(1), //
+					now.plusDays(1), //
+					new UnknownConditionOrigin()));
+		}
+		return all;
+	}
+
+	private String feature(int i) {
+		return "benchmarks.feature." + i; //$NON-NLS-1$
+	}
+
+}
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lic.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.Attributes;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+import org.eclipse.passage.lic.internal.equinox.requirements.RequirementIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.BundleException;
+import org.osgi.framework.FrameworkUtil;
+import org.osgi.framework.wiring.FrameworkWiring;
+
+/**
+ * <p>
+ * Look up of licensing requirements in a framework populated with
+ * {@code bundles} synthetic bundles, each declaring a couple of licensing
+ * features:
+ * </p>
+ * <ul>
+ * <li>{@code open}: reading of all the bundles into a fresh
+ * {@linkplain RequirementIndex}, which is the startup cost and, as well, the
+ * cost each access cycle used to pay before bundles got indexed;</li>
+ * <li>{@code feature}: requirements of a single feature from an open
+ * index;</li>
+ * <li>{@code all}: all the requirements from an open index.</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings("restriction")
+public class RequirementIndexBenchmark {
+
+	@Param({ "1500" })
+	private int bundles;
+
+	private BundleContext context;
+	private final List<Bundle> installed = new ArrayList<>();
+	private RequirementIndex index;
+	private int probe;
+
+	@Setup(Level.Trial)
+	public void install() throws BundleException, IOException {
+		context = FrameworkUtil.getBundle(RequirementIndex.class).getBundleContext();
+		for (int i = 0; i < bundles; i++) {
+			installed.add(context.installBundle(location(i), new ByteArrayInputStream(jar(i))));
+		}
+		context.getBundle(0).adapt(FrameworkWiring.class).resolveBundles(installed);
+		index = new RequirementIndex(context).open();
+	}
+
+	@TearDown(Level.Trial)
+	public void uninstall() throws BundleException {
+		index.close();
+		for (Bundle bundle : installed) {
+			bundle.uninstall();
+		}
+		installed.clear();
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Measurement(iterations = 10)
+	public Object open() {
+		RequirementIndex fresh = new RequirementIndex(context).open();
+		fresh.close();
+		return fresh;
+	}
+
+	@Benchmark
+	public Object feature() {
+		probe = (probe + 1) % bundles;
+		return index.feature(feature(probe, 0));
+	}
+
+	@Benchmark
+	public Object all() {
+		return index.all();
+	}
+
+	private String location(int i) {
+		return "passage:benchmarks:requirements:" + i; //$NON-NLS-1$
+	}
+
+	private String feature(int bundle, int feature) {
+		return String.format("benchmarks.feature.%d.%d", bundle, feature); //$NON-NLS-1$
+	}
+
+	private byte[] jar(int i) throws IOException {
+		Manifest manifest = new Manifest();
+		Attributes main = manifest.getMainAttributes();
+		main.put(Attributes.Name.MANIFEST_VERSION, "1.0"); //$NON-NLS-1$
+		main.putValue("Bundle-ManifestVersion", "2"); //$NON-NLS-1$ //$NON-NLS-2$
+		main.putValue("Bundle-SymbolicName", "org.eclipse.passage.lic.benchmarks.synthetic." + i); //$NON-NLS-1$ //$NON-NLS-2$
+		main.putValue("Bundle-Version", "1.0.0"); //$NON-NLS-1$ //$NON-NLS-2$
+		main.putValue("Provide-Capability", String.format(//$NON-NLS-1$
+				"licensing.feature;licensing.feature=\"%s\";version=\"1.0.0\";name=\"Synthetic\";level=\"error\"," //$NON-NLS-1$
+						+ "licensing.feature;licensing.feature=\"%s\";version=\"1.0.0\";level=\"warn\"", //$NON-NLS-1$
+				feature(i, 0), feature(i, 1)));
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (JarOutputStream jar = new JarOutputStream(bytes, manifest)) {
+			// manifest is all a synthetic bundle has
+		}
+		return bytes.toByteArray();
+	}
+
+}
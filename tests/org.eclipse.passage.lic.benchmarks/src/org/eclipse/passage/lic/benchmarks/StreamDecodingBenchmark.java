@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lic.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.passage.lic.api.LicensedProduct;
+import org.eclipse.passage.lic.api.LicensingException;
+import org.eclipse.passage.lic.api.io.DigestExpectation;
+import org.eclipse.passage.lic.base.BaseLicensedProduct;
+import org.eclipse.passage.lic.bc.BcStreamCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>
+ * Decoding of signed content of {@code size} bytes with the same product public
+ * key ring, the way each license of a product is read.
+ * </p>
+ * <p>
+ * Compares the default decoding, which keeps content aside until the signature
+ * is verified, with the {@linkplain BcStreamCodec#streaming() streaming} one.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StreamDecodingBenchmark {
+
+	@Param({ "1024", "65536", "1048576" })
+	private int size;
+
+	private final LicensedProduct product = new BaseLicensedProduct("benchmarks.product", "1.0.0"); //$NON-NLS-1$ //$NON-NLS-2$
+	private final BcStreamCodec verified = new BcStreamCodec(() -> product);
+	private final BcStreamCodec streaming = verified.streaming();
+	private byte[] ring;
+	private byte[] encoded;
+
+	@Setup(Level.Trial)
+	public void encode() throws LicensingException {
+		String user = "benchmarks"; //$NON-NLS-1$
+		String pass = "benchmarks"; //$NON-NLS-1$
+		ByteArrayOutputStream pub = new ByteArrayOutputStream();
+		ByteArrayOutputStream secret = new ByteArrayOutputStream();
+		verified.createKeyPair(pub, secret, user, pass);
+		ring = pub.toByteArray();
+		byte[] content = new byte[size];
+		new Random(size).nextBytes(content);
+		ByteArrayOutputStream target = new ByteArrayOutputStream();
+		verified.encode(new ByteArrayInputStream(content), target, new ByteArrayInputStream(secret.toByteArray()),
+				user, pass);
+		encoded = target.toByteArray();
+	}
+
+	@Benchmark
+	public byte[] decodeVerified() throws LicensingException {
+		return decode(verified);
+	}
+
+	@Benchmark
+	public byte[] decodeStreaming() throws LicensingException {
+		return decode(streaming);
+	}
+
+	private byte[] decode(BcStreamCodec codec) throws LicensingException {
+		ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+		codec.decode(new ByteArrayInputStream(encoded), decoded, new ByteArrayInputStream(ring),
+				new DigestExpectation.None());
+		return decoded.toByteArray();
+	}
+
+}
@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lic.benchmarks.fork;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.stream.Stream;
+
+import org.osgi.framework.Bundle;
+import org.osgi.framework.BundleException;
+import org.osgi.framework.Constants;
+import org.osgi.framework.FrameworkUtil;
+import org.osgi.framework.connect.FrameworkUtilHelper;
+import org.osgi.framework.launch.Framework;
+import org.osgi.framework.launch.FrameworkFactory;
+
+/**
+ * <p>
+ * Owner of classes a forked benchmark JVM loads from the plain class path: an
+ * OSGi framework embedded into the fork. Its system bundle is answered for any
+ * class, thus code looking up bundles and services (say, a gear) runs in a fork
+ * the way it runs in an OSGi runtime.
+ * </p>
+ * <p>
+ * Is found by {@linkplain FrameworkUtil} with {@linkplain ServiceLoader}, which
+ * is never the case inside an OSGi runtime, where classes come from bundles.
+ * The framework is started on the first demand and stopped on JVM exit.
+ * </p>
+ */
+public final class ForkedFramework implements FrameworkUtilHelper {
+
+	@Override
+	public Optional<Bundle> getBundle(Class<?> type) {
+		return Optional.ofNullable(Embedded.framework);
+	}
+
+	private static final class Embedded {
+
+		static final Framework framework = start();
+
+		private static Framework start() {
+			try {
+				Path storage = Files.createTempDirectory("passage-benchmarks"); //$NON-NLS-1$
+				Map<String, String> configuration = new HashMap<>();
+				configuration.put(Constants.FRAMEWORK_STORAGE, storage.toString());
+				configuration.put(Constants.FRAMEWORK_STORAGE_CLEAN, Constants.FRAMEWORK_STORAGE_CLEAN_ONFIRSTINIT);
+				configuration.put("osgi.framework.activeThreadType", "daemon"); //$NON-NLS-1$ //$NON-NLS-2$
+				Framework framework = ServiceLoader.load(FrameworkFactory.class).iterator().next()
+						.newFramework(configuration);
+				framework.start();
+				Runtime.getRuntime().addShutdownHook(new Thread(() -> stop(framework, storage)));
+				return framework;
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			} catch (BundleException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+
+		private static void stop(Framework framework, Path storage) {
+			try {
+				framework.stop();
+				framework.waitForStop(10_000);
+				try (Stream<Path> files = Files.walk(storage)) {
+					files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+				}
+			} catch (BundleException | IOException e) {
+				e.printStackTrace();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+	}
+
+}
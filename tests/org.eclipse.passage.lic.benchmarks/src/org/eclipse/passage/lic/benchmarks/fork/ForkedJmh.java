@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lic.benchmarks.fork;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.eclipse.osgi.internal.loader.ModuleClassLoader;
+import org.eclipse.osgi.internal.loader.classpath.ClasspathEntry;
+import org.eclipse.osgi.internal.loader.classpath.ClasspathManager;
+import org.openjdk.jmh.Main;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.BundleReference;
+import org.osgi.framework.FrameworkUtil;
+import org.osgi.framework.wiring.BundleWiring;
+
+/**
+ * <p>
+ * Runs JMH in a JVM of its own, which in turn forks JVMs for measurements.
+ * </p>
+ * <p>
+ * Neither JMH nor its forks can run inside an OSGi runtime: JMH looks for
+ * benchmarks on its own class path and forks with the class path of the
+ * launching JVM. Thus, being launched from an OSGi runtime, JMH gets the class
+ * path made of the entries of all the resolved bundles. Classes of a fork are
+ * owned by its own {@linkplain ForkedFramework framework}.
+ * </p>
+ */
+@SuppressWarnings("restriction")
+public final class ForkedJmh {
+
+	private final List<String> arguments;
+
+	/**
+	 * @param arguments JMH command line
+	 */
+	public ForkedJmh(String... arguments) {
+		this.arguments = Arrays.asList(arguments);
+	}
+
+	/**
+	 * @return exit code of JMH
+	 */
+	public int run() throws IOException, InterruptedException {
+		List<String> command = new ArrayList<>();
+		command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString()); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		command.add("-cp"); //$NON-NLS-1$
+		command.add(classpath());
+		command.add(Main.class.getName());
+		command.addAll(arguments);
+		return new ProcessBuilder(command).inheritIO().start().waitFor();
+	}
+
+	private String classpath() {
+		if (!(getClass().getClassLoader() instanceof BundleReference)) {
+			return System.getProperty("java.class.path"); //$NON-NLS-1$
+		}
+		Set<String> entries = new LinkedHashSet<>();
+		entries.add(location(FrameworkUtil.class));
+		for (Bundle bundle : FrameworkUtil.getBundle(getClass()).getBundleContext().getBundles()) {
+			BundleWiring wiring = bundle.adapt(BundleWiring.class);
+			if (wiring == null || !(wiring.getClassLoader() instanceof ModuleClassLoader)) {
+				continue;
+			}
+			ClasspathManager manager = ((ModuleClassLoader) wiring.getClassLoader()).getClasspathManager();
+			Stream.concat(//
+					Arrays.stream(manager.getHostClasspathEntries()), //
+					Arrays.stream(manager.getFragmentClasspaths()).flatMap(fragment -> Arrays.stream(fragment.getEntries())))//
+					.map(ClasspathEntry::getBundleFile)//
+					.map(file -> file.getBaseFile().getAbsolutePath())//
+					.forEach(entries::add);
+		}
+		return String.join(File.pathSeparator, entries);
+	}
+
+	private String location(Class<?> type) {
+		try {
+			return Paths.get(type.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+		} catch (URISyntaxException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2021 ArSysOp
+ * Copyright (c) 2020, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -53,6 +53,22 @@ abstract class ResolvedRequirementsServiceTest extends ResolvedRequirementsContr
 				new HashSet<Requirement>(filtered.data().get()));
 	}
 
+	@Test
+	public void requirementsForFeatureDirectly() throws InvalidSyntaxException {
+		Requirement single = single();
+		ServiceInvocationResult<Collection<Requirement>> found = service().all(single.feature().identifier());
+		assertEquals(//
+				Collections.singleton(single), //
+				new HashSet<Requirement>(found.data().get()));
+	}
+
+	@Test
+	public void requirementsForUnknownFeature() {
+		ServiceInvocationResult<Collection<Requirement>> found = service().all("no-such-feature"); //$NON-NLS-1$
+		assertTrue(found.data().isPresent());
+		assertTrue(found.data().get().isEmpty());
+	}
+
 	protected abstract Class<?> serviceClass();
 
 	protected abstract Set<Requirement> expectations();
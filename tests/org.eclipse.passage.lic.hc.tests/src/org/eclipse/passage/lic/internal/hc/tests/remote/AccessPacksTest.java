@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lic.internal.hc.tests.remote;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.eclipse.passage.lic.api.LicensedProduct;
+import org.eclipse.passage.lic.api.ServiceInvocationResult;
+import org.eclipse.passage.lic.api.io.StreamCodec;
+import org.eclipse.passage.lic.base.BaseLicensedProduct;
+import org.eclipse.passage.lic.base.diagnostic.DiagnosticExplained;
+import org.eclipse.passage.lic.base.io.FileNameFromLicensedProduct;
+import org.eclipse.passage.lic.base.io.PassageFileExtension;
+import org.eclipse.passage.lic.base.io.PathKeyKeeper;
+import org.eclipse.passage.lic.base.registry.ReadOnlyRegistry;
+import org.eclipse.passage.lic.bc.BcStreamCodec;
+import org.eclipse.passage.lic.hc.remote.impl.AccessPacks;
+import org.eclipse.passage.lic.internal.emf.EObjectToBytes;
+import org.eclipse.passage.lic.licenses.model.api.FloatingLicenseAccess;
+import org.eclipse.passage.lic.licenses.model.api.FloatingServerConnection;
+import org.eclipse.passage.lic.licenses.model.meta.LicensesFactory;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+@SuppressWarnings("restriction")
+public final class AccessPacksTest {
+
+	@Rule
+	public TemporaryFolder root = new TemporaryFolder();
+	private final LicensedProduct product = new BaseLicensedProduct("access.packs", "1.0.0"); //$NON-NLS-1$ //$NON-NLS-2$
+	private final String user = "keeper"; //$NON-NLS-1$
+	private final String pass = "secret"; //$NON-NLS-1$
+	private Path residence;
+	private Path secret;
+
+	@Before
+	public void keys() throws Exception {
+		residence = root.getRoot().toPath().resolve(product.identifier()).resolve(product.version());
+		Files.createDirectories(residence);
+		secret = root.getRoot().toPath().resolve("product.scr"); //$NON-NLS-1$
+		new StreamCodec.Smart(codec()).createKeyPair(//
+				residence.resolve(new FileNameFromLicensedProduct(product, new PassageFileExtension.PublicKey()).get()),
+				secret, user, pass);
+	}
+
+	@Test
+	public void accessesAreNotShared() throws Exception {
+		// given
+		write("first.flaen", 8090); //$NON-NLS-1$
+		List<FloatingLicenseAccess> first = accesses();
+		// when
+		first.get(0).getServer().setPort(8091);
+		List<FloatingLicenseAccess> second = accesses();
+		// then
+		assertEquals(1, second.size());
+		assertNotSame(first.get(0), second.get(0));
+		assertEquals(8090, second.get(0).getServer().getPort());
+	}
+
+	@Test
+	public void rewrittenFileIsParsedAnew() throws Exception {
+		// given
+		Path file = write("first.flaen", 8090); //$NON-NLS-1$
+		FloatingLicenseAccess before = accesses().get(0);
+		// when
+		write("first.flaen", 8091); //$NON-NLS-1$
+		Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 2_000));
+		FloatingLicenseAccess after = accesses().get(0);
+		// then
+		assertNotSame(before, after);
+		assertEquals(8091, after.getServer().getPort());
+	}
+
+	@Test
+	public void addedFileIsNoticed() throws Exception {
+		// given
+		write("first.flaen", 8090); //$NON-NLS-1$
+		accesses();
+		// when
+		write("second.flaen", 8091); //$NON-NLS-1$
+		// then
+		List<Integer> ports = accesses().stream()//
+				.map(access -> access.getServer().getPort())//
+				.sorted()//
+				.collect(Collectors.toList());
+		assertEquals(List.of(8090, 8091), ports);
+	}
+
+	@Test
+	public void failedFileIsReadAgain() throws Exception {
+		// given
+		write("first.flaen", 8090); //$NON-NLS-1$
+		Path key = residence.resolve(new FileNameFromLicensedProduct(product, new PassageFileExtension.PublicKey()).get());
+		Path proper = root.getRoot().toPath().resolve("proper.pub"); //$NON-NLS-1$
+		Files.copy(key, proper);
+		new StreamCodec.Smart(codec()).createKeyPair(key, root.getRoot().toPath().resolve("foreign.scr"), user, pass); //$NON-NLS-1$
+		assertFalse(result().diagnostic().bearable().isEmpty());
+		// when
+		Files.copy(proper, key, StandardCopyOption.REPLACE_EXISTING);
+		// then
+		assertEquals(8090, accesses().get(0).getServer().getPort());
+	}
+
+	private List<FloatingLicenseAccess> accesses() {
+		ServiceInvocationResult<Collection<FloatingLicenseAccess>> result = result();
+		assertTrue(new DiagnosticExplained(result.diagnostic()).get(), result.diagnostic().bearable().isEmpty());
+		return List.copyOf(result.data().get());
+	}
+
+	private ServiceInvocationResult<Collection<FloatingLicenseAccess>> result() {
+		Supplier<Path> source = () -> root.getRoot().toPath();
+		return new AccessPacks(product, //
+				() -> new ReadOnlyRegistry<>(new PathKeyKeeper(product, source)), //
+				() -> new ReadOnlyRegistry<>(codec()), //
+				source).get();
+	}
+
+	private Path write(String name, int port) throws Exception {
+		Path file = residence.resolve(name);
+		try (InputStream input = new ByteArrayInputStream(new EObjectToBytes(access(port)).get());
+				OutputStream output = Files.newOutputStream(file);
+				InputStream key = Files.newInputStream(secret)) {
+			codec().encode(input, output, key, user, pass);
+		}
+		return file;
+	}
+
+	private FloatingLicenseAccess access(int port) {
+		FloatingServerConnection connection = LicensesFactory.eINSTANCE.createFloatingServerConnection();
+		connection.setIp("127.0.0.1"); //$NON-NLS-1$
+		connection.setPort(port);
+		FloatingLicenseAccess access = LicensesFactory.eINSTANCE.createFloatingLicenseAccess();
+		access.setUser(user);
+		access.setOriginLicensePack("pack"); //$NON-NLS-1$
+		access.setServer(connection);
+		return access;
+	}
+
+	private BcStreamCodec codec() {
+		return new BcStreamCodec(() -> product);
+	}
+
+}
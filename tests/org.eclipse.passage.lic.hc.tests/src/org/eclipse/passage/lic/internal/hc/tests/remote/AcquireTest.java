@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2021 ArSysOp
+ * Copyright (c) 2020, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -12,17 +12,24 @@
  *******************************************************************************/
 package org.eclipse.passage.lic.internal.hc.tests.remote;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.function.Supplier;
 
 import org.eclipse.passage.lbc.base.tests.TestData;
 import org.eclipse.passage.lbc.internal.base.EagerFloatingState;
 import org.eclipse.passage.lbc.internal.base.acquire.Acquisition;
+import org.eclipse.passage.lbc.internal.base.acquire.BatchAcquisition;
 import org.eclipse.passage.lbc.internal.base.api.FloatingState;
 import org.eclipse.passage.lbc.internal.base.api.RawRequest;
 import org.eclipse.passage.lic.api.LicensingException;
+import org.eclipse.passage.lic.api.PassageAction;
 import org.eclipse.passage.lic.api.ServiceInvocationResult;
 import org.eclipse.passage.lic.api.acquire.GrantAcquisition;
 import org.eclipse.passage.lic.base.diagnostic.DiagnosticExplained;
@@ -50,6 +57,37 @@ public final class AcquireTest {
 		assertTrue(release.data().isPresent());
 	}
 
+	@Test
+	public void acquireRenewAndRelease() {
+		RemoteAcquisitionService<ShortcutConnection> service = //
+				new RemoteAcquisitionService<ShortcutConnection>(//
+						new TestEquipment(data.product(), source).get(), this::acq, this::rel, this::ren, this::batch,
+						source, Duration.ofMinutes(1));
+		ServiceInvocationResult<GrantAcquisition> acquisition = service.acquire(data.product(), data.feature());
+		assertTrue(new DiagnosticExplained(acquisition.diagnostic()).get(), acquisition.data().isPresent());
+		ServiceInvocationResult<Boolean> renewal = service.renew(data.product(), acquisition.data().get());
+		assertTrue(new DiagnosticExplained(renewal.diagnostic()).get(), renewal.data().orElse(false));
+		ServiceInvocationResult<Boolean> release = service.release(data.product(), acquisition.data().get());
+		assertTrue(release.data().isPresent());
+	}
+
+	@Test
+	public void acquireAndReleaseBatch() {
+		RemoteAcquisitionService<ShortcutConnection> service = //
+				new RemoteAcquisitionService<ShortcutConnection>(//
+						new TestEquipment(data.product(), source).get(), this::acq, this::rel, this::ren, this::batch,
+						source, Duration.ofMinutes(1));
+		List<String> features = Arrays.asList(data.feature(), data.feature());
+		ServiceInvocationResult<Collection<GrantAcquisition>> acquisitions = //
+				service.acquire(data.product(), features, true);
+		assertTrue(new DiagnosticExplained(acquisitions.diagnostic()).get(), acquisitions.data().isPresent());
+		assertEquals(2, acquisitions.data().get().size());
+		ServiceInvocationResult<Collection<GrantAcquisition>> release = //
+				service.release(data.product(), acquisitions.data().get());
+		assertTrue(new DiagnosticExplained(release.diagnostic()).get(), release.data().isPresent());
+		assertEquals(2, release.data().get().size());
+	}
+
 	private Client<ShortcutConnection, GrantAcquisition> acq() {
 		return new ShortcutClient<GrantAcquisition>(new AskAcquirer(), data);
 	}
@@ -58,6 +96,14 @@ public final class AcquireTest {
 		return new ShortcutClient<Boolean>(new AskReleaser(), data);
 	}
 
+	private Client<ShortcutConnection, Boolean> ren() {
+		return new ShortcutClient<Boolean>(new AskRenewer(), data);
+	}
+
+	private Client<ShortcutConnection, Collection<GrantAcquisition>> batch() {
+		return new ShortcutClient<Collection<GrantAcquisition>>(new AskBatcher(), data);
+	}
+
 	private final class AskAcquirer implements ShortcutClient.Remote {
 
 		@Override
@@ -85,4 +131,34 @@ public final class AcquireTest {
 		}
 	}
 
+	private final class AskRenewer implements ShortcutClient.Remote {
+
+		@Override
+		public NetResponse invoke(RawRequest raw) throws LicensingException {
+			return new Acquisition(new ProductUserRequest<RawRequest>(raw)).renew();
+		}
+
+		@Override
+		public FloatingState state() {
+			return server;
+		}
+	}
+
+	private final class AskBatcher implements ShortcutClient.Remote {
+
+		@Override
+		public NetResponse invoke(RawRequest raw) throws LicensingException {
+			BatchAcquisition batch = new BatchAcquisition(new ProductUserRequest<RawRequest>(raw));
+			if (new PassageAction.BatchRelease().name().equals(raw.parameter("action"))) { //$NON-NLS-1$
+				return batch.returnBack();
+			}
+			return batch.get();
+		}
+
+		@Override
+		public FloatingState state() {
+			return server;
+		}
+	}
+
 }
@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lic.internal.hc.tests.remote;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.passage.lic.api.LicensingException;
+import org.eclipse.passage.lic.api.ServiceInvocationResult;
+import org.eclipse.passage.lic.base.BaseLicensedProduct;
+import org.eclipse.passage.lic.hc.remote.Configuration;
+import org.eclipse.passage.lic.hc.remote.QueryParameters;
+import org.eclipse.passage.lic.hc.remote.Request;
+import org.eclipse.passage.lic.hc.remote.RequestContext;
+import org.eclipse.passage.lic.hc.remote.impl.BaseConfiguration;
+import org.eclipse.passage.lic.hc.remote.impl.BaseRequestContext;
+import org.eclipse.passage.lic.hc.remote.impl.PooledConnection;
+import org.eclipse.passage.lic.hc.remote.impl.PooledHttpClient;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+public final class PooledHttpClientTest {
+
+	private final byte[] large = new byte[1 << 20];
+	private final Set<Integer> connections = ConcurrentHashMap.newKeySet();
+	private HttpServer server;
+
+	@Before
+	public void start() throws IOException {
+		new Random(1).nextBytes(large);
+		server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.createContext("/large", this::large); //$NON-NLS-1$
+		server.createContext("/slow", this::slow); //$NON-NLS-1$
+		server.createContext("/absent", this::absent); //$NON-NLS-1$
+		server.start();
+	}
+
+	@After
+	public void stop() {
+		server.stop(0);
+	}
+
+	@Test
+	public void largeResponsesAreReadCompletelyOverKeptConnection() {
+		PooledHttpClient<byte[]> client = new PooledHttpClient<>();
+		for (int i = 0; i < 3; i++) {
+			// when
+			ServiceInvocationResult<byte[]> result = client.request(new TestRequest("/large"), //$NON-NLS-1$
+					(results, context) -> results.data());
+			// then
+			assertTrue(result.data().isPresent());
+			assertArrayEquals(large, result.data().get());
+		}
+		assertEquals(1, connections.size());
+	}
+
+	@Test
+	public void totalDeadlineIsRespected() {
+		// given
+		PooledHttpClient<byte[]> client = new PooledHttpClient<>(HttpClient.Version.HTTP_1_1,
+				Duration.ofMillis(300));
+		long start = System.nanoTime();
+		// when
+		ServiceInvocationResult<byte[]> result = client.request(new TestRequest("/slow"), //$NON-NLS-1$
+				(results, context) -> results.data());
+		// then
+		assertFalse(result.data().isPresent());
+		assertFalse(result.diagnostic().bearable().isEmpty());
+		assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 2_000);
+	}
+
+	@Test
+	public void failureIsDiagnosed() {
+		// when
+		ServiceInvocationResult<byte[]> result = new PooledHttpClient<byte[]>()//
+				.request(new TestRequest("/absent"), (results, context) -> results.data()); //$NON-NLS-1$
+		// then
+		assertFalse(result.data().isPresent());
+		assertTrue(result.diagnostic().bearable().get(0).details().contains("404")); //$NON-NLS-1$
+	}
+
+	private void large(HttpExchange exchange) throws IOException {
+		connections.add(exchange.getRemoteAddress().getPort());
+		exchange.getResponseHeaders().add("Content-Type", "application/octet-stream"); //$NON-NLS-1$ //$NON-NLS-2$
+		exchange.sendResponseHeaders(200, 0); // chunked: no length known in advance
+		try (OutputStream body = exchange.getResponseBody()) {
+			for (int offset = 0; offset < large.length; offset += 8192) {
+				body.write(large, offset, Math.min(8192, large.length - offset));
+			}
+		}
+	}
+
+	private void slow(HttpExchange exchange) throws IOException {
+		try {
+			Thread.sleep(3_000);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		exchange.sendResponseHeaders(200, -1);
+		exchange.close();
+	}
+
+	private void absent(HttpExchange exchange) throws IOException {
+		exchange.sendResponseHeaders(404, -1);
+		exchange.close();
+	}
+
+	private final class TestRequest implements Request<PooledConnection> {
+
+		private final String path;
+
+		TestRequest(String path) {
+			this.path = path;
+		}
+
+		@Override
+		public RequestContext context() {
+			return new BaseRequestContext(new BaseLicensedProduct("pooled", "1.0.0"), "none"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+
+		@Override
+		public URL url() throws LicensingException {
+			try {
+				return new URL("http", "127.0.0.1", server.getAddress().getPort(), path); //$NON-NLS-1$ //$NON-NLS-2$
+			} catch (MalformedURLException e) {
+				throw new LicensingException(e.getMessage(), e);
+			}
+		}
+
+		@Override
+		public Configuration<PooledConnection> config() {
+			return new BaseConfiguration.Get<>(Collections.emptyMap());
+		}
+
+		@Override
+		public QueryParameters parameters() {
+			return () -> ""; //$NON-NLS-1$
+		}
+
+	}
+
+}
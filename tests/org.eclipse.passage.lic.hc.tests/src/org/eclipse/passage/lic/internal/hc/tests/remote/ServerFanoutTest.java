@@ -0,0 +1,259 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lic.internal.hc.tests.remote;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.eclipse.passage.lic.hc.remote.impl.ServerFanout;
+import org.junit.After;
+import org.junit.Test;
+
+public final class ServerFanoutTest {
+
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+
+	@After
+	public void stop() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void everyMergesAnswersWithinDeadline() {
+		// given
+		ServerFanout fanout = new ServerFanout(executor, Duration.ofMillis(300), Duration.ofMillis(50));
+		List<String> arrived = new ArrayList<>();
+		List<String> late = new ArrayList<>();
+		long start = System.nanoTime();
+		// when
+		fanout.every(Arrays.asList("first", "dead", "second"), this::answer, arrived::add, late::add); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		// then
+		assertTrue(elapsed(start) < 2_000);
+		Collections.sort(arrived);
+		assertEquals(Arrays.asList("first", "second"), arrived); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(Collections.singletonList("dead"), late); //$NON-NLS-1$
+	}
+
+	@Test
+	public void anyHedgesSilentServer() throws InterruptedException {
+		// given
+		ServerFanout fanout = new ServerFanout(executor, Duration.ofSeconds(5), Duration.ofMillis(50));
+		CountDownLatch cancelled = new CountDownLatch(1);
+		long start = System.nanoTime();
+		// when
+		Optional<String> winner = fanout.any(Arrays.asList("dead", "alive"), //$NON-NLS-1$ //$NON-NLS-2$
+				server -> server.equals("dead") ? silent(cancelled) : server, //$NON-NLS-1$
+				answer -> !answer.isEmpty(), //
+				answer -> {
+				}, //
+				answer -> {
+				}, //
+				server -> {
+				}, //
+				server -> {
+				});
+		// then
+		assertTrue(elapsed(start) < 2_000);
+		assertEquals(Optional.of("alive"), winner); //$NON-NLS-1$
+		assertTrue(cancelled.await(2, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void anyFallsOverOnFailureAtOnce() {
+		// given
+		ServerFanout fanout = new ServerFanout(executor, Duration.ofSeconds(5), Duration.ofSeconds(5));
+		List<String> tried = new ArrayList<>();
+		long start = System.nanoTime();
+		// when
+		Optional<String> winner = fanout.any(Arrays.asList("broken", "alive"), //$NON-NLS-1$ //$NON-NLS-2$
+				server -> server.equals("broken") ? "" : server, //$NON-NLS-1$ //$NON-NLS-2$
+				answer -> !answer.isEmpty(), //
+				tried::add, //
+				answer -> {
+				}, //
+				server -> {
+				}, //
+				server -> {
+				});
+		// then
+		assertTrue(elapsed(start) < 2_000);
+		assertEquals(Optional.of("alive"), winner); //$NON-NLS-1$
+		assertEquals(Arrays.asList("", "alive"), tried); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void lateSuccessIsSurplus() throws InterruptedException {
+		// given
+		ServerFanout fanout = new ServerFanout(executor, Duration.ofSeconds(5), Duration.ZERO);
+		List<String> surplus = Collections.synchronizedList(new ArrayList<>());
+		CountDownLatch reverted = new CountDownLatch(1);
+		// when
+		Optional<String> winner = fanout.any(Arrays.asList("fast", "stubborn"), //$NON-NLS-1$ //$NON-NLS-2$
+				server -> stubborn(server, server.equals("fast") ? 50 : 300), //$NON-NLS-1$
+				answer -> !answer.isEmpty(), //
+				answer -> {
+				}, //
+				answer -> {
+					surplus.add(answer);
+					reverted.countDown();
+				}, //
+				server -> {
+				}, //
+				server -> {
+				});
+		// then
+		assertEquals(Optional.of("fast"), winner); //$NON-NLS-1$
+		assertTrue(reverted.await(2, TimeUnit.SECONDS));
+		assertEquals(Collections.singletonList("stubborn"), surplus); //$NON-NLS-1$
+	}
+
+	@Test
+	public void unaskedServersAreNotLate() {
+		// given
+		ServerFanout fanout = new ServerFanout(executor, Duration.ofMillis(200), Duration.ofSeconds(5));
+		List<String> late = new ArrayList<>();
+		List<String> unasked = new ArrayList<>();
+		// when
+		Optional<String> winner = fanout.any(Arrays.asList("dead", "alive"), //$NON-NLS-1$ //$NON-NLS-2$
+				this::answer, //
+				answer -> !answer.isEmpty(), //
+				answer -> {
+				}, //
+				answer -> {
+				}, //
+				late::add, //
+				unasked::add);
+		// then
+		assertEquals(Optional.empty(), winner);
+		assertEquals(Collections.singletonList("dead"), late); //$NON-NLS-1$
+		assertEquals(Collections.singletonList("alive"), unasked); //$NON-NLS-1$
+	}
+
+	@Test
+	public void errorArrivesAtOnce() {
+		// given
+		ServerFanout fanout = new ServerFanout(executor, Duration.ofSeconds(5), Duration.ofMillis(50));
+		List<String> late = new ArrayList<>();
+		long start = System.nanoTime();
+		// when
+		try {
+			fanout.every(Arrays.asList("first", "broken"), //$NON-NLS-1$ //$NON-NLS-2$
+					this::broken, arrived -> {
+					}, late::add);
+			fail("Error is expected to reach the caller"); //$NON-NLS-1$
+		} catch (InternalError e) {
+			// then
+			assertEquals("broken", e.getMessage()); //$NON-NLS-1$
+		}
+		assertTrue(elapsed(start) < 2_000);
+		assertTrue(late.isEmpty());
+	}
+
+	@Test
+	public void everyCancelsPendingOnFailure() throws InterruptedException {
+		// given
+		ServerFanout fanout = new ServerFanout(executor, Duration.ofSeconds(5), Duration.ofMillis(50));
+		CountDownLatch cancelled = new CountDownLatch(1);
+		// when
+		try {
+			fanout.every(Arrays.asList("dead", "broken"), //$NON-NLS-1$ //$NON-NLS-2$
+					server -> server.equals("dead") ? silent(cancelled) : broken(server), //$NON-NLS-1$
+					arrived -> {
+					}, late -> {
+					});
+			fail("Error is expected to reach the caller"); //$NON-NLS-1$
+		} catch (InternalError e) {
+			// then
+			assertTrue(cancelled.await(2, TimeUnit.SECONDS));
+		}
+	}
+
+	@Test
+	public void anyCancelsPendingOnFailure() throws InterruptedException {
+		// given
+		ServerFanout fanout = new ServerFanout(executor, Duration.ofSeconds(5), Duration.ofMillis(50));
+		CountDownLatch cancelled = new CountDownLatch(1);
+		// when
+		try {
+			fanout.any(Arrays.asList("dead", "broken"), //$NON-NLS-1$ //$NON-NLS-2$
+					server -> server.equals("dead") ? silent(cancelled) : broken(server), //$NON-NLS-1$
+					answer -> !answer.isEmpty(), //
+					answer -> {
+					}, //
+					answer -> {
+					}, //
+					server -> {
+					}, //
+					server -> {
+					});
+			fail("Error is expected to reach the caller"); //$NON-NLS-1$
+		} catch (InternalError e) {
+			// then
+			assertTrue(cancelled.await(2, TimeUnit.SECONDS));
+		}
+	}
+
+	private String broken(String server) {
+		if (server.equals("broken")) { //$NON-NLS-1$
+			throw new InternalError(server);
+		}
+		return server;
+	}
+
+	private String answer(String server) {
+		if (server.equals("dead")) { //$NON-NLS-1$
+			return silent(new CountDownLatch(1));
+		}
+		return server;
+	}
+
+	private String silent(CountDownLatch cancelled) {
+		long until = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (!Thread.currentThread().isInterrupted() && System.nanoTime() < until) {
+			LockSupport.parkNanos(until - System.nanoTime());
+		}
+		if (Thread.currentThread().isInterrupted()) {
+			cancelled.countDown();
+		}
+		return ""; //$NON-NLS-1$
+	}
+
+	/**
+	 * Answers in given time regardless of cancellation
+	 */
+	private String stubborn(String server, long millis) {
+		long until = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+		while (System.nanoTime() < until) {
+			Thread.onSpinWait();
+		}
+		return server;
+	}
+
+	private long elapsed(long start) {
+		return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+	}
+
+}
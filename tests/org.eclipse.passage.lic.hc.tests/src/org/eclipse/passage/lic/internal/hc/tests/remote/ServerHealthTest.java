@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2024 ArSysOp
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     ArSysOp - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.passage.lic.internal.hc.tests.remote;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.passage.lic.hc.remote.impl.ServerHealth;
+import org.eclipse.passage.lic.licenses.model.api.FloatingLicenseAccess;
+import org.eclipse.passage.lic.licenses.model.api.FloatingServerConnection;
+import org.eclipse.passage.lic.licenses.model.meta.LicensesFactory;
+import org.junit.Test;
+
+public final class ServerHealthTest {
+
+	private final AtomicLong now = new AtomicLong(1);
+	private final ServerHealth health = new ServerHealth(now::get);
+	private final FloatingLicenseAccess primary = access(8090);
+	private final FloatingLicenseAccess secondary = access(8091);
+	private final List<FloatingLicenseAccess> servers = Arrays.asList(primary, secondary);
+
+	@Test
+	public void unknownServersKeepTheirOrder() {
+		assertEquals(servers, health.candidates(servers));
+	}
+
+	@Test
+	public void fasterServerGoesFirst() {
+		// given
+		health.record(primary, millis(300), true);
+		health.record(secondary, millis(20), true);
+		// when
+		List<FloatingLicenseAccess> candidates = health.candidates(servers);
+		// then
+		assertEquals(Arrays.asList(secondary, primary), candidates);
+	}
+
+	@Test
+	public void failingServerIsSkippedAndThenProbed() {
+		// given
+		fail(primary);
+		fail(primary);
+		// then
+		assertTrue(health.open(primary));
+		assertEquals(Collections.singletonList(secondary), health.candidates(servers));
+		// when: probe interval passes
+		now.addAndGet(TimeUnit.MINUTES.toNanos(1));
+		// then: a single probe is let through once it is sent
+		assertEquals(Arrays.asList(secondary, primary), health.candidates(servers));
+		assertEquals(Arrays.asList(secondary, primary), health.candidates(servers));
+		health.claim(primary);
+		assertEquals(Collections.singletonList(secondary), health.candidates(servers));
+		// when: probe succeeds
+		health.record(primary, millis(10), true);
+		// then
+		assertFalse(health.open(primary));
+		assertTrue(health.candidates(servers).contains(primary));
+	}
+
+	@Test
+	public void failedProbeReopensForLonger() {
+		// given
+		fail(primary);
+		fail(primary);
+		now.addAndGet(TimeUnit.SECONDS.toNanos(7));
+		assertFalse(health.open(primary));
+		// when
+		fail(primary);
+		// then: the second interval is at least 8 seconds long
+		now.addAndGet(TimeUnit.SECONDS.toNanos(7));
+		assertTrue(health.open(primary));
+	}
+
+	@Test
+	public void allOpenCircuitsAreStillTried() {
+		// given
+		fail(primary);
+		fail(primary);
+		fail(secondary);
+		fail(secondary);
+		// then
+		assertEquals(2, health.candidates(servers).size());
+	}
+
+	private void fail(FloatingLicenseAccess server) {
+		health.record(server, millis(1_000), false);
+	}
+
+	private long millis(long millis) {
+		return TimeUnit.MILLISECONDS.toNanos(millis);
+	}
+
+	private FloatingLicenseAccess access(int port) {
+		FloatingServerConnection connection = LicensesFactory.eINSTANCE.createFloatingServerConnection();
+		connection.setIp("127.0.0.1"); //$NON-NLS-1$
+		connection.setPort(port);
+		FloatingLicenseAccess access = LicensesFactory.eINSTANCE.createFloatingLicenseAccess();
+		access.setServer(connection);
+		return access;
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2021 ArSysOp
+ * Copyright (c) 2020, 2024 ArSysOp
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -12,16 +12,91 @@
  *******************************************************************************/
 package org.eclipse.passage.lic.oshi.tests;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeNoException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
 import org.eclipse.passage.lic.api.EvaluationType;
+import org.eclipse.passage.lic.api.LicensingException;
 import org.eclipse.passage.lic.api.inspection.RuntimeEnvironment;
 import org.eclipse.passage.lic.api.tests.inspection.RuntimeEnvironmentContractTest;
+import org.eclipse.passage.lic.internal.base.inspection.hardware.Cpu;
 import org.eclipse.passage.lic.internal.base.inspection.hardware.OS;
 import org.eclipse.passage.lic.internal.base.inspection.hardware.OS.Family;
 import org.eclipse.passage.lic.oshi.HardwareEnvironment;
+import org.junit.Test;
 
 @SuppressWarnings("restriction")
 public final class HardwareEnvironmentTest extends RuntimeEnvironmentContractTest {
 
+	@Test
+	public void answersAfterRefresh() {
+		RuntimeEnvironment environment = environment();
+		try {
+			assertTrue(environment.isAssuptionTrue(property(), "*")); //$NON-NLS-1$
+			environment.refresh();
+			assertTrue(environment.isAssuptionTrue(property(), "*")); //$NON-NLS-1$
+		} catch (LicensingException e) {
+			assumeNoException(e); // skip the test in the case of environment denial
+		}
+	}
+
+	@Test
+	public void answersWithoutSnapshot() {
+		RuntimeEnvironment environment = new HardwareEnvironment(Duration.ZERO);
+		try {
+			assertTrue(environment.isAssuptionTrue(property(), "*")); //$NON-NLS-1$
+			assertTrue(environment.isAssuptionTrue(property(), "*")); //$NON-NLS-1$
+		} catch (LicensingException e) {
+			assumeNoException(e); // skip the test in the case of environment denial
+		}
+	}
+
+	@Test
+	public void untouchedFamilyIsNotRead() {
+		List<String> read = new ArrayList<>();
+		RuntimeEnvironment environment = new HardwareEnvironment(Duration.ofMinutes(1), () -> 0, read::add);
+		try {
+			environment.isAssuptionTrue(property(), "*"); //$NON-NLS-1$
+			environment.isAssuptionTrue(new OS.Version(), "*"); //$NON-NLS-1$
+		} catch (LicensingException e) {
+			assumeNoException(e); // skip the test in the case of environment denial
+		}
+		assertEquals(Collections.singletonList(property().family()), read);
+	}
+
+	@Test
+	public void snapshotIsReusedWithinItsAge() {
+		List<String> read = new ArrayList<>();
+		AtomicLong now = new AtomicLong();
+		RuntimeEnvironment environment = new HardwareEnvironment(Duration.ofNanos(100), now::get, read::add);
+		String os = property().family();
+		String cpu = new Cpu.Name().family();
+		try {
+			environment.isAssuptionTrue(property(), "*"); //$NON-NLS-1$
+			now.set(99);
+			environment.isAssuptionTrue(property(), "*"); //$NON-NLS-1$
+			environment.isAssuptionTrue(new Cpu.Name(), "*"); //$NON-NLS-1$
+			assertEquals(Arrays.asList(os, cpu), read);
+			now.set(100);
+			environment.isAssuptionTrue(property(), "*"); //$NON-NLS-1$
+			assertEquals(Arrays.asList(os, cpu, os), read);
+			environment.isAssuptionTrue(property(), "*"); //$NON-NLS-1$
+			environment.refresh();
+			environment.isAssuptionTrue(property(), "*"); //$NON-NLS-1$
+			assertEquals(Arrays.asList(os, cpu, os, os), read);
+		} catch (LicensingException e) {
+			assumeNoException(e); // skip the test in the case of environment denial
+		}
+	}
+
 	@Override
 	protected RuntimeEnvironment environment() {
 		return new HardwareEnvironment();